@@ -2,6 +2,7 @@ package dev.devrunner.api;
 
 import dev.devrunner.auth.model.SessionUser;
 import dev.devrunner.exception.auth.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -16,4 +17,19 @@ public class LoginSessionUtils {
         return userId;
     }
 
-}
\ No newline at end of file
+    /**
+     * 조회수 중복 제거용 조회자 식별 값
+     * 로그인 사용자는 userId, 비로그인 사용자는 IP + User-Agent 로 구분 (구분할 수 없으면 null)
+     */
+    public static String readViewerKey(SessionUser sessionUser, HttpServletRequest request) {
+        if (sessionUser != null && sessionUser.getUserId() != null) {
+            return "user:" + sessionUser.getUserId();
+        }
+        if (request == null || request.getRemoteAddr() == null) {
+            return null;
+        }
+        String userAgent = request.getHeader("User-Agent");
+        return "ip:" + request.getRemoteAddr() + "|" + (userAgent != null ? userAgent : "");
+    }
+
+}
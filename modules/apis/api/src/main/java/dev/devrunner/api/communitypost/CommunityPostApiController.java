@@ -15,6 +15,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +25,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import static dev.devrunner.api.LoginSessionUtils.readUserIdOrThrow;
+import static dev.devrunner.api.LoginSessionUtils.readViewerKey;
 
 /**
  * CommunityPost REST API 컨트롤러
@@ -52,10 +54,12 @@ public class CommunityPostApiController {
     @GetMapping("/{communityPostId}")
     public ResponseEntity<CommunityPostResponse> getCommunityPost(
             @AuthenticationPrincipal SessionUser sessionUser,
-            @Parameter(description = "Community post ID", example = "1") @PathVariable Long communityPostId) {
+            @Parameter(description = "Community post ID", example = "1") @PathVariable Long communityPostId,
+            HttpServletRequest request) {
         log.info("GET /api/community-posts/{}", communityPostId);
 
-        CommunityPostRead communityPostRead = communityPostReader.read(new CommunityPostIdentity(communityPostId));
+        CommunityPostRead communityPostRead = communityPostReader.read(
+                new CommunityPostIdentity(communityPostId), readViewerKey(sessionUser, request));
         Long viewerUserId = sessionUser != null ? sessionUser.getUserId() : null;
         CommunityPostResponse response = CommunityPostResponse.from(communityPostRead, viewerUserId);
 
@@ -1,6 +1,7 @@
 package dev.devrunner.api.job;
 
 import dev.devrunner.api.job.dto.JobRead;
+import dev.devrunner.auth.model.SessionUser;
 import dev.devrunner.model.job.Job;
 import dev.devrunner.model.job.JobIdentity;
 import dev.devrunner.service.job.JobReader;
@@ -9,11 +10,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import static dev.devrunner.api.LoginSessionUtils.readViewerKey;
+
 /**
  * Job REST API 컨트롤러 (조회 전용)
  *
@@ -39,10 +44,12 @@ public class JobApiController {
     })
     @GetMapping("/{jobId}")
     public ResponseEntity<JobRead> getJob(
-            @Parameter(description = "Job ID", example = "1") @PathVariable Long jobId) {
+            @AuthenticationPrincipal SessionUser sessionUser,
+            @Parameter(description = "Job ID", example = "1") @PathVariable Long jobId,
+            HttpServletRequest request) {
         log.info("GET /api/jobs/{}", jobId);
 
-        Job job = jobReader.read(new JobIdentity(jobId));
+        Job job = jobReader.read(new JobIdentity(jobId), readViewerKey(sessionUser, request));
         JobRead read = JobRead.from(job);
 
         log.info("Retrieved job - jobId: {}", read.getJobId());
@@ -1,6 +1,7 @@
 package dev.devrunner.api.techblog;
 
 import dev.devrunner.api.techblog.dto.TechBlogRead;
+import dev.devrunner.auth.model.SessionUser;
 import dev.devrunner.model.techblog.TechBlog;
 import dev.devrunner.model.techblog.TechBlogIdentity;
 import dev.devrunner.service.techblog.TechBlogReader;
@@ -9,11 +10,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import static dev.devrunner.api.LoginSessionUtils.readViewerKey;
+
 /**
  * TechBlog REST API 컨트롤러 (조회 전용)
  *
@@ -39,10 +44,12 @@ public class TechBlogApiController {
     })
     @GetMapping("/{techBlogId}")
     public ResponseEntity<TechBlogRead> getTechBlog(
-            @Parameter(description = "Tech blog ID", example = "1") @PathVariable Long techBlogId) {
+            @AuthenticationPrincipal SessionUser sessionUser,
+            @Parameter(description = "Tech blog ID", example = "1") @PathVariable Long techBlogId,
+            HttpServletRequest request) {
         log.info("GET /api/tech-blogs/{}", techBlogId);
 
-        TechBlog techBlog = techBlogReader.read(new TechBlogIdentity(techBlogId));
+        TechBlog techBlog = techBlogReader.read(new TechBlogIdentity(techBlogId), readViewerKey(sessionUser, request));
         TechBlogRead read = TechBlogRead.from(techBlog);
 
         log.info("Retrieved tech blog - techBlogId: {}", read.getTechBlogId());
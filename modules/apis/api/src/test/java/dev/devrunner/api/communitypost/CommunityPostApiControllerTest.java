@@ -22,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.time.Instant;
 import java.util.List;
@@ -42,6 +43,8 @@ class CommunityPostApiControllerTest {
     @InjectMocks
     private CommunityPostApiController communityPostApiController;
 
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
     private ObjectMapper objectMapper;
 
     private final SessionUser sampleSessionUser = SessionUser.of(1L, Instant.now(), Instant.now().plusSeconds(1000*60));
@@ -86,12 +89,12 @@ class CommunityPostApiControllerTest {
     @Test
     void getCommunityPost_asOwner_returnsOkWithRealNickname() {
         // given
-        when(communityPostReader.read(new CommunityPostIdentity(1L)))
+        when(communityPostReader.read(new CommunityPostIdentity(1L), "user:1"))
                 .thenReturn(sampleCommunityPostRead);
 
         // when - 소유자(userId=1)가 조회
         ResponseEntity<CommunityPostResponse> response =
-                communityPostApiController.getCommunityPost(sampleSessionUser, 1L);
+                communityPostApiController.getCommunityPost(sampleSessionUser, 1L, request);
 
         // then - INTERVIEW_SHARE지만 소유자이므로 실제 nickname
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -102,19 +105,19 @@ class CommunityPostApiControllerTest {
         assertThat(response.getBody().getCategory()).isEqualTo(CommunityPostCategory.INTERVIEW_SHARE);
         assertThat(response.getBody().getTitle()).isEqualTo("Test Community Post Title");
 
-        verify(communityPostReader).read(new CommunityPostIdentity(1L));
+        verify(communityPostReader).read(new CommunityPostIdentity(1L), "user:1");
     }
 
     @Test
     void getCommunityPost_asNonOwner_returnsOkWithAnonymous() {
         // given
-        when(communityPostReader.read(new CommunityPostIdentity(1L)))
+        when(communityPostReader.read(new CommunityPostIdentity(1L), "user:999"))
                 .thenReturn(sampleCommunityPostRead);
         SessionUser otherUser = SessionUser.of(999L, Instant.now(), Instant.now().plusSeconds(1000*60));
 
         // when - 비소유자(userId=999)가 INTERVIEW_SHARE 조회
         ResponseEntity<CommunityPostResponse> response =
-                communityPostApiController.getCommunityPost(otherUser, 1L);
+                communityPostApiController.getCommunityPost(otherUser, 1L, request);
 
         // then - INTERVIEW_SHARE이고 비소유자이므로 Anonymous
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -122,18 +125,18 @@ class CommunityPostApiControllerTest {
         assertThat(response.getBody().getNickname()).isEqualTo("Anonymous");
         assertThat(response.getBody().getCategory()).isEqualTo(CommunityPostCategory.INTERVIEW_SHARE);
 
-        verify(communityPostReader).read(new CommunityPostIdentity(1L));
+        verify(communityPostReader).read(new CommunityPostIdentity(1L), "user:999");
     }
 
     @Test
     void getCommunityPost_asGuest_returnsOkWithAnonymous() {
         // given
-        when(communityPostReader.read(new CommunityPostIdentity(1L)))
+        when(communityPostReader.read(new CommunityPostIdentity(1L), "ip:127.0.0.1|"))
                 .thenReturn(sampleCommunityPostRead);
 
         // when - 비로그인(null) 사용자가 INTERVIEW_SHARE 조회
         ResponseEntity<CommunityPostResponse> response =
-                communityPostApiController.getCommunityPost(null, 1L);
+                communityPostApiController.getCommunityPost(null, 1L, request);
 
         // then - INTERVIEW_SHARE이고 비로그인이므로 Anonymous
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -141,23 +144,23 @@ class CommunityPostApiControllerTest {
         assertThat(response.getBody().getNickname()).isEqualTo("Anonymous");
         assertThat(response.getBody().getCategory()).isEqualTo(CommunityPostCategory.INTERVIEW_SHARE);
 
-        verify(communityPostReader).read(new CommunityPostIdentity(1L));
+        verify(communityPostReader).read(new CommunityPostIdentity(1L), "ip:127.0.0.1|");
     }
 
     @Test
     void getCommunityPost_nonExistingId_throwsException() {
         // given
-        when(communityPostReader.read(new CommunityPostIdentity(999L)))
+        when(communityPostReader.read(new CommunityPostIdentity(999L), "user:1"))
                 .thenThrow(new RuntimeException("Community post not found"));
 
         // when & then
         try {
-            communityPostApiController.getCommunityPost(sampleSessionUser, 999L);
+            communityPostApiController.getCommunityPost(sampleSessionUser, 999L, request);
         } catch (RuntimeException e) {
             assertThat(e.getMessage()).isEqualTo("Community post not found");
         }
 
-        verify(communityPostReader).read(new CommunityPostIdentity(999L));
+        verify(communityPostReader).read(new CommunityPostIdentity(999L), "user:1");
     }
 
     @Test
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.time.Instant;
 import java.util.List;
@@ -35,6 +36,8 @@ class JobApiControllerTest {
     @InjectMocks
     private JobApiController controller;
 
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
     // ========== getJob 테스트 ==========
 
     @Test
@@ -43,10 +46,10 @@ class JobApiControllerTest {
         Long jobId = 1L;
         Job job = createSampleJob(jobId);
 
-        when(jobReader.read(new JobIdentity(jobId))).thenReturn(job);
+        when(jobReader.read(new JobIdentity(jobId), "ip:127.0.0.1|")).thenReturn(job);
 
         // when
-        ResponseEntity<JobRead> response = controller.getJob(jobId);
+        ResponseEntity<JobRead> response = controller.getJob(null, jobId, request);
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -56,7 +59,7 @@ class JobApiControllerTest {
         assertThat(response.getBody().getTitle()).isEqualTo("Senior Backend Developer");
         assertThat(response.getBody().getCareerLevel()).isEqualTo(CareerLevel.EXPERIENCED);
         assertThat(response.getBody().getEmploymentType()).isEqualTo(EmploymentType.FULL_TIME);
-        verify(jobReader).read(new JobIdentity(jobId));
+        verify(jobReader).read(new JobIdentity(jobId), "ip:127.0.0.1|");
     }
 
     @Test
@@ -64,17 +67,17 @@ class JobApiControllerTest {
         // given
         Long jobId = 999L;
 
-        when(jobReader.read(new JobIdentity(jobId)))
+        when(jobReader.read(new JobIdentity(jobId), "ip:127.0.0.1|"))
                 .thenThrow(new RuntimeException("Job not found"));
 
         // when & then
         try {
-            controller.getJob(jobId);
+            controller.getJob(null, jobId, request);
         } catch (RuntimeException e) {
             assertThat(e.getMessage()).isEqualTo("Job not found");
         }
 
-        verify(jobReader).read(new JobIdentity(jobId));
+        verify(jobReader).read(new JobIdentity(jobId), "ip:127.0.0.1|");
     }
 
     // ========== 헬퍼 메서드 ==========
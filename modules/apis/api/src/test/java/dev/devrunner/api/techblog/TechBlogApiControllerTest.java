@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.time.Instant;
 import java.util.List;
@@ -35,6 +36,8 @@ class TechBlogApiControllerTest {
     @InjectMocks
     private TechBlogApiController controller;
 
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
     // ========== getTechBlog 테스트 ==========
 
     @Test
@@ -43,10 +46,10 @@ class TechBlogApiControllerTest {
         Long techBlogId = 1L;
         TechBlog techBlog = createSampleTechBlog(techBlogId);
 
-        when(techBlogReader.read(new TechBlogIdentity(techBlogId))).thenReturn(techBlog);
+        when(techBlogReader.read(new TechBlogIdentity(techBlogId), "ip:127.0.0.1|")).thenReturn(techBlog);
 
         // when
-        ResponseEntity<TechBlogRead> response = controller.getTechBlog(techBlogId);
+        ResponseEntity<TechBlogRead> response = controller.getTechBlog(null, techBlogId, request);
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -56,7 +59,7 @@ class TechBlogApiControllerTest {
         assertThat(response.getBody().getTitle()).isEqualTo("Mastering Spring Boot");
         assertThat(response.getBody().getUrl()).isEqualTo("https://test.com/blog/1");
         assertThat(response.getBody().getOneLiner()).isEqualTo("Great tutorial for Spring Boot");
-        verify(techBlogReader).read(new TechBlogIdentity(techBlogId));
+        verify(techBlogReader).read(new TechBlogIdentity(techBlogId), "ip:127.0.0.1|");
     }
 
     @Test
@@ -64,17 +67,17 @@ class TechBlogApiControllerTest {
         // given
         Long techBlogId = 999L;
 
-        when(techBlogReader.read(new TechBlogIdentity(techBlogId)))
+        when(techBlogReader.read(new TechBlogIdentity(techBlogId), "ip:127.0.0.1|"))
                 .thenThrow(new RuntimeException("TechBlog not found"));
 
         // when & then
         try {
-            controller.getTechBlog(techBlogId);
+            controller.getTechBlog(null, techBlogId, request);
         } catch (RuntimeException e) {
             assertThat(e.getMessage()).isEqualTo("TechBlog not found");
         }
 
-        verify(techBlogReader).read(new TechBlogIdentity(techBlogId));
+        verify(techBlogReader).read(new TechBlogIdentity(techBlogId), "ip:127.0.0.1|");
     }
 
     // ========== 헬퍼 메서드 ==========
@@ -54,7 +54,7 @@ public class CommunityPostSearchController {
         );
 
         // Execute search
-        CommunityPostSearchResult result = communityPostSearch.search(command);
+        CommunityPostSearchResult result = communityPostSearch.search(command, request.getCursor());
 
         // Fetch user nicknames
         List<Long> userIds = result.docs().stream()
@@ -25,6 +25,9 @@ public class CommunityPostSearchRequest {
     private Integer from;
     private Integer to;
 
+    // Cursor pagination (nullable) - 이전 응답의 nextCursor, 있으면 from 대신 사용하고 to - from 개를 반환
+    private String cursor;
+
     private static final int DEFAULT_FROM = 0;
     private static final int DEFAULT_PAGE_SIZE = 30;
     private static final int MAX_TO = 1000;
@@ -0,0 +1,234 @@
+package dev.devrunner.search.job;
+
+import dev.devrunner.elasticsearch.agg.*;
+import dev.devrunner.elasticsearch.api.job.JobAggregator;
+import dev.devrunner.elasticsearch.document.fieldSpec.job.JobIndexField;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
+import dev.devrunner.elasticsearch.internal.queryBuilder.SearchCommand;
+import dev.devrunner.elasticsearch.internal.queryBuilder.SearchElement;
+import dev.devrunner.search.job.dto.JobDailyStatsResponse;
+import dev.devrunner.search.stats.StatsSnapshot;
+import dev.devrunner.search.stats.StatsSnapshotCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Job 일일 통계 스냅샷
+ * <p>
+ * 집계는 요청마다 실행하지 않고 미리 계산해 둔 스냅샷을 반환한다.
+ * - 주기적으로 인덱스 세대를 확인해서 색인이 있었으면 백그라운드 재계산
+ * - 스냅샷이 refresh-after 보다 오래됐으면 조회 시점에 백그라운드 재계산 (stale-while-revalidate)
+ */
+@Service
+@Slf4j
+public class JobDailyStatsService {
+
+    private final JobAggregator jobAggregator;
+    private final StatsSnapshotCache<JobDailyStatsResponse> cache;
+
+    public JobDailyStatsService(
+            JobAggregator jobAggregator,
+            IndexGeneration indexGeneration,
+            @Qualifier("statsRefreshExecutor") Executor statsRefreshExecutor,
+            @Value("${elasticsearch.index.job}") String indexName,
+            @Value("${devrunner.stats.refresh-after-seconds:600}") long refreshAfterSeconds
+    ) {
+        this.jobAggregator = jobAggregator;
+        this.cache = new StatsSnapshotCache<>(
+                "job-daily-stats",
+                this::computeDailyStats,
+                () -> indexGeneration.current(indexName),
+                Duration.ofSeconds(refreshAfterSeconds),
+                statsRefreshExecutor
+        );
+    }
+
+    public StatsSnapshot<JobDailyStatsResponse> getDailyStats() {
+        return cache.get();
+    }
+
+    /**
+     * 색인 여부 확인 후 필요하면 재계산 (실제 집계는 백그라운드 스레드에서 수행)
+     */
+    @Scheduled(initialDelayString = "${devrunner.stats.check-interval-ms:30000}",
+            fixedDelayString = "${devrunner.stats.check-interval-ms:30000}")
+    public void refreshIfStale() {
+        cache.refreshIfStale();
+    }
+
+    private JobDailyStatsResponse computeDailyStats() {
+        var now = Instant.now();
+        var oneWeekAgo = now.minus(7, ChronoUnit.DAYS);
+
+        // Build aggregation requests
+        var requests = List.of(
+            // 1. Top 10 companies
+            AggregationRequest.terms(
+                new SearchCommand<>(List.of(
+                    new SearchElement<>(JobIndexField.DELETED, false),
+                    new SearchElement<>(JobIndexField.IS_CLOSED, false)
+                ), 0, 0),
+                "by_company",
+                JobIndexField.COMPANY,
+                10,
+                List.of(MetricAggregation.count("count"))
+            ),
+
+            // 2. All position categories
+            AggregationRequest.terms(
+                new SearchCommand<>(List.of(
+                    new SearchElement<>(JobIndexField.DELETED, false),
+                    new SearchElement<>(JobIndexField.IS_CLOSED, false)
+                ), 0, 0),
+                "by_position_category",
+                JobIndexField.POSITION_CATEGORY,
+                100,
+                List.of(MetricAggregation.count("count"))
+            ),
+
+            // 3. Junior positions (0-3 years)
+            AggregationRequest.terms(
+                new SearchCommand<>(List.of(
+                    new SearchElement<>(JobIndexField.MIN_YEARS, null, 3),
+                    new SearchElement<>(JobIndexField.DELETED, false),
+                    new SearchElement<>(JobIndexField.IS_CLOSED, false)
+                ), 0, 0),
+                "junior_count",
+                JobIndexField.COMPANY,  // dummy field for bucket
+                1,
+                List.of(MetricAggregation.count("count"))
+            ),
+
+            // 4. Senior positions (5+ years)
+            AggregationRequest.terms(
+                new SearchCommand<>(List.of(
+                    new SearchElement<>(JobIndexField.MIN_YEARS, 5, null),
+                    new SearchElement<>(JobIndexField.DELETED, false),
+                    new SearchElement<>(JobIndexField.IS_CLOSED, false)
+                ), 0, 0),
+                "senior_count",
+                JobIndexField.COMPANY,  // dummy field for bucket
+                1,
+                List.of(MetricAggregation.count("count"))
+            ),
+
+            // 5. Experience required junior positions (experience_required = true AND min_years <= 2)
+            AggregationRequest.terms(
+                new SearchCommand<>(List.of(
+                    new SearchElement<>(JobIndexField.EXPERIENCE_REQUIRED, "true"),
+                    new SearchElement<>(JobIndexField.MIN_YEARS, null, 2),
+                    new SearchElement<>(JobIndexField.DELETED, false),
+                    new SearchElement<>(JobIndexField.IS_CLOSED, false)
+                ), 0, 0),
+                "experience_required_junior_count",
+                JobIndexField.COMPANY,  // dummy field for bucket
+                1,
+                List.of(MetricAggregation.count("count"))
+            ),
+
+            // 6. No experience required positions (experience_required = false)
+            AggregationRequest.terms(
+                new SearchCommand<>(List.of(
+                    new SearchElement<>(JobIndexField.EXPERIENCE_REQUIRED, "false"),
+                    new SearchElement<>(JobIndexField.DELETED, false),
+                    new SearchElement<>(JobIndexField.IS_CLOSED, false)
+                ), 0, 0),
+                "no_experience_required_count",
+                JobIndexField.COMPANY,  // dummy field for bucket
+                1,
+                List.of(MetricAggregation.count("count"))
+            ),
+
+            // 7. Recent 7 days trend
+            AggregationRequest.dateHistogram(
+                new SearchCommand<>(List.of(
+                    new SearchElement<>(JobIndexField.DELETED, false),
+                    new SearchElement<>(JobIndexField.IS_CLOSED, false),
+                    new SearchElement<>(JobIndexField.CREATED_AT, oneWeekAgo, now)
+                ), 0, 0),
+                "recent_trend",
+                JobIndexField.CREATED_AT,
+                "1d",
+                List.of(MetricAggregation.count("count"))
+            )
+        );
+
+        // Execute aggregation
+        MultiAggregationResult result = jobAggregator.aggregate(requests);
+
+        // Convert to response DTO
+        var response = new JobDailyStatsResponse(
+            // Top companies
+            result.results().get("by_company").bucket().entries().stream()
+                .map(e -> new JobDailyStatsResponse.CompanyStat(e.key(), e.docCount()))
+                .toList(),
+
+            // Top position categories
+            result.results().get("by_position_category").bucket().entries().stream()
+                .map(e -> new JobDailyStatsResponse.PositionCategoryStat(e.key(), e.docCount()))
+                .toList(),
+
+            // Junior count
+            getTotalCount(result, "junior_count"),
+
+            // Senior count
+            getTotalCount(result, "senior_count"),
+
+            // Experience required junior count
+            getTotalCount(result, "experience_required_junior_count"),
+
+            // No experience required count
+            getTotalCount(result, "no_experience_required_count"),
+
+            // Recent trend
+            result.results().get("recent_trend").bucket().entries().stream()
+                .map(e -> new JobDailyStatsResponse.DailyStat(e.key(), e.docCount()))
+                .toList()
+        );
+
+        log.info("✅ Daily stats fetched: {} companies, {} categories, {} junior, {} senior, {} exp-req-junior, {} no-exp-req, {} days trend",
+            response.getTopCompanies().size(),
+            response.getTopPositionCategories().size(),
+            response.getJuniorCount(),
+            response.getSeniorCount(),
+            response.getExperienceRequiredJuniorCount(),
+            response.getNoExperienceRequiredCount(),
+            response.getRecentTrend().size());
+
+        return response;
+    }
+
+    /**
+     * Get total count from filter aggregation result
+     * Uses filterDocCount from Filter aggregation's doc_count
+     */
+    private long getTotalCount(MultiAggregationResult result, String queryName) {
+        var queryResult = result.results().get(queryName);
+        if (queryResult == null) {
+            return 0;
+        }
+
+        // ✅ Filter의 doc_count 사용 (전체 카운트)
+        if (queryResult.filterDocCount() != null) {
+            return queryResult.filterDocCount();
+        }
+
+        // Fallback: 버킷 합산 (사용하지 않지만 호환성 유지)
+        if (queryResult.bucket() != null) {
+            return queryResult.bucket().entries().stream()
+                .mapToLong(MultiAggregationResult.BucketEntry::docCount)
+                .sum();
+        }
+
+        return 0;
+    }
+}
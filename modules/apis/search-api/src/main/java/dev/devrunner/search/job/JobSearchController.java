@@ -56,7 +56,7 @@ public class JobSearchController {
         );
 
         // Execute search
-        JobSearchResult result = jobSearch.search(command);
+        JobSearchResult result = jobSearch.search(command, request.getCursor());
 
         // Convert response (JobDoc -> JobCard)
         JobSearchResponse response = JobSearchResponse.from(result);
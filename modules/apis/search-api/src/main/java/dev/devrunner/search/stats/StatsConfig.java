@@ -0,0 +1,23 @@
+package dev.devrunner.search.stats;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 통계 스냅샷 백그라운드 재계산용 설정
+ */
+@Configuration
+public class StatsConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService statsRefreshExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package dev.devrunner.search.stats;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 미리 계산된 통계 결과
+ *
+ * @param value      통계 응답
+ * @param computedAt 계산 시각
+ * @param generation 계산 시점의 인덱스 세대
+ */
+public record StatsSnapshot<T>(
+        T value,
+        Instant computedAt,
+        long generation
+) {
+    public Duration age(Instant now) {
+        return Duration.between(computedAt, now);
+    }
+
+    /**
+     * 스냅샷 응답 (Age: 계산된 지 몇 초 지났는지, Last-Modified: 계산 시각)
+     */
+    public ResponseEntity<T> toResponse(Instant now) {
+        long ageSeconds = Math.max(0, age(now).toSeconds());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(ageSeconds))
+                .lastModified(computedAt)
+                .body(value);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.devrunner.search.stats;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 통계 스냅샷 캐시 (stale-while-revalidate)
+ * <p>
+ * - 조회는 항상 메모리의 스냅샷을 바로 반환 (최초 1회만 동기 계산)
+ * - 스냅샷이 refreshAfter 보다 오래됐거나 인덱스 세대가 바뀌었으면 백그라운드에서 다시 계산
+ * - 재계산은 동시에 하나만 수행하고, 실패하면 이전 스냅샷을 계속 사용
+ */
+@Slf4j
+public class StatsSnapshotCache<T> {
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final LongSupplier generationSupplier;
+    private final Duration refreshAfter;
+    private final Executor executor;
+    private final Clock clock;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile StatsSnapshot<T> snapshot;
+
+    public StatsSnapshotCache(String name, Supplier<T> loader, LongSupplier generationSupplier,
+                              Duration refreshAfter, Executor executor) {
+        this(name, loader, generationSupplier, refreshAfter, executor, Clock.systemUTC());
+    }
+
+    StatsSnapshotCache(String name, Supplier<T> loader, LongSupplier generationSupplier,
+                       Duration refreshAfter, Executor executor, Clock clock) {
+        this.name = name;
+        this.loader = loader;
+        this.generationSupplier = generationSupplier;
+        this.refreshAfter = refreshAfter;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    public StatsSnapshot<T> get() {
+        StatsSnapshot<T> current = snapshot;
+        if (current == null) {
+            return loadInitial();
+        }
+
+        if (current.age(clock.instant()).compareTo(refreshAfter) >= 0) {
+            refreshAsync();
+        }
+        return current;
+    }
+
+    /**
+     * 인덱스 세대가 바뀌었거나 스냅샷이 오래됐으면 백그라운드 재계산
+     */
+    public void refreshIfStale() {
+        StatsSnapshot<T> current = snapshot;
+        if (current == null
+                || current.generation() != generationSupplier.getAsLong()
+                || current.age(clock.instant()).compareTo(refreshAfter) >= 0) {
+            refreshAsync();
+        }
+    }
+
+    public void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            log.warn("Failed to schedule stats refresh: name={}, error={}", name, e.getMessage());
+        }
+    }
+
+    private synchronized StatsSnapshot<T> loadInitial() {
+        if (snapshot == null) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    private void refresh() {
+        long generation = generationSupplier.getAsLong();
+        long start = System.currentTimeMillis();
+        try {
+            snapshot = new StatsSnapshot<>(loader.get(), clock.instant(), generation);
+            log.info("Stats snapshot refreshed: name={}, generation={}, took={}ms",
+                    name, generation, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            if (snapshot == null) {
+                throw e;
+            }
+            log.warn("Stats snapshot refresh failed, serving previous snapshot: name={}, error={}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package dev.devrunner.search.techblog;
+
+import dev.devrunner.elasticsearch.agg.*;
+import dev.devrunner.elasticsearch.api.techblog.TechBlogAggregator;
+import dev.devrunner.elasticsearch.document.fieldSpec.techblog.TechBlogIndexField;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
+import dev.devrunner.elasticsearch.internal.queryBuilder.SearchCommand;
+import dev.devrunner.elasticsearch.internal.queryBuilder.SearchElement;
+import dev.devrunner.search.techblog.dto.TechBlogDailyStatsResponse;
+import dev.devrunner.search.stats.StatsSnapshot;
+import dev.devrunner.search.stats.StatsSnapshotCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * TechBlog 일일 통계 스냅샷
+ * <p>
+ * 집계는 요청마다 실행하지 않고 미리 계산해 둔 스냅샷을 반환한다.
+ * - 주기적으로 인덱스 세대를 확인해서 색인이 있었으면 백그라운드 재계산
+ * - 스냅샷이 refresh-after 보다 오래됐으면 조회 시점에 백그라운드 재계산 (stale-while-revalidate)
+ */
+@Service
+@Slf4j
+public class TechBlogDailyStatsService {
+
+    private final TechBlogAggregator techBlogAggregator;
+    private final StatsSnapshotCache<TechBlogDailyStatsResponse> cache;
+
+    public TechBlogDailyStatsService(
+            TechBlogAggregator techBlogAggregator,
+            IndexGeneration indexGeneration,
+            @Qualifier("statsRefreshExecutor") Executor statsRefreshExecutor,
+            @Value("${elasticsearch.index.techblog}") String indexName,
+            @Value("${devrunner.stats.refresh-after-seconds:600}") long refreshAfterSeconds
+    ) {
+        this.techBlogAggregator = techBlogAggregator;
+        this.cache = new StatsSnapshotCache<>(
+                "techblog-daily-stats",
+                this::computeDailyStats,
+                () -> indexGeneration.current(indexName),
+                Duration.ofSeconds(refreshAfterSeconds),
+                statsRefreshExecutor
+        );
+    }
+
+    public StatsSnapshot<TechBlogDailyStatsResponse> getDailyStats() {
+        return cache.get();
+    }
+
+    /**
+     * 색인 여부 확인 후 필요하면 재계산 (실제 집계는 백그라운드 스레드에서 수행)
+     */
+    @Scheduled(initialDelayString = "${devrunner.stats.check-interval-ms:30000}",
+            fixedDelayString = "${devrunner.stats.check-interval-ms:30000}")
+    public void refreshIfStale() {
+        cache.refreshIfStale();
+    }
+
+    private TechBlogDailyStatsResponse computeDailyStats() {
+        var now = LocalDateTime.now();
+        var tomorrow = now.plusDays(1);
+        var oneWeekAgo = now.minusDays(7);
+
+        // Build aggregation requests
+        var requests = List.of(
+                // 1. Top 10 companies
+                AggregationRequest.terms(
+                        new SearchCommand<>(List.of(
+                                new SearchElement<>(TechBlogIndexField.DELETED, false)
+                        ), 0, 0),
+                        "by_company",
+                        TechBlogIndexField.COMPANY,
+                        10,
+                        List.of(MetricAggregation.count("count"))
+                ),
+
+                // 2. Total count
+                AggregationRequest.terms(
+                        new SearchCommand<>(List.of(
+                                new SearchElement<>(TechBlogIndexField.DELETED, false)
+                        ), 0, 0),
+                        "total_count",
+                        TechBlogIndexField.COMPANY,  // dummy field for bucket
+                        1,
+                        List.of(MetricAggregation.count("count"))
+                ),
+
+                // 3. Recent 7 days trend
+                AggregationRequest.dateHistogram(
+                        new SearchCommand<>(List.of(
+                                new SearchElement<>(TechBlogIndexField.DELETED, false),
+                                new SearchElement<>(TechBlogIndexField.CREATED_AT, oneWeekAgo, tomorrow)
+                        ), 0, 0),
+                        "recent_trend",
+                        TechBlogIndexField.CREATED_AT,
+                        "1d",
+                        List.of(MetricAggregation.count("count"))
+                )
+        );
+
+        // Execute aggregation
+        MultiAggregationResult result = techBlogAggregator.aggregate(requests);
+
+        // Convert to response DTO
+        var response = new TechBlogDailyStatsResponse(
+                // Top companies
+                result.results().get("by_company").bucket().entries().stream()
+                        .map(e -> new TechBlogDailyStatsResponse.CompanyStat(e.key(), e.docCount()))
+                        .toList(),
+
+                // Total count
+                getTotalCount(result, "total_count"),
+
+                // Recent trend
+                result.results().get("recent_trend").bucket().entries().stream()
+                        .map(e -> new TechBlogDailyStatsResponse.DailyStat(e.key(), e.docCount()))
+                        .toList()
+        );
+
+        log.info("✅ Daily stats fetched: {} companies, {} total, {} days trend",
+                response.getTopCompanies().size(),
+                response.getTotalCount(),
+                response.getRecentTrend().size());
+
+
+        log.info("stat response: {}", response);
+
+        return response;
+    }
+
+    /**
+     * Get total count from filter aggregation result
+     * Uses filterDocCount from Filter aggregation's doc_count
+     */
+    private long getTotalCount(MultiAggregationResult result, String queryName) {
+        var queryResult = result.results().get(queryName);
+        if (queryResult == null) {
+            return 0;
+        }
+
+        // ✅ Filter의 doc_count 사용 (전체 카운트)
+        if (queryResult.filterDocCount() != null) {
+            return queryResult.filterDocCount();
+        }
+
+        // Fallback: 버킷 합산 (사용하지 않지만 호환성 유지)
+        if (queryResult.bucket() != null) {
+            return queryResult.bucket().entries().stream()
+                    .mapToLong(MultiAggregationResult.BucketEntry::docCount)
+                    .sum();
+        }
+
+        return 0;
+    }
+}
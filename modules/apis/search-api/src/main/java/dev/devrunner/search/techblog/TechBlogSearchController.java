@@ -48,7 +48,7 @@ public class TechBlogSearchController {
         );
 
         // Execute search
-        TechBlogSearchResult result = techBlogSearch.search(command);
+        TechBlogSearchResult result = techBlogSearch.search(command, request.getCursor());
 
         // Convert response (TechBlogDoc -> TechBlogCard)
         TechBlogSearchResponse response = TechBlogSearchResponse.from(result);
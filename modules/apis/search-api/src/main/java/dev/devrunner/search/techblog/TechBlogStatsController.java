@@ -1,10 +1,5 @@
 package dev.devrunner.search.techblog;
 
-import dev.devrunner.elasticsearch.agg.*;
-import dev.devrunner.elasticsearch.api.techblog.TechBlogAggregator;
-import dev.devrunner.elasticsearch.document.fieldSpec.techblog.TechBlogIndexField;
-import dev.devrunner.elasticsearch.internal.queryBuilder.SearchCommand;
-import dev.devrunner.elasticsearch.internal.queryBuilder.SearchElement;
 import dev.devrunner.search.techblog.dto.TechBlogDailyStatsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,8 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.time.Instant;
 
 /**
  * TechBlog Statistics API Controller
@@ -28,7 +22,7 @@ import java.util.List;
 @Slf4j
 public class TechBlogStatsController {
 
-    private final TechBlogAggregator techBlogAggregator;
+    private final TechBlogDailyStatsService techBlogDailyStatsService;
 
     /**
      * Get daily techblog statistics
@@ -43,99 +37,7 @@ public class TechBlogStatsController {
     public ResponseEntity<TechBlogDailyStatsResponse> getDailyStats() {
         log.info("📊 Fetching daily techblog statistics");
 
-        var now = LocalDateTime.now();
-        var tomorrow = now.plusDays(1);
-        var oneWeekAgo = now.minusDays(7);
-
-        // Build aggregation requests
-        var requests = List.of(
-                // 1. Top 10 companies
-                AggregationRequest.terms(
-                        new SearchCommand<>(List.of(
-                                new SearchElement<>(TechBlogIndexField.DELETED, false)
-                        ), 0, 0),
-                        "by_company",
-                        TechBlogIndexField.COMPANY,
-                        10,
-                        List.of(MetricAggregation.count("count"))
-                ),
-
-                // 2. Total count
-                AggregationRequest.terms(
-                        new SearchCommand<>(List.of(
-                                new SearchElement<>(TechBlogIndexField.DELETED, false)
-                        ), 0, 0),
-                        "total_count",
-                        TechBlogIndexField.COMPANY,  // dummy field for bucket
-                        1,
-                        List.of(MetricAggregation.count("count"))
-                ),
-
-                // 3. Recent 7 days trend
-                AggregationRequest.dateHistogram(
-                        new SearchCommand<>(List.of(
-                                new SearchElement<>(TechBlogIndexField.DELETED, false),
-                                new SearchElement<>(TechBlogIndexField.CREATED_AT, oneWeekAgo, tomorrow)
-                        ), 0, 0),
-                        "recent_trend",
-                        TechBlogIndexField.CREATED_AT,
-                        "1d",
-                        List.of(MetricAggregation.count("count"))
-                )
-        );
-
-        // Execute aggregation
-        MultiAggregationResult result = techBlogAggregator.aggregate(requests);
-
-        // Convert to response DTO
-        var response = new TechBlogDailyStatsResponse(
-                // Top companies
-                result.results().get("by_company").bucket().entries().stream()
-                        .map(e -> new TechBlogDailyStatsResponse.CompanyStat(e.key(), e.docCount()))
-                        .toList(),
-
-                // Total count
-                getTotalCount(result, "total_count"),
-
-                // Recent trend
-                result.results().get("recent_trend").bucket().entries().stream()
-                        .map(e -> new TechBlogDailyStatsResponse.DailyStat(e.key(), e.docCount()))
-                        .toList()
-        );
-
-        log.info("✅ Daily stats fetched: {} companies, {} total, {} days trend",
-                response.getTopCompanies().size(),
-                response.getTotalCount(),
-                response.getRecentTrend().size());
-
-
-        log.info("stat response: {}", response);
-
-        return ResponseEntity.ok(response);
-    }
-
-    /**
-     * Get total count from filter aggregation result
-     * Uses filterDocCount from Filter aggregation's doc_count
-     */
-    private long getTotalCount(MultiAggregationResult result, String queryName) {
-        var queryResult = result.results().get(queryName);
-        if (queryResult == null) {
-            return 0;
-        }
-
-        // ✅ Filter의 doc_count 사용 (전체 카운트)
-        if (queryResult.filterDocCount() != null) {
-            return queryResult.filterDocCount();
-        }
-
-        // Fallback: 버킷 합산 (사용하지 않지만 호환성 유지)
-        if (queryResult.bucket() != null) {
-            return queryResult.bucket().entries().stream()
-                    .mapToLong(MultiAggregationResult.BucketEntry::docCount)
-                    .sum();
-        }
-
-        return 0;
+        // 미리 계산된 스냅샷 반환 - Age 헤더로 스냅샷이 계산된 지 몇 초 지났는지 노출
+        return techBlogDailyStatsService.getDailyStats().toResponse(Instant.now());
     }
 }
@@ -23,9 +23,12 @@ public class TechBlogSearchResponse {
     @Schema(description = "Number of results in current page", example = "30")
     private final int count;
 
-    @Schema(description = "Total number of results matching the query", example = "150")
+    @Schema(description = "Total number of results matching the query (-1 for pages fetched with a cursor)", example = "150")
     private final long totalHits;
 
+    @Schema(description = "Opaque cursor for the next page (null if there is no next page)")
+    private final String nextCursor;
+
     public static TechBlogSearchResponse from(TechBlogSearchResult result) {
         List<TechBlogCard> cards = result.docs().stream()
                 .map(TechBlogCard::from)
@@ -35,7 +38,8 @@ public class TechBlogSearchResponse {
                 cards,
                 result.hasNext(),
                 cards.size(),
-                result.totalHits()
+                result.totalHits(),
+                result.nextCursor()
         );
     }
 }
@@ -0,0 +1,242 @@
+package dev.devrunner.search.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StatsSnapshotCache 테스트
+ * <p>
+ * 수동으로 실행하는 executor 와 조정 가능한 clock 으로 stale-while-revalidate 동작을 검증
+ */
+@DisplayName("StatsSnapshotCache 테스트")
+class StatsSnapshotCacheTest {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(10);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final ManualExecutor executor = new ManualExecutor();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Supplier<String> loader = () -> "v" + loads.incrementAndGet();
+
+    private StatsSnapshotCache<String> newCache() {
+        return new StatsSnapshotCache<>("test", () -> loader.get(), generation::get, REFRESH_AFTER, executor, clock);
+    }
+
+    @Test
+    @DisplayName("최초 조회는 동기로 계산하고 이후에는 스냅샷을 그대로 반환")
+    void get_firstCallLoadsSynchronously() {
+        // Given
+        StatsSnapshotCache<String> cache = newCache();
+
+        // When
+        StatsSnapshot<String> first = cache.get();
+        StatsSnapshot<String> second = cache.get();
+
+        // Then
+        assertThat(first.value()).isEqualTo("v1");
+        assertThat(second).isSameAs(first);
+        assertThat(executor.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 오래되면 재계산이 끝날 때까지 이전 스냅샷을 반환")
+    void get_stale_servesPreviousWhileRefreshing() {
+        // Given
+        StatsSnapshotCache<String> cache = newCache();
+        cache.get();
+        clock.advance(REFRESH_AFTER);
+
+        // When
+        StatsSnapshot<String> stale = cache.get();
+
+        // Then - 재계산은 예약만 되고 이전 값이 바로 반환됨
+        assertThat(stale.value()).isEqualTo("v1");
+        assertThat(executor.pending()).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(1);
+
+        executor.runAll();
+        assertThat(cache.get().value()).isEqualTo("v2");
+        assertThat(cache.get().computedAt()).isEqualTo(clock.instant());
+    }
+
+    @Test
+    @DisplayName("재계산은 동시에 하나만 수행")
+    void refresh_onlyOneAtATime() {
+        // Given
+        StatsSnapshotCache<String> cache = newCache();
+        cache.get();
+        clock.advance(REFRESH_AFTER);
+
+        // When
+        cache.get();
+        cache.get();
+        cache.refreshIfStale();
+        cache.refreshAsync();
+
+        // Then
+        assertThat(executor.pending()).isEqualTo(1);
+
+        // 재계산이 끝나면 다시 예약할 수 있음
+        executor.runAll();
+        clock.advance(REFRESH_AFTER);
+        cache.get();
+        assertThat(executor.pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재계산이 실패하면 마지막으로 성공한 스냅샷을 유지")
+    void refresh_failure_keepsLastGoodSnapshot() {
+        // Given
+        StatsSnapshotCache<String> cache = newCache();
+        StatsSnapshot<String> good = cache.get();
+        clock.advance(REFRESH_AFTER);
+
+        // When
+        loader = () -> {
+            throw new IllegalStateException("es down");
+        };
+        cache.get();
+        executor.runAll();
+
+        // Then
+        assertThat(cache.get()).isSameAs(good);
+
+        // 실패 후에도 다음 조회에서 재계산이 다시 예약되어 복구됨
+        assertThat(executor.pending()).isEqualTo(1);
+        loader = () -> "recovered";
+        executor.runAll();
+        assertThat(cache.get().value()).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("최초 계산이 실패하면 예외를 그대로 던짐")
+    void get_initialFailure_throws() {
+        // Given
+        loader = () -> {
+            throw new IllegalStateException("es down");
+        };
+        StatsSnapshotCache<String> cache = newCache();
+
+        // When & Then
+        assertThatThrownBy(cache::get).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("인덱스 세대가 바뀌면 refreshIfStale 이 재계산을 예약")
+    void refreshIfStale_generationChanged_schedulesRefresh() {
+        // Given
+        StatsSnapshotCache<String> cache = newCache();
+        cache.get();
+
+        // When & Then
+        cache.refreshIfStale();
+        assertThat(executor.pending()).isZero();
+
+        generation.incrementAndGet();
+        cache.refreshIfStale();
+        assertThat(executor.pending()).isEqualTo(1);
+
+        executor.runAll();
+        assertThat(cache.get().generation()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답의 Age 는 계산 후 지난 초, Last-Modified 는 계산 시각")
+    void toResponse_ageAndLastModified() {
+        // Given
+        StatsSnapshotCache<String> cache = newCache();
+        StatsSnapshot<String> snapshot = cache.get();
+        Instant computedAt = clock.instant();
+        clock.advance(Duration.ofMillis(42_900));
+
+        // When
+        ResponseEntity<String> response = snapshot.toResponse(clock.instant());
+
+        // Then
+        assertThat(response.getBody()).isEqualTo("v1");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("42");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(computedAt.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("계산 시각이 현재보다 뒤면 (시계 차이) Age 는 0")
+    void toResponse_computedInFuture_ageZero() {
+        // Given
+        Instant now = clock.instant();
+        StatsSnapshot<String> snapshot = new StatsSnapshot<>("v", now.plusSeconds(5), 0);
+
+        // When & Then
+        assertThat(snapshot.toResponse(now).getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("0");
+    }
+
+    /**
+     * 예약된 작업을 테스트에서 직접 실행하는 executor
+     */
+    static class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
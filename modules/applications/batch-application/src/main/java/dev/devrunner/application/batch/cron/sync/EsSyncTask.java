@@ -2,6 +2,9 @@ package dev.devrunner.application.batch.cron.sync;
 
 import dev.devrunner.sync.task.task.es.CommunityPostEsSyncTask;
 import dev.devrunner.sync.task.task.es.JobEsSyncTask;
+import dev.devrunner.sync.task.task.es.OutboxLeaseReaper;
+import dev.devrunner.sync.task.task.es.OutboxRetentionTask;
+import dev.devrunner.sync.task.task.es.OutboxRetryScheduler;
 import dev.devrunner.sync.task.task.es.TechBlogEsSyncTask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,15 +23,21 @@ public class EsSyncTask {
     private final JobEsSyncTask jobEsSyncTask;
     private final TechBlogEsSyncTask techBlogEsSyncTask;
     private final CommunityPostEsSyncTask communityPostEsSyncTask;
+    private final OutboxLeaseReaper outboxLeaseReaper;
+    private final OutboxRetentionTask outboxRetentionTask;
+    private final OutboxRetryScheduler outboxRetryScheduler;
 
     private static final AtomicBoolean JOB_ES_SYNC_RUNNING = new AtomicBoolean(false);
     private static final AtomicBoolean TECHBLOG_ES_SYNC_RUNNING = new AtomicBoolean(false);
     private static final AtomicBoolean COMMUNITYPOST_ES_SYNC_RUNNING = new AtomicBoolean(false);
+    private static final AtomicBoolean OUTBOX_LEASE_REAPER_RUNNING = new AtomicBoolean(false);
+    private static final AtomicBoolean OUTBOX_RETENTION_RUNNING = new AtomicBoolean(false);
+    private static final AtomicBoolean OUTBOX_RETRY_RUNNING = new AtomicBoolean(false);
 
     /**
-     * Job ES 동기화: 3초마다 실행
+     * Job ES 동기화 safety net: 3초마다 실행
+     * - 평상시에는 EsSyncWorker 가 outbox 신호를 받아 즉시 처리하며, 워커가 놓친 이벤트만 여기서 보정
      */
-
     @Scheduled(cron = "*/3 * * * * ?")
     //@Scheduled(cron = "*/10 * * * * ?")
     public void syncJob() {
@@ -36,7 +45,8 @@ public class EsSyncTask {
     }
 
     /**
-     * TechBlog ES 동기화: 3초마다 실행
+     * TechBlog ES 동기화 safety net: 3초마다 실행
+     * - 평상시에는 EsSyncWorker 가 outbox 신호를 받아 즉시 처리하며, 워커가 놓친 이벤트만 여기서 보정
      */
     @Scheduled(cron = "*/3 * * * * ?")
     //@Scheduled(cron = "*/10 * * * * ?")
@@ -45,11 +55,40 @@ public class EsSyncTask {
     }
 
     /**
-     * CommunityPost ES 동기화: 3초마다 실행
+     * CommunityPost ES 동기화 safety net: 3초마다 실행
+     * - 평상시에는 EsSyncWorker 가 outbox 신호를 받아 즉시 처리하며, 워커가 놓친 이벤트만 여기서 보정
      */
     @Scheduled(cron = "*/3 * * * * ?")
     //@Scheduled(cron = "*/10 * * * * ?")
     public void syncCommunityPost() {
         executeBatchTask(COMMUNITYPOST_ES_SYNC_RUNNING, "es_sync_communitypost", communityPostEsSyncTask::run);
     }
+
+    /**
+     * 만료된 outbox lease 회수: 1분마다 실행
+     * - initialDelay: 1분 (60000ms)
+     * - fixedDelay: 1분 (60000ms)
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void reapExpiredLeases() {
+        executeBatchTask(OUTBOX_LEASE_REAPER_RUNNING, "outbox_lease_reaper", outboxLeaseReaper::run);
+    }
+
+    /**
+     * backoff 가 끝난 FAILED outbox 이벤트 재시도 등록: 30초마다 실행
+     * - initialDelay: 30초 (30000ms)
+     * - fixedDelay: 30초 (30000ms)
+     */
+    @Scheduled(initialDelay = 30000, fixedDelay = 30000)
+    public void requeueFailedEvents() {
+        executeBatchTask(OUTBOX_RETRY_RUNNING, "outbox_retry", outboxRetryScheduler::run);
+    }
+
+    /**
+     * 오래된 COMPLETED outbox 이벤트 정리: 매일 새벽 4시 실행
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void purgeCompletedOutboxEvents() {
+        executeBatchTask(OUTBOX_RETENTION_RUNNING, "outbox_retention", outboxRetentionTask::run);
+    }
 }
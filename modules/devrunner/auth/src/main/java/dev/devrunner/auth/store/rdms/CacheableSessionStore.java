@@ -13,6 +13,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -33,6 +36,15 @@ public class CacheableSessionStore implements SessionStore {
             })
             .build();
 
+    // DB 에 없거나 만료된 세션 ID (위조/만료 쿠키가 반복될 때 매번 DB 조회하지 않도록 짧게 기억)
+    private final Cache<String, Boolean> unknownSessions = Caffeine.newBuilder()
+            .expireAfterWrite(30, TimeUnit.SECONDS)
+            .maximumSize(100_000)
+            .build();
+
+    // 같은 세션 ID 에 대한 동시 캐시 miss 는 DB 조회 한 번을 함께 기다림
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<SessionUser>>> pendingLoads = new ConcurrentHashMap<>();
+
     @Override
     @Transactional
     public String createSession(SessionUser user, Duration ttl) {
@@ -60,6 +72,7 @@ public class CacheableSessionStore implements SessionStore {
 
         // 3. 캐시에 저장 (다음 조회 시 DB hit 방지)
         var sessionUser = SessionUser.of(user.getUserId(), now, expiresAt);
+        unknownSessions.invalidate(created.getSessionKey());
         sessions.put(created.getSessionKey(), sessionUser);
 
         log.info("New session created: sessionId={}, userId={}",
@@ -70,13 +83,16 @@ public class CacheableSessionStore implements SessionStore {
 
     @Override
     public Optional<SessionUser> getSession(String sessionId) {
-        var now = Instant.now();
+        // 0. 발급한 형식(UUID)이 아니면 캐시/DB 조회 없이 거절
+        if (!isWellFormed(sessionId)) {
+            return Optional.empty();
+        }
 
         // 1. 캐시 확인 (Caffeine이 TTL 자동 관리)
         var cached = sessions.getIfPresent(sessionId);
         if (cached != null) {
             // 캐시가 만료되었다고 의심됨 → DB 확인
-            if (cached.getExpireAt().isBefore(now)) {
+            if (cached.getExpireAt().isBefore(Instant.now())) {
                 log.debug("Cache expired, checking DB: sessionId={}", sessionId);
                 // 캐시 무효화하고 DB로 넘어감
                 sessions.invalidate(sessionId);
@@ -87,22 +103,50 @@ public class CacheableSessionStore implements SessionStore {
             }
         }
 
-        // 2. DB 조회 (캐시 miss 또는 캐시 만료)
+        // 2. 최근 DB 에 없던 세션 ID
+        if (unknownSessions.getIfPresent(sessionId) != null) {
+            return Optional.empty();
+        }
+
+        // 3. DB 조회 (같은 세션 ID 에 대한 동시 조회는 하나로 합침)
+        var loading = new CompletableFuture<Optional<SessionUser>>();
+        var inFlight = pendingLoads.putIfAbsent(sessionId, loading);
+        if (inFlight != null) {
+            return awaitLoad(inFlight);
+        }
+
+        try {
+            var loaded = loadSession(sessionId);
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(sessionId, loading);
+        }
+    }
+
+    private Optional<SessionUser> loadSession(String sessionId) {
+        var now = Instant.now();
+
         var queried = sessionEntityRepository.findById(sessionId);
         if (queried.isEmpty()) {
+            unknownSessions.put(sessionId, Boolean.TRUE);
             return Optional.empty();
         }
 
         var sessionEntity = queried.get();
 
-        // 3. DB 데이터 만료 체크
+        // DB 데이터 만료 체크
         if (sessionEntity.getExpiresAt().isBefore(now)) {
             sessionEntityRepository.deleteById(sessionId);
+            unknownSessions.put(sessionId, Boolean.TRUE);
             log.debug("Expired session removed: sessionId={}", sessionId);
             return Optional.empty();
         }
 
-        // 4. 유효한 세션 캐싱 (갱신 포함)
+        // 유효한 세션 캐싱 (갱신 포함)
         var sessionUser = new SessionUser(
                 sessionEntity.getUserId(),
                 sessionEntity.getCreatedAt(),
@@ -113,10 +157,22 @@ public class CacheableSessionStore implements SessionStore {
         return Optional.of(sessionUser);
     }
 
+    private Optional<SessionUser> awaitLoad(CompletableFuture<Optional<SessionUser>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public void deleteSession(String sessionId) {
         sessions.invalidate(sessionId);
         sessionEntityRepository.deleteById(sessionId);
+        unknownSessions.put(sessionId, Boolean.TRUE);
     }
 
     @Override
@@ -147,6 +203,7 @@ public class CacheableSessionStore implements SessionStore {
                 sessionEntity.getCreatedAt(),
                 newExpiresAt
         );
+        unknownSessions.invalidate(sessionId);
         sessions.put(sessionId, updatedSessionUser);
 
         log.debug("Session extended in DB and cache: sessionId={}, newExpiresAt={}",
@@ -167,4 +224,24 @@ public class CacheableSessionStore implements SessionStore {
         return sessionId;
     }
 
+    /**
+     * 세션 ID 는 UUID 문자열로만 발급되므로 그 형식인지 확인
+     */
+    private static boolean isWellFormed(String sessionId) {
+        if (sessionId == null || sessionId.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < sessionId.length(); i++) {
+            char c = sessionId.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
@@ -0,0 +1,329 @@
+package dev.devrunner.auth.store.rdms;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import dev.devrunner.auth.model.SessionUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CacheableSessionStore 테스트
+ * <p>
+ * 메모리 기반 fake repository 로 DB 조회 횟수를 세어서
+ * negative cache 와 동시 조회 합치기(pendingLoads)를 검증합니다.
+ */
+@DisplayName("CacheableSessionStore 테스트")
+class CacheableSessionStoreTest {
+
+    private static final Duration TTL = Duration.ofDays(3);
+
+    private final FakeSessionEntityRepository repository = new FakeSessionEntityRepository();
+    private final CacheableSessionStore store = new CacheableSessionStore(repository);
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, Boolean> unknownSessions() {
+        return (Cache<String, Boolean>) ReflectionTestUtils.getField(store, "unknownSessions");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> pendingLoads() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(store, "pendingLoads");
+    }
+
+    private static SessionEntity validSession(String sessionId, Long userId) {
+        Instant now = Instant.now();
+        return SessionEntity.newOne(sessionId, userId, now, now.plus(TTL));
+    }
+
+    @Test
+    @DisplayName("DB 에 없는 세션 ID 는 다시 조회해도 negative cache 에서 응답 (DB 조회 1회)")
+    void getSession_unknownId_servedFromNegativeCache() {
+        // Given
+        String sessionId = UUID.randomUUID().toString();
+
+        // When
+        Optional<SessionUser> first = store.getSession(sessionId);
+        Optional<SessionUser> second = store.getSession(sessionId);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(repository.findByIdCalls(sessionId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UUID 형식이 아닌 세션 ID 는 DB 를 조회하지 않음")
+    void getSession_malformedId_skipsDb() {
+        // When
+        Optional<SessionUser> result = store.getSession("forged-session-id");
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(repository.findByIdCalls("forged-session-id")).isZero();
+    }
+
+    @Test
+    @DisplayName("createSession 은 새 세션 ID 의 negative cache 항목을 제거")
+    void createSession_evictsNegativeEntry() {
+        // Given - INSERT 직전에 같은 ID 로 들어온 조회가 negative cache 에 기록된 상황
+        Cache<String, Boolean> unknownSessions = unknownSessions();
+        repository.onSave = entity -> unknownSessions.put(entity.getSessionKey(), Boolean.TRUE);
+
+        // When
+        String sessionId = store.createSession(SessionUser.of(1L, Instant.now(), Instant.now().plus(TTL)), TTL);
+
+        // Then
+        assertThat(unknownSessions.getIfPresent(sessionId)).isNull();
+        assertThat(store.getSession(sessionId)).map(SessionUser::getUserId).contains(1L);
+    }
+
+    @Test
+    @DisplayName("extendSession 은 negative cache 항목을 제거하고 연장된 세션을 캐싱")
+    void extendSession_evictsNegativeEntry() {
+        // Given - 조회 시점에는 DB 에 없어서 negative cache 에 기록됨
+        String sessionId = UUID.randomUUID().toString();
+        assertThat(store.getSession(sessionId)).isEmpty();
+        assertThat(unknownSessions().getIfPresent(sessionId)).isNotNull();
+
+        repository.put(validSession(sessionId, 2L));
+
+        // When
+        store.extendSession(sessionId, Duration.ofHours(1));
+
+        // Then
+        assertThat(unknownSessions().getIfPresent(sessionId)).isNull();
+        assertThat(store.getSession(sessionId)).map(SessionUser::getUserId).contains(2L);
+    }
+
+    @Test
+    @DisplayName("같은 세션 ID 에 대한 동시 캐시 miss 는 DB 조회 1회로 합쳐짐")
+    void getSession_concurrentMisses_loadOnce() throws Exception {
+        // Given
+        String sessionId = UUID.randomUUID().toString();
+        repository.put(validSession(sessionId, 3L));
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        repository.onFindById = id -> {
+            loading.countDown();
+            await(release);
+            return null;
+        };
+
+        int waiters = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(waiters + 1);
+        try {
+            Future<Optional<SessionUser>> leader = executor.submit(() -> store.getSession(sessionId));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When - 첫 조회가 DB 에서 대기하는 동안 나머지 요청이 들어옴
+            List<Thread> waiterThreads = new ArrayList<>();
+            List<Future<Optional<SessionUser>>> results = new ArrayList<>();
+            for (int i = 0; i < waiters; i++) {
+                results.add(executor.submit(() -> {
+                    synchronized (waiterThreads) {
+                        waiterThreads.add(Thread.currentThread());
+                    }
+                    return store.getSession(sessionId);
+                }));
+            }
+            awaitParked(waiterThreads, waiters);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).map(SessionUser::getUserId).contains(3L);
+            for (Future<Optional<SessionUser>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).map(SessionUser::getUserId).contains(3L);
+            }
+            assertThat(repository.findByIdCalls(sessionId)).isEqualTo(1);
+            assertThat(pendingLoads()).isEmpty();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("DB 조회가 실패해도 pendingLoads 에 남지 않아 다음 조회는 다시 DB 를 조회")
+    void getSession_failedLoad_doesNotPoisonPendingLoads() {
+        // Given
+        String sessionId = UUID.randomUUID().toString();
+        repository.put(validSession(sessionId, 4L));
+        repository.onFindById = id -> {
+            throw new IllegalStateException("db down");
+        };
+
+        // When
+        assertThatThrownBy(() -> store.getSession(sessionId)).isInstanceOf(IllegalStateException.class);
+        repository.onFindById = id -> null;
+        Optional<SessionUser> retried = store.getSession(sessionId);
+
+        // Then
+        assertThat(pendingLoads()).isEmpty();
+        assertThat(retried).map(SessionUser::getUserId).contains(4L);
+        assertThat(repository.findByIdCalls(sessionId)).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 대기 요청이 모두 진행 중인 조회 결과를 기다리며 park 될 때까지 대기
+     */
+    private static void awaitParked(List<Thread> threads, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (threads) {
+                if (threads.size() == expected && threads.stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("waiters did not park");
+    }
+
+    /**
+     * 메모리 기반 SessionEntityRepository (조회 횟수 기록)
+     */
+    static class FakeSessionEntityRepository implements SessionEntityRepository {
+
+        private final Map<String, SessionEntity> rows = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> findByIdCalls = new ConcurrentHashMap<>();
+
+        /**
+         * findById 직전에 호출 (예외를 던지면 DB 장애처럼 동작)
+         */
+        volatile Function<String, Void> onFindById = id -> null;
+        volatile Consumer<SessionEntity> onSave = entity -> {
+        };
+
+        void put(SessionEntity entity) {
+            rows.put(entity.getSessionKey(), entity);
+        }
+
+        int findByIdCalls(String sessionId) {
+            AtomicInteger calls = findByIdCalls.get(sessionId);
+            return calls == null ? 0 : calls.get();
+        }
+
+        @Override
+        public Optional<SessionEntity> findById(String id) {
+            findByIdCalls.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+            onFindById.apply(id);
+            return Optional.ofNullable(rows.get(id));
+        }
+
+        @Override
+        public <S extends SessionEntity> S save(S entity) {
+            onSave.accept(entity);
+            rows.put(entity.getSessionKey(), entity);
+            return entity;
+        }
+
+        @Override
+        public <S extends SessionEntity> Iterable<S> saveAll(Iterable<S> entities) {
+            entities.forEach(this::save);
+            return entities;
+        }
+
+        @Override
+        public boolean existsById(String id) {
+            return rows.containsKey(id);
+        }
+
+        @Override
+        public Iterable<SessionEntity> findAll() {
+            return List.copyOf(rows.values());
+        }
+
+        @Override
+        public Iterable<SessionEntity> findAllById(Iterable<String> ids) {
+            List<SessionEntity> found = new ArrayList<>();
+            ids.forEach(id -> Optional.ofNullable(rows.get(id)).ifPresent(found::add));
+            return found;
+        }
+
+        @Override
+        public long count() {
+            return rows.size();
+        }
+
+        @Override
+        public void deleteById(String id) {
+            rows.remove(id);
+        }
+
+        @Override
+        public void delete(SessionEntity entity) {
+            rows.remove(entity.getSessionKey());
+        }
+
+        @Override
+        public void deleteAllById(Iterable<? extends String> ids) {
+            ids.forEach(rows::remove);
+        }
+
+        @Override
+        public void deleteAll(Iterable<? extends SessionEntity> entities) {
+            entities.forEach(this::delete);
+        }
+
+        @Override
+        public void deleteAll() {
+            rows.clear();
+        }
+
+        @Override
+        public long deleteByExpiresAtBefore(Instant expiresAt) {
+            List<String> expired = rows.values().stream()
+                    .filter(entity -> entity.getExpiresAt().isBefore(expiresAt))
+                    .map(SessionEntity::getSessionKey)
+                    .toList();
+            expired.forEach(rows::remove);
+            return expired.size();
+        }
+
+        @Override
+        public List<SessionEntity> findByUserId(Long userId) {
+            return rows.values().stream()
+                    .filter(entity -> userId.equals(entity.getUserId()))
+                    .toList();
+        }
+
+        @Override
+        public int deleteByUserId(Long userId) {
+            List<SessionEntity> sessions = findByUserId(userId);
+            sessions.forEach(this::delete);
+            return sessions.size();
+        }
+    }
+}
@@ -20,6 +20,8 @@ dependencies {
     implementation("org.springframework:spring-web")
     implementation("org.springframework.retry:spring-retry")
     implementation("org.springframework:spring-aspects")
+    implementation("com.github.ben-manes.caffeine:caffeine:3.1.8")
+    implementation("io.micrometer:micrometer-core")
 
     implementation("org.springframework.boot:spring-boot-starter-data-jdbc")
 
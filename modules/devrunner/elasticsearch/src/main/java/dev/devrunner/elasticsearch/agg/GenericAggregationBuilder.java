@@ -1,5 +1,7 @@
 package dev.devrunner.elasticsearch.agg;
 
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,10 +21,125 @@ import java.util.function.Function;
 /**
  * Elasticsearch Aggregation Query Builder
  * <p>
- * MultiAggregationCommand를 Elasticsearch aggregation JSON으로 변환합니다.
+ * MultiAggregationCommand를 Elasticsearch aggregation으로 변환합니다.
+ * <p>
+ * - buildTyped: ES client 의 Aggregation 객체로 바로 생성 (실행용, JSON 변환 없음)
+ * - build: Map(JSON 구조)으로 생성 (쿼리 구조 확인/테스트용)
  */
 public class GenericAggregationBuilder {
 
+    /**
+     * MultiAggregationCommand를 ES client Aggregation 으로 빌드
+     */
+    public static <F extends FieldName> Map<String, Aggregation> buildTyped(
+            MultiAggregationCommand<F> command,
+            Function<? super F, Optional<FieldQueryBuilder>> qbRegistry,
+            Function<? super F, Optional<RangeQueryBuilder>> rangeRegistry
+    ) {
+        Map<String, Aggregation> aggs = new HashMap<>();
+
+        for (AggregationQuery<F> query : command.queries()) {
+            Aggregation queryAgg;
+
+            if (!query.getConditions().isEmpty()) {
+                // 1. Filter가 있으면 filter aggregation으로 감싸고 하위 집계 추가
+                Query filterQuery = GenericSearchQueryBuilder.build(
+                        query.getConditions(),
+                        qbRegistry,
+                        rangeRegistry
+                );
+
+                Map<String, Aggregation> subAggs = new HashMap<>();
+                if (query.getBucket() != null) {
+                    subAggs.put(query.getBucket().getName(), buildTypedBucketAggregation(query.getBucket()));
+                }
+                for (MetricAggregation<F> metric : query.getMetrics()) {
+                    subAggs.put(metric.getName(), buildTypedMetricAggregation(metric));
+                }
+                queryAgg = Aggregation.of(a -> a.filter(filterQuery).aggregations(subAggs));
+
+            } else if (query.getBucket() != null) {
+                // 조건 없으면 직접 집계
+                queryAgg = buildTypedBucketAggregation(query.getBucket());
+
+            } else {
+                // 메트릭만 있는 경우 global로 감싸기
+                Map<String, Aggregation> subAggs = new HashMap<>();
+                for (MetricAggregation<F> metric : query.getMetrics()) {
+                    subAggs.put(metric.getName(), buildTypedMetricAggregation(metric));
+                }
+                queryAgg = Aggregation.of(a -> a.global(g -> g).aggregations(subAggs));
+            }
+
+            aggs.put(query.getQueryName(), queryAgg);
+        }
+
+        return aggs;
+    }
+
+    private static <F extends FieldName> Aggregation buildTypedBucketAggregation(BucketAggregation<F> bucket) {
+        Map<String, Aggregation> subAggs = new HashMap<>();
+        for (MetricAggregation<F> metric : bucket.getMetrics()) {
+            subAggs.put(metric.getName(), buildTypedMetricAggregation(metric));
+        }
+
+        String field = bucket.getField().getFieldName();
+        return switch (bucket.getType()) {
+            case TERMS -> Aggregation.of(a -> withSubAggregations(
+                    a.terms(t -> t.field(field).size(bucket.getSize())), subAggs));
+            case DATE_HISTOGRAM -> Aggregation.of(a -> withSubAggregations(
+                    a.dateHistogram(d -> d.field(field).calendarInterval(toCalendarInterval(bucket.getInterval()))), subAggs));
+            default -> throw new IllegalArgumentException("Unsupported bucket type: " + bucket.getType());
+        };
+    }
+
+    private static Aggregation.Builder.ContainerBuilder withSubAggregations(
+            Aggregation.Builder.ContainerBuilder container,
+            Map<String, Aggregation> subAggs
+    ) {
+        if (!subAggs.isEmpty()) {
+            container.aggregations(subAggs);
+        }
+        return container;
+    }
+
+    private static <F extends FieldName> Aggregation buildTypedMetricAggregation(MetricAggregation<F> metric) {
+        // VALUE_COUNT는 field가 필요 없음 (_index 사용)
+        if (metric.getType() == MetricType.VALUE_COUNT) {
+            return Aggregation.of(a -> a.valueCount(v -> v.field("_index")));
+        }
+
+        String field = metric.getField().getFieldName();
+        return switch (metric.getType()) {
+            case AVG -> Aggregation.of(a -> a.avg(m -> m.field(field)));
+            case SUM -> Aggregation.of(a -> a.sum(m -> m.field(field)));
+            case MIN -> Aggregation.of(a -> a.min(m -> m.field(field)));
+            case MAX -> Aggregation.of(a -> a.max(m -> m.field(field)));
+            case CARDINALITY -> Aggregation.of(a -> a.cardinality(m -> m.field(field)));
+            default -> throw new IllegalArgumentException("Unsupported metric type: " + metric.getType());
+        };
+    }
+
+    /**
+     * "1d", "1w", "1M" 또는 "day", "week", "month" 형태의 간격을 CalendarInterval 로 변환
+     */
+    private static CalendarInterval toCalendarInterval(String interval) {
+        for (CalendarInterval value : CalendarInterval.values()) {
+            if (value.jsonValue().equals(interval)) {
+                return value;
+            }
+            String[] aliases = value.aliases();
+            if (aliases != null) {
+                for (String alias : aliases) {
+                    if (alias.equals(interval)) {
+                        return value;
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported calendar interval: " + interval);
+    }
+
     /**
      * MultiAggregationCommand를 ES aggregation JSON으로 빌드
      */
@@ -2,23 +2,22 @@ package dev.devrunner.elasticsearch.agg;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
 import co.elastic.clients.elasticsearch._types.aggregations.DateHistogramBucket;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.devrunner.elasticsearch.exception.ElasticsearchQueryException;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
 import dev.devrunner.elasticsearch.internal.queryBuilder.FieldName;
 import dev.devrunner.elasticsearch.internal.queryBuilder.FieldQueryBuilder;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.QueryLogger;
 import dev.devrunner.elasticsearch.internal.queryBuilder.queryBuilder.RangeQueryBuilder;
-import jakarta.json.stream.JsonGenerator;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.StringWriter;
 import java.util.*;
 import java.util.function.Function;
 
@@ -32,7 +31,8 @@ import java.util.function.Function;
 @Slf4j
 public class MultiAggregationExecutor {
     private final ElasticsearchClient esClient;
-    private final ObjectMapper objectMapper;
+    private final QueryLogger queryLogger;
+    private final ElasticsearchMetrics metrics;
 
     /**
      * 다중 집계 쿼리 실행
@@ -52,49 +52,33 @@ public class MultiAggregationExecutor {
             Function<? super F, Optional<RangeQueryBuilder>> rangeRegistry
     ) {
         try {
-            // 1. 집계 쿼리 빌드
-            Map<String, Object> aggs = GenericAggregationBuilder.build(
+            // 1. 집계 쿼리 빌드 (ES client 타입으로 바로 생성 - JSON 문자열 왕복 없음)
+            Map<String, Aggregation> aggs = GenericAggregationBuilder.buildTyped(
                     command,
                     qbRegistry,
                     rangeRegistry
             );
 
             // 2. 전체 쿼리 구성
-            Map<String, Object> queryBody = new HashMap<>();
-            queryBody.put("size", 0);  // 문서는 필요 없음, 집계 결과만
-            queryBody.put("aggs", aggs);
-
-            // 3. JSON으로 변환 (로깅용)
-            String queryJson = objectMapper.writeValueAsString(queryBody);
-            log.info("집계 쿼리 JSON: {}", queryJson);
-
-            // 4. Raw JSON으로 검색 실행
             SearchRequest searchRequest = SearchRequest.of(s -> s
                     .index(indexName)
-                    .withJson(new java.io.StringReader(queryJson))
+                    .size(0)  // 문서는 필요 없음, 집계 결과만
+                    .aggregations(aggs)
             );
 
+            // 3. 쿼리 로깅 (DEBUG 일 때만 직렬화)
+            queryLogger.debug("aggregation", indexName, searchRequest);
+
             // ✅ NEW: Object.class로 받아서 SearchResponse 객체 얻기
-            SearchResponse<Object> response = esClient.search(searchRequest, Object.class);
+            SearchResponse<Object> response = metrics.record("aggregation", indexName, searchRequest,
+                    () -> esClient.search(searchRequest, Object.class));
 
             // ✅ NEW: response.aggregations()로 Map<String, Aggregate> 가져오기
             Map<String, Aggregate> aggregations = response.aggregations();
-            log.info("집계 결과 키 목록: {}", aggregations.keySet());
+            log.debug("집계 결과 키 목록: {}", aggregations.keySet());
 
             // ✅ NEW: Aggregate 객체로 직접 파싱
             return parseAggregationsFromEsApi(aggregations, command);
-
-            /* ========== 기존 로직 (주석처리) ==========
-            var response = esClient.search(searchRequest, Object.class);
-
-            // 5. 결과 파싱
-            String responseJson = objectMapper.writeValueAsString(response);
-            JsonNode root = objectMapper.readTree(responseJson);
-            log.info("집계 응답: {}", responseJson);
-
-            return parseMultiAggregationResult(root, command);
-            ========== 기존 로직 끝 ========== */
-
         } catch (Exception e) {
             log.error("집계 쿼리 실패 - Index: {}, Error: {}", indexName, e.getMessage(), e);
             throw new ElasticsearchQueryException(indexName, e);
@@ -159,49 +143,6 @@ public class MultiAggregationExecutor {
         return new MultiAggregationResult(results);
     }
 
-    /* ========== 기존 JSON 파싱 로직 (주석처리) ==========
-    private <F extends FieldName> MultiAggregationResult parseMultiAggregationResult(
-            JsonNode root,
-            MultiAggregationCommand<F> command
-    ) {
-        JsonNode aggsNode = root.path("aggregations");
-        Map<String, MultiAggregationResult.QueryResult> results = new HashMap<>();
-
-        for (AggregationQuery<F> query : command.queries()) {
-            JsonNode queryNode = aggsNode.path(query.getQueryName());
-
-            // filter가 있었으면 한 단계 더 들어가야 함
-            if (!query.getConditions().isEmpty()) {
-                // filter aggregation 내부의 실제 집계 결과
-                if (query.getBucket() != null) {
-                    JsonNode bucketNode = queryNode.path(query.getBucket().getName());
-                    var bucketResult = parseBucketResult(bucketNode, query);
-                    results.put(query.getQueryName(),
-                            MultiAggregationResult.QueryResult.withBucket(bucketResult));
-                } else if (!query.getMetrics().isEmpty()) {
-                    var metrics = parseMetrics(queryNode, query);
-                    results.put(query.getQueryName(),
-                            MultiAggregationResult.QueryResult.withMetrics(metrics));
-                }
-            } else {
-                // 조건 없으면 바로 집계 결과
-                if (query.getBucket() != null) {
-                    var bucketResult = parseBucketResult(queryNode, query);
-                    results.put(query.getQueryName(),
-                            MultiAggregationResult.QueryResult.withBucket(bucketResult));
-                } else if (!query.getMetrics().isEmpty()) {
-                    // global aggregation인 경우
-                    var metrics = parseMetrics(queryNode, query);
-                    results.put(query.getQueryName(),
-                            MultiAggregationResult.QueryResult.withMetrics(metrics));
-                }
-            }
-        }
-
-        return new MultiAggregationResult(results);
-    }
-    ========== 기존 JSON 파싱 로직 끝 ========== */
-
     /**
      * ✅ NEW: Aggregate에서 버킷 결과 파싱
      * 디버거 결과 기준: sterms 또는 date_histogram
@@ -301,50 +242,4 @@ public class MultiAggregationExecutor {
         log.warn("알 수 없는 메트릭 타입: {}", agg._kind());
         return 0.0;
     }
-
-    /* ========== 기존 버킷/메트릭 파싱 로직 (주석처리) ==========
-    private <F extends FieldName> MultiAggregationResult.BucketResult parseBucketResult(
-            JsonNode bucketNode,
-            AggregationQuery<F> query
-    ) {
-        List<MultiAggregationResult.BucketEntry> entries = new ArrayList<>();
-        JsonNode bucketsArray = bucketNode.path("buckets");
-
-        for (JsonNode bucket : bucketsArray) {
-            String key = bucket.has("key_as_string")
-                    ? bucket.path("key_as_string").asText()
-                    : bucket.path("key").asText();
-            long docCount = bucket.path("doc_count").asLong();
-
-            // 버킷 내 메트릭 파싱
-            Map<String, Double> metrics = new HashMap<>();
-            if (query.getBucket() != null) {
-                for (var metric : query.getBucket().getMetrics()) {
-                    JsonNode metricNode = bucket.path(metric.getName());
-                    if (metricNode.has("value")) {
-                        metrics.put(metric.getName(), metricNode.path("value").asDouble());
-                    }
-                }
-            }
-
-            entries.add(new MultiAggregationResult.BucketEntry(key, docCount, metrics));
-        }
-
-        return new MultiAggregationResult.BucketResult(entries);
-    }
-
-    private <F extends FieldName> Map<String, Double> parseMetrics(
-            JsonNode parentNode,
-            AggregationQuery<F> query
-    ) {
-        Map<String, Double> metrics = new HashMap<>();
-        for (var metric : query.getMetrics()) {
-            JsonNode metricNode = parentNode.path(metric.getName());
-            if (metricNode.has("value")) {
-                metrics.put(metric.getName(), metricNode.path("value").asDouble());
-            }
-        }
-        return metrics;
-    }
-    ========== 기존 버킷/메트릭 파싱 로직 끝 ========== */
 }
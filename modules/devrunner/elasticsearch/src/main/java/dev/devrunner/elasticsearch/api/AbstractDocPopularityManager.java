@@ -1,22 +1,49 @@
 package dev.devrunner.elasticsearch.api;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.UpdateRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.json.JsonData;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.devrunner.elasticsearch.document.DocBase;
 import dev.devrunner.elasticsearch.exception.ElasticsearchQueryException;
+import dev.devrunner.elasticsearch.internal.indexer.BulkIndexResult;
 import dev.devrunner.elasticsearch.internal.indexer.DocIndexer;
+import dev.devrunner.elasticsearch.internal.indexer.IndexResponseType;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
 import dev.devrunner.model.common.Popularity;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 public abstract class AbstractDocPopularityManager<T extends DocBase> implements DocPopularityManager {
 
+    private static final String DOCUMENT_MISSING = "document_missing_exception";
+
     private final ElasticsearchClient esClient;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 한 번의 _bulk 요청에 담을 최대 update action 수
+     */
+    @Value("${elasticsearch.bulk.flush-size:500}")
+    private int bulkFlushSize = 500;
+
+    @Autowired
+    private ElasticsearchMetrics metrics;
+
     public AbstractDocPopularityManager(
             ElasticsearchClient esClient,
             ObjectMapper esObjectMapper
@@ -49,13 +76,98 @@ public abstract class AbstractDocPopularityManager<T extends DocBase> implements
         indexer.indexOne(updated);
     }
 
+    public void updatePopularityPartial(String docId, Popularity popularity) {
+        try {
+            UpdateRequest<JsonData, Map<String, Object>> request = UpdateRequest.of(u -> u
+                    .index(index())
+                    .id(docId)
+                    .doc(popularityFields(popularity)));
+
+            metrics.record("update", index(), null, () -> esClient.update(request, JsonData.class));
+        } catch (ElasticsearchException e) {
+            if (e.status() == 404) {
+                log.info("no document with index:{} , id {}", index(), docId);
+                return;
+            }
+            throw new ElasticsearchQueryException("Error updating popularity - id : " + docId, e);
+        } catch (Exception e) {
+            throw new ElasticsearchQueryException("Error updating popularity - id : " + docId, e);
+        }
+    }
+
+    public BulkIndexResult updatePopularityAll(Map<String, Popularity> popularities) {
+        if (popularities == null || popularities.isEmpty()) {
+            return BulkIndexResult.empty();
+        }
+
+        Map<String, IndexResponseType> updated = new HashMap<>();
+        Map<String, String> failures = new HashMap<>();
+
+        List<Map.Entry<String, Popularity>> entries = new ArrayList<>(popularities.entrySet());
+        for (int from = 0; from < entries.size(); from += bulkFlushSize) {
+            List<Map.Entry<String, Popularity>> chunk = entries.subList(from, Math.min(from + bulkFlushSize, entries.size()));
+            flushChunk(chunk, updated, failures);
+        }
+
+        log.info("Bulk popularity update completed: index={}, updated={}, failed={}", index(), updated.size(), failures.size());
+        return new BulkIndexResult(updated, failures);
+    }
+
+    private void flushChunk(List<Map.Entry<String, Popularity>> chunk,
+                            Map<String, IndexResponseType> updated,
+                            Map<String, String> failures) {
+        try {
+            BulkRequest.Builder builder = new BulkRequest.Builder();
+            for (Map.Entry<String, Popularity> entry : chunk) {
+                Map<String, Object> fields = popularityFields(entry.getValue());
+                builder.operations(op -> op
+                        .update(upd -> upd
+                                .index(index())
+                                .id(entry.getKey())
+                                .action(a -> a.doc(fields))));
+            }
+            BulkRequest request = builder.build();
+            BulkResponse response = metrics.record("bulk_update", index(), null, () -> esClient.bulk(request));
+
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() == null) {
+                    updated.put(item.id(), IndexResponseType.from(item.result()));
+                } else if (DOCUMENT_MISSING.equals(item.error().type())) {
+                    // 아직 색인되지 않은 문서 - 이후 전체 색인 시 인기도가 함께 반영됨
+                    log.info("no document with index:{} , id {}", index(), item.id());
+                    updated.put(item.id(), IndexResponseType.NotFound);
+                } else {
+                    failures.put(item.id(), item.error().type() + ": " + item.error().reason());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Bulk popularity update failed: index={}, size={}", index(), chunk.size(), e);
+
+            String reason = e.getClass().getSimpleName() + ": " + e.getMessage();
+            for (Map.Entry<String, Popularity> entry : chunk) {
+                failures.put(entry.getKey(), reason);
+            }
+        }
+    }
+
+    /**
+     * 부분 업데이트에 담을 인기도 필드 (모든 문서가 같은 필드명을 사용)
+     */
+    protected Map<String, Object> popularityFields(Popularity popularity) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("popularity_view_count", popularity.getViewCount());
+        fields.put("popularity_comment_count", popularity.getCommentCount());
+        fields.put("popularity_like_count", popularity.getLikeCount());
+        return fields;
+    }
+
     protected T findById(String docId) {
         try {
             // 1. JsonData로 응답 받기
-            GetResponse<JsonData> response = esClient.get(
+            GetResponse<JsonData> response = metrics.record("get", index(), null, () -> esClient.get(
                     g -> g.index(index()).id(docId),
                     JsonData.class
-            );
+            ));
 
             if (!response.found()) {
                 log.info("document not found in index: {} with id: {}", index(), docId);
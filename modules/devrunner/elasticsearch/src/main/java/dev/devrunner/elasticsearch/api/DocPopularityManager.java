@@ -1,9 +1,29 @@
 package dev.devrunner.elasticsearch.api;
 
+import dev.devrunner.elasticsearch.internal.indexer.BulkIndexResult;
 import dev.devrunner.model.common.Popularity;
 
+import java.util.Map;
+
 public interface DocPopularityManager {
 
+    /**
+     * 문서 전체를 조회한 뒤 인기도만 바꿔서 다시 색인 (full reindex)
+     */
     public void updatePopularity(String docId, Popularity popularity);
 
+    /**
+     * _update API 로 인기도 필드만 부분 업데이트
+     * 문서가 아직 색인되지 않은 경우 아무것도 하지 않는다.
+     */
+    public void updatePopularityPartial(String docId, Popularity popularity);
+
+    /**
+     * _bulk update action 으로 여러 문서의 인기도 필드만 부분 업데이트
+     * 문서 단위 실패는 예외 대신 결과에 담아 반환한다. (색인되지 않은 문서는 실패로 보지 않음)
+     *
+     * @param popularities docId -> popularity
+     */
+    public BulkIndexResult updatePopularityAll(Map<String, Popularity> popularities);
+
 }
@@ -2,7 +2,10 @@ package dev.devrunner.elasticsearch.api.communitypost;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import dev.devrunner.elasticsearch.document.DocBase;
+import dev.devrunner.elasticsearch.document.CommunityPostDoc;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
 import dev.devrunner.elasticsearch.internal.indexer.AbstractDocIndexer;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -13,9 +16,11 @@ public class CommunityPostIndexer extends AbstractDocIndexer {
 
     public CommunityPostIndexer(
             ElasticsearchClient esClient,
+            IndexGeneration indexGeneration,
+            ElasticsearchMetrics metrics,
             @Value("${elasticsearch.index.communitypost}") String indexName
     ) {
-        super(esClient);
+        super(esClient, indexGeneration, metrics);
         this.indexName = indexName;
     }
 
@@ -29,6 +34,14 @@ public class CommunityPostIndexer extends AbstractDocIndexer {
         return doc.getDocId();
     }
 
+    @Override
+    protected String getSourceDocId(DocBase doc) {
+        if (doc instanceof CommunityPostDoc communityPostDoc) {
+            return CommunityPostDoc.docId(communityPostDoc.getCommunityPostId());
+        }
+        return doc.getDocId();
+    }
+
     @Override
     protected boolean validateDoc(DocBase doc) {
         return doc.getDocId() != null;
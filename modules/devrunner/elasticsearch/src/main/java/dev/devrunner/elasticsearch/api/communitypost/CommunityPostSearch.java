@@ -8,9 +8,11 @@ import dev.devrunner.elasticsearch.internal.query.communitypost.CommunityPostInd
 import dev.devrunner.elasticsearch.internal.queryBuilder.GenericSearchQueryBuilder;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SearchCommand;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SortOption;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.CursorSearchResult;
 import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchQueryExecutor;
-import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchResult;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SourceProjection;
 import dev.devrunner.elasticsearch.internal.utils.PaginationUtils;
+import dev.devrunner.elasticsearch.internal.utils.SearchCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,26 +31,49 @@ public class CommunityPostSearch {
     private final SearchQueryExecutor executor;
     private static final Integer DEFAULT_PAGE_SIZE = 30;
 
+    /**
+     * 검색 결과(CommunityPostCard)에 필요한 필드만 조회
+     */
+    private static final SourceProjection CARD_PROJECTION = SourceProjection.includes(
+            CommunityPostIndexField.DOC_ID, CommunityPostIndexField.COMMUNITY_POST_ID, CommunityPostIndexField.USER_ID,
+            CommunityPostIndexField.CATEGORY, CommunityPostIndexField.TITLE, CommunityPostIndexField.MARKDOWN_BODY,
+            CommunityPostIndexField.COMPANY, CommunityPostIndexField.LOCATION,
+            CommunityPostIndexField.LINKED_JOB_ID, CommunityPostIndexField.IS_FROM_JOB_COMMENT,
+            CommunityPostIndexField.POPULARITY_VIEW_COUNT, CommunityPostIndexField.POPULARITY_COMMENT_COUNT, CommunityPostIndexField.POPULARITY_LIKE_COUNT,
+            CommunityPostIndexField.CREATED_AT, CommunityPostIndexField.UPDATED_AT
+    );
+
+    /**
+     * match 쿼리가 있으면 relevance score, 없으면 created_at desc (같은 값이면 doc_id 로 순서 고정)
+     */
+    private static final List<SortOption> RELEVANCE_SORT = List.of(
+            SortOption.score(), SortOption.asc(CommunityPostIndexField.DOC_ID.getFieldName()));
+    private static final List<SortOption> LATEST_SORT = List.of(
+            SortOption.desc("created_at"), SortOption.asc(CommunityPostIndexField.DOC_ID.getFieldName()));
+
     public CommunityPostSearchResult search(SearchCommand<CommunityPostIndexField> command) {
+        return search(command, null);
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor (있으면 from 대신 search_after 로 이어서 조회, 페이지 크기는 to - from)
+     */
+    public CommunityPostSearchResult search(SearchCommand<CommunityPostIndexField> command, String cursor) {
         var q = GenericSearchQueryBuilder.build(command,
                 CommunityPostIndexQueryBuilderRegistry.LOOKUP,
                 CommunityPostIndexRangeQueryBuilderRegistry.LOOKUP);
 
         var pagination = PaginationUtils.calculatePaginationInfo(command.from(), command.to(), DEFAULT_PAGE_SIZE);
 
-        SearchResult<CommunityPostDoc> searchResult;
+        var sorts = hasMatchQuery(command) ? RELEVANCE_SORT : LATEST_SORT;
+        var searchAfter = SearchCursor.decode(cursor, sorts.size());
 
-        if (hasMatchQuery(command)) {
-            // match 쿼리가 있으면 relevance score로 정렬
-            searchResult = executor.search(COMMUNITY_POST_INDEX, q, pagination.from(), pagination.searchSize(), CommunityPostDoc.class);
-        } else {
-            // match 쿼리가 없으면 created_at desc로 정렬
-            searchResult = executor.searchWithSort(COMMUNITY_POST_INDEX, q, pagination.from(), pagination.searchSize(),
-                    SortOption.desc("created_at"), CommunityPostDoc.class);
-        }
+        CursorSearchResult<CommunityPostDoc> searchResult = executor.searchAfter(COMMUNITY_POST_INDEX, q,
+                pagination.from(), pagination.searchSize(), sorts, searchAfter, CARD_PROJECTION, CommunityPostDoc.class);
 
         var result = PaginationUtils.paginate(searchResult.docs(), pagination.requestedSize());
-        return new CommunityPostSearchResult(result.data(), result.hasNext(), searchResult.totalHits());
+        return new CommunityPostSearchResult(result.data(), result.hasNext(), searchResult.totalHits(),
+                PaginationUtils.nextCursor(result, searchResult.sortValues()));
     }
 
     private boolean hasMatchQuery(SearchCommand<CommunityPostIndexField> command) {
@@ -7,6 +7,8 @@ import java.util.List;
 public record CommunityPostSearchResult(
         List<CommunityPostDoc> docs,
         boolean hasNext,
-        long totalHits
+        long totalHits,
+        // null means there is no next page
+        String nextCursor
 ) {
 }
@@ -2,7 +2,10 @@ package dev.devrunner.elasticsearch.api.job;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import dev.devrunner.elasticsearch.document.DocBase;
+import dev.devrunner.elasticsearch.document.JobDoc;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
 import dev.devrunner.elasticsearch.internal.indexer.AbstractDocIndexer;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -13,9 +16,11 @@ public class JobIndexer extends AbstractDocIndexer {
 
     public JobIndexer(
             ElasticsearchClient esClient,
+            IndexGeneration indexGeneration,
+            ElasticsearchMetrics metrics,
             @Value("${elasticsearch.index.job}") String indexName
     ) {
-        super(esClient);
+        super(esClient, indexGeneration, metrics);
         this.indexName = indexName;
     }
 
@@ -29,6 +34,14 @@ public class JobIndexer extends AbstractDocIndexer {
         return doc.getDocId();
     }
 
+    @Override
+    protected String getSourceDocId(DocBase doc) {
+        if (doc instanceof JobDoc jobDoc) {
+            return JobDoc.docId(jobDoc.getJobId());
+        }
+        return doc.getDocId();
+    }
+
     @Override
     protected boolean validateDoc(DocBase doc) {
         return doc.getDocId() != null;
@@ -10,10 +10,14 @@ import dev.devrunner.elasticsearch.internal.queryBuilder.GenericSearchQueryBuild
 import dev.devrunner.elasticsearch.internal.queryBuilder.SearchCommand;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SearchElement;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SortOption;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.CursorSearchResult;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.HybridSearchResult;
 import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchQueryExecutor;
-import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchResult;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SourceProjection;
 import dev.devrunner.elasticsearch.internal.utils.PaginationUtils;
 import dev.devrunner.elasticsearch.internal.utils.QueryHelper;
+import dev.devrunner.elasticsearch.internal.utils.SearchCursor;
+import dev.devrunner.elasticsearch.vector.EmbeddingVector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,39 +38,74 @@ public class JobSearch {
     private final JobDocBoostQueryHelper jobDocBoostQueryHelper;
     private static final Integer DEFAULT_PAGE_SIZE = 30;
 
+    /**
+     * 검색 결과(JobCard)에 필요한 필드만 조회 - vector, full_description 등은 응답에서 제외
+     */
+    private static final SourceProjection CARD_PROJECTION = SourceProjection.includes(
+            JobIndexField.DOC_ID, JobIndexField.JOB_ID, JobIndexField.URL,
+            JobIndexField.COMPANY, JobIndexField.TITLE, JobIndexField.ORGANIZATION, JobIndexField.ONE_LINE_SUMMARY,
+            JobIndexField.MIN_YEARS, JobIndexField.MAX_YEARS, JobIndexField.CAREER_LEVEL,
+            JobIndexField.EMPLOYMENT_TYPE, JobIndexField.POSITION_CATEGORY, JobIndexField.REMOTE_POLICY,
+            JobIndexField.TECH_CATEGORIES, JobIndexField.LOCATIONS,
+            JobIndexField.COMPENSATION_MIN_BASE_PAY, JobIndexField.COMPENSATION_MAX_BASE_PAY,
+            JobIndexField.COMPENSATION_CURRENCY, JobIndexField.COMPENSATION_UNIT, JobIndexField.COMPENSATION_HAS_STOCK_OPTION,
+            JobIndexField.STARTED_AT, JobIndexField.ENDED_AT, JobIndexField.IS_OPEN_ENDED, JobIndexField.IS_CLOSED,
+            JobIndexField.POPULARITY_VIEW_COUNT, JobIndexField.POPULARITY_COMMENT_COUNT, JobIndexField.POPULARITY_LIKE_COUNT,
+            JobIndexField.CREATED_AT, JobIndexField.UPDATED_AT
+    );
+
+    /**
+     * match 쿼리가 있으면 relevance score, 없으면 created_at desc (같은 값이면 doc_id 로 순서 고정)
+     */
+    private static final List<SortOption> RELEVANCE_SORT = List.of(
+            SortOption.score(), SortOption.asc(JobIndexField.DOC_ID.getFieldName()));
+    private static final List<SortOption> LATEST_SORT = List.of(
+            SortOption.desc("created_at"), SortOption.asc(JobIndexField.DOC_ID.getFieldName()));
+
     public JobSearchResult search(SearchCommand<JobIndexField> command) {
+        return search(command, null);
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor (있으면 from 대신 search_after 로 이어서 조회, 페이지 크기는 to - from)
+     */
+    public JobSearchResult search(SearchCommand<JobIndexField> command, String cursor) {
         // deleted=false 조건 자동 추가
         var commandWithDeleted = ensureDeletedFalseCondition(command);
 
-        var q = GenericSearchQueryBuilder.build(commandWithDeleted,
+        var pagination = PaginationUtils.calculatePaginationInfo(commandWithDeleted.from(), commandWithDeleted.to(), DEFAULT_PAGE_SIZE);
+
+        var finalQuery = buildQuery(commandWithDeleted);
+
+        var sorts = hasMatchQuery(commandWithDeleted) ? RELEVANCE_SORT : LATEST_SORT;
+        var searchAfter = SearchCursor.decode(cursor, sorts.size());
+
+        CursorSearchResult<JobDoc> searchResult = executor.searchAfter(JOB_INDEX, finalQuery,
+                pagination.from(), pagination.searchSize(), sorts, searchAfter, CARD_PROJECTION, JobDoc.class);
+
+        var result = PaginationUtils.paginate(searchResult.docs(), pagination.requestedSize());
+        return new JobSearchResult(result.data(), result.hasNext(), searchResult.totalHits(),
+                PaginationUtils.nextCursor(result, searchResult.sortValues()));
+    }
+
+    /**
+     * 조건 쿼리 생성 + 검색어가 있으면 부스트 should 병합
+     */
+    private Query buildQuery(SearchCommand<JobIndexField> command) {
+        var q = GenericSearchQueryBuilder.build(command,
                 JobIndexQueryBuilderRegistry.LOOKUP,
                 JobIndexRangeQueryBuilderRegistry.LOOKUP);
 
-        var pagination = PaginationUtils.calculatePaginationInfo(commandWithDeleted.from(), commandWithDeleted.to(), DEFAULT_PAGE_SIZE);
-
         // 부스트 should 생성
-        List<Query> boostShoulds = jobDocBoostQueryHelper.hasSearchWord(commandWithDeleted)
-                ? jobDocBoostQueryHelper.buildBoostQueries(commandWithDeleted)
+        List<Query> boostShoulds = jobDocBoostQueryHelper.hasSearchWord(command)
+                ? jobDocBoostQueryHelper.buildBoostQueries(command)
                 : List.of();
 
-        log.info("Before merge query: {}", q);
+        log.debug("Before merge query: {}", q);
         // base에 should 병합
         var finalQuery = QueryHelper.mergeShoulds(q, boostShoulds);
-        log.info("After merge query: {}", finalQuery);
-
-        SearchResult<JobDoc> searchResult;
-
-        if (hasMatchQuery(commandWithDeleted)) {
-            // match 쿼리가 있으면 relevance score로 정렬
-            searchResult = executor.search(JOB_INDEX, finalQuery, pagination.from(), pagination.searchSize(), JobDoc.class);
-        } else {
-            // match 쿼리가 없으면 created_at desc로 정렬
-            searchResult = executor.searchWithSort(JOB_INDEX, finalQuery, pagination.from(), pagination.searchSize(),
-                    SortOption.desc("created_at"), JobDoc.class);
-        }
-
-        var result = PaginationUtils.paginate(searchResult.docs(), pagination.requestedSize());
-        return new JobSearchResult(result.data(), result.hasNext(), searchResult.totalHits());
+        log.debug("After merge query: {}", finalQuery);
+        return finalQuery;
     }
 
     private boolean hasMatchQuery(SearchCommand<JobIndexField> command) {
@@ -77,7 +116,7 @@ public class JobSearch {
     }
 
 
-    public JobSearchResult searchByVector(List<Float> queryVector, SearchCommand<JobIndexField> command, int size) {
+    public JobSearchResult searchByVector(EmbeddingVector queryVector, SearchCommand<JobIndexField> command, int size) {
         // deleted=false 조건 자동 추가
         var commandWithDeleted = ensureDeletedFalseCondition(command);
 
@@ -87,13 +126,31 @@ public class JobSearch {
                 JobIndexRangeQueryBuilderRegistry.LOOKUP);
 
         // KNN 검색 수행 (페이지네이션 없음)
-        var docs = executor.searchByVector(JOB_INDEX, queryVector, filterQuery, size, JobDoc.class);
+        var docs = executor.searchByVector(JOB_INDEX, queryVector, filterQuery, size, CARD_PROJECTION, JobDoc.class);
 
         // 벡터는 항상 정해진크기 응답
         // KNN은 hasNext 없음
         return new JobSearchResult(docs, false, docs.size());
     }
 
+    /**
+     * KNN 검색과 BM25 검색을 한 번의 요청으로 수행 (각각 size 개, relevance 순)
+     *
+     * @param filterCommand KNN 검색 필터 조건
+     * @param textCommand   BM25 검색 조건
+     */
+    public HybridSearchResult<JobDoc> searchHybrid(EmbeddingVector queryVector,
+                                                   SearchCommand<JobIndexField> filterCommand,
+                                                   SearchCommand<JobIndexField> textCommand,
+                                                   int size) {
+        var filterQuery = GenericSearchQueryBuilder.build(ensureDeletedFalseCondition(filterCommand),
+                JobIndexQueryBuilderRegistry.LOOKUP,
+                JobIndexRangeQueryBuilderRegistry.LOOKUP);
+        var textQuery = buildQuery(ensureDeletedFalseCondition(textCommand));
+
+        return executor.searchHybrid(JOB_INDEX, queryVector, filterQuery, textQuery, size, CARD_PROJECTION, JobDoc.class);
+    }
+
     private SearchCommand<JobIndexField> ensureDeletedFalseCondition(SearchCommand<JobIndexField> command) {
         // 이미 DELETED 조건이 있는지 확인
         boolean hasDeletedCondition = command.conditions().stream()
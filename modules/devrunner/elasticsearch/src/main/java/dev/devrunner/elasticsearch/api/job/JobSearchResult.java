@@ -9,11 +9,16 @@ public record JobSearchResult(
         List<JobDoc> docs,
         boolean hasNext,
         // -1 means it doesn't use total count
-        long totalHits
+        long totalHits,
+        // null means there is no next page (or cursor is not supported)
+        String nextCursor
 ) {
+    public JobSearchResult(List<JobDoc> docs, boolean hasNext, long totalHits) {
+        this(docs, hasNext, totalHits, null);
+    }
+
     // 2개 파라미터 받는 생성자 추가
     public JobSearchResult(List<JobDoc> docs, boolean hasNext) {
         this(docs, hasNext, -1L);
     }
 }
-
@@ -0,0 +1,213 @@
+package dev.devrunner.elasticsearch.api.job.boost;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.devrunner.elasticsearch.document.JobDocKeywordBoost;
+import dev.devrunner.elasticsearch.internal.utils.KeywordAutomaton;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 부스트 규칙을 메모리에서 매칭 (percolate 대체)
+ * <p>
+ * 규칙 문서에 저장된 percolator 쿼리(q)에서 text 필드에 대한 키워드를 꺼내 Aho-Corasick 자동자로 만든다.
+ * 해석할 수 있는 쿼리는 match / match_phrase / term / terms 와 이를 should 로만 묶은 bool 이며,
+ * 그 외의 쿼리가 하나라도 있으면 로컬 매칭 결과가 percolate 와 달라지므로 생성하지 않는다.
+ */
+public final class BoostRuleMatcher {
+
+    private static final String TEXT_FIELD = "text";
+
+    private final KeywordAutomaton<JobDocKeywordBoost> automaton;
+    private final int ruleCount;
+
+    private BoostRuleMatcher(KeywordAutomaton<JobDocKeywordBoost> automaton, int ruleCount) {
+        this.automaton = automaton;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * @return 모든 규칙의 쿼리를 해석할 수 있으면 matcher, 아니면 empty
+     */
+    public static Optional<BoostRuleMatcher> build(List<JobDocKeywordBoost> rules) {
+        KeywordAutomaton.Builder<JobDocKeywordBoost> builder = KeywordAutomaton.builder();
+        for (JobDocKeywordBoost rule : rules) {
+            if (rule.getQuery() == null || rule.getQuery().isNull()) {
+                // 쿼리가 없는 규칙은 percolate 에서도 매칭되지 않음
+                continue;
+            }
+
+            List<String> keywords = new ArrayList<>();
+            if (!collectKeywords(rule.getQuery(), keywords)) {
+                return Optional.empty();
+            }
+            keywords.forEach(keyword -> builder.add(keyword, rule));
+        }
+        return Optional.of(new BoostRuleMatcher(builder.build(), rules.size()));
+    }
+
+    public List<JobDocKeywordBoost> match(String text) {
+        return automaton.findAll(text);
+    }
+
+    public int ruleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * 쿼리에서 text 필드 키워드 수집
+     *
+     * @return 해석할 수 없는 쿼리면 false
+     */
+    static boolean collectKeywords(JsonNode query, List<String> keywords) {
+        if (query == null || !query.isObject() || query.size() != 1) {
+            return false;
+        }
+
+        Map.Entry<String, JsonNode> clause = query.fields().next();
+        JsonNode body = clause.getValue();
+        return switch (clause.getKey()) {
+            case "match_phrase", "term" -> {
+                String value = fieldValue(body);
+                if (value == null) {
+                    yield false;
+                }
+                keywords.add(value);
+                yield true;
+            }
+            case "match" -> collectMatchKeywords(body, keywords);
+            case "terms" -> collectTermsKeywords(body, keywords);
+            case "bool" -> collectShouldKeywords(body, keywords);
+            default -> false;
+        };
+    }
+
+    /**
+     * match 는 기본 operator(or) 일 때 토큰 하나만 있어도 매칭되므로 토큰 단위로 수집
+     * (operator and 나 minimum_should_match 로 토큰이 둘 이상 필요하면 해석하지 않음)
+     */
+    private static boolean collectMatchKeywords(JsonNode body, List<String> keywords) {
+        String value = fieldValue(body);
+        if (value == null) {
+            return false;
+        }
+
+        JsonNode options = body.get(TEXT_FIELD);
+        String[] tokens = KeywordAutomaton.normalize(value).split(" ");
+        if (tokens.length > 1 && options.isObject()) {
+            if ("and".equalsIgnoreCase(options.path("operator").asText())) {
+                return false;
+            }
+            if (options.has("minimum_should_match") && !anyOneMatches(options.get("minimum_should_match"), tokens.length)) {
+                return false;
+            }
+        }
+        keywords.addAll(List.of(tokens));
+        return true;
+    }
+
+    private static boolean collectTermsKeywords(JsonNode body, List<String> keywords) {
+        if (body == null || !body.isObject() || body.size() != 1 || !body.has(TEXT_FIELD)) {
+            return false;
+        }
+        JsonNode values = body.get(TEXT_FIELD);
+        if (!values.isArray()) {
+            return false;
+        }
+        for (JsonNode value : values) {
+            if (!value.isTextual()) {
+                return false;
+            }
+            keywords.add(value.asText());
+        }
+        return true;
+    }
+
+    private static boolean collectShouldKeywords(JsonNode body, List<String> keywords) {
+        if (body == null || !body.isObject()) {
+            return false;
+        }
+
+        Iterator<String> names = body.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!name.equals("boost") && !name.equals("minimum_should_match") && !name.equals("should")) {
+                return false;
+            }
+        }
+
+        JsonNode should = body.path("should");
+        int clauses = should.isArray() ? should.size() : 1;
+        if (body.has("minimum_should_match") && !anyOneMatches(body.get("minimum_should_match"), clauses)) {
+            return false;
+        }
+        if (should.isObject()) {
+            return collectKeywords(should, keywords);
+        }
+        if (!should.isArray() || should.isEmpty()) {
+            return false;
+        }
+        for (JsonNode child : should) {
+            if (!collectKeywords(child, keywords)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * minimum_should_match 를 적용했을 때 optional clause 중 하나만 맞아도 매칭되는지 확인
+     * <p>
+     * 정수("2", -1)와 퍼센트("75%", "-25%") 형식을 ES 와 같은 방식으로 계산한다.
+     * (음수는 빠져도 되는 개수, 퍼센트는 내림 / 계산 결과는 0 ~ clause 수 범위로 보정)
+     * should 만 있는 bool 과 match 는 결과가 0 이어도 하나는 맞아야 하므로 1 이하면 or 와 같다.
+     * 조합 형식("2<75%")이나 알 수 없는 값은 정확히 평가할 수 없으므로 false.
+     */
+    static boolean anyOneMatches(JsonNode minimumShouldMatch, int clauses) {
+        if (clauses <= 1) {
+            return true;
+        }
+
+        String spec = minimumShouldMatch.isIntegralNumber() ? minimumShouldMatch.asText()
+                : minimumShouldMatch.isTextual() ? minimumShouldMatch.asText().trim() : null;
+        if (spec == null || spec.isEmpty()) {
+            return false;
+        }
+
+        int required;
+        try {
+            if (spec.endsWith("%")) {
+                int percent = Integer.parseInt(spec.substring(0, spec.length() - 1));
+                int computed = clauses * Math.abs(percent) / 100;
+                required = percent < 0 ? clauses - computed : computed;
+            } else {
+                int count = Integer.parseInt(spec);
+                required = count < 0 ? clauses + count : count;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return Math.min(Math.max(required, 0), clauses) <= 1;
+    }
+
+    /**
+     * {"text": "value"} 또는 {"text": {"query"|"value": "value", ...}} 형태에서 값 추출 (text 외 필드면 null)
+     */
+    private static String fieldValue(JsonNode body) {
+        if (body == null || !body.isObject() || body.size() != 1 || !body.has(TEXT_FIELD)) {
+            return null;
+        }
+        JsonNode value = body.get(TEXT_FIELD);
+        if (value.isTextual()) {
+            return value.asText();
+        }
+        if (value.isObject()) {
+            JsonNode inner = value.has("query") ? value.get("query") : value.get("value");
+            return inner != null && inner.isTextual() ? inner.asText() : null;
+        }
+        return null;
+    }
+}
@@ -27,6 +27,7 @@ public class DefaultJobDocBoostQueryHelper implements JobDocBoostQueryHelper {
     private static final int BOOST_RULE_LIMIT = 5;
 
     private final SearchQueryExecutor searchQueryExecutor;
+    private final LocalBoostRuleEngine localBoostRuleEngine;
 
     @Override
     public boolean hasSearchWord(SearchCommand<JobIndexField> command) {
@@ -40,7 +41,17 @@ public class DefaultJobDocBoostQueryHelper implements JobDocBoostQueryHelper {
             return List.of();
         }
 
-        // 1) percolate 쿼리
+        // 1) 로컬 matcher 로 매칭 (쓸 수 없으면 percolate 쿼리)
+        List<JobDocKeywordBoost> hits = localBoostRuleEngine.match(text)
+                .orElseGet(() -> percolate(text));
+
+        return refine(hits);
+    }
+
+    /**
+     * percolate 쿼리로 부스트 규칙 조회 (실패 시 빈 리스트 - 기본 검색만 진행)
+     */
+    private List<JobDocKeywordBoost> percolate(String text) {
         Query percolate = Query.of(q -> q.percolate(p -> p
                 .field("q")
                 .document(JsonData.of(Map.of("text", text)))
@@ -48,11 +59,10 @@ public class DefaultJobDocBoostQueryHelper implements JobDocBoostQueryHelper {
 
         var query = Query.of(q -> q.bool(b -> b.must(percolate)));
 
-        log.info("Percolate query: {}", query.toString());
+        log.debug("Percolate query: {}", query);
 
-        SearchResult<JobDocKeywordBoost> searchResult;
         try {
-            searchResult = searchQueryExecutor.search(
+            SearchResult<JobDocKeywordBoost> searchResult = searchQueryExecutor.search(
                     JOB_BOOST_INDEX,
                     query,
                     0,
@@ -60,16 +70,17 @@ public class DefaultJobDocBoostQueryHelper implements JobDocBoostQueryHelper {
                     JobDocKeywordBoost.class
             );
 
-            log.info("Percolate hits: {}", searchResult.docs());
+            log.debug("Percolate hits: {}", searchResult.docs());
+            return searchResult.docs();
 
         } catch (Exception e) {
             log.error("Percolate 실패: {}", e.getMessage(), e);
             // percolate 실패 시 기본 검색만 진행하도록 폴백
             return List.of();
         }
+    }
 
-        List<JobDocKeywordBoost> hits = searchResult.docs();
-
+    private List<JobDocKeywordBoost> refine(List<JobDocKeywordBoost> hits) {
         // 2) 정제/정렬/중복 제거
         //  - canonical 비어있으면 제외
         //  - priority desc → canonical 길이 desc
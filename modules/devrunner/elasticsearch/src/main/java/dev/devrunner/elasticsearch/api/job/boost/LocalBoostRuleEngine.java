@@ -0,0 +1,111 @@
+package dev.devrunner.elasticsearch.api.job.boost;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import dev.devrunner.elasticsearch.document.JobDocKeywordBoost;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchQueryExecutor;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 부스트 규칙 로컬 매칭 엔진
+ * <p>
+ * 키워드 검색마다 percolate 요청을 보내지 않도록 부스트 인덱스의 규칙 전체를 메모리에 올려 두고
+ * {@link BoostRuleMatcher} 로 검색어를 매칭한다. 규칙은 거의 바뀌지 않으므로 주기적으로만 다시 읽는다.
+ * <p>
+ * 다음 경우에는 matcher 를 쓸 수 없는 상태(empty)로 두어 호출한 쪽이 percolate 로 폴백하게 한다.
+ * - 아직 한 번도 읽지 못함 (ES 장애 등)
+ * - 해석할 수 없는 percolator 쿼리가 있음
+ * - 규칙 수가 한 번에 읽을 수 있는 개수를 넘음
+ * 갱신에 실패하면 이전 matcher 를 그대로 사용한다.
+ */
+@Component
+@Slf4j
+public class LocalBoostRuleEngine {
+
+    private static final int MAX_RULES = 10_000;
+
+    @Value("${elasticsearch.index.job_keyword_boost}")
+    private String JOB_BOOST_INDEX;
+
+    private final SearchQueryExecutor searchQueryExecutor;
+    private final boolean enabled;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile BoostRuleMatcher matcher;
+    private volatile boolean attempted = false;
+
+    public LocalBoostRuleEngine(
+            SearchQueryExecutor searchQueryExecutor,
+            @Value("${elasticsearch.boost-rule.local-enabled:true}") boolean enabled
+    ) {
+        this.searchQueryExecutor = searchQueryExecutor;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return 검색어에 매칭된 규칙 (로컬 matcher 를 쓸 수 없으면 empty)
+     */
+    public Optional<List<JobDocKeywordBoost>> match(String text) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (!attempted) {
+            // 첫 사용 시 한 번만 동기로 읽음 - 이후 재시도/갱신은 스케줄러가 담당
+            refresh();
+        }
+
+        BoostRuleMatcher current = matcher;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.match(text));
+    }
+
+    /**
+     * 검색에서 한 번이라도 사용된 뒤에만 갱신 (검색을 하지 않는 배치 애플리케이션에서는 읽지 않음)
+     */
+    @Scheduled(fixedDelayString = "${elasticsearch.boost-rule.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        if (enabled && attempted) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Query matchAll = Query.of(q -> q.matchAll(m -> m));
+            SearchResult<JobDocKeywordBoost> result = searchQueryExecutor.search(
+                    JOB_BOOST_INDEX, matchAll, 0, MAX_RULES, JobDocKeywordBoost.class);
+
+            if (result.totalHits() > result.docs().size()) {
+                log.warn("Boost rules exceed local limit, using percolate: total={}, limit={}", result.totalHits(), MAX_RULES);
+                matcher = null;
+                return;
+            }
+
+            BoostRuleMatcher built = BoostRuleMatcher.build(result.docs()).orElse(null);
+            if (built == null) {
+                log.warn("Boost rules contain unsupported percolator queries, using percolate: rules={}", result.docs().size());
+            } else {
+                log.info("Boost rules loaded for local matching: rules={}", built.ruleCount());
+            }
+            matcher = built;
+        } catch (Exception e) {
+            log.warn("Failed to load boost rules, keeping previous matcher: {}", e.getMessage());
+        } finally {
+            attempted = true;
+            refreshing.set(false);
+        }
+    }
+}
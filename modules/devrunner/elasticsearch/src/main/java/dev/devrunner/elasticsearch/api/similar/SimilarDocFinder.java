@@ -2,67 +2,115 @@ package dev.devrunner.elasticsearch.api.similar;
 
 import dev.devrunner.elasticsearch.api.job.JobSearch;
 import dev.devrunner.elasticsearch.api.job.JobSearchResult;
-
-
 import dev.devrunner.elasticsearch.api.techblog.TechBlogSearch;
 import dev.devrunner.elasticsearch.api.techblog.TechBlogSearchResult;
-import dev.devrunner.elasticsearch.document.DocBase;
 import dev.devrunner.elasticsearch.document.JobDoc;
 import dev.devrunner.elasticsearch.document.TechBlogDoc;
 import dev.devrunner.elasticsearch.document.fieldSpec.job.JobIndexField;
 import dev.devrunner.elasticsearch.document.fieldSpec.techblog.TechBlogIndexField;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SearchCommand;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SearchElement;
-import dev.devrunner.elasticsearch.mapper.JobDocMapper;
-import lombok.RequiredArgsConstructor;
+import dev.devrunner.elasticsearch.internal.utils.RankFusion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * SimilarDocFinder - 유사 문서 검색
  * <p>
  * RRF(Reciprocal Rank Fusion)를 사용하여 Vector 검색과 BM25 검색 결과를 융합
+ * Vector 검색과 BM25 검색은 _msearch 한 번의 요청으로 함께 수행
+ * <p>
+ * 결과는 (docId, size, 인덱스 세대) 를 키로 캐시한다. 색인이 일어나면 세대가 올라가므로
+ * 이전 세대의 항목은 더 이상 조회되지 않고 size / TTL 에 의해 정리된다.
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class SimilarDocFinder {
 
     private final JobSearch jobSearch;
     private final TechBlogSearch techBlogSearch;
+    private final IndexGeneration indexGeneration;
+    private final String jobIndex;
+    private final String techBlogIndex;
+
+    private final Cache<CacheKey, JobSearchResult> similarJobs;
+    private final Cache<CacheKey, TechBlogSearchResult> similarTechBlogs;
+
+    public SimilarDocFinder(
+            JobSearch jobSearch,
+            TechBlogSearch techBlogSearch,
+            IndexGeneration indexGeneration,
+            @Value("${elasticsearch.index.job}") String jobIndex,
+            @Value("${elasticsearch.index.techblog}") String techBlogIndex,
+            @Value("${devrunner.similar-cache.max-size:10000}") long maxSize,
+            @Value("${devrunner.similar-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.jobSearch = jobSearch;
+        this.techBlogSearch = techBlogSearch;
+        this.indexGeneration = indexGeneration;
+        this.jobIndex = jobIndex;
+        this.techBlogIndex = techBlogIndex;
+        this.similarJobs = newCache(maxSize, ttlSeconds);
+        this.similarTechBlogs = newCache(maxSize, ttlSeconds);
+    }
+
+    private static <V> Cache<CacheKey, V> newCache(long maxSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))  // 인기도(조회수 등)는 세대를 올리지 않으므로 TTL 로 갱신
+                .build();
+    }
+
+    /**
+     * Job -> 유사한 Job들 찾기 (캐시)
+     */
+    public JobSearchResult findSimilarJobs(String articleId, int size) {
+        long generation = indexGeneration.current(jobIndex);
+        CacheKey key = new CacheKey(articleId, size, generation, generation);
+        return similarJobs.get(key, k -> loadSimilarJobs(articleId, size));
+    }
+
+    /**
+     * Job -> 유사한 TechBlog들 찾기 (캐시)
+     */
+    public TechBlogSearchResult findSimilarTechBlogsFromJob(String articleId, int size) {
+        CacheKey key = new CacheKey(articleId, size,
+                indexGeneration.current(jobIndex), indexGeneration.current(techBlogIndex));
+        return similarTechBlogs.get(key, k -> loadSimilarTechBlogs(articleId, size));
+    }
 
     /**
      * Job -> 유사한 Job들 찾기
      * - Vector 검색: Job의 vector 사용
      * - BM25 검색: Job의 oneLineSummary 사용
      */
-    public JobSearchResult findSimilarJobs(String articleId, int size) {
+    private JobSearchResult loadSimilarJobs(String articleId, int size) {
         // 1. docId로 현재 Job 조회
         JobDoc sourceDoc = jobSearch.getById(JobDoc.docId(articleId));
 
-        // 2. vector로 KNN 검색
-        List<JobDoc> vectorResults = jobSearch.searchByVector(
-                sourceDoc.getVector(),
-                new SearchCommand<>(List.of(), 0, size * 2),
-                size * 2
-        ).docs();
-
-        String queryText = buildQueryText( sourceDoc);
-        // 3. oneLineSummary로 BM25 검색
+        // 2~3. vector로 KNN 검색 + fullDescription으로 BM25 검색 (한 번의 요청)
+        String queryText = buildQueryText(sourceDoc);
         SearchCommand<JobIndexField> bm25Command = new SearchCommand<>(
                 List.of(new SearchElement<>(JobIndexField.FULL_DESCRIPTION, queryText)),
                 0,
                 size * 2
         );
-        List<JobDoc> bm25Results = jobSearch.search(bm25Command).docs();
+        var hits = jobSearch.searchHybrid(
+                sourceDoc.getVector(),
+                new SearchCommand<>(List.of(), 0, size * 2),
+                bm25Command,
+                size * 2
+        );
 
         // 4. RRF로 두 결과 병합
-        List<JobDoc> merged = applyRRF(vectorResults, bm25Results, size + 1);
+        List<JobDoc> merged = RankFusion.rrf(hits.vectorDocs(), hits.textDocs(), size + 1);
 
         // 5. 자기 자신 제외
         List<JobDoc> filtered = merged.stream()
@@ -79,28 +127,26 @@ public class SimilarDocFinder {
      * - Vector 검색: Job의 vector 사용
      * - BM25 검색: Job의 title + techCategories + fullDescription(500자)로 TechBlog의 summary 필드 검색
      */
-    public TechBlogSearchResult findSimilarTechBlogsFromJob(String articleId, int size) {
+    private TechBlogSearchResult loadSimilarTechBlogs(String articleId, int size) {
         // 1. docId로 Job 조회
         JobDoc jobDoc = jobSearch.getById(JobDoc.docId(articleId));
 
-        // 2. Job의 vector로 TechBlog KNN 검색
-        List<TechBlogDoc> vectorResults = techBlogSearch.searchByVector(
-                jobDoc.getVector(),
-                new SearchCommand<>(List.of(), 0, size * 2),
-                size * 2
-        ).docs();
-
-        // 3. Job의 title + techCategories + fullDescription(500자)로 BM25 검색
+        // 2~3. Job의 vector로 TechBlog KNN 검색 + title + techCategories + fullDescription(500자)로 BM25 검색 (한 번의 요청)
         String queryText = buildQueryText(jobDoc);
         SearchCommand<TechBlogIndexField> bm25Command = new SearchCommand<>(
                 List.of(new SearchElement<>(TechBlogIndexField.SEARCH_WORD, queryText)),
                 0,
                 size * 2
         );
-        List<TechBlogDoc> bm25Results = techBlogSearch.search(bm25Command).docs();
+        var hits = techBlogSearch.searchHybrid(
+                jobDoc.getVector(),
+                new SearchCommand<>(List.of(), 0, size * 2),
+                bm25Command,
+                size * 2
+        );
 
         // 4. RRF로 두 결과 병합
-        List<TechBlogDoc> merged = applyRRF(vectorResults, bm25Results, size);
+        List<TechBlogDoc> merged = RankFusion.rrf(hits.vectorDocs(), hits.textDocs(), size);
 
         return new TechBlogSearchResult(merged, false);
     }
@@ -137,41 +183,9 @@ public class SimilarDocFinder {
     }
 
     /**
-     * RRF (Reciprocal Rank Fusion) 알고리즘
-     * - K=60 상수 사용
-     * - score = 1/(K + rank)
-     * - 두 검색 결과의 점수를 합산하여 정렬
+     * @param sourceGeneration 원본 문서 인덱스 세대
+     * @param targetGeneration 검색 대상 인덱스 세대
      */
-    private <T extends DocBase> List<T> applyRRF(List<T> vectorResults, List<T> bm25Results, int topK) {
-        final int K = 60; // RRF constant
-
-        // docId -> RRF score 계산
-        Map<String, Double> rrfScores = new HashMap<>();
-        Map<String, T> docMap = new HashMap<>();
-
-        // Vector 검색 결과의 순위 기반 점수
-        for (int i = 0; i < vectorResults.size(); i++) {
-            T doc = vectorResults.get(i);
-            String docId = doc.getDocId();
-            double score = 1.0 / (K + i + 1); // rank는 0부터 시작하므로 +1
-            rrfScores.put(docId, rrfScores.getOrDefault(docId, 0.0) + score);
-            docMap.put(docId, doc);
-        }
-
-        // BM25 검색 결과의 순위 기반 점수
-        for (int i = 0; i < bm25Results.size(); i++) {
-            T doc = bm25Results.get(i);
-            String docId = doc.getDocId();
-            double score = 1.0 / (K + i + 1);
-            rrfScores.put(docId, rrfScores.getOrDefault(docId, 0.0) + score);
-            docMap.put(docId, doc);
-        }
-
-        // RRF 점수로 정렬하여 상위 topK개 반환
-        return rrfScores.entrySet().stream()
-                .sorted((e1, e2) -> Double.compare(e2.getValue(), e1.getValue())) // 내림차순
-                .limit(topK)
-                .map(entry -> docMap.get(entry.getKey()))
-                .collect(Collectors.toList());
+    private record CacheKey(String docId, int size, long sourceGeneration, long targetGeneration) {
     }
 }
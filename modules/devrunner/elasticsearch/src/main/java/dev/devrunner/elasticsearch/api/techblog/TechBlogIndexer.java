@@ -2,7 +2,10 @@ package dev.devrunner.elasticsearch.api.techblog;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import dev.devrunner.elasticsearch.document.DocBase;
+import dev.devrunner.elasticsearch.document.TechBlogDoc;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
 import dev.devrunner.elasticsearch.internal.indexer.AbstractDocIndexer;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -13,9 +16,11 @@ public class TechBlogIndexer extends AbstractDocIndexer {
 
     public TechBlogIndexer(
             ElasticsearchClient esClient,
+            IndexGeneration indexGeneration,
+            ElasticsearchMetrics metrics,
             @Value("${elasticsearch.index.techblog}") String indexName
     ) {
-        super(esClient);
+        super(esClient, indexGeneration, metrics);
         this.indexName = indexName;
     }
 
@@ -29,6 +34,14 @@ public class TechBlogIndexer extends AbstractDocIndexer {
         return doc.getDocId();
     }
 
+    @Override
+    protected String getSourceDocId(DocBase doc) {
+        if (doc instanceof TechBlogDoc techBlogDoc) {
+            return TechBlogDoc.docId(techBlogDoc.getTechBlogId());
+        }
+        return doc.getDocId();
+    }
+
     @Override
     protected boolean validateDoc(DocBase doc) {
         return doc.getDocId() != null;
@@ -8,9 +8,13 @@ import dev.devrunner.elasticsearch.internal.queryBuilder.GenericSearchQueryBuild
 import dev.devrunner.elasticsearch.internal.queryBuilder.SearchCommand;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SearchElement;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SortOption;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.CursorSearchResult;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.HybridSearchResult;
 import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchQueryExecutor;
-import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SearchResult;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.SourceProjection;
 import dev.devrunner.elasticsearch.internal.utils.PaginationUtils;
+import dev.devrunner.elasticsearch.internal.utils.SearchCursor;
+import dev.devrunner.elasticsearch.vector.EmbeddingVector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,7 +34,33 @@ public class TechBlogSearch {
     private final SearchQueryExecutor executor;
     private static final Integer DEFAULT_PAGE_SIZE = 30;
 
+    /**
+     * 검색 결과(TechBlogCard)에 필요한 필드만 조회 - vector, markdown_body, search_word 등은 응답에서 제외
+     */
+    private static final SourceProjection CARD_PROJECTION = SourceProjection.includes(
+            TechBlogIndexField.DOC_ID, TechBlogIndexField.TECH_BLOG_ID, TechBlogIndexField.URL,
+            TechBlogIndexField.COMPANY, TechBlogIndexField.TITLE, TechBlogIndexField.ONE_LINER, TechBlogIndexField.SUMMARY,
+            TechBlogIndexField.THUMBNAIL_URL, TechBlogIndexField.TECH_CATEGORIES, TechBlogIndexField.ORIGINAL_URL,
+            TechBlogIndexField.POPULARITY_VIEW_COUNT, TechBlogIndexField.POPULARITY_COMMENT_COUNT, TechBlogIndexField.POPULARITY_LIKE_COUNT,
+            TechBlogIndexField.CREATED_AT, TechBlogIndexField.UPDATED_AT
+    );
+
+    /**
+     * match 쿼리가 있으면 relevance score, 없으면 created_at desc (같은 값이면 doc_id 로 순서 고정)
+     */
+    private static final List<SortOption> RELEVANCE_SORT = List.of(
+            SortOption.score(), SortOption.asc(TechBlogIndexField.DOC_ID.getFieldName()));
+    private static final List<SortOption> LATEST_SORT = List.of(
+            SortOption.desc("created_at"), SortOption.asc(TechBlogIndexField.DOC_ID.getFieldName()));
+
     public TechBlogSearchResult search(SearchCommand<TechBlogIndexField> command) {
+        return search(command, null);
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor (있으면 from 대신 search_after 로 이어서 조회, 페이지 크기는 to - from)
+     */
+    public TechBlogSearchResult search(SearchCommand<TechBlogIndexField> command, String cursor) {
         // deleted=false 조건 자동 추가
         var commandWithDeleted = ensureDeletedFalseCondition(command);
 
@@ -40,19 +70,15 @@ public class TechBlogSearch {
 
         var pagination = PaginationUtils.calculatePaginationInfo(commandWithDeleted.from(), commandWithDeleted.to(), DEFAULT_PAGE_SIZE);
 
-        SearchResult<TechBlogDoc> searchResult;
+        var sorts = hasMatchQuery(commandWithDeleted) ? RELEVANCE_SORT : LATEST_SORT;
+        var searchAfter = SearchCursor.decode(cursor, sorts.size());
 
-        if (hasMatchQuery(commandWithDeleted)) {
-            // match 쿼리가 있으면 relevance score로 정렬
-            searchResult = executor.search(TECH_BLOG_INDEX, q, pagination.from(), pagination.searchSize(), TechBlogDoc.class);
-        } else {
-            // match 쿼리가 없으면 created_at desc로 정렬
-            searchResult = executor.searchWithSort(TECH_BLOG_INDEX, q, pagination.from(), pagination.searchSize(),
-                    SortOption.desc("created_at"), TechBlogDoc.class);
-        }
+        CursorSearchResult<TechBlogDoc> searchResult = executor.searchAfter(TECH_BLOG_INDEX, q,
+                pagination.from(), pagination.searchSize(), sorts, searchAfter, CARD_PROJECTION, TechBlogDoc.class);
 
         var result = PaginationUtils.paginate(searchResult.docs(), pagination.requestedSize());
-        return new TechBlogSearchResult(result.data(), result.hasNext(), searchResult.totalHits());
+        return new TechBlogSearchResult(result.data(), result.hasNext(), searchResult.totalHits(),
+                PaginationUtils.nextCursor(result, searchResult.sortValues()));
     }
 
     private boolean hasMatchQuery(SearchCommand<TechBlogIndexField> command) {
@@ -63,7 +89,7 @@ public class TechBlogSearch {
     }
 
 
-    public TechBlogSearchResult searchByVector(List<Float> queryVector, SearchCommand<TechBlogIndexField> command, int size) {
+    public TechBlogSearchResult searchByVector(EmbeddingVector queryVector, SearchCommand<TechBlogIndexField> command, int size) {
         // deleted=false 조건 자동 추가
         var commandWithDeleted = ensureDeletedFalseCondition(command);
 
@@ -73,11 +99,31 @@ public class TechBlogSearch {
                 TechBlogIndexRangeQueryBuilderRegistry.LOOKUP);
 
         // KNN 검색 수행 (페이지네이션 없음)
-        var docs = executor.searchByVector(TECH_BLOG_INDEX, queryVector, filterQuery, size, TechBlogDoc.class);
+        var docs = executor.searchByVector(TECH_BLOG_INDEX, queryVector, filterQuery, size, CARD_PROJECTION, TechBlogDoc.class);
 
         return new TechBlogSearchResult(docs, false); // KNN은 hasNext 없음
     }
 
+    /**
+     * KNN 검색과 BM25 검색을 한 번의 요청으로 수행 (각각 size 개, relevance 순)
+     *
+     * @param filterCommand KNN 검색 필터 조건
+     * @param textCommand   BM25 검색 조건
+     */
+    public HybridSearchResult<TechBlogDoc> searchHybrid(EmbeddingVector queryVector,
+                                                        SearchCommand<TechBlogIndexField> filterCommand,
+                                                        SearchCommand<TechBlogIndexField> textCommand,
+                                                        int size) {
+        var filterQuery = GenericSearchQueryBuilder.build(ensureDeletedFalseCondition(filterCommand),
+                TechBlogIndexQueryBuilderRegistry.LOOKUP,
+                TechBlogIndexRangeQueryBuilderRegistry.LOOKUP);
+        var textQuery = GenericSearchQueryBuilder.build(ensureDeletedFalseCondition(textCommand),
+                TechBlogIndexQueryBuilderRegistry.LOOKUP,
+                TechBlogIndexRangeQueryBuilderRegistry.LOOKUP);
+
+        return executor.searchHybrid(TECH_BLOG_INDEX, queryVector, filterQuery, textQuery, size, CARD_PROJECTION, TechBlogDoc.class);
+    }
+
     private SearchCommand<TechBlogIndexField> ensureDeletedFalseCondition(SearchCommand<TechBlogIndexField> command) {
         // 이미 DELETED 조건이 있는지 확인
         boolean hasDeletedCondition = command.conditions().stream()
@@ -8,8 +8,14 @@ import java.util.List;
 public record TechBlogSearchResult(
         List<TechBlogDoc> docs,
         boolean hasNext,
-        long totalHits
+        long totalHits,
+        // null means there is no next page (or cursor is not supported)
+        String nextCursor
 ) {
+    public TechBlogSearchResult(List<TechBlogDoc> docs, boolean hasNext, long totalHits) {
+        this(docs, hasNext, totalHits, null);
+    }
+
     // 2개 파라미터 받는 생성자 추가
     public TechBlogSearchResult(List<TechBlogDoc> docs, boolean hasNext) {
         this(docs, hasNext, -1L);
@@ -79,4 +79,8 @@ public class CommunityPostDoc implements DocBase {
     // ES Type: date (epoch_millis)
     @JsonProperty("updated_at")
     Long updatedAt;
+
+    public static String docId(Long communityPostId) {
+        return "communitypost_" + communityPostId;
+    }
 }
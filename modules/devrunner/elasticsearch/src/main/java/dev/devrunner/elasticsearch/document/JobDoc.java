@@ -3,6 +3,7 @@ package dev.devrunner.elasticsearch.document;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.devrunner.elasticsearch.vector.EmbeddingVector;
 import dev.devrunner.model.common.Company;
 import dev.devrunner.model.job.CareerLevel;
 import dev.devrunner.model.job.EmploymentType;
@@ -182,7 +183,7 @@ public class JobDoc implements DocBase {
 
     // ES Type: dense_vector
     @JsonProperty("vector")
-    List<Float> vector;
+    EmbeddingVector vector;
 
     public static String docId(Long articleId) {
         return "job_" + articleId;
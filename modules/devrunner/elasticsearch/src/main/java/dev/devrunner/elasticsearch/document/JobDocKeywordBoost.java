@@ -2,6 +2,7 @@ package dev.devrunner.elasticsearch.document;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -31,6 +32,10 @@ public class JobDocKeywordBoost {
     @JsonProperty("text")
     private String text;
 
+    // percolator 쿼리 원본 (로컬 매칭용 키워드 추출에 사용)
+    @JsonProperty("q")
+    private JsonNode query;
+
     @Override
     public String toString() {
         return "JobDocKeywordBoost{" +
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Value;
 
 import java.util.List;
+import dev.devrunner.elasticsearch.vector.EmbeddingVector;
 
 /**
  * TechBlogDoc - Elasticsearch document for TechBlog search
@@ -92,7 +93,7 @@ public class TechBlogDoc implements DocBase {
 
     // ES Type: dense_vector
     @JsonProperty("vector")
-    List<Float> vector;
+    EmbeddingVector vector;
 
     // ES Type: text
     // 만들어지는 값 .
@@ -121,7 +122,7 @@ public class TechBlogDoc implements DocBase {
             Boolean deleted,
             Long createdAt,
             Long updatedAt,
-            List<Float> vector
+            EmbeddingVector vector
     ) {
         String searchWord = buildSearchWord(title, company, techCategories, oneLiner, koreanSummary, summary);
 
@@ -173,4 +174,8 @@ public class TechBlogDoc implements DocBase {
 
         return sb.toString().trim();
     }
+
+    public static String docId(Long techBlogId) {
+        return "techblog_" + techBlogId;
+    }
 }
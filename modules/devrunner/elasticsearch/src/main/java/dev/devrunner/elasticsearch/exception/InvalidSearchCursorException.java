@@ -0,0 +1,13 @@
+package dev.devrunner.elasticsearch.exception;
+
+import dev.devrunner.exception.BadRequestException;
+
+/**
+ * Exception thrown when a search cursor cannot be decoded or does not match the search
+ */
+public class InvalidSearchCursorException extends BadRequestException {
+
+    public InvalidSearchCursorException(String message) {
+        super("Invalid search cursor: " + message);
+    }
+}
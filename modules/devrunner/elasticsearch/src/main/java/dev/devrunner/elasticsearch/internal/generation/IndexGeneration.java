@@ -0,0 +1,68 @@
+package dev.devrunner.elasticsearch.internal.generation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인덱스 세대(generation) 카운터
+ * <p>
+ * 인덱스에 문서가 색인될 때마다 세대가 올라간다. 검색 결과 캐시는 키에 세대를 넣어서
+ * 색인이 일어나면 이전 세대의 항목이 자연스럽게 무효화되도록 한다.
+ * <p>
+ * 조회 시마다 저장소를 보지 않도록 refresh-interval 동안은 마지막으로 읽은 값을 사용한다.
+ * 저장소 장애 시에는 마지막으로 읽은 값(없으면 0)을 사용한다.
+ */
+@Component
+@Slf4j
+public class IndexGeneration {
+
+    private final IndexGenerationStore store;
+    private final long refreshIntervalNanos;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public IndexGeneration(
+            IndexGenerationStore store,
+            @Value("${devrunner.index-generation.refresh-interval-ms:1000}") long refreshIntervalMs
+    ) {
+        this.store = store;
+        this.refreshIntervalNanos = refreshIntervalMs * 1_000_000L;
+    }
+
+    /**
+     * 색인이 일어났음을 기록 (실패해도 예외를 던지지 않음 - 캐시 TTL 이 최대 지연을 보장)
+     */
+    public void bump(String indexName) {
+        try {
+            store.increment(indexName);
+            snapshots.remove(indexName);
+        } catch (Exception e) {
+            log.warn("Failed to bump index generation: index={}, error={}", indexName, e.getMessage());
+        }
+    }
+
+    public long current(String indexName) {
+        long now = System.nanoTime();
+        Snapshot snapshot = snapshots.get(indexName);
+        if (snapshot != null && now - snapshot.readAtNanos() < refreshIntervalNanos) {
+            return snapshot.generation();
+        }
+
+        long generation = snapshot != null ? snapshot.generation() : 0L;
+        try {
+            generation = store.find(indexName).orElse(0L);
+        } catch (Exception e) {
+            log.warn("Failed to read index generation: index={}, error={}", indexName, e.getMessage());
+        }
+
+        snapshots.put(indexName, new Snapshot(generation, now));
+        return generation;
+    }
+
+    private record Snapshot(long generation, long readAtNanos) {
+    }
+}
@@ -0,0 +1,18 @@
+package dev.devrunner.elasticsearch.internal.generation;
+
+import java.util.OptionalLong;
+
+/**
+ * 인덱스별 세대(generation) 카운터 저장소
+ * <p>
+ * 색인(sync) 프로세스와 검색 프로세스가 같은 값을 보도록 공유 저장소에 둔다.
+ */
+public interface IndexGenerationStore {
+
+    /**
+     * 세대를 1 증가시킨다. (없으면 1 로 생성)
+     */
+    void increment(String indexName);
+
+    OptionalLong find(String indexName);
+}
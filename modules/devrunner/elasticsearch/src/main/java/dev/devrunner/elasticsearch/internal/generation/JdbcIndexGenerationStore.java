@@ -0,0 +1,61 @@
+package dev.devrunner.elasticsearch.internal.generation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * es_index_generation 테이블 기반 IndexGenerationStore
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcIndexGenerationStore implements IndexGenerationStore {
+
+    private static final String UPDATE_SQL = """
+            UPDATE es_index_generation
+            SET generation = generation + 1, updated_at = :updatedAt
+            WHERE index_name = :indexName
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO es_index_generation (index_name, generation, updated_at)
+            VALUES (:indexName, 1, :updatedAt)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT generation
+            FROM es_index_generation
+            WHERE index_name = :indexName
+            """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    @Override
+    public void increment(String indexName) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("indexName", indexName)
+                .addValue("updatedAt", Timestamp.from(Instant.now()));
+
+        if (jdbcOperations.update(UPDATE_SQL, params) > 0) {
+            return;
+        }
+
+        // 첫 증가 - 동시에 다른 프로세스가 먼저 생성했다면 그 row 를 다시 증가
+        if (jdbcOperations.update(INSERT_SQL, params) == 0) {
+            jdbcOperations.update(UPDATE_SQL, params);
+        }
+    }
+
+    @Override
+    public OptionalLong find(String indexName) {
+        List<Long> found = jdbcOperations.queryForList(
+                SELECT_SQL, new MapSqlParameterSource("indexName", indexName), Long.class);
+        return found.isEmpty() ? OptionalLong.empty() : OptionalLong.of(found.get(0));
+    }
+}
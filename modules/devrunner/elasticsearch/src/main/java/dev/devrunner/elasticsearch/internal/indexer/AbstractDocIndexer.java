@@ -1,14 +1,29 @@
 package dev.devrunner.elasticsearch.internal.indexer;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.json.JsonpMapper;
 import dev.devrunner.elasticsearch.document.DocBase;
 import dev.devrunner.elasticsearch.exception.DocumentIndexingException;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
+import co.elastic.clients.util.BinaryData;
+import co.elastic.clients.util.ContentType;
+import jakarta.json.stream.JsonGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -17,6 +32,25 @@ public abstract class AbstractDocIndexer implements DocIndexer {
 
     protected final ElasticsearchClient esClient;
 
+    /**
+     * 한 번의 _bulk 요청에 담을 최대 문서 수
+     */
+    @Value("${elasticsearch.bulk.flush-size:500}")
+    private int bulkFlushSize = 500;
+
+    /**
+     * 한 번의 _bulk 요청에 담을 최대 본문 크기 (byte, 직렬화한 문서 본문 기준)
+     */
+    @Value("${elasticsearch.bulk.max-bytes:5242880}")
+    private long bulkMaxBytes = 5 * 1024 * 1024;
+
+    /**
+     * 색인이 일어나면 인덱스 세대를 올려서 검색 결과 캐시를 무효화
+     */
+    private final IndexGeneration indexGeneration;
+
+    private final ElasticsearchMetrics metrics;
+
     /**
      * name of index that repository access
      * only purpose to decide what index you can access in this::indexOne() and this::indexAll
@@ -33,6 +67,12 @@ public abstract class AbstractDocIndexer implements DocIndexer {
      */
     protected abstract String getDocId(DocBase doc);
 
+    /**
+     * 원본 id 로 만든 docId (eg: job_1)
+     * 검증에 실패한 문서는 docId 가 없을 수 있으므로 indexAll 의 실패 결과는 이 값을 key 로 담는다.
+     */
+    protected abstract String getSourceDocId(DocBase doc);
+
     protected abstract boolean validateDoc(DocBase doc);
 
     /**
@@ -44,6 +84,7 @@ public abstract class AbstractDocIndexer implements DocIndexer {
 
         try {
             var indexResponse = sendRequest(doc);
+            indexGeneration.bump(getIndex());
             return IndexResponseType.from(indexResponse.result());
         } catch (Exception e) {
             log.error(e.getLocalizedMessage());
@@ -52,13 +93,115 @@ public abstract class AbstractDocIndexer implements DocIndexer {
         }
     }
 
+    /**
+     * index documents with _bulk api
+     * <p>
+     * flush-size / max-bytes 를 넘지 않도록 요청을 나눠서 전송한다.
+     * 문서 단위 실패와 요청 자체의 실패(네트워크 등)는 모두 결과의 failures 에 docId 별로 담긴다.
+     * (검증에 실패한 문서는 {@link #getSourceDocId} 기준)
+     */
+    public BulkIndexResult indexAll(List<? extends DocBase> docs) {
+        if (docs == null || docs.isEmpty()) {
+            return BulkIndexResult.empty();
+        }
+
+        Map<String, IndexResponseType> indexed = new HashMap<>();
+        Map<String, String> failures = new HashMap<>();
+
+        List<SerializedDoc> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+
+        for (DocBase doc : docs) {
+            if (!validateDoc(doc)) {
+                String sourceDocId = getSourceDocId(doc);
+                log.warn("Skip bulk indexing - document not validated status: sourceDocId={}", sourceDocId);
+                failures.put(sourceDocId, "document not validated status");
+                continue;
+            }
+
+            SerializedDoc serialized = new SerializedDoc(getDocId(doc), serialize(doc));
+            if (!chunk.isEmpty() && (chunk.size() >= bulkFlushSize || chunkBytes + serialized.json().length > bulkMaxBytes)) {
+                flushChunk(chunk, chunkBytes, indexed, failures);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+
+            chunk.add(serialized);
+            chunkBytes += serialized.json().length;
+        }
+
+        if (!chunk.isEmpty()) {
+            flushChunk(chunk, chunkBytes, indexed, failures);
+        }
+
+        if (!indexed.isEmpty()) {
+            indexGeneration.bump(getIndex());
+        }
+
+        log.info("Bulk indexing completed: index={}, indexed={}, failed={}", getIndex(), indexed.size(), failures.size());
+        return new BulkIndexResult(indexed, failures);
+    }
+
+    private void flushChunk(List<SerializedDoc> chunk, long chunkBytes,
+                            Map<String, IndexResponseType> indexed, Map<String, String> failures) {
+        try {
+            metrics.recordBytes("bulk_index", getIndex(), chunkBytes);
+            BulkResponse response = sendBulkRequest(chunk);
+
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    failures.put(item.id(), item.error().type() + ": " + item.error().reason());
+                } else {
+                    indexed.put(item.id(), IndexResponseType.from(item.result()));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Bulk request failed: index={}, size={}", getIndex(), chunk.size(), e);
+
+            String reason = e.getClass().getSimpleName() + ": " + e.getMessage();
+            for (SerializedDoc doc : chunk) {
+                failures.put(doc.id(), reason);
+            }
+        }
+    }
+
+    private BulkResponse sendBulkRequest(List<SerializedDoc> chunk) throws IOException {
+        BulkRequest.Builder builder = new BulkRequest.Builder();
+        for (SerializedDoc doc : chunk) {
+            builder.operations(op -> op
+                    .index(idx -> idx
+                            .index(getIndex())
+                            .id(doc.id())
+                            .document(BinaryData.of(doc.json(), ContentType.APPLICATION_JSON))));
+        }
+        BulkRequest request = builder.build();
+        // bulk 본문은 크므로 slow log 에 요청을 남기지 않음
+        return metrics.record("bulk_index", getIndex(), null, () -> esClient.bulk(request));
+    }
+
+    /**
+     * 문서를 JSON(UTF-8) 으로 직렬화
+     * 요청 크기 계산과 _bulk 본문에 같은 byte 를 사용해서 문서당 한 번만 직렬화한다.
+     */
+    private byte[] serialize(DocBase doc) {
+        JsonpMapper mapper = esClient._transport().jsonpMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(out)) {
+            mapper.serialize(doc, generator);
+        }
+        return out.toByteArray();
+    }
+
+    private record SerializedDoc(String id, byte[] json) {
+    }
+
     private IndexResponse sendRequest(DocBase doc) throws IOException {
-        return esClient.index(i -> {
+        return metrics.record("index", getIndex(), null, () -> esClient.index(i -> {
             var request = i
                     .index(getIndex())
                     .id(getDocId(doc))
                     .document(doc);
             return request;
-        });
+        }));
     }
 }
@@ -0,0 +1,39 @@
+package dev.devrunner.elasticsearch.internal.indexer;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of a bulk index request.
+ * <p>
+ * bulk 요청은 문서 단위로 성공/실패가 갈리므로, docId 기준으로 결과를 나눠 담는다.
+ * 호출하는 쪽(sync task 등)은 실패한 docId 에 해당하는 이벤트만 실패 처리하면 된다.
+ *
+ * @param indexed  성공한 문서 (docId -> 응답 타입)
+ * @param failures 실패한 문서 (docId -> 실패 사유)
+ */
+public record BulkIndexResult(
+        Map<String, IndexResponseType> indexed,
+        Map<String, String> failures
+) {
+
+    public static BulkIndexResult empty() {
+        return new BulkIndexResult(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public boolean isFailed(String docId) {
+        return failures.containsKey(docId);
+    }
+
+    public String failureReason(String docId) {
+        return failures.get(docId);
+    }
+
+    public int successCount() {
+        return indexed.size();
+    }
+
+    public int failureCount() {
+        return failures.size();
+    }
+}
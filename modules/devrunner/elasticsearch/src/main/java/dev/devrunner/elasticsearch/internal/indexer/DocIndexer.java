@@ -2,8 +2,14 @@ package dev.devrunner.elasticsearch.internal.indexer;
 
 import dev.devrunner.elasticsearch.document.DocBase;
 
+import java.util.List;
+
 public interface DocIndexer {
     IndexResponseType indexOne(DocBase doc);
 
-
+    /**
+     * 여러 문서를 _bulk 요청으로 색인한다.
+     * 문서 단위 실패는 예외 대신 결과에 담아 반환한다.
+     */
+    BulkIndexResult indexAll(List<? extends DocBase> docs);
 }
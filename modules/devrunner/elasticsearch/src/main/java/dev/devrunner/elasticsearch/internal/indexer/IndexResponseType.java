@@ -39,7 +39,21 @@ public enum IndexResponseType {
             return Unknown;
         }
 
-        String jsonValue = result.jsonValue();
+        return from(result.jsonValue());
+    }
+
+    /**
+     * Convert raw result value (e.g. bulk response item's "result") to IndexResponseType
+     * Returns UNKNOWN if the value is not recognized
+     *
+     * @param jsonValue raw result value
+     * @return corresponding IndexResponseType, or UNKNOWN if not matched
+     */
+    public static IndexResponseType from(String jsonValue) {
+        if (jsonValue == null) {
+            return Unknown;
+        }
+
         for (IndexResponseType type : values()) {
             if (type.value.equals(jsonValue)) {
                 return type;
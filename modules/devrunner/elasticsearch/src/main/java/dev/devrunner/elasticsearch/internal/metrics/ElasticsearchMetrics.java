@@ -0,0 +1,132 @@
+package dev.devrunner.elasticsearch.internal.metrics;
+
+import co.elastic.clients.json.JsonpSerializable;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.QueryLogger;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Elasticsearch 요청 계측
+ * <p>
+ * - index / operation 별 latency 를 Micrometer timer (percentile histogram) 로 기록
+ * - 반환된 hit 수, bulk 요청 본문 크기를 distribution summary 로 기록
+ * - slow-threshold 를 넘은 요청만 slow log 로 남기며, 이때만 요청 JSON 을 직렬화한다
+ * <p>
+ * MeterRegistry bean 이 없으면 (actuator 미적용) {@link Metrics#globalRegistry} 에 기록한다.
+ * slow log 는 logger 이름이 분리되어 있어서 {@code logging.level.dev.devrunner.elasticsearch.slowlog} 로 따로 조절할 수 있다.
+ */
+@Component
+@Slf4j
+public class ElasticsearchMetrics {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("dev.devrunner.elasticsearch.slowlog");
+
+    private static final String REQUESTS = "elasticsearch.client.requests";
+    private static final String HITS = "elasticsearch.client.hits";
+    private static final String REQUEST_BYTES = "elasticsearch.client.request.bytes";
+
+    private final MeterRegistry registry;
+    private final QueryLogger queryLogger;
+    private final long slowThresholdNanos;
+
+    public ElasticsearchMetrics(
+            ObjectProvider<MeterRegistry> registryProvider,
+            QueryLogger queryLogger,
+            @Value("${elasticsearch.query-log.slow-threshold-ms:500}") long slowThresholdMs
+    ) {
+        this.registry = registryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.queryLogger = queryLogger;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @FunctionalInterface
+    public interface EsCall<R> {
+        R execute() throws IOException;
+    }
+
+    /**
+     * 요청 실행 시간을 기록하고, threshold 를 넘으면 slow log 를 남김
+     *
+     * @param request slow log 에 남길 요청 (bulk 처럼 본문이 큰 요청은 null)
+     */
+    public <R> R record(String operation, String indexName, JsonpSerializable request, EsCall<R> call) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            R response = call.execute();
+            outcome = "success";
+            return response;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder(REQUESTS)
+                    .description("Elasticsearch client request latency")
+                    .tag("index", indexName)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed >= slowThresholdNanos) {
+                logSlow(operation, indexName, request, elapsed, outcome);
+            }
+        }
+    }
+
+    /**
+     * 응답으로 받은 hit 수 기록
+     */
+    public void recordHits(String operation, String indexName, long hits) {
+        DistributionSummary.builder(HITS)
+                .description("Hits returned per Elasticsearch request")
+                .tag("index", indexName)
+                .tag("operation", operation)
+                .register(registry)
+                .record(hits);
+    }
+
+    /**
+     * 요청 본문 크기 기록 (byte)
+     */
+    public void recordBytes(String operation, String indexName, long bytes) {
+        DistributionSummary.builder(REQUEST_BYTES)
+                .description("Elasticsearch request body size")
+                .baseUnit("bytes")
+                .tag("index", indexName)
+                .tag("operation", operation)
+                .register(registry)
+                .record(bytes);
+    }
+
+    private void logSlow(String operation, String indexName, JsonpSerializable request, long elapsedNanos, String outcome) {
+        if (!slowLog.isWarnEnabled()) {
+            return;
+        }
+
+        String query = null;
+        if (request != null) {
+            try {
+                query = queryLogger.toJson(request);
+            } catch (Exception e) {
+                log.debug("Failed to serialize slow query: index={}, operation={}", indexName, operation, e);
+            }
+        }
+
+        slowLog.warn("slow_es_request operation={} index={} took_ms={} threshold_ms={} outcome={} query={}",
+                operation, indexName,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos),
+                outcome, query);
+    }
+}
@@ -3,6 +3,8 @@ package dev.devrunner.elasticsearch.internal.queryBuilder;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 
 public record SortOption(String field, SortOrder order) {
+    public static final String SCORE = "_score";
+
     public static SortOption desc(String field) {
         return new SortOption(field, SortOrder.Desc);
     }
@@ -10,4 +12,13 @@ public record SortOption(String field, SortOrder order) {
     public static SortOption asc(String field) {
         return new SortOption(field, SortOrder.Asc);
     }
-}
\ No newline at end of file
+
+    /** relevance(_score) 내림차순 */
+    public static SortOption score() {
+        return new SortOption(SCORE, SortOrder.Desc);
+    }
+
+    public boolean isScore() {
+        return SCORE.equals(field);
+    }
+}
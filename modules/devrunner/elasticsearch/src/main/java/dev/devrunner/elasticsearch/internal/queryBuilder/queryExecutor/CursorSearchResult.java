@@ -0,0 +1,19 @@
+package dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+
+import java.util.List;
+
+/**
+ * search_after 페이지네이션용 검색 결과 wrapper
+ *
+ * @param docs       검색된 문서 목록
+ * @param sortValues 문서별 sort 값 (docs 와 같은 순서, 다음 페이지 cursor 로 사용)
+ * @param totalHits  전체 결과 개수 (cursor 로 이어서 조회한 페이지는 집계하지 않으므로 -1)
+ */
+public record CursorSearchResult<T>(
+    List<T> docs,
+    List<List<FieldValue>> sortValues,
+    long totalHits
+) {
+}
@@ -0,0 +1,15 @@
+package dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import java.util.List;
+
+/**
+ * KNN + BM25 하이브리드 검색 결과 (각 검색의 순위 그대로)
+ *
+ * @param vectorDocs KNN 검색 결과
+ * @param textDocs BM25 검색 결과
+ */
+public record HybridSearchResult<T>(
+    List<T> vectorDocs,
+    List<T> textDocs
+) {
+}
@@ -0,0 +1,51 @@
+package dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.JsonpSerializable;
+import jakarta.json.stream.JsonGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.StringWriter;
+
+/**
+ * Elasticsearch 요청 JSON 로깅
+ * <p>
+ * 요청을 JSON 으로 직렬화하는 비용이 크므로 로그 레벨이 켜져 있을 때만 직렬화한다.
+ * logger 이름이 분리되어 있어서 {@code logging.level.dev.devrunner.elasticsearch.query=DEBUG} 로 따로 켤 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "dev.devrunner.elasticsearch.query")
+public class QueryLogger {
+
+    private final ElasticsearchClient esClient;
+
+    public boolean isDebugEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    /**
+     * DEBUG 레벨일 때만 요청 JSON 을 로깅
+     */
+    public void debug(String operation, String indexName, JsonpSerializable request) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        log.debug("Elasticsearch {} - Index: {}, Query: {}", operation, indexName, toJson(request));
+    }
+
+    /**
+     * 요청을 실제 전송되는 JSON 으로 직렬화 (toString() 아님)
+     */
+    public String toJson(JsonpSerializable request) {
+        JsonpMapper mapper = esClient._transport().jsonpMapper();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(writer)) {
+            request.serialize(generator, mapper);
+        }
+        return writer.toString();
+    }
+}
@@ -2,18 +2,25 @@ package dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.SourceConfig;
 import dev.devrunner.elasticsearch.exception.ElasticsearchQueryException;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
 import dev.devrunner.elasticsearch.internal.queryBuilder.SortOption;
-import jakarta.json.stream.JsonGenerator;
+import dev.devrunner.elasticsearch.vector.EmbeddingVector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -22,25 +29,28 @@ import java.util.Objects;
 @Slf4j
 public class SearchQueryExecutor {
     private final ElasticsearchClient esClient;
+    private final QueryLogger queryLogger;
+    private final ElasticsearchMetrics metrics;
 
     public <T> SearchResult<T> search(String indexName, Query query, int from, int size, Class<T> resultType) {
+        return search(indexName, query, from, size, SourceProjection.ALL, resultType);
+    }
+
+    public <T> SearchResult<T> search(String indexName, Query query, int from, int size,
+                                      SourceProjection projection, Class<T> resultType) {
         try {
-            SearchRequest req = new SearchRequest.Builder()
+            SearchRequest.Builder builder = new SearchRequest.Builder()
                     .index(indexName)
                     .query(query)
                     .from(from)
-                    .size(size)
-                    .build();
-
-            // 실제 직렬화된 JSON 로깅 (toString() 아님!)
-            StringWriter w = new StringWriter();
-            JsonGenerator g = esClient._transport().jsonpMapper().jsonProvider().createGenerator(w);
-            esClient._transport().jsonpMapper().serialize(req, g);
-            g.close();
-            log.info("실제 전송되는 Elasticsearch 쿼리(search): {}", w.toString());
+                    .size(size);
+            applyProjection(builder, projection);
+            SearchRequest req = builder.build();
 
+            queryLogger.debug("search", indexName, req);
 
-            var response = esClient.search(req, resultType);
+            var response = metrics.record("search", indexName, req, () -> esClient.search(req, resultType));
+            metrics.recordHits("search", indexName, response.hits().hits().size());
             long totalHits = response.hits().total().value();
 
             List<T> docs = response.hits().hits().stream()
@@ -56,9 +66,13 @@ public class SearchQueryExecutor {
     }
 
     public <T> SearchResult<T> searchWithSort(String indexName, Query query, int from, int size, SortOption sortOption, Class<T> resultType) {
-        log.info(query.toString());
+        return searchWithSort(indexName, query, from, size, sortOption, SourceProjection.ALL, resultType);
+    }
+
+    public <T> SearchResult<T> searchWithSort(String indexName, Query query, int from, int size, SortOption sortOption,
+                                              SourceProjection projection, Class<T> resultType) {
         try {
-            SearchRequest searchRequest = new SearchRequest.Builder()
+            SearchRequest.Builder builder = new SearchRequest.Builder()
                     .index(indexName)
                     .query(query)
                     .from(from)
@@ -69,18 +83,14 @@ public class SearchQueryExecutor {
                                     .missing("_last")
                             )
                     )
-                    .size(size)
-                    .build();
+                    .size(size);
+            applyProjection(builder, projection);
+            SearchRequest searchRequest = builder.build();
 
-            // JSON으로 실제 쿼리 출력
-            StringWriter writer = new StringWriter();
-            JsonGenerator generator = esClient._transport().jsonpMapper().jsonProvider().createGenerator(writer);
-            esClient._transport().jsonpMapper().serialize(searchRequest, generator);
-            generator.close();
+            queryLogger.debug("search", indexName, searchRequest);
 
-            log.info("실제 전송되는 Elasticsearch 쿼리: {}", writer.toString());
-
-            var response = esClient.search(searchRequest, resultType);
+            var response = metrics.record("search", indexName, searchRequest, () -> esClient.search(searchRequest, resultType));
+            metrics.recordHits("search", indexName, response.hits().hits().size());
 
             long totalHits = response.hits().total().value();
 
@@ -97,28 +107,81 @@ public class SearchQueryExecutor {
         }
     }
 
-    public <T> List<T> searchByVector(String indexName, List<Float> queryVector, Query filterQuery, int size, Class<T> resultType) {
+    /**
+     * 정렬 + search_after 기반 검색 (무한 스크롤용)
+     * <p>
+     * - searchAfter 가 비어 있으면 from/size 로 첫 페이지를 조회하고 전체 개수도 함께 집계
+     * - searchAfter 가 있으면 이전 페이지 마지막 hit 다음부터 size 개를 조회 (from 무시, 전체 개수 집계 생략)
+     * - sorts 의 마지막은 doc_id 처럼 문서마다 유일한 필드여야 페이지 경계에서 누락/중복이 없음
+     */
+    public <T> CursorSearchResult<T> searchAfter(String indexName, Query query, int from, int size,
+                                                 List<SortOption> sorts, List<FieldValue> searchAfter,
+                                                 SourceProjection projection, Class<T> resultType) {
+        boolean continued = searchAfter != null && !searchAfter.isEmpty();
+        String operation = continued ? "search_after" : "search";
+        try {
+            SearchRequest.Builder builder = new SearchRequest.Builder()
+                    .index(indexName)
+                    .query(query)
+                    .sort(toSortOptions(sorts))
+                    .size(size);
+            if (continued) {
+                builder.searchAfter(searchAfter)
+                        .trackTotalHits(t -> t.enabled(false));
+            } else {
+                builder.from(from);
+            }
+            applyProjection(builder, projection);
+            SearchRequest searchRequest = builder.build();
+
+            queryLogger.debug(operation, indexName, searchRequest);
+
+            var response = metrics.record(operation, indexName, searchRequest, () -> esClient.search(searchRequest, resultType));
+            metrics.recordHits(operation, indexName, response.hits().hits().size());
+
+            List<T> docs = new ArrayList<>();
+            List<List<FieldValue>> sortValues = new ArrayList<>();
+            for (Hit<T> hit : response.hits().hits()) {
+                if (hit.source() == null) {
+                    continue;
+                }
+                docs.add(hit.source());
+                sortValues.add(hit.sort());
+            }
+
+            long totalHits = response.hits().total() != null ? response.hits().total().value() : -1L;
+            return new CursorSearchResult<>(docs, sortValues, totalHits);
+
+        } catch (Exception e) {
+            log.error("Elasticsearch search_after 실패 - Index: {}, Error: {}", indexName, e.getMessage(), e);
+            throw new ElasticsearchQueryException(indexName, e);
+        }
+    }
+
+    public <T> List<T> searchByVector(String indexName, EmbeddingVector queryVector, Query filterQuery, int size, Class<T> resultType) {
+        return searchByVector(indexName, queryVector, filterQuery, size, SourceProjection.ALL, resultType);
+    }
+
+    public <T> List<T> searchByVector(String indexName, EmbeddingVector queryVector, Query filterQuery, int size,
+                                      SourceProjection projection, Class<T> resultType) {
         try {
-            SearchRequest searchRequest = new SearchRequest.Builder()
+            SearchRequest.Builder builder = new SearchRequest.Builder()
                     .index(indexName)
                     .knn(knn -> knn
-                            .queryVector(queryVector)
+                            .queryVector(queryVector.toList())  // ES client 가 List<Float> 만 받으므로 요청 시점에만 변환
                             .field("vector")
                             .k(100)
                             .numCandidates(300)
                             .filter(filterQuery)
                     )
-                    .size(size)
-                    .build();
+                    .size(size);
+            applyProjection(builder, projection);
+            SearchRequest searchRequest = builder.build();
 
-            // 실제 쿼리 JSON 출력
-            StringWriter writer = new StringWriter();
-            JsonGenerator generator = esClient._transport().jsonpMapper().jsonProvider().createGenerator(writer);
-            esClient._transport().jsonpMapper().serialize(searchRequest, generator);
-            generator.close();
-            log.info("실제 전송되는 KNN 쿼리: {}", writer.toString());
+            queryLogger.debug("knn search", indexName, searchRequest);
 
-            var response = esClient.search(searchRequest, resultType);
+            var response = metrics.record("knn_search", indexName, searchRequest, () -> esClient.search(searchRequest, resultType));
+            metrics.recordHits("knn_search", indexName, response.hits().hits().size());
 
             return response.hits().hits().stream()
                     .map(Hit::source)
@@ -131,6 +194,76 @@ public class SearchQueryExecutor {
         }
     }
 
+    /**
+     * KNN 검색과 BM25 검색을 _msearch 한 번의 요청으로 수행
+     * <p>
+     * 한쪽 검색만 실패하면 해당 결과는 빈 리스트로 두고 나머지 결과를 반환한다.
+     */
+    public <T> HybridSearchResult<T> searchHybrid(String indexName, EmbeddingVector queryVector, Query filterQuery,
+                                                  Query textQuery, int size, SourceProjection projection, Class<T> resultType) {
+        try {
+            MsearchRequest request = new MsearchRequest.Builder()
+                    .searches(item -> item
+                            .header(header -> header.index(indexName))
+                            .body(body -> {
+                                body.knn(knn -> knn
+                                                .queryVector(queryVector.toList())
+                                                .field("vector")
+                                                .k(100)
+                                                .numCandidates(300)
+                                                .filter(filterQuery)
+                                        )
+                                        .size(size);
+                                if (projection != null && !projection.isAll()) {
+                                    body.source(toSourceConfig(projection));
+                                }
+                                return body;
+                            })
+                    )
+                    .searches(item -> item
+                            .header(header -> header.index(indexName))
+                            .body(body -> {
+                                body.query(textQuery)
+                                        .size(size);
+                                if (projection != null && !projection.isAll()) {
+                                    body.source(toSourceConfig(projection));
+                                }
+                                return body;
+                            })
+                    )
+                    .build();
+
+            queryLogger.debug("hybrid search", indexName, request);
+
+            MsearchResponse<T> response = metrics.record("hybrid_search", indexName, request, () -> esClient.msearch(request, resultType));
+            List<MultiSearchResponseItem<T>> responses = response.responses();
+
+            HybridSearchResult<T> result = new HybridSearchResult<>(
+                    hitsOf(indexName, "knn", responses.get(0)),
+                    hitsOf(indexName, "bm25", responses.get(1))
+            );
+            metrics.recordHits("hybrid_search", indexName, result.vectorDocs().size() + result.textDocs().size());
+            return result;
+
+        } catch (Exception e) {
+            log.error("Elasticsearch hybrid search 실패 - Index: {}, Error: {}", indexName, e.getMessage(), e);
+            throw new ElasticsearchQueryException(indexName, e);
+        }
+    }
+
+    private <T> List<T> hitsOf(String indexName, String searchName, MultiSearchResponseItem<T> item) {
+        if (item.isFailure()) {
+            log.warn("Elasticsearch hybrid search 일부 실패 - Index: {}, Search: {}, Reason: {}",
+                    indexName, searchName, item.failure().error().reason());
+            return List.of();
+        }
+
+        return item.result().hits().hits().stream()
+                .map(Hit::source)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public <T> T getById(String indexName, String docId, Class<T> resultType) {
         try {
             GetRequest getRequest = new GetRequest.Builder()
@@ -138,7 +271,7 @@ public class SearchQueryExecutor {
                     .id(docId)
                     .build();
 
-            var response = esClient.get(getRequest, resultType);
+            var response = metrics.record("get", indexName, null, () -> esClient.get(getRequest, resultType));
 
             if (!response.found()) {
                 throw new ElasticsearchQueryException(indexName,
@@ -153,4 +286,38 @@ public class SearchQueryExecutor {
         }
     }
 
+    private List<SortOptions> toSortOptions(List<SortOption> sorts) {
+        return sorts.stream()
+                .map(sortOption -> sortOption.isScore()
+                        ? SortOptions.of(s -> s.score(score -> score.order(sortOption.order())))
+                        : SortOptions.of(s -> s.field(f -> f
+                                .field(sortOption.field())
+                                .order(sortOption.order())
+                                .missing("_last"))))
+                .toList();
+    }
+
+    /**
+     * _source 필터 적용 (ALL 이면 전체 _source 를 그대로 받음)
+     */
+    private void applyProjection(SearchRequest.Builder builder, SourceProjection projection) {
+        if (projection == null || projection.isAll()) {
+            return;
+        }
+        builder.source(toSourceConfig(projection));
+    }
+
+    private SourceConfig toSourceConfig(SourceProjection projection) {
+        return SourceConfig.of(source -> source
+                .filter(filter -> {
+                    if (!projection.includes().isEmpty()) {
+                        filter.includes(projection.includes());
+                    }
+                    if (!projection.excludes().isEmpty()) {
+                        filter.excludes(projection.excludes());
+                    }
+                    return filter;
+                })
+        );
+    }
 }
@@ -0,0 +1,45 @@
+package dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import dev.devrunner.elasticsearch.document.fieldSpec.DocFieldName;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 검색 hit 의 _source 에서 가져올 필드 지정 (_source filtering)
+ * <p>
+ * 목록 화면(card)처럼 일부 필드만 쓰는 검색에서 vector, 본문 같은 큰 필드를 응답에서 빼기 위해 사용한다.
+ * 응답에서 빠진 필드는 결과 문서에서 null 로 남는다.
+ *
+ * @param includes 포함할 필드 (비어 있으면 전체)
+ * @param excludes 제외할 필드
+ */
+public record SourceProjection(
+        List<String> includes,
+        List<String> excludes
+) {
+    public static final SourceProjection ALL = new SourceProjection(List.of(), List.of());
+
+    public SourceProjection {
+        includes = List.copyOf(includes);
+        excludes = List.copyOf(excludes);
+    }
+
+    public static SourceProjection includes(DocFieldName... fields) {
+        return new SourceProjection(fieldNames(fields), List.of());
+    }
+
+    public static SourceProjection excludes(DocFieldName... fields) {
+        return new SourceProjection(List.of(), fieldNames(fields));
+    }
+
+    public boolean isAll() {
+        return includes.isEmpty() && excludes.isEmpty();
+    }
+
+    private static List<String> fieldNames(DocFieldName... fields) {
+        return Arrays.stream(fields)
+                .map(DocFieldName::getFieldName)
+                .toList();
+    }
+}
@@ -0,0 +1,156 @@
+package dev.devrunner.elasticsearch.internal.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * 여러 키워드를 한 번의 텍스트 순회로 찾는 Aho-Corasick 자동자
+ * <p>
+ * - 키워드 / 텍스트 모두 소문자 + 연속 공백 하나로 정규화 후 비교
+ * - 영문/숫자끼리 붙어 있는 위치는 단어 경계가 아니므로 매칭하지 않음 (java 는 javascript 에 매칭 안 됨)
+ * - 한글 등은 조사가 붙는 경우가 많아 경계를 보지 않음 (백엔드 는 백엔드개발 에 매칭)
+ * <p>
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 사용해도 된다.
+ *
+ * @param <V> 키워드에 연결된 값
+ */
+public final class KeywordAutomaton<V> {
+
+    private final Map<Character, Integer>[] children;
+    private final int[] fail;
+    private final List<Output<V>>[] outputs;
+
+    private record Output<V>(int length, V value) {
+    }
+
+    private KeywordAutomaton(Map<Character, Integer>[] children, int[] fail, List<Output<V>>[] outputs) {
+        this.children = children;
+        this.fail = fail;
+        this.outputs = outputs;
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 텍스트에 포함된 키워드의 값을 처음 나온 순서대로 반환 (중복 제거)
+     */
+    public List<V> findAll(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = normalize(text);
+        Set<V> found = new LinkedHashSet<>();
+        int state = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            while (state != 0 && !children[state].containsKey(c)) {
+                state = fail[state];
+            }
+            state = children[state].getOrDefault(c, 0);
+
+            for (Output<V> output : outputs[state]) {
+                int start = i - output.length() + 1;
+                if (isBoundary(normalized, start - 1, start) && isBoundary(normalized, i, i + 1)) {
+                    found.add(output.value());
+                }
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    public static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * left / right 사이가 단어 경계인지 (양쪽 모두 영문/숫자면 경계 아님)
+     */
+    private static boolean isBoundary(String text, int left, int right) {
+        if (left < 0 || right >= text.length()) {
+            return true;
+        }
+        return !(isAsciiWordChar(text.charAt(left)) && isAsciiWordChar(text.charAt(right)));
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    public static final class Builder<V> {
+
+        private final List<Map<Character, Integer>> children = new ArrayList<>();
+        private final List<List<Output<V>>> outputs = new ArrayList<>();
+
+        private Builder() {
+            newNode();
+        }
+
+        public Builder<V> add(String keyword, V value) {
+            if (keyword == null || keyword.isBlank()) {
+                return this;
+            }
+
+            String normalized = normalize(keyword);
+            int node = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                char c = normalized.charAt(i);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = newNode();
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            outputs.get(node).add(new Output<>(normalized.length(), value));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public KeywordAutomaton<V> build() {
+            int size = children.size();
+            int[] fail = new int[size];
+
+            // BFS 로 fail link 계산 - fail 대상 노드의 output 은 이미 완성되어 있으므로 그대로 합침
+            Queue<Integer> queue = new ArrayDeque<>(children.get(0).values());
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (Map.Entry<Character, Integer> edge : children.get(node).entrySet()) {
+                    char c = edge.getKey();
+                    int child = edge.getValue();
+
+                    int f = fail[node];
+                    while (f != 0 && !children.get(f).containsKey(c)) {
+                        f = fail[f];
+                    }
+                    Integer target = children.get(f).get(c);
+                    fail[child] = (target != null && target != child) ? target : 0;
+                    outputs.get(child).addAll(outputs.get(fail[child]));
+
+                    queue.add(child);
+                }
+            }
+
+            return new KeywordAutomaton<>(
+                    children.toArray(new Map[0]),
+                    fail,
+                    outputs.toArray(new List[0])
+            );
+        }
+
+        private int newNode() {
+            children.add(new HashMap<>());
+            outputs.add(new ArrayList<>());
+            return children.size() - 1;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package dev.devrunner.elasticsearch.internal.utils;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
+
 import java.util.List;
 
 public class PaginationUtils {
@@ -19,6 +21,18 @@ public class PaginationUtils {
         return new PaginationInfo(actualFrom, actualTo, requestedSize, searchSize);
     }
 
+    /**
+     * 다음 페이지 cursor - 현재 페이지 마지막 문서의 sort 값 (다음 페이지가 없으면 null)
+     *
+     * @param sortValues 검색된 문서별 sort 값 (page.data() 와 같은 순서)
+     */
+    public static String nextCursor(PaginatedResult<?> page, List<List<FieldValue>> sortValues) {
+        if (!page.hasNext() || page.data().isEmpty()) {
+            return null;
+        }
+        return SearchCursor.encode(sortValues.get(page.data().size() - 1));
+    }
+
     public record PaginationInfo(int from, int to, int requestedSize, int searchSize) {}
     public record PaginatedResult<T>(List<T> data, boolean hasNext) {}
 }
@@ -0,0 +1,80 @@
+package dev.devrunner.elasticsearch.internal.utils;
+
+import dev.devrunner.elasticsearch.document.DocBase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RRF (Reciprocal Rank Fusion) 로 두 검색 결과를 합쳐 상위 K 개를 반환
+ * <p>
+ * - score = 1/(K + rank), 두 결과에 모두 있으면 합산
+ * - 점수는 double[] 에 모으고 상위 K 개는 int[] 삽입 정렬로 고름 (boxing / 전체 정렬 없음)
+ * - 점수가 같으면 먼저 나온 문서(첫 번째 결과 우선)가 앞에 옴
+ */
+public final class RankFusion {
+
+    public static final int DEFAULT_RANK_CONSTANT = 60;
+
+    private RankFusion() {
+    }
+
+    public static <T extends DocBase> List<T> rrf(List<T> first, List<T> second, int topK) {
+        return rrf(first, second, topK, DEFAULT_RANK_CONSTANT);
+    }
+
+    public static <T extends DocBase> List<T> rrf(List<T> first, List<T> second, int topK, int rankConstant) {
+        int capacity = first.size() + second.size();
+        if (capacity == 0 || topK <= 0) {
+            return List.of();
+        }
+
+        // docId -> slot (문서는 처음 나온 순서대로 slot 을 받음)
+        Map<String, Integer> slots = new HashMap<>(capacity * 2);
+        List<T> docs = new ArrayList<>(capacity);
+        double[] scores = new double[capacity];
+
+        accumulate(first, rankConstant, slots, docs, scores);
+        accumulate(second, rankConstant, slots, docs, scores);
+
+        // 상위 K 개 slot 선택 (K 는 작으므로 삽입 정렬)
+        int limit = Math.min(topK, docs.size());
+        int[] top = new int[limit];
+        int count = 0;
+        for (int slot = 0; slot < docs.size(); slot++) {
+            double score = scores[slot];
+            if (count == limit && score <= scores[top[count - 1]]) {
+                continue;
+            }
+
+            int pos = count < limit ? count++ : limit - 1;
+            while (pos > 0 && scores[top[pos - 1]] < score) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = slot;
+        }
+
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(docs.get(top[i]));
+        }
+        return result;
+    }
+
+    private static <T extends DocBase> void accumulate(List<T> ranked, int rankConstant,
+                                                       Map<String, Integer> slots, List<T> docs, double[] scores) {
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            T doc = ranked.get(rank);
+            Integer slot = slots.get(doc.getDocId());
+            if (slot == null) {
+                slot = docs.size();
+                slots.put(doc.getDocId(), slot);
+                docs.add(doc);
+            }
+            scores[slot] += 1.0 / (rankConstant + rank + 1); // rank 는 0부터 시작하므로 +1
+        }
+    }
+}
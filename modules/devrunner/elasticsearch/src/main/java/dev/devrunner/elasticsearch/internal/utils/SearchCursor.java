@@ -0,0 +1,85 @@
+package dev.devrunner.elasticsearch.internal.utils;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import dev.devrunner.elasticsearch.exception.InvalidSearchCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * search_after 용 cursor 인코딩
+ * <p>
+ * 마지막 hit 의 sort 값을 JSON 배열로 만든 뒤 URL-safe Base64 로 감싼 불투명(opaque) 문자열이다.
+ * 클라이언트는 내용을 해석하지 않고 다음 요청에 그대로 돌려보내기만 한다.
+ */
+public final class SearchCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SearchCursor() {
+    }
+
+    public static String encode(List<FieldValue> sortValues) {
+        ArrayNode array = MAPPER.createArrayNode();
+        for (FieldValue value : sortValues) {
+            if (value.isLong()) {
+                array.add(value.longValue());
+            } else if (value.isDouble()) {
+                array.add(value.doubleValue());
+            } else if (value.isBoolean()) {
+                array.add(value.booleanValue());
+            } else if (value.isString()) {
+                array.add(value.stringValue());
+            } else {
+                array.addNull();
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(array.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param expectedSize 검색에 사용하는 sort 개수 (다른 정렬로 만든 cursor 를 걸러냄)
+     * @return sort 값 목록 (cursor 가 없으면 빈 리스트)
+     */
+    public static List<FieldValue> decode(String cursor, int expectedSize) {
+        if (cursor == null || cursor.isBlank()) {
+            return List.of();
+        }
+
+        JsonNode array;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            array = MAPPER.readTree(json);
+        } catch (Exception e) {
+            throw new InvalidSearchCursorException("malformed");
+        }
+
+        if (array == null || !array.isArray() || array.size() != expectedSize) {
+            throw new InvalidSearchCursorException("does not match the search");
+        }
+
+        List<FieldValue> values = new ArrayList<>(array.size());
+        for (JsonNode node : array) {
+            if (node.isIntegralNumber()) {
+                values.add(FieldValue.of(node.longValue()));
+            } else if (node.isFloatingPointNumber()) {
+                values.add(FieldValue.of(node.doubleValue()));
+            } else if (node.isBoolean()) {
+                values.add(FieldValue.of(node.booleanValue()));
+            } else if (node.isTextual()) {
+                values.add(FieldValue.of(node.textValue()));
+            } else if (node.isNull()) {
+                values.add(FieldValue.NULL);
+            } else {
+                throw new InvalidSearchCursorException("unsupported sort value");
+            }
+        }
+        return values;
+    }
+}
@@ -95,10 +95,10 @@ public class CommunityPostDocMapper {
      * Format: "communitypost_{communityPostId}"
      */
     private String generateDocId(CommunityPost post) {
-        return "communitypost_" + post.getCommunityPostId();
+        return CommunityPostDoc.docId(post.getCommunityPostId());
     }
 
     private String generateDocId(CommunityPostRead post) {
-        return "communitypost_" + post.getCommunityPostId();
+        return CommunityPostDoc.docId(post.getCommunityPostId());
     }
 }
@@ -7,6 +7,8 @@ import dev.devrunner.model.techblog.TechBlog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static dev.devrunner.elasticsearch.util.InstantConverter.toEpochMillis;
@@ -87,11 +89,27 @@ public class TechBlogDocMapper {
         );
     }
 
+    /**
+     * 여러 techBlog 의 벡터를 한 번의 batch 요청으로 미리 만들어 둔다.
+     * 이후 newDoc 은 임베딩 캐시에서 벡터를 가져오므로 문서마다 vectorizer 를 호출하지 않는다.
+     */
+    public void prepareVectors(Collection<TechBlog> techBlogs) {
+        var contents = techBlogs.stream()
+                .map(TechBlog::getSummary)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (!contents.isEmpty()) {
+            vectorizer.vectorizeAll(contents);
+        }
+    }
+
     /**
      * Generate document ID for Elasticsearch
      * Format: "techblog_{techBlogId}"
      */
     private String generateDocId(TechBlog techBlog) {
-        return "techblog_" + techBlog.getTechBlogId();
+        return TechBlogDoc.docId(techBlog.getTechBlogId());
     }
 }
@@ -0,0 +1,158 @@
+package dev.devrunner.elasticsearch.vector;
+
+import dev.devrunner.elasticsearch.vector.cache.EmbeddingStore;
+import dev.devrunner.elasticsearch.vector.cache.LruEmbeddingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 임베딩 캐시를 거치는 E5Vectorizer
+ * <p>
+ * content hash(sha256(model + 원문)) 를 key 로 memory(LRU) → DB(embedding_cache) 순서로 찾고,
+ * 둘 다 없는 문장만 모아서 vectorizer 에 한 번에 요청한다. (한 문장뿐이면 단건 vectorize 로 요청)
+ * 원문이 바뀌지 않은 문서는 재색인 시 모델을 다시 호출하지 않는다.
+ */
+@Primary
+@Component
+@Slf4j
+public class CachingE5Vectorizer implements E5Vectorizer {
+
+    private final E5Vectorizer delegate;
+    private final EmbeddingStore embeddingStore;
+    private final LruEmbeddingCache memoryCache;
+    private final String model;
+    private final boolean persistentEnabled;
+
+    public CachingE5Vectorizer(
+            @Qualifier("smallE5Vectorizer") E5Vectorizer delegate,
+            EmbeddingStore embeddingStore,
+            @Value("${api.sentence_transformer.model:multilingual-e5-small}") String model,
+            @Value("${devrunner.embedding-cache.memory.max-entries:5000}") int memoryMaxEntries,
+            @Value("${devrunner.embedding-cache.persistent.enabled:true}") boolean persistentEnabled
+    ) {
+        this.delegate = delegate;
+        this.embeddingStore = embeddingStore;
+        this.memoryCache = new LruEmbeddingCache(memoryMaxEntries);
+        this.model = model;
+        this.persistentEnabled = persistentEnabled;
+    }
+
+    @Override
+    public EmbeddingVector vectorize(String content) {
+        if (content == null || content.isBlank()) {
+            log.warn("Empty content provided for vectorization");
+            return EmbeddingVector.empty();
+        }
+        return vectorizeAll(List.of(content)).get(0);
+    }
+
+    @Override
+    public List<EmbeddingVector> vectorizeAll(List<String> contents) {
+        List<String> hashes = new ArrayList<>(contents.size());
+        Map<String, EmbeddingVector> resolved = new LinkedHashMap<>();
+        Map<String, String> misses = new LinkedHashMap<>();   // hash -> content
+
+        // 1. memory
+        for (String content : contents) {
+            String hash = content == null || content.isBlank() ? null : hash(content);
+            hashes.add(hash);
+            if (hash == null || resolved.containsKey(hash)) {
+                continue;
+            }
+
+            EmbeddingVector cached = memoryCache.get(hash);
+            if (cached != null) {
+                resolved.put(hash, cached);
+            } else {
+                misses.put(hash, content);
+            }
+        }
+
+        // 2. DB
+        if (!misses.isEmpty() && persistentEnabled) {
+            Map<String, float[]> stored = findStored(misses.keySet());
+            stored.forEach((hash, values) -> {
+                EmbeddingVector vector = EmbeddingVector.of(values);
+                memoryCache.put(hash, vector);
+                resolved.put(hash, vector);
+                misses.remove(hash);
+            });
+        }
+
+        log.debug("Embedding cache lookup: contents={}, hits={}, misses={}", contents.size(), resolved.size(), misses.size());
+
+        // 3. vectorizer (캐시에 없는 문장만, 한 문장이면 단건 API 로)
+        if (!misses.isEmpty()) {
+            List<String> hashOrder = new ArrayList<>(misses.keySet());
+            List<EmbeddingVector> vectors = misses.size() == 1
+                    ? List.of(delegate.vectorize(misses.values().iterator().next()))
+                    : delegate.vectorizeAll(new ArrayList<>(misses.values()));
+
+            Map<String, float[]> created = new LinkedHashMap<>();
+            for (int i = 0; i < hashOrder.size(); i++) {
+                EmbeddingVector vector = vectors.get(i);
+                if (vector.isEmpty()) {
+                    continue;
+                }
+                memoryCache.put(hashOrder.get(i), vector);
+                resolved.put(hashOrder.get(i), vector);
+                created.put(hashOrder.get(i), vector.values());
+            }
+
+            if (persistentEnabled) {
+                saveStored(created);
+            }
+        }
+
+        List<EmbeddingVector> results = new ArrayList<>(contents.size());
+        for (String hash : hashes) {
+            EmbeddingVector vector = hash == null ? null : resolved.get(hash);
+            results.add(vector == null ? EmbeddingVector.empty() : vector);
+        }
+        return results;
+    }
+
+    /**
+     * 영구 저장소 장애가 vectorize 자체를 막지 않도록 실패는 로그만 남긴다.
+     */
+    private Map<String, float[]> findStored(Set<String> hashes) {
+        try {
+            return embeddingStore.findAll(hashes);
+        } catch (Exception e) {
+            log.warn("Failed to read embedding cache: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void saveStored(Map<String, float[]> vectors) {
+        try {
+            embeddingStore.saveAll(vectors, model);
+        } catch (Exception e) {
+            log.warn("Failed to write embedding cache: {}", e.getMessage());
+        }
+    }
+
+    private String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -4,5 +4,10 @@ import java.util.List;
 
 public interface E5Vectorizer {
 
-    List<Float> vectorize(String content);
+    EmbeddingVector vectorize(String content);
+
+    /**
+     * 여러 문장을 한 번에 벡터화 (입력 순서대로 반환, 빈 문장은 빈 벡터)
+     */
+    List<EmbeddingVector> vectorizeAll(List<String> contents);
 }
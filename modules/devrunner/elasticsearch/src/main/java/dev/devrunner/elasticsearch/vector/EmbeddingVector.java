@@ -0,0 +1,92 @@
+package dev.devrunner.elasticsearch.vector;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * float[] 기반 임베딩 벡터
+ * <p>
+ * List&lt;Float&gt; 는 원소마다 Float 객체가 생기므로(384 차원 기준 문서당 수 KB),
+ * vectorizer → 문서 → ES 직렬화까지 primitive 배열 그대로 전달한다.
+ * JSON 으로는 숫자 배열([0.1, 0.2, ...])로 직렬화되어 ES dense_vector 와 호환된다.
+ * <p>
+ * 생성 시 넘긴 배열을 복사하지 않으므로, 호출한 쪽에서 이후에 배열을 수정하면 안 된다.
+ */
+@JsonSerialize(using = EmbeddingVectorJsonCodec.Serializer.class)
+@JsonDeserialize(using = EmbeddingVectorJsonCodec.Deserializer.class)
+public final class EmbeddingVector {
+
+    private static final EmbeddingVector EMPTY = new EmbeddingVector(new float[0]);
+
+    private final float[] values;
+
+    private EmbeddingVector(float[] values) {
+        this.values = values;
+    }
+
+    public static EmbeddingVector of(float[] values) {
+        if (values == null || values.length == 0) {
+            return EMPTY;
+        }
+        return new EmbeddingVector(values);
+    }
+
+    public static EmbeddingVector empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public float get(int index) {
+        return values[index];
+    }
+
+    /**
+     * 복사본 반환
+     */
+    public float[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * List&lt;Float&gt; 만 받는 API(ES client knn queryVector 등)에 넘길 때만 사용
+     */
+    public List<Float> toList() {
+        List<Float> result = new ArrayList<>(values.length);
+        for (float value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    float[] values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EmbeddingVector that)) return false;
+        return Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddingVector(dim=" + values.length + ")";
+    }
+}
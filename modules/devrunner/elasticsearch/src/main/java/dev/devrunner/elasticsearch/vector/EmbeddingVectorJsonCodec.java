@@ -0,0 +1,59 @@
+package dev.devrunner.elasticsearch.vector;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * EmbeddingVector Jackson 직렬화/역직렬화 (boxing 없이 float 숫자 배열로 읽고 씀)
+ */
+public final class EmbeddingVectorJsonCodec {
+
+    private EmbeddingVectorJsonCodec() {
+    }
+
+    public static class Serializer extends JsonSerializer<EmbeddingVector> {
+
+        @Override
+        public void serialize(EmbeddingVector vector, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            float[] values = vector.values();
+            gen.writeStartArray(vector, values.length);
+            for (float value : values) {
+                gen.writeNumber(value);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<EmbeddingVector> {
+
+        @Override
+        public EmbeddingVector deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                return (EmbeddingVector) ctxt.handleUnexpectedToken(EmbeddingVector.class, p);
+            }
+
+            float[] values = new float[384];
+            int size = 0;
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                    return (EmbeddingVector) ctxt.handleUnexpectedToken(EmbeddingVector.class, p);
+                }
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                values[size++] = p.getFloatValue();
+            }
+
+            return EmbeddingVector.of(size == values.length ? values : Arrays.copyOf(values, size));
+        }
+    }
+}
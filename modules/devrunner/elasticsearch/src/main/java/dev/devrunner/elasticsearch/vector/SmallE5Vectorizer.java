@@ -24,6 +24,19 @@ public class SmallE5Vectorizer implements E5Vectorizer {
     @Value("${api.sentence_transformer.url}")
     private String vectorApiUrl;
 
+    /**
+     * batch API(/vectorize/batch) 사용 여부
+     * vector API 가 batch route 를 제공할 때만 켜야 하며, 꺼져 있으면 문장마다 /vectorize 를 호출한다.
+     */
+    @Value("${api.sentence_transformer.batch-enabled:false}")
+    private boolean batchEnabled = false;
+
+    /**
+     * 한 번의 batch 요청에 담을 최대 문장 수
+     */
+    @Value("${api.sentence_transformer.batch-size:32}")
+    private int batchSize = 32;
+
     /**
      * Vectorize sentence using external Python API
      *
@@ -38,45 +51,120 @@ public class SmallE5Vectorizer implements E5Vectorizer {
             maxAttempts = 4,
             backoff = @Backoff(delay = 500, multiplier = 2, maxDelay = 1000)
     )
-    public List<Float> vectorize(String content) {
+    public EmbeddingVector vectorize(String content) {
         if (content == null || content.isBlank()) {
             log.warn("Empty content provided for vectorization");
-            return List.of();
+            return EmbeddingVector.empty();
         }
 
         log.info("Call vectorize python api & Try vectorize sentence");
 
         try {
-            // Prepare request
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            EmbeddingVector vector = requestOne(content);
+            log.info("Sentence vectorized successfully");
+            return vector;
 
-            VectorizePayload payload = new VectorizePayload(content);
-            HttpEntity<VectorizePayload> request = new HttpEntity<>(payload, headers);
+        } catch (Exception e) {
+            log.error("Failed to vectorize sentence: {}", e.getMessage(), e);
+            throw new VectorizeException("Failed to vectorize sentence", e);
+        }
+    }
 
-            // Call API
-            String url = vectorApiUrl + "/vectorize";
-            float[] response = vectorApiRestTemplate.postForObject(url, request, float[].class);
+    /**
+     * Vectorize sentences (입력 순서대로 반환, 빈 문장은 요청에서 제외하고 빈 벡터로 채움)
+     * <p>
+     * batch-enabled 이면 batch-size 단위로 /vectorize/batch 를 호출하고,
+     * batch 요청이 실패한 묶음은 문장마다 /vectorize 로 다시 요청한다.
+     */
+    @Override
+    @Retryable(
+            maxAttempts = 4,
+            backoff = @Backoff(delay = 500, multiplier = 2, maxDelay = 1000)
+    )
+    public List<EmbeddingVector> vectorizeAll(List<String> contents) {
+        List<EmbeddingVector> results = new ArrayList<>(contents.size());
+        List<Integer> positions = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
 
-            log.info("Sentence vectorized successfully");
+        for (int i = 0; i < contents.size(); i++) {
+            String content = contents.get(i);
+            results.add(EmbeddingVector.empty());
+            if (content != null && !content.isBlank()) {
+                positions.add(i);
+                texts.add(content);
+            }
+        }
 
-            return castToList(response);
+        if (texts.isEmpty()) {
+            return results;
+        }
+
+        log.info("Call vectorize python api & Try vectorize {} sentences", texts.size());
+
+        try {
+            int chunkSize = batchEnabled && texts.size() > 1 ? batchSize : 1;
+            for (int from = 0; from < texts.size(); from += chunkSize) {
+                int to = Math.min(from + chunkSize, texts.size());
+                List<EmbeddingVector> vectors = to - from == 1
+                        ? List.of(requestOne(texts.get(from)))
+                        : requestBatchOrEach(texts.subList(from, to));
+
+                for (int i = from; i < to; i++) {
+                    results.set(positions.get(i), vectors.get(i - from));
+                }
+            }
 
+            log.info("Sentences vectorized successfully: {}", texts.size());
+            return results;
+
+        } catch (VectorizeException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Failed to vectorize sentence: {}", e.getMessage(), e);
-            throw new VectorizeException("Failed to vectorize sentence", e);
+            log.error("Failed to vectorize sentences: {}", e.getMessage(), e);
+            throw new VectorizeException("Failed to vectorize sentences", e);
+        }
+    }
+
+    private List<EmbeddingVector> requestBatchOrEach(List<String> texts) {
+        try {
+            return requestBatch(texts);
+        } catch (Exception e) {
+            log.warn("Batch vectorize failed, falling back to /vectorize per sentence: size={}, error={}",
+                    texts.size(), e.getMessage());
+        }
+
+        List<EmbeddingVector> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(requestOne(text));
         }
+        return vectors;
     }
 
-    private List<Float> castToList(float[] floats) {
-        if (floats == null) {
-            return List.of();
+    private EmbeddingVector requestOne(String content) {
+        HttpEntity<VectorizePayload> request = new HttpEntity<>(new VectorizePayload(content), jsonHeaders());
+        float[] response = vectorApiRestTemplate.postForObject(vectorApiUrl + "/vectorize", request, float[].class);
+        return EmbeddingVector.of(response);
+    }
+
+    private List<EmbeddingVector> requestBatch(List<String> texts) {
+        HttpEntity<VectorizeBatchPayload> request = new HttpEntity<>(new VectorizeBatchPayload(texts), jsonHeaders());
+        float[][] response = vectorApiRestTemplate.postForObject(vectorApiUrl + "/vectorize/batch", request, float[][].class);
+
+        if (response == null || response.length != texts.size()) {
+            throw new VectorizeException("Unexpected batch response size: expected=" + texts.size()
+                    + ", actual=" + (response == null ? 0 : response.length));
         }
 
-        List<Float> result = new ArrayList<>(floats.length);
-        for (float f : floats) {
-            result.add(f);
+        List<EmbeddingVector> vectors = new ArrayList<>(response.length);
+        for (float[] values : response) {
+            vectors.add(EmbeddingVector.of(values));
         }
-        return result;
+        return vectors;
+    }
+
+    private HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
     }
 }
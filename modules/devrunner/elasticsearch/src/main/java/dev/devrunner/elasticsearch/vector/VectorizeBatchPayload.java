@@ -0,0 +1,11 @@
+package dev.devrunner.elasticsearch.vector;
+
+import java.util.List;
+
+/**
+ * Request payload for batch vectorization API
+ */
+public record VectorizeBatchPayload(
+        List<String> params
+) {
+}
@@ -0,0 +1,17 @@
+package dev.devrunner.elasticsearch.vector.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 임베딩 영구 저장소 (content hash -> vector)
+ */
+public interface EmbeddingStore {
+
+    /**
+     * @return 저장되어 있는 hash 만 담은 map (없는 hash 는 제외)
+     */
+    Map<String, float[]> findAll(Collection<String> contentHashes);
+
+    void saveAll(Map<String, float[]> vectors, String model);
+}
@@ -0,0 +1,85 @@
+package dev.devrunner.elasticsearch.vector.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * embedding_cache 테이블 기반 EmbeddingStore
+ * <p>
+ * vector 는 float32 little-endian 바이트 배열로 저장한다. (384 차원 = 1536 byte)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcEmbeddingStore implements EmbeddingStore {
+
+    private static final String SELECT_SQL = """
+            SELECT content_hash, vector_data
+            FROM embedding_cache
+            WHERE content_hash IN (:hashes)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO embedding_cache (content_hash, model, dimension, vector_data, created_at)
+            VALUES (:contentHash, :model, :dimension, :vectorData, :createdAt)
+            """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    @Override
+    public Map<String, float[]> findAll(Collection<String> contentHashes) {
+        Map<String, float[]> found = new HashMap<>();
+        if (contentHashes.isEmpty()) {
+            return found;
+        }
+
+        jdbcOperations.query(SELECT_SQL, new MapSqlParameterSource("hashes", contentHashes), rs -> {
+            found.put(rs.getString("content_hash"), decode(rs.getBytes("vector_data")));
+        });
+        return found;
+    }
+
+    @Override
+    public void saveAll(Map<String, float[]> vectors, String model) {
+        if (vectors.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        SqlParameterSource[] params = vectors.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("contentHash", entry.getKey())
+                        .addValue("model", model)
+                        .addValue("dimension", entry.getValue().length)
+                        .addValue("vectorData", encode(entry.getValue()))
+                        .addValue("createdAt", now))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcOperations.batchUpdate(INSERT_SQL, params);
+        log.debug("Saved {} embeddings", vectors.size());
+    }
+
+    private byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,35 @@
+package dev.devrunner.elasticsearch.vector.cache;
+
+import dev.devrunner.elasticsearch.vector.EmbeddingVector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기가 제한된 in-memory 임베딩 캐시 (LRU)
+ */
+public class LruEmbeddingCache {
+
+    private final Map<String, EmbeddingVector> entries;
+
+    public LruEmbeddingCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EmbeddingVector> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized EmbeddingVector get(String contentHash) {
+        return entries.get(contentHash);
+    }
+
+    public synchronized void put(String contentHash, EmbeddingVector vector) {
+        entries.put(contentHash, vector);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -1,5 +1,7 @@
 package dev.devrunner.elasticsearch.agg;
 
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
 import dev.devrunner.elasticsearch.document.fieldSpec.job.JobIndexField;
 import dev.devrunner.elasticsearch.internal.query.job.JobIndexQueryBuilderRegistry;
 import dev.devrunner.elasticsearch.internal.query.job.JobIndexRangeQueryBuilderRegistry;
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 
 import static dev.devrunner.elasticsearch.testutil.ElasticsearchQueryTestHelper.printMap;
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * GenericAggregationBuilder 테스트
@@ -256,4 +259,67 @@ class GenericAggregationBuilderTest {
         // Then
         printMap("build_complexFilterWithDateHistogram", aggs);
     }
+
+    @Test
+    @DisplayName("buildTyped - 필터 조건 + TERMS 버킷")
+    void buildTyped_termsAggregation_withFilterConditions() {
+        // Given
+        var query = AggregationQuery.bucket(
+            "by_company",
+            List.of(new SearchElement<>(JobIndexField.DELETED, false)),
+            BucketAggregation.terms(
+                JobIndexField.COMPANY,
+                "by_company_bucket",
+                10,
+                List.of(MetricAggregation.count("count"))
+            )
+        );
+
+        // When
+        Map<String, Aggregation> aggs = GenericAggregationBuilder.buildTyped(
+            MultiAggregationCommand.of(List.of(query)),
+            JobIndexQueryBuilderRegistry.LOOKUP,
+            JobIndexRangeQueryBuilderRegistry.LOOKUP
+        );
+
+        // Then
+        Aggregation byCompany = aggs.get("by_company");
+        assertThat(byCompany.isFilter()).isTrue();
+
+        Aggregation bucket = byCompany.aggregations().get("by_company_bucket");
+        assertThat(bucket.isTerms()).isTrue();
+        assertThat(bucket.terms().field()).isEqualTo("company");
+        assertThat(bucket.terms().size()).isEqualTo(10);
+        assertThat(bucket.aggregations().get("count").valueCount().field()).isEqualTo("_index");
+    }
+
+    @Test
+    @DisplayName("buildTyped - 조건 없는 DATE_HISTOGRAM 버킷")
+    void buildTyped_dateHistogram_withoutConditions() {
+        // Given
+        var query = AggregationQuery.bucket(
+            "recent_trend",
+            List.of(),
+            BucketAggregation.dateHistogram(
+                JobIndexField.CREATED_AT,
+                "recent_trend_bucket",
+                "1d",
+                List.of()
+            )
+        );
+
+        // When
+        Map<String, Aggregation> aggs = GenericAggregationBuilder.buildTyped(
+            MultiAggregationCommand.of(List.of(query)),
+            JobIndexQueryBuilderRegistry.LOOKUP,
+            JobIndexRangeQueryBuilderRegistry.LOOKUP
+        );
+
+        // Then
+        Aggregation trend = aggs.get("recent_trend");
+        assertThat(trend.isDateHistogram()).isTrue();
+        assertThat(trend.dateHistogram().field()).isEqualTo("created_at");
+        assertThat(trend.dateHistogram().calendarInterval()).isEqualTo(CalendarInterval.Day);
+        assertThat(trend.aggregations()).isEmpty();
+    }
 }
@@ -0,0 +1,208 @@
+package dev.devrunner.elasticsearch.api;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateAction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.devrunner.elasticsearch.api.job.JobIndexer;
+import dev.devrunner.elasticsearch.api.job.JobPopularityManager;
+import dev.devrunner.elasticsearch.document.JobDoc;
+import dev.devrunner.elasticsearch.internal.indexer.BulkIndexResult;
+import dev.devrunner.elasticsearch.internal.indexer.IndexResponseType;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.QueryLogger;
+import dev.devrunner.model.common.Popularity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AbstractDocPopularityManager bulk 부분 업데이트 테스트
+ * <p>
+ * Mock ES 클라이언트로 _bulk 요청 본문과 문서 단위 결과 매핑만 검증 (JobPopularityManager 를 구현체로 사용)
+ */
+@DisplayName("AbstractDocPopularityManager bulk 부분 업데이트 테스트")
+class AbstractDocPopularityManagerTest {
+
+    private static final String INDEX = "job";
+
+    private final ElasticsearchClient esClient = mock(ElasticsearchClient.class);
+    private JobPopularityManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ElasticsearchMetrics metrics = new ElasticsearchMetrics(provider, mock(QueryLogger.class), 60_000);
+
+        manager = new JobPopularityManager(esClient, new ObjectMapper(), mock(JobIndexer.class), INDEX);
+        ReflectionTestUtils.setField(manager, "metrics", metrics);
+    }
+
+    private static Popularity popularity(long viewCount, long commentCount, long likeCount) {
+        return new Popularity(viewCount, commentCount, likeCount, 0L);
+    }
+
+    private static BulkResponseItem updated(String docId) {
+        return BulkResponseItem.of(i -> i
+                .operationType(OperationType.Update)
+                .index(INDEX)
+                .id(docId)
+                .status(200)
+                .result("updated"));
+    }
+
+    private static BulkResponseItem error(String docId, int status, String type) {
+        return BulkResponseItem.of(i -> i
+                .operationType(OperationType.Update)
+                .index(INDEX)
+                .id(docId)
+                .status(status)
+                .error(e -> e.type(type).reason("[" + docId + "]: " + type)));
+    }
+
+    private static BulkResponse response(BulkResponseItem... items) {
+        return BulkResponse.of(b -> b.took(1).errors(items.length > 0).items(List.of(items)));
+    }
+
+    private BulkRequest captureBulkRequest() throws IOException {
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(esClient).bulk(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("빈 입력은 요청 없이 빈 결과")
+    void updatePopularityAll_empty_noRequest() throws IOException {
+        // When
+        BulkIndexResult result = manager.updatePopularityAll(Map.of());
+
+        // Then
+        assertThat(result.successCount()).isZero();
+        assertThat(result.failureCount()).isZero();
+        verify(esClient, times(0)).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("문서마다 인기도 필드만 담은 partial update action 을 하나의 _bulk 요청으로 전송")
+    void updatePopularityAll_sendsPartialUpdateBody() throws IOException {
+        // Given
+        Map<String, Popularity> popularities = new LinkedHashMap<>();
+        popularities.put(JobDoc.docId(1L), popularity(10L, 2L, 3L));
+        popularities.put(JobDoc.docId(2L), popularity(0L, 0L, 1L));
+        when(esClient.bulk(any(BulkRequest.class))).thenReturn(response(updated("job_1"), updated("job_2")));
+
+        // When
+        manager.updatePopularityAll(popularities);
+
+        // Then
+        List<BulkOperation> operations = captureBulkRequest().operations();
+        assertThat(operations).hasSize(2);
+
+        BulkOperation first = operations.get(0);
+        assertThat(first.isUpdate()).isTrue();
+        assertThat(first.update().index()).isEqualTo(INDEX);
+        assertThat(first.update().id()).isEqualTo("job_1");
+
+        UpdateAction<?, ?> action = first.update().action();
+        assertThat(action.doc()).isEqualTo(Map.of(
+                "popularity_view_count", 10L,
+                "popularity_comment_count", 2L,
+                "popularity_like_count", 3L
+        ));
+        // 없는 문서를 만들지 않도록 upsert 없이 doc 만 전송
+        assertThat(action.upsert()).isNull();
+        assertThat(action.docAsUpsert()).isNull();
+        assertThat(action.script()).isNull();
+    }
+
+    @Test
+    @DisplayName("document_missing 은 실패가 아닌 NotFound, 그 외 문서 오류만 docId 별 실패")
+    void updatePopularityAll_mapsItemResults() throws IOException {
+        // Given
+        Map<String, Popularity> popularities = new LinkedHashMap<>();
+        popularities.put("job_1", popularity(1L, 0L, 0L));
+        popularities.put("job_2", popularity(2L, 0L, 0L));
+        popularities.put("job_3", popularity(3L, 0L, 0L));
+        when(esClient.bulk(any(BulkRequest.class))).thenReturn(response(
+                updated("job_1"),
+                error("job_2", 404, "document_missing_exception"),
+                error("job_3", 429, "es_rejected_execution_exception")
+        ));
+
+        // When
+        BulkIndexResult result = manager.updatePopularityAll(popularities);
+
+        // Then
+        assertThat(result.indexed()).containsEntry("job_1", IndexResponseType.Updated)
+                .containsEntry("job_2", IndexResponseType.NotFound);
+        assertThat(result.isFailed("job_2")).isFalse();
+        assertThat(result.isFailed("job_3")).isTrue();
+        assertThat(result.failureReason("job_3")).startsWith("es_rejected_execution_exception");
+    }
+
+    @Test
+    @DisplayName("요청 자체가 실패하면 해당 chunk 의 모든 docId 가 실패")
+    void updatePopularityAll_requestFailure_failsWholeChunk() throws IOException {
+        // Given
+        Map<String, Popularity> popularities = new LinkedHashMap<>();
+        popularities.put("job_1", popularity(1L, 0L, 0L));
+        popularities.put("job_2", popularity(2L, 0L, 0L));
+        when(esClient.bulk(any(BulkRequest.class))).thenThrow(new IOException("connection reset"));
+
+        // When
+        BulkIndexResult result = manager.updatePopularityAll(popularities);
+
+        // Then
+        assertThat(result.failures()).containsOnlyKeys("job_1", "job_2");
+        assertThat(result.failureReason("job_1")).isEqualTo("IOException: connection reset");
+    }
+
+    @Test
+    @DisplayName("flush-size 를 넘으면 요청을 나눠서 전송")
+    void updatePopularityAll_splitsByFlushSize() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(manager, "bulkFlushSize", 2);
+        Map<String, Popularity> popularities = new LinkedHashMap<>();
+        for (long id = 1; id <= 5; id++) {
+            popularities.put(JobDoc.docId(id), popularity(id, 0L, 0L));
+        }
+        when(esClient.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            return response(request.operations().stream()
+                    .map(op -> updated(op.update().id()))
+                    .toArray(BulkResponseItem[]::new));
+        });
+
+        // When
+        BulkIndexResult result = manager.updatePopularityAll(popularities);
+
+        // Then
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(esClient, times(3)).bulk(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.operations().size()).containsExactly(2, 2, 1);
+        assertThat(result.successCount()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,139 @@
+package dev.devrunner.elasticsearch.api.job.boost;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.devrunner.elasticsearch.document.JobDocKeywordBoost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoostRuleMatcher 테스트
+ *
+ * 부스트 규칙 문서(JSON)의 percolator 쿼리를 로컬 matcher 로 변환해 매칭 결과를 검증
+ */
+@DisplayName("BoostRuleMatcher 테스트")
+class BoostRuleMatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JobDocKeywordBoost rule(String json) throws Exception {
+        return objectMapper.readValue(json, JobDocKeywordBoost.class);
+    }
+
+    @Test
+    @DisplayName("should 로 묶인 동의어 중 하나만 있어도 규칙이 매칭됨")
+    void match_synonymInShould() throws Exception {
+        // Given
+        JobDocKeywordBoost k8s = rule("""
+                {"doc_id": "kubernetes", "canonical": "kubernetes", "boost": 2.0, "priority": 10,
+                 "q": {"bool": {"should": [
+                    {"match_phrase": {"text": "kubernetes"}},
+                    {"match_phrase": {"text": {"query": "쿠버네티스"}}},
+                    {"term": {"text": "k8s"}}
+                 ]}}}
+                """);
+        JobDocKeywordBoost spring = rule("""
+                {"doc_id": "spring", "canonical": "spring boot", "q": {"match_phrase": {"text": "spring boot"}}}
+                """);
+
+        // When
+        Optional<BoostRuleMatcher> matcher = BoostRuleMatcher.build(List.of(k8s, spring));
+
+        // Then
+        assertThat(matcher).isPresent();
+        assertThat(matcher.get().match("K8S 운영 경험")).extracting(JobDocKeywordBoost::getCanonical)
+                .containsExactly("kubernetes");
+        assertThat(matcher.get().match("쿠버네티스와 Spring Boot")).extracting(JobDocKeywordBoost::getCanonical)
+                .containsExactly("kubernetes", "spring boot");
+        assertThat(matcher.get().match("spring 개발자")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 쿼리가 있으면 matcher 를 만들지 않음 (percolate 폴백)")
+    void build_unsupportedQuery_returnsEmpty() throws Exception {
+        // Given
+        JobDocKeywordBoost wildcard = rule("""
+                {"doc_id": "react", "canonical": "react", "q": {"wildcard": {"text": "react*"}}}
+                """);
+        JobDocKeywordBoost mustBool = rule("""
+                {"doc_id": "aws", "canonical": "aws", "q": {"bool": {"must": [{"term": {"text": "aws"}}]}}}
+                """);
+
+        // When & Then
+        assertThat(BoostRuleMatcher.build(List.of(wildcard))).isEmpty();
+        assertThat(BoostRuleMatcher.build(List.of(mustBool))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("text 외 필드를 보는 쿼리는 해석하지 않음")
+    void build_otherField_returnsEmpty() throws Exception {
+        // Given
+        JobDocKeywordBoost other = rule("""
+                {"doc_id": "go", "canonical": "go", "q": {"term": {"title": "go"}}}
+                """);
+
+        // When & Then
+        assertThat(BoostRuleMatcher.build(List.of(other))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("minimum_should_match 가 하나 이하를 요구하면 should 키워드 중 하나로 매칭됨")
+    void match_minimumShouldMatchAnyOne() throws Exception {
+        // Given
+        JobDocKeywordBoost negative = rule("""
+                {"doc_id": "kafka", "canonical": "kafka", "q": {"bool": {"minimum_should_match": "-1", "should": [
+                    {"term": {"text": "kafka"}}, {"term": {"text": "카프카"}}
+                 ]}}}
+                """);
+        JobDocKeywordBoost percent = rule("""
+                {"doc_id": "redis", "canonical": "redis", "q": {"bool": {"minimum_should_match": "50%", "should": [
+                    {"term": {"text": "redis"}}, {"term": {"text": "레디스"}}
+                 ]}}}
+                """);
+        JobDocKeywordBoost match = rule("""
+                {"doc_id": "grpc", "canonical": "grpc", "q": {"match": {"text": {"query": "grpc protobuf", "minimum_should_match": 1}}}}
+                """);
+
+        // When
+        Optional<BoostRuleMatcher> matcher = BoostRuleMatcher.build(List.of(negative, percent, match));
+
+        // Then
+        assertThat(matcher).isPresent();
+        assertThat(matcher.get().match("카프카, 레디스, protobuf")).extracting(JobDocKeywordBoost::getCanonical)
+                .containsExactlyInAnyOrder("kafka", "redis", "grpc");
+    }
+
+    @Test
+    @DisplayName("minimum_should_match 가 둘 이상을 요구하거나 조합 형식이면 matcher 를 만들지 않음")
+    void build_minimumShouldMatchNotEvaluable_returnsEmpty() throws Exception {
+        // Given
+        JobDocKeywordBoost allPercent = rule("""
+                {"doc_id": "kafka", "canonical": "kafka", "q": {"bool": {"minimum_should_match": "100%", "should": [
+                    {"term": {"text": "kafka"}}, {"term": {"text": "카프카"}}
+                 ]}}}
+                """);
+        JobDocKeywordBoost negativeOfThree = rule("""
+                {"doc_id": "redis", "canonical": "redis", "q": {"bool": {"minimum_should_match": "-1", "should": [
+                    {"term": {"text": "redis"}}, {"term": {"text": "레디스"}}, {"term": {"text": "valkey"}}
+                 ]}}}
+                """);
+        JobDocKeywordBoost combination = rule("""
+                {"doc_id": "mq", "canonical": "mq", "q": {"bool": {"minimum_should_match": "2<75%", "should": [
+                    {"term": {"text": "rabbitmq"}}, {"term": {"text": "activemq"}}
+                 ]}}}
+                """);
+        JobDocKeywordBoost match = rule("""
+                {"doc_id": "grpc", "canonical": "grpc", "q": {"match": {"text": {"query": "grpc protobuf", "minimum_should_match": "100%"}}}}
+                """);
+
+        // When & Then
+        assertThat(BoostRuleMatcher.build(List.of(allPercent))).isEmpty();
+        assertThat(BoostRuleMatcher.build(List.of(negativeOfThree))).isEmpty();
+        assertThat(BoostRuleMatcher.build(List.of(combination))).isEmpty();
+        assertThat(BoostRuleMatcher.build(List.of(match))).isEmpty();
+    }
+}
@@ -0,0 +1,152 @@
+package dev.devrunner.elasticsearch.api.similar;
+
+import dev.devrunner.elasticsearch.api.job.JobSearch;
+import dev.devrunner.elasticsearch.api.job.JobSearchResult;
+import dev.devrunner.elasticsearch.api.techblog.TechBlogSearch;
+import dev.devrunner.elasticsearch.api.techblog.TechBlogSearchResult;
+import dev.devrunner.elasticsearch.document.JobDoc;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
+import dev.devrunner.elasticsearch.internal.generation.IndexGenerationStore;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.HybridSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SimilarDocFinder 캐시 테스트
+ * <p>
+ * Mock 검색기와 메모리 기반 세대 저장소로 (docId, size, 인덱스 세대) 캐시 키 동작만 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SimilarDocFinder 캐시 테스트")
+class SimilarDocFinderTest {
+
+    private static final String JOB_INDEX = "job";
+    private static final String TECH_BLOG_INDEX = "techblog";
+
+    @Mock
+    private JobSearch mockJobSearch;
+
+    @Mock
+    private TechBlogSearch mockTechBlogSearch;
+
+    private IndexGeneration indexGeneration;
+    private SimilarDocFinder finder;
+
+    @BeforeEach
+    void setUp() {
+        // refresh-interval 을 길게 두어 bump 외에는 세대가 바뀌지 않도록 함
+        indexGeneration = new IndexGeneration(new InMemoryIndexGenerationStore(), 60_000);
+        finder = new SimilarDocFinder(mockJobSearch, mockTechBlogSearch, indexGeneration,
+                JOB_INDEX, TECH_BLOG_INDEX, 100, 300);
+
+        when(mockJobSearch.getById(anyString())).thenReturn(mock(JobDoc.class));
+    }
+
+    @Test
+    @DisplayName("같은 세대에서 반복 조회하면 캐시에서 응답")
+    void findSimilarJobs_sameGeneration_servedFromCache() {
+        // Given
+        when(mockJobSearch.searchHybrid(any(), any(), any(), anyInt()))
+                .thenReturn(new HybridSearchResult<>(List.of(), List.of()));
+
+        // When
+        JobSearchResult first = finder.findSimilarJobs("1", 5);
+        JobSearchResult second = finder.findSimilarJobs("1", 5);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(mockJobSearch, times(1)).getById(JobDoc.docId("1"));
+        verify(mockJobSearch, times(1)).searchHybrid(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("size 가 다르면 다른 캐시 항목")
+    void findSimilarJobs_differentSize_loadsAgain() {
+        // Given
+        when(mockJobSearch.searchHybrid(any(), any(), any(), anyInt()))
+                .thenReturn(new HybridSearchResult<>(List.of(), List.of()));
+
+        // When
+        finder.findSimilarJobs("1", 5);
+        finder.findSimilarJobs("1", 10);
+
+        // Then
+        verify(mockJobSearch, times(2)).searchHybrid(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("job 인덱스 세대가 올라가면 이전 캐시 항목을 쓰지 않음")
+    void findSimilarJobs_generationBump_invalidates() {
+        // Given
+        when(mockJobSearch.searchHybrid(any(), any(), any(), anyInt()))
+                .thenReturn(new HybridSearchResult<>(List.of(), List.of()));
+        finder.findSimilarJobs("1", 5);
+
+        // When
+        indexGeneration.bump(JOB_INDEX);
+        finder.findSimilarJobs("1", 5);
+        finder.findSimilarJobs("1", 5);
+
+        // Then
+        verify(mockJobSearch, times(2)).searchHybrid(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("유사 techblog 는 job / techblog 어느 쪽 세대가 올라가도 다시 조회")
+    void findSimilarTechBlogs_eitherGenerationBump_invalidates() {
+        // Given
+        when(mockTechBlogSearch.searchHybrid(any(), any(), any(), anyInt()))
+                .thenReturn(new HybridSearchResult<>(List.of(), List.of()));
+
+        // When
+        TechBlogSearchResult first = finder.findSimilarTechBlogsFromJob("1", 5);
+        TechBlogSearchResult cached = finder.findSimilarTechBlogsFromJob("1", 5);
+        indexGeneration.bump(TECH_BLOG_INDEX);
+        finder.findSimilarTechBlogsFromJob("1", 5);
+        indexGeneration.bump(JOB_INDEX);
+        finder.findSimilarTechBlogsFromJob("1", 5);
+
+        // Then
+        assertThat(cached).isSameAs(first);
+        verify(mockTechBlogSearch, times(3)).searchHybrid(any(), any(), any(), anyInt());
+        verify(mockJobSearch, never()).searchHybrid(any(), any(), any(), anyInt());
+    }
+
+    /**
+     * 메모리 기반 IndexGenerationStore
+     */
+    static class InMemoryIndexGenerationStore implements IndexGenerationStore {
+
+        private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+        @Override
+        public void increment(String indexName) {
+            generations.merge(indexName, 1L, Long::sum);
+        }
+
+        @Override
+        public OptionalLong find(String indexName) {
+            Long generation = generations.get(indexName);
+            return generation == null ? OptionalLong.empty() : OptionalLong.of(generation);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dev.devrunner.elasticsearch.internal.generation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IndexGeneration 테스트
+ * <p>
+ * 메모리 기반 fake store 로 세대 증가 / 조회 캐싱 / 저장소 장애 시 동작을 검증
+ */
+@DisplayName("IndexGeneration 테스트")
+class IndexGenerationTest {
+
+    private static final String INDEX = "job";
+    private static final long LONG_REFRESH_MS = 60_000;
+
+    private final FakeIndexGenerationStore store = new FakeIndexGenerationStore();
+
+    @Test
+    @DisplayName("세대가 없는 인덱스는 0")
+    void current_unknownIndex_returnsZero() {
+        // Given
+        IndexGeneration generation = new IndexGeneration(store, LONG_REFRESH_MS);
+
+        // When & Then
+        assertThat(generation.current(INDEX)).isZero();
+    }
+
+    @Test
+    @DisplayName("bump 하면 refresh-interval 과 관계없이 바로 새 세대가 보임")
+    void bump_visibleImmediately() {
+        // Given
+        IndexGeneration generation = new IndexGeneration(store, LONG_REFRESH_MS);
+        assertThat(generation.current(INDEX)).isZero();
+
+        // When
+        generation.bump(INDEX);
+        generation.bump(INDEX);
+
+        // Then
+        assertThat(generation.current(INDEX)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("refresh-interval 동안은 저장소를 다시 조회하지 않음")
+    void current_withinRefreshInterval_servedFromSnapshot() {
+        // Given
+        IndexGeneration generation = new IndexGeneration(store, LONG_REFRESH_MS);
+        assertThat(generation.current(INDEX)).isZero();
+
+        // When - 다른 프로세스(sync)가 세대를 올림
+        store.increment(INDEX);
+
+        // Then
+        assertThat(generation.current(INDEX)).isZero();
+        assertThat(store.findCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("refresh-interval 이 지나면 다른 프로세스가 올린 세대를 읽음")
+    void current_afterRefreshInterval_readsStore() {
+        // Given
+        IndexGeneration generation = new IndexGeneration(store, 0);
+        assertThat(generation.current(INDEX)).isZero();
+
+        // When
+        store.increment(INDEX);
+
+        // Then
+        assertThat(generation.current(INDEX)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장소 장애 시 마지막으로 읽은 세대를 사용하고 bump 는 예외를 던지지 않음")
+    void storeFailure_keepsLastGeneration() {
+        // Given
+        IndexGeneration generation = new IndexGeneration(store, 0);
+        store.increment(INDEX);
+        assertThat(generation.current(INDEX)).isEqualTo(1);
+
+        // When
+        store.failing = true;
+        generation.bump(INDEX);
+
+        // Then
+        assertThat(generation.current(INDEX)).isEqualTo(1);
+    }
+
+    /**
+     * 메모리 기반 IndexGenerationStore (조회 횟수 기록)
+     */
+    static class FakeIndexGenerationStore implements IndexGenerationStore {
+
+        private final Map<String, Long> generations = new ConcurrentHashMap<>();
+        final AtomicInteger findCalls = new AtomicInteger();
+        volatile boolean failing;
+
+        @Override
+        public void increment(String indexName) {
+            if (failing) {
+                throw new IllegalStateException("store down");
+            }
+            generations.merge(indexName, 1L, Long::sum);
+        }
+
+        @Override
+        public OptionalLong find(String indexName) {
+            findCalls.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("store down");
+            }
+            Long generation = generations.get(indexName);
+            return generation == null ? OptionalLong.empty() : OptionalLong.of(generation);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package dev.devrunner.elasticsearch.internal.indexer;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import dev.devrunner.elasticsearch.document.DocBase;
+import dev.devrunner.elasticsearch.internal.generation.IndexGeneration;
+import dev.devrunner.elasticsearch.internal.metrics.ElasticsearchMetrics;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.QueryLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AbstractDocIndexer.indexAll 테스트
+ * <p>
+ * Mock ES 클라이언트로 flush-size / max-bytes 기준 요청 분할과 docId 별 결과 매핑을 검증
+ */
+@DisplayName("AbstractDocIndexer.indexAll 테스트")
+class AbstractDocIndexerTest {
+
+    private static final String INDEX = "test";
+
+    private final ElasticsearchClient esClient = mock(ElasticsearchClient.class);
+    private final IndexGeneration indexGeneration = mock(IndexGeneration.class);
+    private TestDocIndexer indexer;
+
+    /**
+     * 실패로 응답할 docId (나머지는 created)
+     */
+    private Set<String> failingDocIds = Set.of();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ElasticsearchMetrics metrics = new ElasticsearchMetrics(provider, mock(QueryLogger.class), 60_000);
+
+        ElasticsearchTransport transport = mock(ElasticsearchTransport.class);
+        when(transport.jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+        when(esClient._transport()).thenReturn(transport);
+        when(esClient.bulk(any(BulkRequest.class))).thenAnswer(invocation -> respond(invocation.getArgument(0)));
+
+        indexer = new TestDocIndexer(esClient, indexGeneration, metrics);
+    }
+
+    private BulkResponse respond(BulkRequest request) {
+        List<BulkResponseItem> items = new ArrayList<>();
+        for (var operation : request.operations()) {
+            String docId = operation.index().id();
+            if (failingDocIds.contains(docId)) {
+                items.add(BulkResponseItem.of(i -> i
+                        .operationType(OperationType.Index).index(INDEX).id(docId).status(400)
+                        .error(e -> e.type("mapper_parsing_exception").reason("failed to parse"))));
+            } else {
+                items.add(BulkResponseItem.of(i -> i
+                        .operationType(OperationType.Index).index(INDEX).id(docId).status(201)
+                        .result("created")));
+            }
+        }
+        return BulkResponse.of(b -> b.took(1).errors(!failingDocIds.isEmpty()).items(items));
+    }
+
+    private static TestDoc doc(long id, int bodyLength) {
+        return new TestDoc("test_" + id, id, "a".repeat(bodyLength));
+    }
+
+    private static List<TestDoc> docs(int count, int bodyLength) {
+        return LongStream.rangeClosed(1, count).mapToObj(id -> doc(id, bodyLength)).toList();
+    }
+
+    private List<List<String>> sentChunks(int expectedRequests) throws IOException {
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(esClient, times(expectedRequests)).bulk(captor.capture());
+        return captor.getAllValues().stream()
+                .map(request -> request.operations().stream().map(op -> op.index().id()).toList())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("빈 입력은 요청 없이 빈 결과")
+    void indexAll_empty_noRequest() throws IOException {
+        // When
+        BulkIndexResult result = indexer.indexAll(List.of());
+
+        // Then
+        assertThat(result.successCount()).isZero();
+        verify(esClient, never()).bulk(any(BulkRequest.class));
+        verify(indexGeneration, never()).bump(any());
+    }
+
+    @Test
+    @DisplayName("flush-size 개수마다 요청을 나눠서 전송")
+    void indexAll_splitsByFlushSize() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(indexer, "bulkFlushSize", 2);
+
+        // When
+        BulkIndexResult result = indexer.indexAll(docs(5, 10));
+
+        // Then
+        assertThat(sentChunks(3)).containsExactly(
+                List.of("test_1", "test_2"),
+                List.of("test_3", "test_4"),
+                List.of("test_5"));
+        assertThat(result.successCount()).isEqualTo(5);
+        assertThat(result.indexed()).containsEntry("test_1", IndexResponseType.Created);
+        verify(indexGeneration, times(1)).bump(INDEX);
+    }
+
+    @Test
+    @DisplayName("직렬화한 본문 크기가 max-bytes 를 넘기 전에 요청을 나눔")
+    void indexAll_splitsByMaxBytes() throws IOException {
+        // Given - 문서 하나가 약 150 byte 이므로 300 byte 면 요청마다 문서 2개 (다음 문서를 넣으면 초과)
+        ReflectionTestUtils.setField(indexer, "bulkMaxBytes", 300L);
+
+        // When
+        indexer.indexAll(docs(5, 100));
+
+        // Then
+        assertThat(sentChunks(3)).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("max-bytes 보다 큰 문서 하나는 단독 요청으로 전송")
+    void indexAll_oversizedDoc_sentAlone() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(indexer, "bulkMaxBytes", 100L);
+
+        // When
+        BulkIndexResult result = indexer.indexAll(List.of(doc(1, 10), doc(2, 500), doc(3, 10)));
+
+        // Then
+        assertThat(sentChunks(3)).containsExactly(List.of("test_1"), List.of("test_2"), List.of("test_3"));
+        assertThat(result.successCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("문서 단위 실패는 해당 docId 만 실패로 담고 나머지는 성공")
+    void indexAll_itemFailure_mappedByDocId() {
+        // Given
+        failingDocIds = Set.of("test_2");
+
+        // When
+        BulkIndexResult result = indexer.indexAll(docs(3, 10));
+
+        // Then
+        assertThat(result.isFailed("test_2")).isTrue();
+        assertThat(result.failureReason("test_2")).isEqualTo("mapper_parsing_exception: failed to parse");
+        assertThat(result.indexed()).containsOnlyKeys("test_1", "test_3");
+        verify(indexGeneration).bump(INDEX);
+    }
+
+    @Test
+    @DisplayName("요청 자체가 실패하면 그 요청의 문서만 실패하고 다른 요청 결과는 유지")
+    void indexAll_requestFailure_failsOnlyThatChunk() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(indexer, "bulkFlushSize", 2);
+        when(esClient.bulk(any(BulkRequest.class)))
+                .thenThrow(new IOException("connection reset"))
+                .thenAnswer(invocation -> respond(invocation.getArgument(0)));
+
+        // When
+        BulkIndexResult result = indexer.indexAll(docs(3, 10));
+
+        // Then
+        assertThat(result.failures()).containsOnlyKeys("test_1", "test_2");
+        assertThat(result.failureReason("test_1")).isEqualTo("IOException: connection reset");
+        assertThat(result.indexed()).containsOnlyKeys("test_3");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 문서는 전송하지 않고 원본 id 기준 docId 로 실패를 담음")
+    void indexAll_invalidDoc_failureKeyedBySourceId() throws IOException {
+        // Given - docId 가 없는 문서
+        TestDoc invalid = new TestDoc(null, 7L, "body");
+
+        // When
+        BulkIndexResult result = indexer.indexAll(List.of(doc(1, 10), invalid));
+
+        // Then
+        assertThat(result.failures()).containsOnlyKeys("test_7");
+        assertThat(result.failures()).doesNotContainKey(null);
+        assertThat(sentChunks(1)).containsExactly(List.of("test_1"));
+    }
+
+    @Test
+    @DisplayName("모든 문서가 실패하면 인덱스 세대를 올리지 않음")
+    void indexAll_nothingIndexed_noGenerationBump() {
+        // Given
+        failingDocIds = Set.of("test_1");
+
+        // When
+        indexer.indexAll(docs(1, 10));
+
+        // Then
+        verify(indexGeneration, never()).bump(any());
+    }
+
+    record TestDoc(String docId, Long sourceId, String body) implements DocBase {
+
+        @Override
+        public String getDocId() {
+            return docId;
+        }
+    }
+
+    static class TestDocIndexer extends AbstractDocIndexer {
+
+        TestDocIndexer(ElasticsearchClient esClient, IndexGeneration indexGeneration, ElasticsearchMetrics metrics) {
+            super(esClient, indexGeneration, metrics);
+        }
+
+        @Override
+        protected String getIndex() {
+            return INDEX;
+        }
+
+        @Override
+        protected String getDocId(DocBase doc) {
+            return doc.getDocId();
+        }
+
+        @Override
+        protected String getSourceDocId(DocBase doc) {
+            return "test_" + ((TestDoc) doc).sourceId();
+        }
+
+        @Override
+        protected boolean validateDoc(DocBase doc) {
+            return doc.getDocId() != null;
+        }
+    }
+}
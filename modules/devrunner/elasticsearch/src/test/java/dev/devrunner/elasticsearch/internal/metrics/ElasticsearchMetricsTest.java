@@ -0,0 +1,118 @@
+package dev.devrunner.elasticsearch.internal.metrics;
+
+import co.elastic.clients.json.JsonpSerializable;
+import dev.devrunner.elasticsearch.internal.queryBuilder.queryExecutor.QueryLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ElasticsearchMetrics 테스트
+ * <p>
+ * SimpleMeterRegistry 로 timer / summary 기록과 slow log 직렬화 조건을 검증
+ */
+@DisplayName("ElasticsearchMetrics 테스트")
+class ElasticsearchMetricsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryLogger queryLogger = mock(QueryLogger.class);
+    private final JsonpSerializable request = mock(JsonpSerializable.class);
+
+    @SuppressWarnings("unchecked")
+    private ElasticsearchMetrics metrics(long slowThresholdMs) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(registry);
+        return new ElasticsearchMetrics(provider, queryLogger, slowThresholdMs);
+    }
+
+    @Test
+    @DisplayName("성공한 요청은 index / operation / outcome=success 태그로 기록")
+    void record_success_recordsTimer() throws IOException {
+        // Given
+        ElasticsearchMetrics metrics = metrics(60_000);
+
+        // When
+        String result = metrics.record("search", "job", request, () -> "ok");
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+        Timer timer = registry.get("elasticsearch.client.requests")
+                .tags("index", "job", "operation", "search", "outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 outcome=error 로 기록하고 예외를 그대로 던짐")
+    void record_failure_recordsErrorAndRethrows() {
+        // Given
+        ElasticsearchMetrics metrics = metrics(60_000);
+
+        // When & Then
+        assertThatThrownBy(() -> metrics.record("get", "job", null, () -> {
+            throw new IOException("connection reset");
+        })).isInstanceOf(IOException.class);
+
+        Timer timer = registry.get("elasticsearch.client.requests")
+                .tags("index", "job", "operation", "get", "outcome", "error")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("threshold 미만이면 요청을 직렬화하지 않음")
+    void record_belowThreshold_doesNotSerialize() throws IOException {
+        // Given
+        ElasticsearchMetrics metrics = metrics(60_000);
+
+        // When
+        metrics.record("search", "job", request, () -> "ok");
+
+        // Then
+        verify(queryLogger, never()).toJson(any());
+    }
+
+    @Test
+    @DisplayName("threshold 를 넘으면 slow log 에 남기기 위해 요청을 직렬화")
+    void record_aboveThreshold_serializesRequest() throws IOException {
+        // Given
+        ElasticsearchMetrics metrics = metrics(0);
+        when(queryLogger.toJson(request)).thenReturn("{\"query\":{}}");
+
+        // When
+        metrics.record("search", "job", request, () -> "ok");
+
+        // Then
+        verify(queryLogger).toJson(request);
+    }
+
+    @Test
+    @DisplayName("hit 수와 요청 크기를 summary 로 기록")
+    void recordHitsAndBytes_recordsSummaries() {
+        // Given
+        ElasticsearchMetrics metrics = metrics(60_000);
+
+        // When
+        metrics.recordHits("search", "job", 20);
+        metrics.recordBytes("bulk_index", "job", 1024);
+
+        // Then
+        assertThat(registry.get("elasticsearch.client.hits").tags("index", "job", "operation", "search")
+                .summary().totalAmount()).isEqualTo(20);
+        assertThat(registry.get("elasticsearch.client.request.bytes").tags("index", "job", "operation", "bulk_index")
+                .summary().totalAmount()).isEqualTo(1024);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.devrunner.elasticsearch.internal.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KeywordAutomaton 테스트
+ *
+ * 여러 키워드 동시 매칭, 정규화, 단어 경계 처리를 검증
+ */
+@DisplayName("KeywordAutomaton 테스트")
+class KeywordAutomatonTest {
+
+    private final KeywordAutomaton<String> automaton = KeywordAutomaton.<String>builder()
+            .add("spring boot", "SPRING_BOOT")
+            .add("boot", "BOOT")
+            .add("java", "JAVA")
+            .add("백엔드", "BACKEND")
+            .add("he", "HE")
+            .add("she", "SHE")
+            .add("hers", "HERS")
+            .build();
+
+    @Test
+    @DisplayName("겹치는 키워드를 모두 찾고 처음 나온 순서대로 반환")
+    void findAll_overlappingKeywords() {
+        // When
+        List<String> found = automaton.findAll("Spring   Boot 개발자");
+
+        // Then
+        assertThat(found).containsExactly("SPRING_BOOT", "BOOT");
+    }
+
+    @Test
+    @DisplayName("영문 키워드는 단어 중간에서 매칭되지 않음")
+    void findAll_asciiWordBoundary() {
+        assertThat(automaton.findAll("javascript 개발자")).isEmpty();
+        assertThat(automaton.findAll("java/kotlin")).containsExactly("JAVA");
+        assertThat(automaton.findAll("ushers")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fail link 를 따라가며 접미사 키워드도 찾음")
+    void findAll_suffixKeywords() {
+        // "she hers" - she, he(she 의 접미사지만 경계 아님), hers
+        assertThat(automaton.findAll("she hers")).containsExactly("SHE", "HERS");
+        assertThat(automaton.findAll("s he")).containsExactly("HE");
+    }
+
+    @Test
+    @DisplayName("한글 키워드는 조사가 붙어도 매칭")
+    void findAll_hangulWithoutBoundary() {
+        assertThat(automaton.findAll("백엔드개발자 채용")).containsExactly("BACKEND");
+    }
+
+    @Test
+    @DisplayName("빈 텍스트면 빈 리스트")
+    void findAll_blank_returnsEmpty() {
+        assertThat(automaton.findAll(" ")).isEmpty();
+        assertThat(automaton.findAll(null)).isEmpty();
+    }
+}
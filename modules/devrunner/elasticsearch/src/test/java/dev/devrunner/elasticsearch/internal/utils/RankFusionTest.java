@@ -0,0 +1,82 @@
+package dev.devrunner.elasticsearch.internal.utils;
+
+import dev.devrunner.elasticsearch.document.DocBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RankFusion 테스트
+ *
+ * ES 클러스터 없이 RRF 병합 로직을 검증
+ */
+@DisplayName("RankFusion 테스트")
+class RankFusionTest {
+
+    private record TestDoc(String docId) implements DocBase {
+        @Override
+        public String getDocId() {
+            return docId;
+        }
+    }
+
+    private static List<TestDoc> docs(String... ids) {
+        return Arrays.stream(ids).map(TestDoc::new).toList();
+    }
+
+    private static List<String> ids(List<TestDoc> docs) {
+        return docs.stream().map(TestDoc::getDocId).toList();
+    }
+
+    @Test
+    @DisplayName("두 결과에 모두 있는 문서가 상위로 올라감")
+    void rrf_docInBothResults_rankedFirst() {
+        // Given
+        List<TestDoc> vector = docs("a", "b", "c");
+        List<TestDoc> bm25 = docs("c", "d", "e");
+
+        // When
+        List<TestDoc> result = RankFusion.rrf(vector, bm25, 3);
+
+        // Then
+        assertThat(ids(result)).containsExactly("c", "a", "b");
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 첫 번째 결과의 문서가 앞에 옴")
+    void rrf_tie_keepsFirstResultOrder() {
+        // Given
+        List<TestDoc> vector = docs("a", "b");
+        List<TestDoc> bm25 = docs("x", "y");
+
+        // When
+        List<TestDoc> result = RankFusion.rrf(vector, bm25, 4);
+
+        // Then
+        assertThat(ids(result)).containsExactly("a", "x", "b", "y");
+    }
+
+    @Test
+    @DisplayName("topK 가 전체 문서 수보다 크면 전체 반환")
+    void rrf_topKLargerThanDocs_returnsAll() {
+        // When
+        List<TestDoc> result = RankFusion.rrf(docs("a"), docs("a", "b"), 10);
+
+        // Then
+        assertThat(ids(result)).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("빈 결과면 빈 리스트 반환")
+    void rrf_emptyResults_returnsEmpty() {
+        // When
+        List<TestDoc> result = RankFusion.rrf(List.<TestDoc>of(), List.of(), 5);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package dev.devrunner.elasticsearch.internal.utils;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import dev.devrunner.elasticsearch.exception.InvalidSearchCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SearchCursor 테스트
+ *
+ * ES 클러스터 없이 cursor 인코딩 / 디코딩과 다음 페이지 cursor 계산을 검증
+ */
+@DisplayName("SearchCursor 테스트")
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("sort 값을 인코딩한 cursor 는 같은 값으로 디코딩됨")
+    void encodeDecode_roundTrip() {
+        // Given
+        List<FieldValue> sortValues = List.of(
+                FieldValue.of(1700000000000L), FieldValue.of(12.5d), FieldValue.of("job_42"));
+
+        // When
+        String cursor = SearchCursor.encode(sortValues);
+        List<FieldValue> decoded = SearchCursor.decode(cursor, 3);
+
+        // Then
+        assertThat(cursor).doesNotContain("job_42");
+        assertThat(decoded.get(0).isLong()).isTrue();
+        assertThat(decoded.get(0).longValue()).isEqualTo(1700000000000L);
+        assertThat(decoded.get(1).isDouble()).isTrue();
+        assertThat(decoded.get(1).doubleValue()).isEqualTo(12.5d);
+        assertThat(decoded.get(2).stringValue()).isEqualTo("job_42");
+    }
+
+    @Test
+    @DisplayName("cursor 가 없으면 빈 리스트 반환")
+    void decode_nullCursor_returnsEmpty() {
+        assertThat(SearchCursor.decode(null, 2)).isEmpty();
+        assertThat(SearchCursor.decode(" ", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sort 개수가 다른 cursor 는 예외")
+    void decode_sizeMismatch_throws() {
+        // Given
+        String cursor = SearchCursor.encode(List.of(FieldValue.of("job_1")));
+
+        // When & Then
+        assertThatThrownBy(() -> SearchCursor.decode(cursor, 2))
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 cursor 는 예외")
+    void decode_malformed_throws() {
+        assertThatThrownBy(() -> SearchCursor.decode("not a cursor!", 2))
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 현재 페이지 마지막 문서의 sort 값으로 cursor 생성")
+    void nextCursor_hasNext_usesLastDocOfPage() {
+        // Given - 2개 요청, hasNext 판단을 위해 3개 조회
+        List<String> docs = List.of("a", "b", "c");
+        List<List<FieldValue>> sortValues = List.of(
+                List.of(FieldValue.of("a")), List.of(FieldValue.of("b")), List.of(FieldValue.of("c")));
+        var page = PaginationUtils.paginate(docs, 2);
+
+        // When
+        String cursor = PaginationUtils.nextCursor(page, sortValues);
+
+        // Then
+        assertThat(SearchCursor.decode(cursor, 1).get(0).stringValue()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 없으면 cursor 는 null")
+    void nextCursor_noNext_returnsNull() {
+        // Given
+        var page = PaginationUtils.paginate(List.of("a"), 2);
+
+        // When & Then
+        assertThat(PaginationUtils.nextCursor(page, List.of(List.of(FieldValue.of("a"))))).isNull();
+    }
+}
@@ -2,6 +2,7 @@ package dev.devrunner.elasticsearch.mapper;
 
 import dev.devrunner.elasticsearch.document.TechBlogDoc;
 import dev.devrunner.elasticsearch.vector.E5Vectorizer;
+import dev.devrunner.elasticsearch.vector.EmbeddingVector;
 import dev.devrunner.elasticsearch.vector.VectorizeException;
 import dev.devrunner.model.common.Popularity;
 import dev.devrunner.model.common.TechCategory;
@@ -50,7 +51,7 @@ class TechBlogDocMapperTest {
         void newDoc_withFullTechBlog_convertsCorrectly() {
             // Given
             Instant now = Instant.now();
-            when(mockVectorizer.vectorize(anyString())).thenReturn(List.of(0.1f, 0.2f, 0.3f, 0.4f, 0.5f));
+            when(mockVectorizer.vectorize(anyString())).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f}));
 
 
             TechBlog techBlog = new TechBlog(
@@ -98,14 +99,14 @@ class TechBlogDocMapperTest {
             assertThat(doc.getDeleted()).isFalse();
 
             // Vector
-            assertThat(doc.getVector()).containsExactly(0.1f, 0.2f, 0.3f, 0.4f, 0.5f);
+            assertThat(doc.getVector().toArray()).containsExactly(0.1f, 0.2f, 0.3f, 0.4f, 0.5f);
         }
 
         @Test
         @DisplayName("필수 필드만 있는 TechBlog을 TechBlogDoc으로 변환 (null 처리)")
         void newDoc_withMinimalTechBlog_convertsWithNulls() {
             // Given
-            when(mockVectorizer.vectorize(anyString())).thenReturn(List.of(0.1f, 0.2f, 0.3f, 0.4f, 0.5f));
+            when(mockVectorizer.vectorize(anyString())).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f}));
 
             Instant now = Instant.now();
             TechBlog techBlog = new TechBlog(
@@ -154,7 +155,7 @@ class TechBlogDocMapperTest {
         @DisplayName("TechCategory enum 리스트를 String 리스트로 변환")
         void newDoc_withTechCategories_convertsToStringList() {
             // Given
-            when(mockVectorizer.vectorize(anyString())).thenReturn(List.of(0.1f, 0.2f, 0.3f, 0.4f, 0.5f));
+            when(mockVectorizer.vectorize(anyString())).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f}));
 
             Instant now = Instant.now();
             TechBlog techBlog = new TechBlog(
@@ -175,7 +176,7 @@ class TechBlogDocMapperTest {
         @DisplayName("빈 TechCategory 리스트도 정상 처리")
         void newDoc_withEmptyTechCategories_convertsToEmptyList() {
             // Given
-            when(mockVectorizer.vectorize(anyString())).thenReturn(List.of(0.1f, 0.2f, 0.3f, 0.4f, 0.5f));
+            when(mockVectorizer.vectorize(anyString())).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f}));
 
             Instant now = Instant.now();
             TechBlog techBlog = new TechBlog(
@@ -255,7 +256,7 @@ class TechBlogDocMapperTest {
         @DisplayName("techBlogId를 사용하여 'techblog_{techBlogId}' 형식의 docId 생성")
         void newDoc_generatesCorrectDocId() {
             // Given
-            when(mockVectorizer.vectorize(anyString())).thenReturn(List.of(0.1f, 0.2f, 0.3f, 0.4f, 0.5f));
+            when(mockVectorizer.vectorize(anyString())).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f}));
 
             Instant now = Instant.now();
             TechBlog techBlog1 = new TechBlog(
@@ -286,7 +287,7 @@ class TechBlogDocMapperTest {
         @DisplayName("Popularity 객체의 필드가 개별 필드로 flattening")
         void newDoc_flattensPopularityFields() {
             // Given
-            when(mockVectorizer.vectorize(anyString())).thenReturn(List.of(0.1f, 0.2f, 0.3f, 0.4f, 0.5f));
+            when(mockVectorizer.vectorize(anyString())).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f}));
 
             Instant now = Instant.now();
             TechBlog techBlog = new TechBlog(
@@ -308,7 +309,7 @@ class TechBlogDocMapperTest {
         @DisplayName("Popularity가 null이면 개별 필드도 null")
         void newDoc_withNullPopularity_setsFieldsToNull() {
             // Given
-            when(mockVectorizer.vectorize(anyString())).thenReturn(List.of(0.1f, 0.2f, 0.3f, 0.4f, 0.5f));
+            when(mockVectorizer.vectorize(anyString())).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f}));
 
             Instant now = Instant.now();
             TechBlog techBlog = new TechBlog(
@@ -342,7 +343,7 @@ class TechBlogDocMapperTest {
                     null, null, null, false, now, now
             );
 
-            List<Float> expectedVector = List.of(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+            EmbeddingVector expectedVector = EmbeddingVector.of(new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f});
             when(mockVectorizer.vectorize(summary)).thenReturn(expectedVector);
 
             // When
@@ -0,0 +1,117 @@
+package dev.devrunner.elasticsearch.vector;
+
+import dev.devrunner.elasticsearch.vector.cache.EmbeddingStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CachingE5Vectorizer 테스트
+ * <p>
+ * Mock vectorizer / store 로 캐시 계층 동작만 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingE5Vectorizer 테스트")
+class CachingE5VectorizerTest {
+
+    @Mock
+    private E5Vectorizer mockDelegate;
+
+    @Mock
+    private EmbeddingStore mockStore;
+
+    private CachingE5Vectorizer vectorizer;
+
+    @BeforeEach
+    void setUp() {
+        vectorizer = new CachingE5Vectorizer(mockDelegate, mockStore, "test-model", 100, true);
+    }
+
+    @Test
+    @DisplayName("같은 문장은 한 번만 vectorizer 를 호출하고 이후에는 memory 캐시에서 반환")
+    void vectorize_sameContent_callsDelegateOnce() {
+        // Given
+        when(mockStore.findAll(anyCollection())).thenReturn(Map.of());
+        when(mockDelegate.vectorize("backend engineer")).thenReturn(EmbeddingVector.of(new float[]{0.1f, 0.2f}));
+
+        // When
+        EmbeddingVector first = vectorizer.vectorize("backend engineer");
+        EmbeddingVector second = vectorizer.vectorize("backend engineer");
+
+        // Then
+        assertThat(first.toArray()).containsExactly(0.1f, 0.2f);
+        assertThat(second).isEqualTo(first);
+        verify(mockDelegate, times(1)).vectorize("backend engineer");
+        verify(mockDelegate, never()).vectorizeAll(any());
+        verify(mockStore, times(1)).saveAll(anyMap(), anyString());
+    }
+
+    @Test
+    @DisplayName("DB 캐시에 있는 문장은 vectorizer 를 호출하지 않음")
+    void vectorizeAll_storedContent_skipsDelegate() {
+        // Given
+        when(mockStore.findAll(anyCollection())).thenAnswer(invocation -> {
+            String hash = invocation.<java.util.Collection<String>>getArgument(0).iterator().next();
+            return Map.of(hash, new float[]{0.5f, 0.6f});
+        });
+
+        // When
+        List<EmbeddingVector> result = vectorizer.vectorizeAll(List.of("frontend engineer"));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).toArray()).containsExactly(0.5f, 0.6f);
+        verify(mockDelegate, never()).vectorizeAll(any());
+        verify(mockDelegate, never()).vectorize(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 문장이 하나뿐이면 batch 가 아닌 단건 vectorize 로 요청")
+    void vectorizeAll_singleMiss_callsDelegateVectorize() {
+        // Given
+        when(mockStore.findAll(anyCollection())).thenReturn(Map.of());
+        when(mockDelegate.vectorize("devops engineer")).thenReturn(EmbeddingVector.of(new float[]{0.3f}));
+
+        // When
+        List<EmbeddingVector> result = vectorizer.vectorizeAll(List.of("devops engineer", "devops engineer"));
+
+        // Then
+        assertThat(result).extracting(vector -> vector.toArray()[0]).containsExactly(0.3f, 0.3f);
+        verify(mockDelegate, never()).vectorizeAll(any());
+    }
+
+    @Test
+    @DisplayName("빈 문장은 빈 벡터로, 나머지는 입력 순서대로 반환")
+    void vectorizeAll_mixedContents_keepsOrder() {
+        // Given
+        when(mockStore.findAll(anyCollection())).thenReturn(Map.of());
+        when(mockDelegate.vectorizeAll(List.of("a", "b")))
+                .thenReturn(List.of(EmbeddingVector.of(new float[]{1.0f}), EmbeddingVector.of(new float[]{2.0f})));
+
+        // When
+        List<EmbeddingVector> result = vectorizer.vectorizeAll(List.of("a", " ", "b", "a"));
+
+        // Then
+        assertThat(result).hasSize(4);
+        assertThat(result.get(0).toArray()).containsExactly(1.0f);
+        assertThat(result.get(1).isEmpty()).isTrue();
+        assertThat(result.get(2).toArray()).containsExactly(2.0f);
+        assertThat(result.get(3).toArray()).containsExactly(1.0f);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.devrunner.elasticsearch.vector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmbeddingVector JSON 직렬화 테스트
+ */
+@DisplayName("EmbeddingVectorJsonCodec 테스트")
+class EmbeddingVectorJsonCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("숫자 배열로 직렬화")
+    void serialize_writesNumberArray() throws Exception {
+        // Given
+        EmbeddingVector vector = EmbeddingVector.of(new float[]{0.5f, -1.25f, 2.0f});
+
+        // When
+        String json = objectMapper.writeValueAsString(vector);
+
+        // Then
+        assertThat(json).isEqualTo("[0.5,-1.25,2.0]");
+    }
+
+    @Test
+    @DisplayName("숫자 배열(정수 포함)을 역직렬화")
+    void deserialize_readsNumberArray() throws Exception {
+        // When
+        EmbeddingVector vector = objectMapper.readValue("[0.5, -1.25, 2]", EmbeddingVector.class);
+
+        // Then
+        assertThat(vector.toArray()).containsExactly(0.5f, -1.25f, 2.0f);
+    }
+
+    @Test
+    @DisplayName("384 차원을 넘는 벡터도 역직렬화")
+    void deserialize_largeVector() throws Exception {
+        // Given
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append(i);
+        }
+        json.append("]");
+
+        // When
+        EmbeddingVector vector = objectMapper.readValue(json.toString(), EmbeddingVector.class);
+
+        // Then
+        assertThat(vector.size()).isEqualTo(1000);
+        assertThat(vector.get(999)).isEqualTo(999f);
+    }
+}
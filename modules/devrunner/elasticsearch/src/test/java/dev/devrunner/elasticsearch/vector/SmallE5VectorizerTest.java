@@ -0,0 +1,108 @@
+package dev.devrunner.elasticsearch.vector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SmallE5Vectorizer 테스트
+ * <p>
+ * Mock RestTemplate 으로 단건 / batch API 선택과 batch 실패 시 단건 fallback 만 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SmallE5Vectorizer 테스트")
+class SmallE5VectorizerTest {
+
+    private static final String URL = "http://vector-api";
+
+    @Mock
+    private RestTemplate mockRestTemplate;
+
+    private SmallE5Vectorizer vectorizer;
+
+    @BeforeEach
+    void setUp() {
+        vectorizer = new SmallE5Vectorizer(mockRestTemplate);
+        ReflectionTestUtils.setField(vectorizer, "vectorApiUrl", URL);
+    }
+
+    @Test
+    @DisplayName("batch 가 꺼져 있으면 문장마다 /vectorize 호출")
+    void vectorizeAll_batchDisabled_callsSingleApi() {
+        // Given
+        stubSingle("a", 1.0f);
+        stubSingle("b", 2.0f);
+
+        // When
+        List<EmbeddingVector> result = vectorizer.vectorizeAll(List.of("a", "b"));
+
+        // Then
+        assertThat(result).extracting(vector -> vector.toArray()[0]).containsExactly(1.0f, 2.0f);
+        verify(mockRestTemplate, never()).postForObject(eq(URL + "/vectorize/batch"), any(), eq(float[][].class));
+    }
+
+    @Test
+    @DisplayName("batch 가 켜져 있으면 /vectorize/batch 한 번으로 요청")
+    void vectorizeAll_batchEnabled_callsBatchApi() {
+        // Given
+        ReflectionTestUtils.setField(vectorizer, "batchEnabled", true);
+        when(mockRestTemplate.postForObject(eq(URL + "/vectorize/batch"), any(), eq(float[][].class)))
+                .thenReturn(new float[][]{{1.0f}, {2.0f}});
+
+        // When
+        List<EmbeddingVector> result = vectorizer.vectorizeAll(List.of("a", "b"));
+
+        // Then
+        assertThat(result).extracting(vector -> vector.toArray()[0]).containsExactly(1.0f, 2.0f);
+        verify(mockRestTemplate, never()).postForObject(eq(URL + "/vectorize"), any(), eq(float[].class));
+    }
+
+    @Test
+    @DisplayName("batch 요청이 실패하면 문장마다 /vectorize 로 다시 요청")
+    void vectorizeAll_batchFails_fallsBackToSingleApi() {
+        // Given
+        ReflectionTestUtils.setField(vectorizer, "batchEnabled", true);
+        when(mockRestTemplate.postForObject(eq(URL + "/vectorize/batch"), any(), eq(float[][].class)))
+                .thenThrow(HttpClientErrorException.NotFound.class);
+        stubSingle("a", 1.0f);
+        stubSingle("b", 2.0f);
+
+        // When
+        List<EmbeddingVector> result = vectorizer.vectorizeAll(List.of("a", " ", "b"));
+
+        // Then
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).toArray()).containsExactly(1.0f);
+        assertThat(result.get(1).isEmpty()).isTrue();
+        assertThat(result.get(2).toArray()).containsExactly(2.0f);
+        verify(mockRestTemplate, times(2)).postForObject(eq(URL + "/vectorize"), any(), eq(float[].class));
+    }
+
+    private void stubSingle(String content, float value) {
+        when(mockRestTemplate.postForObject(
+                eq(URL + "/vectorize"),
+                argThat(request -> request instanceof HttpEntity<?> entity
+                        && entity.getBody() instanceof VectorizePayload payload
+                        && content.equals(payload.param())),
+                eq(float[].class)))
+                .thenReturn(new float[]{value});
+    }
+}
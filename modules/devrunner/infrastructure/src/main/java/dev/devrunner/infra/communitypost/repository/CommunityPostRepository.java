@@ -4,6 +4,7 @@ import dev.devrunner.model.communitypost.CommunityPost;
 import dev.devrunner.model.communitypost.CommunityPostIdentity;
 import dev.devrunner.model.communitypost.CommunityPostRead;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -86,6 +87,16 @@ public interface CommunityPostRepository {
 
 
     void increaseViewCount(CommunityPostIdentity identity, long increment);
+
+    /**
+     * 여러 CommunityPost 조회수 일괄 증가 (원자적 연산)
+     *
+     * 모든 증가분을 하나의 JDBC batch 로 전송하며, 하나라도 실패하면 전체가 롤백됩니다.
+     * UPDATE community_posts SET view_count = view_count + ? WHERE id = ? (batch)
+     *
+     * @param increments CommunityPost 식별자별 증가시킬 조회수
+     */
+    void increaseViewCounts(Map<CommunityPostIdentity, Long> increments);
     /**
      * 조회수 증가 (원자적 연산)
      *
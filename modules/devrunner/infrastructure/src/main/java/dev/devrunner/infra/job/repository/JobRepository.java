@@ -3,6 +3,7 @@ package dev.devrunner.infra.job.repository;
 import dev.devrunner.model.job.Job;
 import dev.devrunner.model.job.JobIdentity;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -81,6 +82,16 @@ public interface JobRepository {
      */
     void increaseViewCount(JobIdentity identity, long increment);
 
+    /**
+     * 여러 Job 조회수 일괄 증가 (원자적 연산)
+     *
+     * 모든 증가분을 하나의 JDBC batch 로 전송하며, 하나라도 실패하면 전체가 롤백됩니다.
+     * UPDATE jobs SET view_count = view_count + ? WHERE id = ? (batch)
+     *
+     * @param increments Job 식별자별 증가시킬 조회수
+     */
+    void increaseViewCounts(Map<JobIdentity, Long> increments);
+
     /**
      * 댓글수 증가 (원자적 연산)
      *
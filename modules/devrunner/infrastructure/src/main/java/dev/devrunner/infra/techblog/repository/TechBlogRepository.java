@@ -3,6 +3,7 @@ package dev.devrunner.infra.techblog.repository;
 import dev.devrunner.model.techblog.TechBlog;
 import dev.devrunner.model.techblog.TechBlogIdentity;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -86,6 +87,16 @@ public interface TechBlogRepository {
      */
     void increaseViewCount(TechBlogIdentity identity, long increment);
 
+    /**
+     * 여러 TechBlog 조회수 일괄 증가 (원자적 연산)
+     *
+     * 모든 증가분을 하나의 JDBC batch 로 전송하며, 하나라도 실패하면 전체가 롤백됩니다.
+     * UPDATE tech_blogs SET view_count = view_count + ? WHERE id = ? (batch)
+     *
+     * @param increments TechBlog 식별자별 증가시킬 조회수
+     */
+    void increaseViewCounts(Map<TechBlogIdentity, Long> increments);
+
     /**
      * 댓글수 증가 (원자적 연산)
      *
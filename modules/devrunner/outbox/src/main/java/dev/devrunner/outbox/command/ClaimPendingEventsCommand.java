@@ -0,0 +1,44 @@
+package dev.devrunner.outbox.command;
+
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.model.UpdateType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Command for claiming pending outbox events
+ *
+ * WAIT 상태의 이벤트를 PROCESSING 으로 바꾸면서 leaseOwner 에게 leaseDuration 동안 점유권을 준다.
+ * lease 가 만료될 때까지 완료/실패 처리되지 않은 이벤트는 reaper 가 실패한 시도로 처리한다. (재시도 정책에 따라 FAILED 또는 DEAD)
+ */
+@Value
+@Builder
+public class ClaimPendingEventsCommand {
+
+    /**
+     * 현재 프로세스를 식별하는 기본 lease owner (pid@host + 랜덤 suffix)
+     */
+    public static final String LOCAL_LEASE_OWNER =
+            ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    public static final Duration DEFAULT_LEASE_DURATION = Duration.ofMinutes(5);
+
+    int limit;
+    TargetType targetType;      // Optional: filter by target type (null = all types)
+    UpdateType updateType;      // Optional: filter by update type (null = all types)
+    String leaseOwner;
+    Duration leaseDuration;
+
+    public static ClaimPendingEventsCommand ofType(int limit, TargetType targetType) {
+        return ClaimPendingEventsCommand.builder()
+            .limit(limit)
+            .targetType(targetType)
+            .leaseOwner(LOCAL_LEASE_OWNER)
+            .leaseDuration(DEFAULT_LEASE_DURATION)
+            .build();
+    }
+}
@@ -0,0 +1,31 @@
+package dev.devrunner.outbox.command;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Command for purging old COMPLETED outbox events
+ *
+ * updated_at 이 retention 보다 오래된 COMPLETED 이벤트를 chunkSize 단위로 나눠서 삭제한다.
+ * archiveDirectory 가 있으면 삭제 전에 gzip 압축 파일로 남긴다.
+ */
+@Value
+@Builder
+public class PurgeCompletedEventsCommand {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    Duration retention;
+    int chunkSize;
+    Path archiveDirectory;      // Optional: null = archive 없이 삭제만
+
+    public static PurgeCompletedEventsCommand of(Duration retention) {
+        return PurgeCompletedEventsCommand.builder()
+            .retention(retention)
+            .chunkSize(DEFAULT_CHUNK_SIZE)
+            .build();
+    }
+}
@@ -0,0 +1,33 @@
+package dev.devrunner.outbox.config;
+
+import dev.devrunner.outbox.model.OutboxRetryPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Outbox 재시도 정책 설정
+ * <pre>
+ * devrunner.outbox.retry.max-attempts: 5
+ * devrunner.outbox.retry.base-delay-seconds: 10
+ * devrunner.outbox.retry.max-delay-seconds: 1800
+ * </pre>
+ */
+@Configuration
+public class OutboxRetryConfig {
+
+    @Bean
+    public OutboxRetryPolicy outboxRetryPolicy(
+            @Value("${devrunner.outbox.retry.max-attempts:5}") int maxAttempts,
+            @Value("${devrunner.outbox.retry.base-delay-seconds:10}") long baseDelaySeconds,
+            @Value("${devrunner.outbox.retry.max-delay-seconds:1800}") long maxDelaySeconds
+    ) {
+        return new OutboxRetryPolicy(
+                maxAttempts,
+                Duration.ofSeconds(baseDelaySeconds),
+                Duration.ofSeconds(maxDelaySeconds)
+        );
+    }
+}
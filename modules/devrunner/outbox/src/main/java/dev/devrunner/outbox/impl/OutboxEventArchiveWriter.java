@@ -0,0 +1,97 @@
+package dev.devrunner.outbox.impl;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 삭제할 outbox 이벤트를 gzip 압축된 TSV 파일로 기록
+ * <p>
+ * 파일명: outbox-archive-{yyyyMMddHHmmss}.tsv.gz (UTC)
+ * <p>
+ * gzip 은 syncFlush 로 열어서 {@link #write} 가 끝나면 그때까지의 행이 디스크에 남는다.
+ * 삭제 후 프로세스가 죽어 파일이 닫히지 않아도 gzip trailer 만 빠지고 이미 기록한 행은 읽을 수 있다.
+ */
+class OutboxEventArchiveWriter implements Closeable {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC);
+
+    private static final String HEADER =
+            "id\ttarget_type\ttarget_id\tupdate_type\tstatus\tretry_count\tupdated_at\tprocessed_at";
+
+    private final Path file;
+    private final FileChannel channel;
+    private final BufferedWriter writer;
+
+    private OutboxEventArchiveWriter(Path file, FileChannel channel, BufferedWriter writer) {
+        this.file = file;
+        this.channel = channel;
+        this.writer = writer;
+    }
+
+    static OutboxEventArchiveWriter open(Path directory, Instant now) {
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("outbox-archive-" + FILE_TIMESTAMP.format(now) + ".tsv.gz");
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Channels.newOutputStream(channel), true), StandardCharsets.UTF_8));
+            writer.write(HEADER);
+            writer.newLine();
+            return new OutboxEventArchiveWriter(file, channel, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open outbox archive in " + directory, e);
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * chunk 단위로 기록 후 sync flush + fsync (삭제보다 먼저 호출되어야 함)
+     */
+    void write(List<OutboxEventEntity> events) {
+        try {
+            for (OutboxEventEntity event : events) {
+                writer.write(event.getId() + "\t"
+                        + event.getTargetType() + "\t"
+                        + event.getTargetId() + "\t"
+                        + event.getUpdateType() + "\t"
+                        + event.getStatus() + "\t"
+                        + event.getRetryCount() + "\t"
+                        + event.getUpdatedAt() + "\t"
+                        + event.getProcessedAt());
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox archive " + file, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close outbox archive " + file, e);
+        }
+    }
+}
@@ -18,6 +18,7 @@ public interface OutboxEventEntityRepository extends CrudRepository<OutboxEventE
     @Query("""
         SELECT * FROM outbox_events
         WHERE status = 'WAIT'
+        AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
         AND (:targetType IS NULL OR target_type = :targetType)
         AND (:updateType IS NULL OR update_type = :updateType)
         ORDER BY updated_at ASC
@@ -26,26 +27,165 @@ public interface OutboxEventEntityRepository extends CrudRepository<OutboxEventE
     List<OutboxEventEntity> findPendingEvents(
         @Param("limit") int limit,
         @Param("targetType") String targetType,
-        @Param("updateType") String updateType
+        @Param("updateType") String updateType,
+        @Param("now") java.time.Instant now
     );
 
     /**
-     * Update event status for batch processing
+     * Check whether any WAIT event exists for the target type (sync 워커의 가벼운 DB signal 용)
+     */
+    @Query("""
+        SELECT EXISTS (
+            SELECT 1 FROM outbox_events
+            WHERE status = 'WAIT'
+            AND target_type = :targetType
+            AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+        )
+        """)
+    boolean existsPendingEvent(@Param("targetType") String targetType, @Param("now") java.time.Instant now);
+
+    /**
+     * Lock pending event ids for claim (MySQL)
+     * 다른 워커가 잠근 row 는 건너뛰므로 여러 파드가 서로 다른 이벤트를 가져간다.
+     */
+    @Query("""
+        SELECT id FROM outbox_events
+        WHERE status = 'WAIT'
+        AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+        AND (:targetType IS NULL OR target_type = :targetType)
+        AND (:updateType IS NULL OR update_type = :updateType)
+        ORDER BY updated_at ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """)
+    List<Long> lockPendingEventIds(
+        @Param("limit") int limit,
+        @Param("targetType") String targetType,
+        @Param("updateType") String updateType,
+        @Param("now") java.time.Instant now
+    );
+
+    /**
+     * Find pending event ids for claim (H2 등 SKIP LOCKED 미지원 DB용 fallback)
+     * 실제 점유 여부는 claimEvents 의 status = 'WAIT' 조건으로 결정된다.
+     */
+    @Query("""
+        SELECT id FROM outbox_events
+        WHERE status = 'WAIT'
+        AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+        AND (:targetType IS NULL OR target_type = :targetType)
+        AND (:updateType IS NULL OR update_type = :updateType)
+        ORDER BY updated_at ASC
+        LIMIT :limit
+        """)
+    List<Long> findPendingEventIds(
+        @Param("limit") int limit,
+        @Param("targetType") String targetType,
+        @Param("updateType") String updateType,
+        @Param("now") java.time.Instant now
+    );
+
+    /**
+     * Mark events as PROCESSING with lease (아직 WAIT 인 row 만 점유)
      */
     @Modifying
     @Query("""
         UPDATE outbox_events
-        SET status = :status,
-            retry_count = :retryCount,
-            error_message = :errorMessage,
-            processed_at = :processedAt
-        WHERE id = :id
-        """)
-    void updateEventStatus(
-        @Param("id") Long id,
-        @Param("status") String status,
-        @Param("retryCount") Integer retryCount,
-        @Param("errorMessage") String errorMessage,
-        @Param("processedAt") java.time.Instant processedAt
+        SET status = 'PROCESSING',
+            lease_owner = :leaseOwner,
+            lease_expires_at = :leaseExpiresAt,
+            processed_at = :claimedAt
+        WHERE id IN (:ids)
+        AND status = 'WAIT'
+        """)
+    int claimEvents(
+        @Param("ids") List<Long> ids,
+        @Param("leaseOwner") String leaseOwner,
+        @Param("leaseExpiresAt") java.time.Instant leaseExpiresAt,
+        @Param("claimedAt") java.time.Instant claimedAt
+    );
+
+    /**
+     * Find events claimed by lease owner
+     */
+    @Query("""
+        SELECT * FROM outbox_events
+        WHERE id IN (:ids)
+        AND status = 'PROCESSING'
+        AND lease_owner = :leaseOwner
+        ORDER BY id ASC
+        """)
+    List<OutboxEventEntity> findClaimedEvents(
+        @Param("ids") List<Long> ids,
+        @Param("leaseOwner") String leaseOwner
     );
+
+    /**
+     * Find PROCESSING events whose lease has expired (lease 만료 = 실패한 시도로 처리하기 위해 조회)
+     */
+    @Query("""
+        SELECT * FROM outbox_events
+        WHERE status = 'PROCESSING'
+        AND lease_expires_at < :now
+        ORDER BY id ASC
+        LIMIT :limit
+        """)
+    List<OutboxEventEntity> findExpiredLeases(
+        @Param("now") java.time.Instant now,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Re-queue FAILED events whose next attempt time has passed
+     * (next_attempt_at 이 없는 기존 FAILED 이벤트도 한 번은 다시 시도)
+     */
+    @Modifying
+    @Query("""
+        UPDATE outbox_events
+        SET status = 'WAIT'
+        WHERE status = 'FAILED'
+        AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+        """)
+    int requeueFailedEvents(@Param("now") java.time.Instant now);
+
+    /**
+     * Find COMPLETED events older than cutoff (archive 용 전체 행, idx_outbox_status_updated 사용)
+     */
+    @Query("""
+        SELECT * FROM outbox_events
+        WHERE status = 'COMPLETED'
+        AND updated_at < :cutoff
+        ORDER BY updated_at ASC
+        LIMIT :limit
+        """)
+    List<OutboxEventEntity> findCompletedEventsBefore(
+        @Param("cutoff") java.time.Instant cutoff,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Find ids of COMPLETED events older than cutoff (archive 없이 삭제만 할 때 사용, payload 를 읽지 않음)
+     */
+    @Query("""
+        SELECT id FROM outbox_events
+        WHERE status = 'COMPLETED'
+        AND updated_at < :cutoff
+        ORDER BY updated_at ASC
+        LIMIT :limit
+        """)
+    List<Long> findCompletedEventIdsBefore(
+        @Param("cutoff") java.time.Instant cutoff,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Delete COMPLETED events by ids (chunk 단위 삭제)
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM outbox_events
+        WHERE id IN (:ids)
+        AND status = 'COMPLETED'
+        """)
+    int deleteCompletedEvents(@Param("ids") List<Long> ids);
 }
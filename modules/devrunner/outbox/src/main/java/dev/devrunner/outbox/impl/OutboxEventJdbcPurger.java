@@ -0,0 +1,77 @@
+package dev.devrunner.outbox.impl;
+
+import dev.devrunner.outbox.command.PurgeCompletedEventsCommand;
+import dev.devrunner.outbox.retention.OutboxEventPurger;
+import dev.devrunner.outbox.retention.OutboxRetentionResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC implementation of OutboxEventPurger
+ * <p>
+ * 긴 lock 을 피하기 위해 메서드 전체를 하나의 트랜잭션으로 묶지 않고, chunk 마다 조회 → (archive) → 삭제를 반복한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventJdbcPurger implements OutboxEventPurger {
+
+    private final OutboxEventEntityRepository entityRepository;
+
+    @Override
+    public OutboxRetentionResult purgeCompleted(PurgeCompletedEventsCommand command) {
+        Instant now = Instant.now();
+        Instant cutoff = now.minus(command.getRetention());
+
+        OutboxEventArchiveWriter archiveWriter = command.getArchiveDirectory() == null
+                ? null
+                : OutboxEventArchiveWriter.open(command.getArchiveDirectory(), now);
+
+        int deleted = 0;
+        int archived = 0;
+        int chunks = 0;
+        try {
+            while (true) {
+                List<Long> ids;
+                if (archiveWriter != null) {
+                    // 삭제 전에 archive 를 디스크까지 기록 (삭제 후 프로세스가 죽어도 이미 삭제된 행은 archive 에 남음)
+                    List<OutboxEventEntity> chunk = entityRepository.findCompletedEventsBefore(cutoff, command.getChunkSize());
+                    if (!chunk.isEmpty()) {
+                        archiveWriter.write(chunk);
+                        archived += chunk.size();
+                    }
+                    ids = chunk.stream().map(OutboxEventEntity::getId).toList();
+                } else {
+                    // archive 하지 않으면 payload 를 읽을 필요가 없으므로 id 만 조회
+                    ids = entityRepository.findCompletedEventIdsBefore(cutoff, command.getChunkSize());
+                }
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                int removed = entityRepository.deleteCompletedEvents(ids);
+                deleted += removed;
+                chunks++;
+
+                if (removed == 0 || ids.size() < command.getChunkSize()) {
+                    break;
+                }
+            }
+        } finally {
+            if (archiveWriter != null) {
+                archiveWriter.close();
+            }
+        }
+
+        Path archiveFile = archiveWriter == null ? null : archiveWriter.file();
+        log.info("Outbox retention completed: cutoff={}, deleted={}, archived={}, chunks={}, archiveFile={}",
+                cutoff, deleted, archived, chunks, archiveFile);
+
+        return new OutboxRetentionResult(deleted, archived, chunks, archiveFile);
+    }
+}
@@ -1,16 +1,26 @@
 package dev.devrunner.outbox.impl;
 
 import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.command.ClaimPendingEventsCommand;
 import dev.devrunner.outbox.command.FindPendingEventsCommand;
 import dev.devrunner.outbox.model.EventStatus;
 import dev.devrunner.outbox.model.OutboxEvent;
+import dev.devrunner.outbox.model.OutboxRetryPolicy;
 import dev.devrunner.outbox.model.UpdateType;
 import dev.devrunner.outbox.reader.OutboxEventReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +33,44 @@ import java.util.stream.Collectors;
 public class OutboxEventJdbcReader implements OutboxEventReader {
 
     private final OutboxEventEntityRepository entityRepository;
+    private final Dialect dialect;
+    private final NamedParameterJdbcOperations jdbcOperations;
+    private final OutboxRetryPolicy retryPolicy;
+
+    /**
+     * 한 번에 실패 처리할 lease 만료 이벤트 수 (남은 이벤트는 다음 reaper 실행에서 처리)
+     */
+    private static final int EXPIRED_LEASE_CHUNK_SIZE = 500;
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE outbox_events
+            SET status = :status,
+                retry_count = :retryCount,
+                error_message = :errorMessage,
+                processed_at = :processedAt,
+                lease_owner = :leaseOwner,
+                lease_expires_at = :leaseExpiresAt,
+                next_attempt_at = :nextAttemptAt
+            WHERE id = :id
+            AND status = 'PROCESSING'
+            AND lease_owner = :claimedLeaseOwner
+            """;
+
+    // 조회 이후 원래 워커가 먼저 상태를 반영했으면 건드리지 않음
+    private static final String EXPIRE_LEASE_SQL = """
+            UPDATE outbox_events
+            SET status = :status,
+                retry_count = :retryCount,
+                error_message = :errorMessage,
+                processed_at = :processedAt,
+                lease_owner = NULL,
+                lease_expires_at = NULL,
+                next_attempt_at = :nextAttemptAt
+            WHERE id = :id
+            AND status = 'PROCESSING'
+            AND lease_owner = :expiredLeaseOwner
+            AND lease_expires_at < :now
+            """;
 
     @Override
     @Transactional(readOnly = true)
@@ -36,7 +84,8 @@ public class OutboxEventJdbcReader implements OutboxEventReader {
         List<OutboxEventEntity> entities = entityRepository.findPendingEvents(
                 command.getLimit(),
                 targetType,
-                updateType
+                updateType,
+                Instant.now()
         );
 
         List<OutboxEvent> events = entities.stream()
@@ -47,6 +96,86 @@ public class OutboxEventJdbcReader implements OutboxEventReader {
         return events;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasPending(TargetType targetType) {
+        return entityRepository.existsPendingEvent(targetType.name(), Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxEvent> claim(ClaimPendingEventsCommand command) {
+        String targetType = command.getTargetType() != null ? command.getTargetType().name() : null;
+        String updateType = command.getUpdateType() != null ? command.getUpdateType().name() : null;
+
+        // 1. 후보 id 조회 (MySQL: SKIP LOCKED 로 다른 워커가 잡은 row 제외, 재시도 대기 중인 이벤트 제외)
+        Instant now = Instant.now();
+        List<Long> candidateIds = supportsSkipLocked()
+                ? entityRepository.lockPendingEventIds(command.getLimit(), targetType, updateType, now)
+                : entityRepository.findPendingEventIds(command.getLimit(), targetType, updateType, now);
+
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 아직 WAIT 인 row 만 PROCESSING 으로 점유 (조건부 UPDATE 라 동시에 claim 해도 한 워커만 성공)
+        int claimed = entityRepository.claimEvents(
+                candidateIds,
+                command.getLeaseOwner(),
+                now.plus(command.getLeaseDuration()),
+                now
+        );
+
+        // 3. 실제로 점유한 이벤트만 반환
+        List<OutboxEvent> events = entityRepository.findClaimedEvents(candidateIds, command.getLeaseOwner()).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+
+        log.debug("Claimed {} events (candidates={}, leaseOwner={})", claimed, candidateIds.size(), command.getLeaseOwner());
+        return events;
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredLeases() {
+        Instant now = Instant.now();
+        List<OutboxEvent> expired = entityRepository.findExpiredLeases(now, EXPIRED_LEASE_CHUNK_SIZE).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // lease 만료도 실패한 시도로 보고 재시도 정책 적용 (계속 워커를 죽이거나 멈추게 하는 이벤트는 결국 DEAD)
+        SqlParameterSource[] params = expired.stream()
+                .map(event -> toStatusParams(event.markAsFailed("Lease expired: leaseOwner=" + event.getLeaseOwner(), retryPolicy))
+                        .addValue("expiredLeaseOwner", event.getLeaseOwner())
+                        .addValue("now", Timestamp.from(now)))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcOperations.batchUpdate(EXPIRE_LEASE_SQL, params);
+
+        int released = 0;
+        for (int count : counts) {
+            // MySQL 드라이버는 batch 를 한 요청으로 묶으면 SUCCESS_NO_INFO(-2) 를 반환할 수 있음
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                released++;
+            }
+        }
+        log.warn("Expired outbox leases counted as failed attempts: {} (found={})", released, expired.size());
+        return released;
+    }
+
+    @Override
+    @Transactional
+    public int requeueFailedEvents() {
+        int requeued = entityRepository.requeueFailedEvents(Instant.now());
+        if (requeued > 0) {
+            log.info("Re-queued {} failed outbox events", requeued);
+        }
+        return requeued;
+    }
+
     @Override
     @Transactional
     public OutboxEvent update(OutboxEvent event) {
@@ -58,24 +187,62 @@ public class OutboxEventJdbcReader implements OutboxEventReader {
         return toDomain(saved);
     }
 
+    /**
+     * 상태 변경을 하나의 JDBC batch 로 전송
+     * (MySQL 은 rewriteBatchedStatements=true 설정 시 multi-row 요청 한 번으로 묶인다)
+     * <p>
+     * claim 할 때의 lease owner 가 아직 점유 중(PROCESSING)인 row 만 바꾼다.
+     * 처리 도중 lease 가 만료되어 다른 워커가 다시 가져간 이벤트는 새 점유자의 상태를 덮어쓰지 않는다.
+     */
     @Override
     @Transactional
-    public void updateBatch(List<OutboxEvent> events) {
+    public void updateBatch(List<OutboxEvent> events, String leaseOwner) {
+        if (events.isEmpty()) {
+            return;
+        }
+
         log.debug("Batch updating {} events", events.size());
 
-        for (OutboxEvent event : events) {
-            entityRepository.updateEventStatus(
-                    event.getId(),
-                    event.getStatus().name(),
-                    event.getRetryCount(),
-                    event.getErrorMessage(),
-                    event.getProcessedAt()
-            );
+        SqlParameterSource[] params = events.stream()
+                .map(event -> toStatusParams(event).addValue("claimedLeaseOwner", leaseOwner))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcOperations.batchUpdate(UPDATE_STATUS_SQL, params);
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                OutboxEvent event = events.get(i);
+                log.warn("Outbox status update skipped, lease no longer held: id={}, status={}, leaseOwner={}",
+                        event.getId(), event.getStatus(), leaseOwner);
+            }
         }
 
         log.debug("Batch update completed");
     }
 
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED 지원 여부 (MySQL 8+)
+     * H2 는 MODE=MySQL 이어도 H2Dialect 로 잡히므로 fallback 경로를 탄다.
+     */
+    private boolean supportsSkipLocked() {
+        return dialect instanceof MySqlDialect;
+    }
+
+    private MapSqlParameterSource toStatusParams(OutboxEvent event) {
+        return new MapSqlParameterSource()
+                .addValue("id", event.getId())
+                .addValue("status", event.getStatus().name())
+                .addValue("retryCount", event.getRetryCount())
+                .addValue("errorMessage", event.getErrorMessage())
+                .addValue("processedAt", toTimestamp(event.getProcessedAt()))
+                .addValue("leaseOwner", event.getLeaseOwner())
+                .addValue("leaseExpiresAt", toTimestamp(event.getLeaseExpiresAt()))
+                .addValue("nextAttemptAt", toTimestamp(event.getNextAttemptAt()));
+    }
+
+    private Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
     private OutboxEventEntity toEntity(OutboxEvent domain) {
         return new OutboxEventEntity(
                 domain.getId(),
@@ -86,7 +253,10 @@ public class OutboxEventJdbcReader implements OutboxEventReader {
                 domain.getRetryCount(),
                 domain.getErrorMessage(),
                 domain.getUpdatedAt(),
-                domain.getProcessedAt()
+                domain.getProcessedAt(),
+                domain.getLeaseOwner(),
+                domain.getLeaseExpiresAt(),
+                domain.getNextAttemptAt()
         );
     }
 
@@ -100,7 +270,10 @@ public class OutboxEventJdbcReader implements OutboxEventReader {
                 entity.getRetryCount(),
                 entity.getErrorMessage(),
                 entity.getUpdatedAt(),
-                entity.getProcessedAt()
+                entity.getProcessedAt(),
+                entity.getLeaseOwner(),
+                entity.getLeaseExpiresAt(),
+                entity.getNextAttemptAt()
         );
     }
 }
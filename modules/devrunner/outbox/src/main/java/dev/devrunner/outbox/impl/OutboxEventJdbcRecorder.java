@@ -5,10 +5,23 @@ import dev.devrunner.outbox.command.RecordOutboxEventCommand;
 import dev.devrunner.outbox.model.EventStatus;
 import dev.devrunner.outbox.model.OutboxEvent;
 import dev.devrunner.outbox.model.UpdateType;
+import dev.devrunner.outbox.notify.OutboxEventNotifier;
 import dev.devrunner.outbox.recorder.OutboxEventRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * JDBC implementation of OutboxEventRecorder
@@ -19,6 +32,13 @@ import org.springframework.stereotype.Repository;
 public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
 
     private final OutboxEventEntityRepository entityRepository;
+    private final List<OutboxEventNotifier> notifiers;
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (target_type, target_id, update_type, status, retry_count, updated_at)
+            VALUES (:targetType, :targetId, :updateType, :status, :retryCount, :updatedAt)
+            """;
 
     @Override
     public OutboxEvent record(RecordOutboxEventCommand command) {
@@ -37,9 +57,71 @@ public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
         OutboxEvent result = toDomain(saved);
         log.info("Outbox event recorded: id={}", result.getId());
 
+        notifyAfterCommit(result.getTargetType());
         return result;
     }
 
+    /**
+     * 여러 이벤트를 하나의 JDBC batch insert 로 기록
+     * (MySQL 은 rewriteBatchedStatements=true 설정 시 multi-row INSERT 한 번으로 묶인다)
+     * <p>
+     * 생성된 ID 가 필요 없는 대량 기록(조회수 flush 등)용이며, 알림은 target type 별로 한 번만 보낸다.
+     */
+    @Override
+    @Transactional
+    public int recordAll(List<RecordOutboxEventCommand> commands) {
+        if (commands.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        Set<TargetType> targetTypes = new LinkedHashSet<>();
+        SqlParameterSource[] params = new SqlParameterSource[commands.size()];
+        for (int i = 0; i < commands.size(); i++) {
+            RecordOutboxEventCommand command = commands.get(i);
+            targetTypes.add(command.getTargetType());
+            params[i] = new MapSqlParameterSource()
+                .addValue("targetType", command.getTargetType().name())
+                .addValue("targetId", command.getTargetId())
+                .addValue("updateType", command.getUpdateType().name())
+                .addValue("status", EventStatus.WAIT.name())
+                .addValue("retryCount", 0)
+                .addValue("updatedAt", now);
+        }
+
+        jdbcOperations.batchUpdate(INSERT_SQL, params);
+        log.info("Outbox events recorded in batch: count={}, targetTypes={}", commands.size(), targetTypes);
+
+        targetTypes.forEach(this::notifyAfterCommit);
+        return commands.size();
+    }
+
+    /**
+     * 트랜잭션 안에서 기록된 경우 커밋 이후에 알림 (롤백된 이벤트로 워커를 깨우지 않도록)
+     */
+    private void notifyAfterCommit(TargetType targetType) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    signalWaiters(targetType);
+                }
+            });
+            return;
+        }
+        signalWaiters(targetType);
+    }
+
+    private void signalWaiters(TargetType targetType) {
+        for (OutboxEventNotifier notifier : notifiers) {
+            try {
+                notifier.notify(targetType);
+            } catch (Exception e) {
+                log.warn("Outbox notify failed: notifier={}, targetType={}", notifier.getClass().getSimpleName(), targetType, e);
+            }
+        }
+    }
+
     private OutboxEventEntity toEntity(OutboxEvent domain) {
         return new OutboxEventEntity(
             domain.getId(),
@@ -50,7 +132,10 @@ public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
             domain.getRetryCount(),
             domain.getErrorMessage(),
             domain.getUpdatedAt(),
-            domain.getProcessedAt()
+            domain.getProcessedAt(),
+            domain.getLeaseOwner(),
+            domain.getLeaseExpiresAt(),
+            domain.getNextAttemptAt()
         );
     }
 
@@ -64,7 +149,10 @@ public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
             entity.getRetryCount(),
             entity.getErrorMessage(),
             entity.getUpdatedAt(),
-            entity.getProcessedAt()
+            entity.getProcessedAt(),
+            entity.getLeaseOwner(),
+            entity.getLeaseExpiresAt(),
+            entity.getNextAttemptAt()
         );
     }
 }
@@ -0,0 +1,35 @@
+package dev.devrunner.outbox.model;
+
+import dev.devrunner.model.common.TargetType;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 같은 (targetType, targetId) 로 묶인 outbox 이벤트 그룹
+ *
+ * 대상은 updateType 기준으로 한 번만 처리하고, 처리 결과는 묶인 이벤트 전체에 반영한다.
+ */
+@Value
+public class CoalescedOutboxEvent {
+    TargetType targetType;
+    Long targetId;
+    UpdateType updateType;      // 묶인 이벤트 중 precedence 가 가장 높은 타입
+    List<OutboxEvent> events;
+
+    public List<OutboxEvent> markAllAsCompleted() {
+        return events.stream()
+            .map(OutboxEvent::markAsCompleted)
+            .toList();
+    }
+
+    public List<OutboxEvent> markAllAsFailed(String errorMessage, OutboxRetryPolicy retryPolicy) {
+        return events.stream()
+            .map(event -> event.markAsFailed(errorMessage, retryPolicy))
+            .toList();
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
@@ -7,5 +7,6 @@ public enum EventStatus {
     WAIT,
     PROCESSING,
     COMPLETED,
-    FAILED
+    FAILED,     // next_attempt_at 이 지나면 retry scheduler 가 WAIT 로 되돌림
+    DEAD        // 최대 재시도 횟수 초과 - 더 이상 재시도하지 않음
 }
@@ -21,6 +21,9 @@ public class OutboxEvent {
     String errorMessage;
     Instant updatedAt;
     Instant processedAt;
+    String leaseOwner;          // PROCESSING 상태를 점유한 워커 (claim 시 설정)
+    Instant leaseExpiresAt;     // lease 만료 시각 (지나면 reaper가 실패한 시도로 보고 FAILED/DEAD 처리)
+    Instant nextAttemptAt;      // 실패 후 다음 재시도 가능 시각 (null = 즉시)
 
     /**
      * Create a new pending event
@@ -35,6 +38,9 @@ public class OutboxEvent {
             0,
             null,
             Instant.now(),
+            null,
+            null,
+            null,
             null
         );
     }
@@ -52,12 +58,15 @@ public class OutboxEvent {
             retryCount,
             errorMessage,
             updatedAt,
-            Instant.now()
+            Instant.now(),
+            leaseOwner,
+            leaseExpiresAt,
+            nextAttemptAt
         );
     }
 
     /**
-     * Mark event as completed
+     * Mark event as completed (lease 해제)
      */
     public OutboxEvent markAsCompleted() {
         return new OutboxEvent(
@@ -69,24 +78,35 @@ public class OutboxEvent {
             retryCount,
             errorMessage,
             updatedAt,
-            Instant.now()
+            Instant.now(),
+            null,
+            null,
+            null
         );
     }
 
     /**
-     * Mark event as failed with error message
+     * Mark event as failed with error message (lease 해제)
+     * 재시도 횟수가 남아있으면 FAILED + 다음 재시도 시각, 소진되었으면 DEAD
      */
-    public OutboxEvent markAsFailed(String errorMessage) {
+    public OutboxEvent markAsFailed(String errorMessage, OutboxRetryPolicy retryPolicy) {
+        Instant now = Instant.now();
+        int failedCount = retryCount + 1;
+        boolean exhausted = retryPolicy.isExhausted(failedCount);
+
         return new OutboxEvent(
             id,
             targetType,
             targetId,
             updateType,
-            EventStatus.FAILED,
-            retryCount + 1,
+            exhausted ? EventStatus.DEAD : EventStatus.FAILED,
+            failedCount,
             errorMessage,
             updatedAt,
-            Instant.now()
+            now,
+            null,
+            null,
+            exhausted ? null : retryPolicy.nextAttemptAt(failedCount, now)
         );
     }
 }
@@ -0,0 +1,38 @@
+package dev.devrunner.outbox.model;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실패한 outbox 이벤트의 재시도 정책
+ *
+ * 재시도 간격은 baseDelay * 2^(retryCount - 1) 로 늘어나고 maxDelay 를 넘지 않는다.
+ * 여러 이벤트가 같은 시각에 몰리지 않도록 간격의 절반은 랜덤(jitter)으로 정한다.
+ * retryCount 가 maxAttempts 에 도달하면 더 이상 재시도하지 않고 DEAD 로 둔다.
+ */
+@Value
+public class OutboxRetryPolicy {
+
+    int maxAttempts;
+    Duration baseDelay;
+    Duration maxDelay;
+
+    public boolean isExhausted(int retryCount) {
+        return retryCount >= maxAttempts;
+    }
+
+    /**
+     * @param retryCount 지금까지 실패한 횟수 (이번 실패 포함)
+     */
+    public Instant nextAttemptAt(int retryCount, Instant now) {
+        int exponent = Math.min(Math.max(retryCount - 1, 0), 30);
+        long delayMillis = Math.min(baseDelay.toMillis() << exponent, maxDelay.toMillis());
+
+        long half = delayMillis / 2;
+        long jittered = half + ThreadLocalRandom.current().nextLong(half + 1);
+        return now.plusMillis(jittered);
+    }
+}
@@ -2,10 +2,23 @@ package dev.devrunner.outbox.model;
 
 /**
  * Type of update for outbox events
+ *
+ * precedence: 같은 대상의 이벤트를 하나로 합칠 때 우선순위 (높을수록 우선)
+ * DELETED > CREATED/UPDATED > POPULARITY_ONLY
  */
 public enum UpdateType {
-    CREATED,
-    UPDATED,
-    POPULARITY_ONLY,
-    DELETED
+    CREATED(2),
+    UPDATED(2),
+    POPULARITY_ONLY(1),
+    DELETED(3);
+
+    private final int precedence;
+
+    UpdateType(int precedence) {
+        this.precedence = precedence;
+    }
+
+    public int getPrecedence() {
+        return precedence;
+    }
 }
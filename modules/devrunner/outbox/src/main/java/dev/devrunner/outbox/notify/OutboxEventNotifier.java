@@ -0,0 +1,17 @@
+package dev.devrunner.outbox.notify;
+
+import dev.devrunner.model.common.TargetType;
+
+/**
+ * Notifier fired after an outbox event is committed
+ *
+ * 구현체는 sync 워커를 깨우는 용도로만 사용하며, 전달이 실패해도 이벤트 자체는 outbox 테이블에 남아있으므로
+ * 워커의 polling(safety net)으로 처리된다.
+ */
+public interface OutboxEventNotifier {
+
+    /**
+     * @param targetType 새 이벤트가 기록된 대상 타입
+     */
+    void notify(TargetType targetType);
+}
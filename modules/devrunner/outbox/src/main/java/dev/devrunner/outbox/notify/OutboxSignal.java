@@ -0,0 +1,48 @@
+package dev.devrunner.outbox.notify;
+
+import dev.devrunner.model.common.TargetType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process outbox signal
+ * <p>
+ * 같은 JVM 에서 기록된 outbox 이벤트를 대상 타입별로 sync 워커에게 알린다.
+ * 여러 번 signal 되어도 permit 은 최대 1개만 쌓이므로, 워커는 한 번 깨어나 쌓인 이벤트를 한꺼번에 처리한다.
+ */
+@Component
+public class OutboxSignal implements OutboxEventNotifier {
+
+    private final Map<TargetType, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    @Override
+    public void notify(TargetType targetType) {
+        Semaphore semaphore = semaphoreOf(targetType);
+        if (semaphore.availablePermits() == 0) {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * signal 이 오거나 timeout 이 지날 때까지 대기
+     *
+     * @return signal 을 받았으면 true, timeout 이면 false
+     */
+    public boolean await(TargetType targetType, Duration timeout) throws InterruptedException {
+        Semaphore semaphore = semaphoreOf(targetType);
+        boolean signaled = semaphore.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        if (signaled) {
+            semaphore.drainPermits();
+        }
+        return signaled;
+    }
+
+    private Semaphore semaphoreOf(TargetType targetType) {
+        return semaphores.computeIfAbsent(targetType, k -> new Semaphore(0));
+    }
+}
@@ -0,0 +1,62 @@
+package dev.devrunner.outbox.reader;
+
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.model.CoalescedOutboxEvent;
+import dev.devrunner.outbox.model.OutboxEvent;
+import dev.devrunner.outbox.model.UpdateType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번에 가져온 outbox 이벤트를 (targetType, targetId) 단위로 합친다.
+ * <p>
+ * 조회수 flush 로 인한 POPULARITY_ONLY, 잦은 수정으로 인한 UPDATED 등
+ * 같은 대상의 이벤트가 한 페이지에 여러 번 들어오는 경우 대상을 한 번만 처리하기 위함.
+ * 합쳐진 그룹의 updateType 은 DELETED > CREATED/UPDATED > POPULARITY_ONLY 순으로 결정된다.
+ * (전체 색인은 현재 DB 상태를 기준으로 하므로 인기도 변경도 함께 반영된다)
+ */
+public final class OutboxEventCoalescer {
+
+    private OutboxEventCoalescer() {
+    }
+
+    /**
+     * @param events 조회한 이벤트 목록
+     * @return 대상별로 합쳐진 이벤트 그룹 (대상이 처음 등장한 순서 유지)
+     */
+    public static List<CoalescedOutboxEvent> coalesce(List<OutboxEvent> events) {
+        Map<TargetKey, List<OutboxEvent>> grouped = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            grouped.computeIfAbsent(new TargetKey(event.getTargetType(), event.getTargetId()), k -> new ArrayList<>())
+                .add(event);
+        }
+
+        List<CoalescedOutboxEvent> result = new ArrayList<>(grouped.size());
+        for (Map.Entry<TargetKey, List<OutboxEvent>> entry : grouped.entrySet()) {
+            TargetKey key = entry.getKey();
+            result.add(new CoalescedOutboxEvent(
+                key.targetType(),
+                key.targetId(),
+                resolveUpdateType(entry.getValue()),
+                entry.getValue()
+            ));
+        }
+        return result;
+    }
+
+    private static UpdateType resolveUpdateType(List<OutboxEvent> events) {
+        UpdateType resolved = events.get(0).getUpdateType();
+        for (OutboxEvent event : events) {
+            if (event.getUpdateType().getPrecedence() > resolved.getPrecedence()) {
+                resolved = event.getUpdateType();
+            }
+        }
+        return resolved;
+    }
+
+    private record TargetKey(TargetType targetType, Long targetId) {
+    }
+}
@@ -1,5 +1,7 @@
 package dev.devrunner.outbox.reader;
 
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.command.ClaimPendingEventsCommand;
 import dev.devrunner.outbox.command.FindPendingEventsCommand;
 import dev.devrunner.outbox.model.OutboxEvent;
 
@@ -18,6 +20,46 @@ public interface OutboxEventReader {
      */
     List<OutboxEvent> findPending(FindPendingEventsCommand command);
 
+    /**
+     * Check whether any pending event exists for the target type
+     * <p>
+     * claim 보다 훨씬 가벼운 조회로, 다른 프로세스(API 서버)에서 기록된 이벤트를 감지하는 DB signal 로 사용한다.
+     *
+     * @param targetType the target type
+     * @return true if at least one WAIT event exists
+     */
+    boolean hasPending(TargetType targetType);
+
+    /**
+     * Claim pending events for processing
+     * <p>
+     * WAIT 상태의 이벤트를 원자적으로 PROCESSING 으로 바꾸고 lease 를 부여한다.
+     * 여러 워커가 동시에 호출해도 같은 이벤트를 두 번 가져가지 않는다.
+     *
+     * @param command the claim command with filters and lease options
+     * @return list of events claimed by the lease owner
+     */
+    List<OutboxEvent> claim(ClaimPendingEventsCommand command);
+
+    /**
+     * Treat PROCESSING events whose lease has expired as failed attempts
+     * <p>
+     * 재시도 정책에 따라 retry_count 를 올리고 FAILED(다음 재시도 시각 포함) 또는 DEAD 로 바꾼다.
+     * 워커를 계속 죽이거나 멈추게 하는 이벤트가 무한히 다시 claim 되지 않도록 하기 위함이다.
+     *
+     * @return number of released events
+     */
+    int releaseExpiredLeases();
+
+    /**
+     * Re-queue FAILED events whose backoff has elapsed
+     * <p>
+     * next_attempt_at 이 지난 FAILED 이벤트를 WAIT 로 되돌린다. 재시도 횟수를 소진한 이벤트는 DEAD 이므로 대상이 아니다.
+     *
+     * @return number of events moved back to WAIT
+     */
+    int requeueFailedEvents();
+
     /**
      * Update event status
      *
@@ -28,8 +70,11 @@ public interface OutboxEventReader {
 
     /**
      * Update multiple events in batch
+     * <p>
+     * leaseOwner 가 아직 점유 중인(PROCESSING) 이벤트만 반영되고, 그 사이 lease 가 만료되어 다시 claim 된 이벤트는 건너뛴다.
      *
-     * @param events list of events to update
+     * @param events     list of events to update
+     * @param leaseOwner lease owner used when the events were claimed
      */
-    void updateBatch(List<OutboxEvent> events);
+    void updateBatch(List<OutboxEvent> events, String leaseOwner);
 }
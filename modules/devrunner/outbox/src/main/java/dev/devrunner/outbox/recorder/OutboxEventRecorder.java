@@ -3,6 +3,8 @@ package dev.devrunner.outbox.recorder;
 import dev.devrunner.outbox.command.RecordOutboxEventCommand;
 import dev.devrunner.outbox.model.OutboxEvent;
 
+import java.util.List;
+
 /**
  * Interface for recording outbox events
  */
@@ -15,4 +17,12 @@ public interface OutboxEventRecorder {
      * @return the recorded event with generated ID
      */
     OutboxEvent record(RecordOutboxEventCommand command);
+
+    /**
+     * Record multiple outbox events in a single batched insert
+     *
+     * @param commands the commands containing event details
+     * @return the number of recorded events
+     */
+    int recordAll(List<RecordOutboxEventCommand> commands);
 }
@@ -0,0 +1,19 @@
+package dev.devrunner.outbox.retention;
+
+import dev.devrunner.outbox.command.PurgeCompletedEventsCommand;
+
+/**
+ * Interface for cleaning up processed outbox events
+ */
+public interface OutboxEventPurger {
+
+    /**
+     * Delete (and optionally archive) COMPLETED events older than the retention
+     * <p>
+     * chunk 마다 별도로 커밋되므로 도중에 실패해도 이미 삭제된 chunk 는 되돌리지 않는다.
+     *
+     * @param command the command containing retention options
+     * @return counts of rows archived / removed
+     */
+    OutboxRetentionResult purgeCompleted(PurgeCompletedEventsCommand command);
+}
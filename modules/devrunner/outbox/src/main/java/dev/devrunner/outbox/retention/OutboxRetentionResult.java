@@ -0,0 +1,21 @@
+package dev.devrunner.outbox.retention;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+
+/**
+ * Result of a retention run
+ */
+@Value
+public class OutboxRetentionResult {
+
+    int deletedCount;
+    int archivedCount;
+    int chunkCount;
+    Path archiveFile;           // archive 를 남기지 않았으면 null
+
+    public static OutboxRetentionResult empty() {
+        return new OutboxRetentionResult(0, 0, 0, null);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.devrunner.outbox;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Test Application for Outbox Repository Tests
+ */
+@SpringBootApplication
+public class TestApplication {
+}
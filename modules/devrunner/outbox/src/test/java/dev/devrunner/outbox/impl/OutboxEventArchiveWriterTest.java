@@ -0,0 +1,94 @@
+package dev.devrunner.outbox.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxEventArchiveWriter 테스트
+ * <p>
+ * 임시 디렉터리에 archive 를 기록하고 gzip 을 풀어서 내용을 검증
+ */
+@DisplayName("OutboxEventArchiveWriter 테스트")
+class OutboxEventArchiveWriterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:34:56Z");
+
+    @TempDir
+    Path directory;
+
+    static OutboxEventEntity completedEvent(long id) {
+        Instant updatedAt = Instant.parse("2024-12-01T00:00:00Z");
+        return new OutboxEventEntity(id, "JOB", 100L + id, "UPDATED", "COMPLETED", 0, null,
+                updatedAt, updatedAt, null, null, null);
+    }
+
+    /**
+     * gzip 을 끝까지 풀어서 문자열로 반환 (trailer 가 없으면 그때까지 풀린 내용만 반환)
+     */
+    static String readArchive(Path file) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        } catch (EOFException truncated) {
+            // 닫히지 않은 파일: 이미 풀린 내용까지만 사용
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("파일명은 UTC 시각 기준이고 헤더 + 이벤트마다 한 줄씩 기록")
+    void write_thenClose_writesHeaderAndRows() throws IOException {
+        // Given
+        OutboxEventArchiveWriter writer = OutboxEventArchiveWriter.open(directory, NOW);
+
+        // When
+        writer.write(List.of(completedEvent(1L), completedEvent(2L)));
+        writer.close();
+
+        // Then
+        assertThat(writer.file().getFileName().toString()).isEqualTo("outbox-archive-20250101123456.tsv.gz");
+        List<String> lines = readArchive(writer.file()).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("id\ttarget_type\t");
+        assertThat(lines.get(1)).isEqualTo("1\tJOB\t101\tUPDATED\tCOMPLETED\t0\t2024-12-01T00:00:00Z\t2024-12-01T00:00:00Z");
+        assertThat(lines.get(2)).startsWith("2\tJOB\t102\t");
+    }
+
+    @Test
+    @DisplayName("write 가 끝나면 close 하지 않아도 기록한 행을 파일에서 읽을 수 있음")
+    void write_withoutClose_rowsAlreadyOnDisk() throws IOException {
+        // Given
+        OutboxEventArchiveWriter writer = OutboxEventArchiveWriter.open(directory, NOW);
+
+        try {
+            // When - 삭제 직후 프로세스가 죽은 상황처럼 close 하지 않고 파일을 읽음
+            writer.write(List.of(completedEvent(1L)));
+            writer.write(List.of(completedEvent(2L), completedEvent(3L)));
+
+            // Then
+            List<String> lines = readArchive(writer.file()).lines().toList();
+            assertThat(lines).hasSize(4);
+            assertThat(lines.get(3)).startsWith("3\tJOB\t103\t");
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.devrunner.outbox.impl;
+
+import dev.devrunner.outbox.command.PurgeCompletedEventsCommand;
+import dev.devrunner.outbox.retention.OutboxRetentionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.devrunner.outbox.impl.OutboxEventArchiveWriterTest.completedEvent;
+import static dev.devrunner.outbox.impl.OutboxEventArchiveWriterTest.readArchive;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OutboxEventJdbcPurger 테스트
+ * <p>
+ * Mock repository 로 chunk 반복 / archive 후 삭제 순서만 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventJdbcPurger 테스트")
+class OutboxEventJdbcPurgerTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    @Mock
+    private OutboxEventEntityRepository mockEntityRepository;
+
+    @InjectMocks
+    private OutboxEventJdbcPurger purger;
+
+    @TempDir
+    Path directory;
+
+    private static List<OutboxEventEntity> events(long fromId, int count) {
+        List<OutboxEventEntity> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(completedEvent(fromId + i));
+        }
+        return events;
+    }
+
+    @Test
+    @DisplayName("archive 없이 삭제하면 id 만 조회하고 마지막 chunk 가 chunkSize 보다 작으면 종료")
+    void purgeCompleted_withoutArchive_deletesByIdChunks() {
+        // Given
+        PurgeCompletedEventsCommand command = PurgeCompletedEventsCommand.builder()
+                .retention(RETENTION)
+                .chunkSize(2)
+                .build();
+        when(mockEntityRepository.findCompletedEventIdsBefore(any(Instant.class), anyInt()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(mockEntityRepository.deleteCompletedEvents(anyList())).thenReturn(2, 1);
+
+        // When
+        OutboxRetentionResult result = purger.purgeCompleted(command);
+
+        // Then
+        assertThat(result.getDeletedCount()).isEqualTo(3);
+        assertThat(result.getArchivedCount()).isZero();
+        assertThat(result.getChunkCount()).isEqualTo(2);
+        assertThat(result.getArchiveFile()).isNull();
+        verify(mockEntityRepository).deleteCompletedEvents(List.of(1L, 2L));
+        verify(mockEntityRepository).deleteCompletedEvents(List.of(3L));
+        verify(mockEntityRepository, never()).findCompletedEventsBefore(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("archive 를 남기면 chunk 마다 archive 에 기록한 뒤 삭제")
+    void purgeCompleted_withArchive_archivesBeforeDelete() throws IOException {
+        // Given
+        PurgeCompletedEventsCommand command = PurgeCompletedEventsCommand.builder()
+                .retention(RETENTION)
+                .chunkSize(2)
+                .archiveDirectory(directory)
+                .build();
+        when(mockEntityRepository.findCompletedEventsBefore(any(Instant.class), anyInt()))
+                .thenReturn(events(1L, 2), events(3L, 2), List.of());
+        when(mockEntityRepository.deleteCompletedEvents(anyList())).thenReturn(2);
+
+        // When
+        OutboxRetentionResult result = purger.purgeCompleted(command);
+
+        // Then
+        assertThat(result.getDeletedCount()).isEqualTo(4);
+        assertThat(result.getArchivedCount()).isEqualTo(4);
+        assertThat(result.getChunkCount()).isEqualTo(2);
+        assertThat(result.getArchiveFile()).isNotNull();
+        assertThat(readArchive(result.getArchiveFile()).lines()).hasSize(5);
+
+        InOrder order = inOrder(mockEntityRepository);
+        order.verify(mockEntityRepository).findCompletedEventsBefore(any(Instant.class), anyInt());
+        order.verify(mockEntityRepository).deleteCompletedEvents(List.of(1L, 2L));
+        order.verify(mockEntityRepository).findCompletedEventsBefore(any(Instant.class), anyInt());
+        order.verify(mockEntityRepository).deleteCompletedEvents(List.of(3L, 4L));
+    }
+
+    @Test
+    @DisplayName("삭제 도중 실패해도 이미 삭제된 chunk 는 archive 에 남아 있음")
+    void purgeCompleted_deleteFails_deletedChunksStayArchived() throws IOException {
+        // Given
+        PurgeCompletedEventsCommand command = PurgeCompletedEventsCommand.builder()
+                .retention(RETENTION)
+                .chunkSize(2)
+                .archiveDirectory(directory)
+                .build();
+        when(mockEntityRepository.findCompletedEventsBefore(any(Instant.class), anyInt()))
+                .thenReturn(events(1L, 2), events(3L, 2));
+        when(mockEntityRepository.deleteCompletedEvents(anyList()))
+                .thenReturn(2)
+                .thenThrow(new IllegalStateException("db down"));
+
+        // When & Then
+        assertThatThrownBy(() -> purger.purgeCompleted(command)).isInstanceOf(IllegalStateException.class);
+
+        Path archiveFile = directory.toFile().listFiles()[0].toPath();
+        List<String> lines = readArchive(archiveFile).lines().toList();
+        assertThat(lines).hasSize(5);
+        assertThat(lines.get(1)).startsWith("1\t");
+        assertThat(lines.get(2)).startsWith("2\t");
+    }
+}
@@ -0,0 +1,241 @@
+package dev.devrunner.outbox.impl;
+
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.command.ClaimPendingEventsCommand;
+import dev.devrunner.outbox.config.OutboxRetryConfig;
+import dev.devrunner.outbox.model.EventStatus;
+import dev.devrunner.outbox.model.OutboxEvent;
+import dev.devrunner.outbox.model.OutboxRetryPolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OutboxEventJdbcReader 테스트
+ *
+ * claim 의 조건부 점유와 updateBatch 의 lease guard (status = 'PROCESSING' AND lease_owner = claim 한 워커) 검증
+ */
+@DataJdbcTest
+@Import({OutboxEventJdbcReader.class, OutboxRetryConfig.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OutboxEventJdbcReaderTest {
+
+    private static final String WORKER_A = "worker-a";
+    private static final String WORKER_B = "worker-b";
+
+    @Autowired
+    private OutboxEventJdbcReader outboxEventReader;
+
+    @Autowired
+    private OutboxEventEntityRepository entityRepository;
+
+    @Autowired
+    private NamedParameterJdbcOperations jdbcOperations;
+
+    @Autowired
+    private Dialect dialect;
+
+    @Autowired
+    private OutboxRetryPolicy retryPolicy;
+
+    private OutboxEventEntity save(TargetType targetType, Long targetId, EventStatus status, Instant nextAttemptAt) {
+        return entityRepository.save(new OutboxEventEntity(
+                null,
+                targetType.name(),
+                targetId,
+                "UPDATED",
+                status.name(),
+                0,
+                null,
+                Instant.now().minusSeconds(60),
+                null,
+                null,
+                null,
+                nextAttemptAt
+        ));
+    }
+
+    private OutboxEventEntity saveWait(Long targetId) {
+        return save(TargetType.JOB, targetId, EventStatus.WAIT, null);
+    }
+
+    private static ClaimPendingEventsCommand claimCommand(String leaseOwner) {
+        return ClaimPendingEventsCommand.builder()
+                .limit(10)
+                .targetType(TargetType.JOB)
+                .leaseOwner(leaseOwner)
+                .leaseDuration(Duration.ofMinutes(5))
+                .build();
+    }
+
+    private OutboxEventEntity reload(OutboxEventEntity entity) {
+        return entityRepository.findById(entity.getId()).orElseThrow();
+    }
+
+    // ========== claim 테스트 ==========
+
+    @Test
+    void claim_returnsOnlyDueWaitEventsOfTargetType() {
+        // given
+        OutboxEventEntity due = saveWait(1L);
+        save(TargetType.JOB, 2L, EventStatus.WAIT, Instant.now().plusSeconds(600));   // backoff 대기 중
+        save(TargetType.JOB, 3L, EventStatus.COMPLETED, null);
+        save(TargetType.TECH_BLOG, 4L, EventStatus.WAIT, null);
+
+        // when
+        List<OutboxEvent> claimed = outboxEventReader.claim(claimCommand(WORKER_A));
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(due.getId());
+        assertThat(claimed.get(0).getStatus()).isEqualTo(EventStatus.PROCESSING);
+        assertThat(claimed.get(0).getLeaseOwner()).isEqualTo(WORKER_A);
+        assertThat(claimed.get(0).getLeaseExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void claim_alreadyClaimed_notReturnedToOtherWorker() {
+        // given
+        saveWait(1L);
+        saveWait(2L);
+        assertThat(outboxEventReader.claim(claimCommand(WORKER_A))).hasSize(2);
+
+        // when
+        List<OutboxEvent> claimedByB = outboxEventReader.claim(claimCommand(WORKER_B));
+
+        // then
+        assertThat(claimedByB).isEmpty();
+    }
+
+    @Test
+    void claimEvents_rowClaimedAfterCandidateLookup_notTakenOver() {
+        // given - 두 워커가 같은 후보 id 를 조회한 뒤 A 가 먼저 점유한 상황 (SKIP LOCKED 가 없는 DB 의 경쟁)
+        OutboxEventEntity event = saveWait(1L);
+        List<Long> candidates = entityRepository.findPendingEventIds(10, "JOB", null, Instant.now());
+        assertThat(candidates).containsExactly(event.getId());
+        Instant now = Instant.now();
+        assertThat(entityRepository.claimEvents(candidates, WORKER_A, now.plusSeconds(300), now)).isEqualTo(1);
+
+        // when - B 가 같은 후보로 점유 시도
+        int claimedByB = entityRepository.claimEvents(candidates, WORKER_B, now.plusSeconds(300), now);
+
+        // then - 조건부 UPDATE (status = 'WAIT') 라 0건, 점유자는 그대로 A
+        assertThat(claimedByB).isZero();
+        assertThat(entityRepository.findClaimedEvents(candidates, WORKER_B)).isEmpty();
+        assertThat(reload(event).getLeaseOwner()).isEqualTo(WORKER_A);
+    }
+
+    @Test
+    void claim_h2_usesConditionalUpdateFallback() {
+        // H2 는 MODE=MySQL 이어도 MySqlDialect 가 아니므로 SKIP LOCKED 조회를 쓰지 않음
+        assertThat(dialect).isNotInstanceOf(MySqlDialect.class);
+
+        OutboxEventEntityRepository mockRepository = mock(OutboxEventEntityRepository.class);
+        new OutboxEventJdbcReader(mockRepository, dialect, jdbcOperations, retryPolicy).claim(claimCommand(WORKER_A));
+
+        verify(mockRepository).findPendingEventIds(eq(10), eq("JOB"), isNull(), any(Instant.class));
+        verify(mockRepository, never()).lockPendingEventIds(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void claim_mysql_usesSkipLocked() {
+        // given
+        OutboxEventEntityRepository mockRepository = mock(OutboxEventEntityRepository.class);
+
+        // when
+        new OutboxEventJdbcReader(mockRepository, MySqlDialect.INSTANCE, jdbcOperations, retryPolicy)
+                .claim(claimCommand(WORKER_A));
+
+        // then
+        verify(mockRepository).lockPendingEventIds(eq(10), eq("JOB"), isNull(), any(Instant.class));
+        verify(mockRepository, never()).findPendingEventIds(anyInt(), any(), any(), any());
+    }
+
+    // ========== updateBatch lease guard 테스트 ==========
+
+    @Test
+    void updateBatch_currentLeaseOwner_applied() {
+        // given
+        OutboxEventEntity completed = saveWait(1L);
+        OutboxEventEntity failed = saveWait(2L);
+        List<OutboxEvent> claimed = outboxEventReader.claim(claimCommand(WORKER_A));
+
+        // when
+        outboxEventReader.updateBatch(List.of(
+                claimed.get(0).markAsCompleted(),
+                claimed.get(1).markAsFailed("es down", retryPolicy)
+        ), WORKER_A);
+
+        // then
+        OutboxEventEntity completedRow = reload(completed);
+        assertThat(completedRow.getStatus()).isEqualTo("COMPLETED");
+        assertThat(completedRow.getLeaseOwner()).isNull();
+        assertThat(completedRow.getLeaseExpiresAt()).isNull();
+
+        OutboxEventEntity failedRow = reload(failed);
+        assertThat(failedRow.getStatus()).isEqualTo("FAILED");
+        assertThat(failedRow.getRetryCount()).isEqualTo(1);
+        assertThat(failedRow.getErrorMessage()).isEqualTo("es down");
+        assertThat(failedRow.getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    void updateBatch_staleLeaseOwner_isNoOp() {
+        // given - A 가 처리하는 동안 lease 가 만료되어 B 가 다시 점유한 상황
+        OutboxEventEntity event = saveWait(1L);
+        OutboxEvent claimedByA = outboxEventReader.claim(claimCommand(WORKER_A)).get(0);
+        jdbcOperations.update("UPDATE outbox_events SET lease_owner = :owner WHERE id = :id",
+                new MapSqlParameterSource().addValue("owner", WORKER_B).addValue("id", event.getId()));
+
+        // when - 뒤늦게 끝난 A 가 완료 상태를 반영
+        outboxEventReader.updateBatch(List.of(claimedByA.markAsCompleted()), WORKER_A);
+
+        // then - B 의 점유 상태가 그대로 유지됨
+        OutboxEventEntity row = reload(event);
+        assertThat(row.getStatus()).isEqualTo("PROCESSING");
+        assertThat(row.getLeaseOwner()).isEqualTo(WORKER_B);
+    }
+
+    @Test
+    void updateBatch_afterReaperExpiredLease_isNoOp() {
+        // given - A 의 lease 가 만료되어 reaper 가 실패한 시도로 처리함
+        OutboxEventEntity event = saveWait(1L);
+        OutboxEvent claimedByA = outboxEventReader.claim(claimCommand(WORKER_A)).get(0);
+        jdbcOperations.update("UPDATE outbox_events SET lease_expires_at = :expiredAt WHERE id = :id",
+                new MapSqlParameterSource()
+                        .addValue("expiredAt", Timestamp.from(Instant.now().minusSeconds(1)))
+                        .addValue("id", event.getId()));
+        assertThat(outboxEventReader.releaseExpiredLeases()).isEqualTo(1);
+
+        // when
+        outboxEventReader.updateBatch(List.of(claimedByA.markAsCompleted()), WORKER_A);
+
+        // then - COMPLETED 로 덮어쓰지 않고 reaper 가 남긴 FAILED 유지
+        OutboxEventEntity row = reload(event);
+        assertThat(row.getStatus()).isEqualTo("FAILED");
+        assertThat(row.getRetryCount()).isEqualTo(1);
+        assertThat(row.getErrorMessage()).startsWith("Lease expired");
+        assertThat(row.getLeaseOwner()).isNull();
+    }
+}
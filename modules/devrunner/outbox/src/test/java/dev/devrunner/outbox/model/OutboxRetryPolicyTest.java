@@ -0,0 +1,95 @@
+package dev.devrunner.outbox.model;
+
+import dev.devrunner.model.common.TargetType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxRetryPolicy 테스트
+ * <p>
+ * jitter 가 들어가므로 재시도 시각은 [간격/2, 간격] 범위로 검증
+ */
+@DisplayName("OutboxRetryPolicy 테스트")
+class OutboxRetryPolicyTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final OutboxRetryPolicy policy = new OutboxRetryPolicy(5, Duration.ofSeconds(10), Duration.ofMinutes(1));
+
+    private void assertDelayBetween(int retryCount, long minMillis, long maxMillis) {
+        for (int i = 0; i < 200; i++) {
+            long delay = Duration.between(NOW, policy.nextAttemptAt(retryCount, NOW)).toMillis();
+            assertThat(delay).isBetween(minMillis, maxMillis);
+        }
+    }
+
+    @Test
+    @DisplayName("maxAttempts 에 도달하면 재시도 소진")
+    void isExhausted_atMaxAttempts() {
+        assertThat(policy.isExhausted(4)).isFalse();
+        assertThat(policy.isExhausted(5)).isTrue();
+        assertThat(policy.isExhausted(6)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 baseDelay 부터 두 배씩 늘어나고 절반은 jitter")
+    void nextAttemptAt_exponentialBackoffWithJitter() {
+        assertDelayBetween(1, 5_000, 10_000);
+        assertDelayBetween(2, 10_000, 20_000);
+        assertDelayBetween(3, 20_000, 40_000);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 maxDelay 를 넘지 않음 (큰 retryCount 에도 overflow 없음)")
+    void nextAttemptAt_cappedAtMaxDelay() {
+        assertDelayBetween(4, 30_000, 60_000);
+        assertDelayBetween(10, 30_000, 60_000);
+        assertDelayBetween(Integer.MAX_VALUE, 30_000, 60_000);
+    }
+
+    @Test
+    @DisplayName("retryCount 가 0 이하이면 첫 실패와 같은 간격")
+    void nextAttemptAt_nonPositiveRetryCount_usesBaseDelay() {
+        assertDelayBetween(0, 5_000, 10_000);
+        assertDelayBetween(-1, 5_000, 10_000);
+    }
+
+    @Test
+    @DisplayName("같은 retryCount 라도 재시도 시각이 한 시점에 몰리지 않음")
+    void nextAttemptAt_jitterSpreadsAttempts() {
+        Set<Instant> attempts = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            attempts.add(policy.nextAttemptAt(3, NOW));
+        }
+        assertThat(attempts.size()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("markAsFailed 는 재시도가 남아있으면 FAILED + 다음 시도 시각, 소진되면 DEAD")
+    void markAsFailed_failedUntilExhaustedThenDead() {
+        // Given
+        OutboxEvent event = OutboxEvent.pending(TargetType.JOB, 1L, UpdateType.UPDATED);
+
+        // When & Then
+        for (int attempt = 1; attempt < policy.getMaxAttempts(); attempt++) {
+            event = event.markAsFailed("es down", policy);
+            assertThat(event.getStatus()).isEqualTo(EventStatus.FAILED);
+            assertThat(event.getRetryCount()).isEqualTo(attempt);
+            assertThat(event.getNextAttemptAt()).isNotNull();
+            assertThat(event.getLeaseOwner()).isNull();
+        }
+
+        OutboxEvent dead = event.markAsFailed("es down", policy);
+        assertThat(dead.getStatus()).isEqualTo(EventStatus.DEAD);
+        assertThat(dead.getRetryCount()).isEqualTo(policy.getMaxAttempts());
+        assertThat(dead.getNextAttemptAt()).isNull();
+        assertThat(dead.getErrorMessage()).isEqualTo("es down");
+    }
+}
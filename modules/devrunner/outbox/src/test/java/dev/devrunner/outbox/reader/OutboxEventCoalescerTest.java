@@ -0,0 +1,124 @@
+package dev.devrunner.outbox.reader;
+
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.model.CoalescedOutboxEvent;
+import dev.devrunner.outbox.model.EventStatus;
+import dev.devrunner.outbox.model.OutboxEvent;
+import dev.devrunner.outbox.model.UpdateType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxEventCoalescer 테스트
+ */
+@DisplayName("OutboxEventCoalescer 테스트")
+class OutboxEventCoalescerTest {
+
+    private static OutboxEvent event(long id, TargetType targetType, long targetId, UpdateType updateType) {
+        return new OutboxEvent(id, targetType, targetId, updateType, EventStatus.PROCESSING, 0, null,
+                Instant.now(), Instant.now(), "worker", Instant.now().plusSeconds(300), null);
+    }
+
+    private static OutboxEvent job(long id, long targetId, UpdateType updateType) {
+        return event(id, TargetType.JOB, targetId, updateType);
+    }
+
+    private static List<Long> idsOf(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    @Test
+    @DisplayName("빈 목록은 빈 결과")
+    void coalesce_empty_returnsEmpty() {
+        assertThat(OutboxEventCoalescer.coalesce(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 대상의 이벤트는 하나로 합쳐지고 대상이 처음 등장한 순서를 유지")
+    void coalesce_groupsByTargetInFirstSeenOrder() {
+        // Given
+        List<OutboxEvent> events = List.of(
+                job(1, 20, UpdateType.UPDATED),
+                job(2, 10, UpdateType.UPDATED),
+                job(3, 20, UpdateType.UPDATED),
+                job(4, 30, UpdateType.CREATED)
+        );
+
+        // When
+        List<CoalescedOutboxEvent> result = OutboxEventCoalescer.coalesce(events);
+
+        // Then
+        assertThat(result).extracting(CoalescedOutboxEvent::getTargetId).containsExactly(20L, 10L, 30L);
+        assertThat(idsOf(result.get(0).getEvents())).containsExactly(1L, 3L);
+        assertThat(result.get(0).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("targetId 가 같아도 targetType 이 다르면 다른 대상")
+    void coalesce_sameIdDifferentType_notMerged() {
+        // When
+        List<CoalescedOutboxEvent> result = OutboxEventCoalescer.coalesce(List.of(
+                job(1, 10, UpdateType.UPDATED),
+                event(2, TargetType.TECH_BLOG, 10, UpdateType.UPDATED)
+        ));
+
+        // Then
+        assertThat(result).extracting(CoalescedOutboxEvent::getTargetType)
+                .containsExactly(TargetType.JOB, TargetType.TECH_BLOG);
+    }
+
+    @Test
+    @DisplayName("합쳐진 대상의 updateType 은 DELETED > CREATED/UPDATED > POPULARITY_ONLY 순으로 가장 강한 타입")
+    void coalesce_picksStrongestUpdateType() {
+        // When
+        List<CoalescedOutboxEvent> result = OutboxEventCoalescer.coalesce(List.of(
+                job(1, 1, UpdateType.POPULARITY_ONLY),
+                job(2, 1, UpdateType.UPDATED),
+                job(3, 1, UpdateType.POPULARITY_ONLY),
+
+                job(4, 2, UpdateType.UPDATED),
+                job(5, 2, UpdateType.DELETED),
+                job(6, 2, UpdateType.POPULARITY_ONLY),
+
+                job(7, 3, UpdateType.POPULARITY_ONLY),
+                job(8, 3, UpdateType.POPULARITY_ONLY),
+
+                job(9, 4, UpdateType.CREATED),
+                job(10, 4, UpdateType.UPDATED)
+        ));
+
+        // Then - 같은 precedence 면 먼저 들어온 타입 유지
+        assertThat(result).extracting(CoalescedOutboxEvent::getUpdateType).containsExactly(
+                UpdateType.UPDATED,
+                UpdateType.DELETED,
+                UpdateType.POPULARITY_ONLY,
+                UpdateType.CREATED
+        );
+    }
+
+    @Test
+    @DisplayName("인기도 이벤트가 여러 번 합쳐져도 원본 이벤트 id 는 모두 유지되어 상태가 각각 반영됨")
+    void coalesce_popularityOnly_keepsEverySourceEvent() {
+        // Given - 조회수 flush 로 같은 job 의 POPULARITY_ONLY 가 여러 번 쌓인 상황
+        List<OutboxEvent> events = List.of(
+                job(11, 1, UpdateType.POPULARITY_ONLY),
+                job(12, 1, UpdateType.POPULARITY_ONLY),
+                job(13, 1, UpdateType.POPULARITY_ONLY)
+        );
+
+        // When
+        CoalescedOutboxEvent target = OutboxEventCoalescer.coalesce(events).get(0);
+        List<OutboxEvent> completed = target.markAllAsCompleted();
+
+        // Then
+        assertThat(target.getUpdateType()).isEqualTo(UpdateType.POPULARITY_ONLY);
+        assertThat(idsOf(target.getEvents())).containsExactly(11L, 12L, 13L);
+        assertThat(idsOf(completed)).containsExactly(11L, 12L, 13L);
+        assertThat(completed).allMatch(event -> event.getStatus() == EventStatus.COMPLETED);
+    }
+}
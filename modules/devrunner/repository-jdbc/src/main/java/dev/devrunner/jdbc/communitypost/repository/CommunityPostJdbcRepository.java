@@ -9,9 +9,15 @@ import dev.devrunner.model.common.Popularity;
 import dev.devrunner.model.job.JobIdentity;
 import dev.devrunner.infra.communitypost.repository.CommunityPostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -28,6 +34,10 @@ import java.util.stream.StreamSupport;
 public class CommunityPostJdbcRepository implements CommunityPostRepository {
 
     private final CommunityPostEntityRepository entityRepository;
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE community_posts SET view_count = view_count + :increment WHERE id = :id";
 
     @Override
     public Optional<CommunityPostRead> findById(CommunityPostIdentity identity) {
@@ -101,6 +111,27 @@ public class CommunityPostJdbcRepository implements CommunityPostRepository {
         entityRepository.increaseViewCount(identity.getCommunityPostId(), increment);
     }
 
+    /**
+     * 증가분을 하나의 JDBC batch 로 전송
+     * (MySQL 은 rewriteBatchedStatements=true 설정 시 요청 한 번으로 묶인다)
+     * id 순으로 정렬해 여러 인스턴스가 동시에 flush 해도 row lock 획득 순서가 같도록 한다.
+     */
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<CommunityPostIdentity, Long> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = increments.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getCommunityPostId()))
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey().getCommunityPostId())
+                        .addValue("increment", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcOperations.batchUpdate(INCREASE_VIEW_COUNT_SQL, params);
+    }
+
     @Override
     public void increaseCommentCount(CommunityPostIdentity identity, long increment) {
         entityRepository.increaseCommentCount(identity.getCommunityPostId(), increment);
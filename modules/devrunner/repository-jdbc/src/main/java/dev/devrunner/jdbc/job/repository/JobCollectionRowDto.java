@@ -0,0 +1,16 @@
+package dev.devrunner.jdbc.job.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Job 자식 테이블 row DTO
+ *
+ * job_tech_categories, job_locations 등 (job_id, 값) 형태의 자식 테이블을 IN 조회할 때 사용
+ */
+@Getter
+@AllArgsConstructor
+public class JobCollectionRowDto {
+    private Long jobId;
+    private String itemValue;
+}
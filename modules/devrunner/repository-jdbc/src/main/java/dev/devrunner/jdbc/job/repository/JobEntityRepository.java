@@ -23,6 +23,26 @@ public interface JobEntityRepository extends CrudRepository<JobEntity, Long> {
 
     List<JobEntity> findByIdIn(List<Long> ids);
 
+    // ========== Bulk 조회 (자식 컬렉션을 Job 단위가 아닌 IN 조회로 한 번에 로드) ==========
+
+    @Query("SELECT * FROM jobs WHERE id IN (:ids)")
+    List<JobRowDto> findRowsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT job_id, category_name AS item_value FROM job_tech_categories WHERE job_id IN (:jobIds)")
+    List<JobCollectionRowDto> findTechCategoriesByJobIdIn(@Param("jobIds") List<Long> jobIds);
+
+    @Query("SELECT job_id, location_name AS item_value FROM job_locations WHERE job_id IN (:jobIds)")
+    List<JobCollectionRowDto> findLocationsByJobIdIn(@Param("jobIds") List<Long> jobIds);
+
+    @Query("SELECT job_id, responsibility AS item_value FROM job_responsibilities WHERE job_id IN (:jobIds)")
+    List<JobCollectionRowDto> findResponsibilitiesByJobIdIn(@Param("jobIds") List<Long> jobIds);
+
+    @Query("SELECT job_id, qualification AS item_value FROM job_qualifications WHERE job_id IN (:jobIds)")
+    List<JobCollectionRowDto> findQualificationsByJobIdIn(@Param("jobIds") List<Long> jobIds);
+
+    @Query("SELECT job_id, preferred_qualification AS item_value FROM job_preferred_qualifications WHERE job_id IN (:jobIds)")
+    List<JobCollectionRowDto> findPreferredQualificationsByJobIdIn(@Param("jobIds") List<Long> jobIds);
+
     @Modifying
     @Query("UPDATE jobs SET view_count = view_count + :increment WHERE id = :jobId")
     void increaseViewCount(@Param("jobId") Long jobId, @Param("increment") long increment);
@@ -3,15 +3,24 @@ package dev.devrunner.jdbc.job.repository;
 import dev.devrunner.infra.job.repository.JobRepository;
 import dev.devrunner.jdbc.job.repository.collection.*;
 import dev.devrunner.jdbc.job.repository.embedded.*;
+import dev.devrunner.model.common.TechCategory;
 import dev.devrunner.model.job.Job;
 import dev.devrunner.model.job.JobDescription;
 import dev.devrunner.model.job.JobIdentity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -27,6 +36,10 @@ import java.util.stream.StreamSupport;
 public class JobJdbcRepository implements JobRepository {
 
     private final JobEntityRepository entityRepository;
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE jobs SET view_count = view_count + :increment WHERE id = :id";
 
     @Override
     public Optional<Job> findById(JobIdentity identity) {
@@ -34,10 +47,44 @@ public class JobJdbcRepository implements JobRepository {
                 .map(this::toDomain);
     }
 
+    /**
+     * 여러 Job 을 고정된 쿼리 수(본문 1 + 자식 테이블 5)로 조회
+     * Job 수와 관계없이 IN 조회로 자식 컬렉션을 한 번에 가져와 조립한다.
+     */
     @Override
     public List<Job> findByIdsIn(List<JobIdentity> identities) {
-        return entityRepository.findByIdIn(identities.stream().map(JobIdentity::getJobId).toList())
-                .stream().map(this::toDomain).collect(Collectors.toList());
+        List<Long> ids = identities.stream().map(JobIdentity::getJobId).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<JobRowDto> rows = entityRepository.findRowsByIdIn(ids);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<JobTechCategory>> techCategories = groupByJobId(
+                entityRepository.findTechCategoriesByJobIdIn(ids), value -> new JobTechCategory(TechCategory.valueOf(value)));
+        Map<Long, Set<JobLocation>> locations = groupByJobId(
+                entityRepository.findLocationsByJobIdIn(ids), JobLocation::new);
+        Map<Long, Set<JobResponsibility>> responsibilities = groupByJobId(
+                entityRepository.findResponsibilitiesByJobIdIn(ids), JobResponsibility::new);
+        Map<Long, Set<JobQualification>> qualifications = groupByJobId(
+                entityRepository.findQualificationsByJobIdIn(ids), JobQualification::new);
+        Map<Long, Set<JobPreferredQualification>> preferredQualifications = groupByJobId(
+                entityRepository.findPreferredQualificationsByJobIdIn(ids), JobPreferredQualification::new);
+
+        return rows.stream()
+                .map(row -> toEntity(
+                        row,
+                        techCategories.getOrDefault(row.getId(), Set.of()),
+                        locations.getOrDefault(row.getId(), Set.of()),
+                        responsibilities.getOrDefault(row.getId(), Set.of()),
+                        qualifications.getOrDefault(row.getId(), Set.of()),
+                        preferredQualifications.getOrDefault(row.getId(), Set.of())
+                ))
+                .map(this::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -82,6 +129,27 @@ public class JobJdbcRepository implements JobRepository {
         entityRepository.increaseViewCount(identity.getJobId(), increment);
     }
 
+    /**
+     * 증가분을 하나의 JDBC batch 로 전송
+     * (MySQL 은 rewriteBatchedStatements=true 설정 시 요청 한 번으로 묶인다)
+     * id 순으로 정렬해 여러 인스턴스가 동시에 flush 해도 row lock 획득 순서가 같도록 한다.
+     */
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<JobIdentity, Long> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = increments.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getJobId()))
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey().getJobId())
+                        .addValue("increment", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcOperations.batchUpdate(INCREASE_VIEW_COUNT_SQL, params);
+    }
+
     @Override
     public void increaseCommentCount(JobIdentity identity) {
         entityRepository.increaseCommentCount(identity.getJobId());
@@ -181,6 +249,55 @@ public class JobJdbcRepository implements JobRepository {
         );
     }
 
+    private <T> Map<Long, Set<T>> groupByJobId(List<JobCollectionRowDto> rows, Function<String, T> mapper) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        JobCollectionRowDto::getJobId,
+                        Collectors.mapping(row -> mapper.apply(row.getItemValue()), Collectors.toCollection(HashSet::new))
+                ));
+    }
+
+    /**
+     * Bulk 조회 결과(본문 row + 자식 컬렉션) → Entity 조립
+     */
+    private JobEntity toEntity(JobRowDto row,
+                               Set<JobTechCategory> techCategories,
+                               Set<JobLocation> locations,
+                               Set<JobResponsibility> responsibilities,
+                               Set<JobQualification> qualifications,
+                               Set<JobPreferredQualification> preferredQualifications) {
+        return new JobEntity(
+                row.getId(),
+                row.getUrl(),
+                row.getCompany(),
+                row.getTitle(),
+                row.getOrganization(),
+                row.getOneLineSummary(),
+                row.getSummary(),
+                row.getExperience(),
+                row.getEmploymentType(),
+                row.getPositionCategory(),
+                row.getRemotePolicy(),
+                techCategories,
+                row.getStartedAt(),
+                row.getEndedAt(),
+                row.getIsOpenEnded(),
+                row.getIsClosed(),
+                locations,
+                row.getPositionIntroduction(),
+                row.getFullDescription(),
+                responsibilities,
+                qualifications,
+                preferredQualifications,
+                row.getInterviewProcess(),
+                row.getCompensation(),
+                row.getPopularity(),
+                row.getIsDeleted(),
+                row.getCreatedAt(),
+                row.getUpdatedAt()
+        );
+    }
+
     private JobEntity toEntity(Job domain) {
         return new JobEntity(
                 domain.getJobId(),
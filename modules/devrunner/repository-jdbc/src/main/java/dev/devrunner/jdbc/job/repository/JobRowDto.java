@@ -0,0 +1,60 @@
+package dev.devrunner.jdbc.job.repository;
+
+import dev.devrunner.jdbc.job.repository.embedded.ExperienceRequirementEmbeddable;
+import dev.devrunner.jdbc.job.repository.embedded.InterviewProcessEmbeddable;
+import dev.devrunner.jdbc.job.repository.embedded.JobCompensationEmbeddable;
+import dev.devrunner.jdbc.job.repository.embedded.PopularityEmbeddable;
+import dev.devrunner.model.common.Company;
+import dev.devrunner.model.job.EmploymentType;
+import dev.devrunner.model.job.PositionCategory;
+import dev.devrunner.model.job.RemotePolicy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.relational.core.mapping.Embedded;
+
+import java.time.Instant;
+
+/**
+ * Job row DTO (자식 컬렉션 제외)
+ *
+ * 여러 Job 을 한 번에 조회할 때 jobs 테이블만 매핑하기 위한 DTO
+ * JobEntity 로 조회하면 Spring Data JDBC 가 Job 마다 자식 테이블을 따로 조회하므로,
+ * 자식 컬렉션은 JobCollectionRowDto 로 IN 조회 후 조립한다.
+ */
+@Getter
+@AllArgsConstructor
+public class JobRowDto {
+    private Long id;
+    private String url;
+    private Company company;
+    private String title;
+    private String organization;
+    private String oneLineSummary;
+    private String summary;
+
+    @Embedded.Nullable
+    private ExperienceRequirementEmbeddable experience;
+
+    private EmploymentType employmentType;
+    private PositionCategory positionCategory;
+    private RemotePolicy remotePolicy;
+    private Instant startedAt;
+    private Instant endedAt;
+    private Boolean isOpenEnded;
+    private Boolean isClosed;
+    private String positionIntroduction;
+    private String fullDescription;
+
+    @Embedded.Nullable
+    private InterviewProcessEmbeddable interviewProcess;
+
+    @Embedded.Nullable
+    private JobCompensationEmbeddable compensation;
+
+    @Embedded.Nullable
+    private PopularityEmbeddable popularity;
+
+    private Boolean isDeleted;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
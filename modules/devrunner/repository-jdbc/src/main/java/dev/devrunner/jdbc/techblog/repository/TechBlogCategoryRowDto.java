@@ -0,0 +1,14 @@
+package dev.devrunner.jdbc.techblog.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * tech_blog_tech_categories row DTO (IN 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public class TechBlogCategoryRowDto {
+    private Long techBlogId;
+    private String categoryName;
+}
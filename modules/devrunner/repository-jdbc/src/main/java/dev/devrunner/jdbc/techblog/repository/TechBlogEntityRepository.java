@@ -21,6 +21,14 @@ public interface TechBlogEntityRepository extends CrudRepository<TechBlogEntity,
     List<TechBlogEntity> findByCompany(String company);
     List<TechBlogEntity> findByIdIn(List<Long> ids);
 
+    // ========== Bulk 조회 (기술 카테고리를 TechBlog 단위가 아닌 IN 조회로 한 번에 로드) ==========
+
+    @Query("SELECT * FROM tech_blogs WHERE id IN (:ids)")
+    List<TechBlogRowDto> findRowsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT tech_blog_id, category_name FROM tech_blog_tech_categories WHERE tech_blog_id IN (:techBlogIds)")
+    List<TechBlogCategoryRowDto> findCategoriesByTechBlogIdIn(@Param("techBlogIds") List<Long> techBlogIds);
+
     @Modifying
     @Query("UPDATE tech_blogs SET view_count = view_count + :increment WHERE id = :techBlogId")
     void increaseViewCount(@Param("techBlogId") Long techBlogId, @Param("increment") long increment);
@@ -5,11 +5,18 @@ import dev.devrunner.model.techblog.TechBlog;
 import dev.devrunner.model.techblog.TechBlogIdentity;
 import dev.devrunner.infra.techblog.repository.TechBlogRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -25,6 +32,10 @@ import java.util.stream.StreamSupport;
 public class TechBlogJdbcRepository implements TechBlogRepository {
 
     private final TechBlogEntityRepository entityRepository;
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE tech_blogs SET view_count = view_count + :increment WHERE id = :id";
 
     @Override
     public Optional<TechBlog> findById(TechBlogIdentity identity) {
@@ -32,10 +43,31 @@ public class TechBlogJdbcRepository implements TechBlogRepository {
                 .map(this::toDomain);
     }
 
+    /**
+     * 여러 TechBlog 를 고정된 쿼리 수(본문 1 + 기술 카테고리 1)로 조회
+     */
     @Override
     public List<TechBlog> findByIdsIn(List<TechBlogIdentity> identities) {
-        return entityRepository.findByIdIn(identities.stream().map(TechBlogIdentity::getTechBlogId).toList())
-                .stream().map(this::toDomain).collect(Collectors.toList());
+        List<Long> ids = identities.stream().map(TechBlogIdentity::getTechBlogId).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<TechBlogRowDto> rows = entityRepository.findRowsByIdIn(ids);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<TechBlogCategory>> categories = entityRepository.findCategoriesByTechBlogIdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        TechBlogCategoryRowDto::getTechBlogId,
+                        Collectors.mapping(row -> new TechBlogCategory(row.getCategoryName()), Collectors.toCollection(HashSet::new))
+                ));
+
+        return rows.stream()
+                .map(row -> toEntity(row, categories.getOrDefault(row.getId(), Set.of())))
+                .map(this::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -80,6 +112,27 @@ public class TechBlogJdbcRepository implements TechBlogRepository {
         entityRepository.increaseViewCount(identity.getTechBlogId(), increment);
     }
 
+    /**
+     * 증가분을 하나의 JDBC batch 로 전송
+     * (MySQL 은 rewriteBatchedStatements=true 설정 시 요청 한 번으로 묶인다)
+     * id 순으로 정렬해 여러 인스턴스가 동시에 flush 해도 row lock 획득 순서가 같도록 한다.
+     */
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<TechBlogIdentity, Long> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = increments.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getTechBlogId()))
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey().getTechBlogId())
+                        .addValue("increment", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcOperations.batchUpdate(INCREASE_VIEW_COUNT_SQL, params);
+    }
+
     @Override
     public void increaseCommentCount(TechBlogIdentity identity) {
         entityRepository.increaseCommentCount(identity.getTechBlogId(), 1L);
@@ -114,6 +167,29 @@ public class TechBlogJdbcRepository implements TechBlogRepository {
         );
     }
 
+    /**
+     * Bulk 조회 결과(본문 row + 기술 카테고리) → Entity 조립
+     */
+    private TechBlogEntity toEntity(TechBlogRowDto row, Set<TechBlogCategory> techCategories) {
+        return new TechBlogEntity(
+                row.getId(),
+                row.getUrl(),
+                row.getCompany(),
+                row.getTitle(),
+                row.getOneLiner(),
+                row.getSummary(),
+                row.getSummaryKo(),
+                row.getMarkdownBody(),
+                row.getThumbnailUrl(),
+                techCategories,
+                row.getOriginalUrl(),
+                row.getPopularity(),
+                row.getIsDeleted(),
+                row.getCreatedAt(),
+                row.getUpdatedAt()
+        );
+    }
+
     /**
      * Domain → Entity 변환
      * techCategories: TechCategory enum (Domain) → String (DB)
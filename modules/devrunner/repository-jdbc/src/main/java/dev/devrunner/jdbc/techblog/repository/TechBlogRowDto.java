@@ -0,0 +1,36 @@
+package dev.devrunner.jdbc.techblog.repository;
+
+import dev.devrunner.model.common.Popularity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.relational.core.mapping.Embedded;
+
+import java.time.Instant;
+
+/**
+ * TechBlog row DTO (자식 컬렉션 제외)
+ *
+ * 여러 TechBlog 를 한 번에 조회할 때 tech_blogs 테이블만 매핑하기 위한 DTO
+ * 기술 카테고리는 TechBlogCategoryRowDto 로 IN 조회 후 조립한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TechBlogRowDto {
+    private Long id;
+    private String url;
+    private String company;
+    private String title;
+    private String oneLiner;
+    private String summary;
+    private String summaryKo;
+    private String markdownBody;
+    private String thumbnailUrl;
+    private String originalUrl;
+
+    @Embedded.Nullable
+    private Popularity popularity;
+
+    private Boolean isDeleted;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -14,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -315,6 +316,24 @@ class CommunityPostJdbcRepositoryTest {
         assertThat(updated.get().getPopularity().getViewCount()).isEqualTo(originalViewCount + 5L);
     }
 
+    @Test
+    void increaseViewCounts_multiplePosts_incrementsEachInBatch() {
+        // given
+        CommunityPost first = communityPostRepository.save(createSamplePost());
+        CommunityPost second = communityPostRepository.save(createSamplePost());
+        CommunityPostIdentity firstIdentity = new CommunityPostIdentity(first.getCommunityPostId());
+        CommunityPostIdentity secondIdentity = new CommunityPostIdentity(second.getCommunityPostId());
+
+        // when
+        communityPostRepository.increaseViewCounts(Map.of(firstIdentity, 3L, secondIdentity, 7L));
+
+        // then
+        assertThat(communityPostRepository.findById(firstIdentity).orElseThrow().getPopularity().getViewCount())
+                .isEqualTo(first.getPopularity().getViewCount() + 3L);
+        assertThat(communityPostRepository.findById(secondIdentity).orElseThrow().getPopularity().getViewCount())
+                .isEqualTo(second.getPopularity().getViewCount() + 7L);
+    }
+
     @Test
     void increaseCommentCount_validPostId_incrementsSuccessfully() {
         // given
@@ -11,8 +11,10 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -134,6 +136,81 @@ class JobJdbcRepositoryTest {
         assertThat(found.get().getLocations()).containsExactly("Busan");
     }
 
+    @Test
+    void findByIdsIn_existingIds_returnsDomainsWithCollections() {
+        // given
+        Job saved1 = jobRepository.save(createSampleJob());
+        Job saved2 = jobRepository.save(new Job(
+                null,
+                "https://example.com/job-bulk",
+                Company.GOOGLE,
+                "Platform Engineer",
+                "Infra Team",
+                "Summary",
+                null,
+                ExperienceRequirement.of(3, 7, true, CareerLevel.EXPERIENCED),
+                EmploymentType.FULL_TIME,
+                PositionCategory.BACKEND,
+                RemotePolicy.ONSITE,
+                List.of(TechCategory.JAVA, TechCategory.MYSQL),
+                Instant.now(),
+                null,
+                true,
+                false,
+                List.of("Seoul", "Busan"),
+                JobDescription.of(
+                        "Intro",
+                        List.of("Operate clusters"),
+                        List.of("Kubernetes"),
+                        List.of("Go experience"),
+                        "Full description"
+                ),
+                InterviewProcess.of(false, false, false, 3, 30),
+                new JobCompensation(new BigDecimal("150000"), new BigDecimal("210000"), "USD",
+                        CompensationUnit.YEARLY, true, "Plus bonus"),
+                new Popularity(12L, 3L, 7L, 1L),
+                false,
+                Instant.now(),
+                Instant.now()
+        ));
+
+        // when
+        List<Job> found = jobRepository.findByIdsIn(List.of(
+                new JobIdentity(saved1.getJobId()),
+                new JobIdentity(saved2.getJobId()),
+                new JobIdentity(999_999L)
+        ));
+
+        // then - 존재하는 Job 만 반환되고, 자식 컬렉션이 Job 별로 조립됨
+        assertThat(found).hasSize(2);
+        Job bulkLoaded = found.stream()
+                .filter(job -> job.getJobId().equals(saved2.getJobId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(bulkLoaded.getTechCategories()).containsExactlyInAnyOrder(TechCategory.JAVA, TechCategory.MYSQL);
+        assertThat(bulkLoaded.getLocations()).containsExactlyInAnyOrder("Seoul", "Busan");
+        assertThat(bulkLoaded.getDescription().getResponsibilities()).containsExactly("Operate clusters");
+        assertThat(bulkLoaded.getDescription().getQualifications()).containsExactly("Kubernetes");
+        assertThat(bulkLoaded.getDescription().getPreferredQualifications()).containsExactly("Go experience");
+        assertThat(bulkLoaded.getCompany()).isEqualTo(Company.GOOGLE);
+
+        // embedded 컬럼 (인기도 / 보상) 도 JobRowDto 에서 그대로 매핑됨
+        assertThat(bulkLoaded.getPopularity()).isEqualTo(new Popularity(12L, 3L, 7L, 1L));
+        JobCompensation compensation = bulkLoaded.getCompensation();
+        assertThat(compensation.getMinBasePay()).isEqualByComparingTo("150000");
+        assertThat(compensation.getMaxBasePay()).isEqualByComparingTo("210000");
+        assertThat(compensation.getCurrency()).isEqualTo("USD");
+        assertThat(compensation.getUnit()).isEqualTo(CompensationUnit.YEARLY);
+        assertThat(compensation.getHasStockOption()).isTrue();
+        assertThat(compensation.getSalaryNote()).isEqualTo("Plus bonus");
+
+        // 단건 조회(findById) 결과와 같은 도메인으로 조립됨
+        Job single = jobRepository.findById(new JobIdentity(saved2.getJobId())).orElseThrow();
+        assertThat(bulkLoaded.getPopularity()).isEqualTo(single.getPopularity());
+        assertThat(bulkLoaded.getInterviewProcess()).isEqualTo(single.getInterviewProcess());
+        assertThat(bulkLoaded.getExperience()).isEqualTo(single.getExperience());
+    }
+
     // ========== Custom Query 테스트 ==========
 
     @Test
@@ -151,6 +228,24 @@ class JobJdbcRepositoryTest {
         assertThat(found).isPresent();
     }
 
+    @Test
+    void increaseViewCounts_multipleJobs_incrementsEachInBatch() {
+        // given
+        Job first = jobRepository.save(createSampleJob());
+        Job second = jobRepository.save(createSampleJob("https://example.com/job-sample2"));
+        JobIdentity firstIdentity = new JobIdentity(first.getJobId());
+        JobIdentity secondIdentity = new JobIdentity(second.getJobId());
+
+        // when
+        jobRepository.increaseViewCounts(Map.of(firstIdentity, 3L, secondIdentity, 7L));
+
+        // then
+        assertThat(jobRepository.findById(firstIdentity).orElseThrow().getPopularity().getViewCount())
+                .isEqualTo(first.getPopularity().getViewCount() + 3L);
+        assertThat(jobRepository.findById(secondIdentity).orElseThrow().getPopularity().getViewCount())
+                .isEqualTo(second.getPopularity().getViewCount() + 7L);
+    }
+
     @Test
     void increaseCommentCount_validJobId_incrementsSuccessfully() {
         // given
@@ -199,9 +294,13 @@ class JobJdbcRepositoryTest {
     // ========== Helper Methods ==========
 
     private Job createSampleJob() {
+        return createSampleJob("https://example.com/job-sample");
+    }
+
+    private Job createSampleJob(String url) {
         return new Job(
                 null,
-                "https://example.com/job-sample",
+                url,
                 Company.META,
                 "Sample Job",
                 "Team",
@@ -13,7 +13,9 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -224,6 +226,65 @@ class TechBlogJdbcRepositoryTest {
                 .containsExactlyInAnyOrder(saved1.getTechBlogId(), saved3.getTechBlogId());
     }
 
+    @Test
+    void findByIdsIn_bulkLoader_mapsRowAndCategoriesPerBlog() {
+        // given
+        TechBlog withCategories = techBlogRepository.save(new TechBlog(
+                null, "https://example.com/bulk1", "CompanyA", "Bulk Blog", "One liner", "Summary", "요약",
+                "# Bulk", "https://example.com/bulk1.png", List.of(TechCategory.JAVA, TechCategory.SPRING),
+                "https://original.com/bulk1", new Popularity(10L, 2L, 4L, 1L), false,
+                Instant.now(), Instant.now()
+        ));
+        TechBlog withoutCategories = techBlogRepository.save(new TechBlog(
+                null, "https://example.com/bulk2", "CompanyB", "No Category Blog", null, null, null,
+                "# Bulk", null, List.of(), null, Popularity.empty(), true,
+                Instant.now(), Instant.now()
+        ));
+
+        // when - 중복 id 와 없는 id 가 섞여 있어도 row 는 한 번씩만 조립됨
+        List<TechBlog> found = techBlogRepository.findByIdsIn(List.of(
+                new TechBlogIdentity(withCategories.getTechBlogId()),
+                new TechBlogIdentity(withoutCategories.getTechBlogId()),
+                new TechBlogIdentity(withCategories.getTechBlogId()),
+                nonExistingIdentity
+        ));
+
+        // then - TechBlogRowDto 의 컬럼과 TechBlogCategoryRowDto 의 카테고리가 TechBlog 별로 조립됨
+        assertThat(found).hasSize(2);
+        Map<Long, TechBlog> byId = found.stream()
+                .collect(Collectors.toMap(TechBlog::getTechBlogId, blog -> blog));
+
+        TechBlog bulk1 = byId.get(withCategories.getTechBlogId());
+        assertThat(bulk1.getUrl()).isEqualTo("https://example.com/bulk1");
+        assertThat(bulk1.getCompany()).isEqualTo("CompanyA");
+        assertThat(bulk1.getOneLiner()).isEqualTo("One liner");
+        assertThat(bulk1.getSummaryKo()).isEqualTo("요약");
+        assertThat(bulk1.getThumbnailUrl()).isEqualTo("https://example.com/bulk1.png");
+        assertThat(bulk1.getOriginalUrl()).isEqualTo("https://original.com/bulk1");
+        assertThat(bulk1.getPopularity()).isEqualTo(new Popularity(10L, 2L, 4L, 1L));
+        assertThat(bulk1.getTechCategories()).containsExactlyInAnyOrder(TechCategory.JAVA, TechCategory.SPRING);
+
+        TechBlog bulk2 = byId.get(withoutCategories.getTechBlogId());
+        assertThat(bulk2.getTechCategories()).isEmpty();
+        assertThat(bulk2.getIsDeleted()).isTrue();
+
+        // 단건 조회(findById) 결과와 같은 도메인으로 조립됨
+        TechBlog single = techBlogRepository.findById(new TechBlogIdentity(withCategories.getTechBlogId())).orElseThrow();
+        assertThat(bulk1.getTitle()).isEqualTo(single.getTitle());
+        assertThat(bulk1.getMarkdownBody()).isEqualTo(single.getMarkdownBody());
+        assertThat(bulk1.getPopularity()).isEqualTo(single.getPopularity());
+        assertThat(bulk1.getTechCategories()).containsExactlyInAnyOrderElementsOf(single.getTechCategories());
+    }
+
+    @Test
+    void findByIdsIn_emptyIdentities_returnsEmptyList() {
+        // when
+        List<TechBlog> found = techBlogRepository.findByIdsIn(List.of());
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
     @Test
     void findByIdsIn_nonExistingIds_returnsEmptyList() {
         // when
@@ -253,6 +314,28 @@ class TechBlogJdbcRepositoryTest {
         assertThat(updated.getPopularity().getViewCount()).isEqualTo(originalViewCount + 5L);
     }
 
+    @Test
+    void increaseViewCounts_multipleBlogs_incrementsEachInBatch() {
+        // given
+        TechBlog first = techBlogRepository.save(sampleTechBlog);
+        TechBlog second = techBlogRepository.save(new TechBlog(
+                null, "https://example.com/blog2", "CompanyB", "Another Blog", null, null, null,
+                "# Content", null, List.of(), null, Popularity.empty(), false,
+                Instant.now(), Instant.now()
+        ));
+        TechBlogIdentity firstIdentity = new TechBlogIdentity(first.getTechBlogId());
+        TechBlogIdentity secondIdentity = new TechBlogIdentity(second.getTechBlogId());
+
+        // when
+        techBlogRepository.increaseViewCounts(Map.of(firstIdentity, 3L, secondIdentity, 7L));
+
+        // then
+        assertThat(techBlogRepository.findById(firstIdentity).orElseThrow().getPopularity().getViewCount())
+                .isEqualTo(first.getPopularity().getViewCount() + 3L);
+        assertThat(techBlogRepository.findById(secondIdentity).orElseThrow().getPopularity().getViewCount())
+                .isEqualTo(second.getPopularity().getViewCount() + 7L);
+    }
+
     @Test
     void increaseCommentCount_validBlogId_incrementsSuccessfully() {
         // given
@@ -0,0 +1,207 @@
+package dev.devrunner.service.common.view;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 증가량 누적기 (Job / TechBlog / CommunityPost 공용)
+ * <p>
+ * 버퍼 두 개를 번갈아 쓰는 더블 버퍼 구조:
+ * - increment 는 현재 버퍼의 ID 별 LongAdder 를 증가시킨다. 이미 있는 ID 는 락/할당 없이 처리된다.
+ * - drain 은 현재 버퍼를 다른 버퍼로 교체한 뒤, 교체 전 버퍼에 쓰고 있던 스레드가 모두 끝날 때까지 기다렸다가 합계를 꺼낸다.
+ * - commit 은 꺼낸 누적분이 반영되었음을 알리고 교체 전 버퍼를 비운다. commit 전에 다시 drain 하면 그 누적분은 다음 drain 에 다시 포함된다.
+ * <p>
+ * 쓰기 스레드는 버퍼의 스트라이프 카운터로 진행 중임을 알린 뒤 버퍼가 여전히 현재 버퍼인지 확인하고,
+ * 교체되었다면 새 버퍼로 다시 시도한다. 따라서 교체 도중 들어온 증가분도 어느 한 버퍼에 반드시 남는다 (유실 없음).
+ * <p>
+ * {@link ViewCountLog} 를 붙이면 증가분을 버퍼별 세그먼트에도 기록하고, commit 시 해당 세그먼트를 비운다.
+ */
+public class ViewCountAccumulator {
+
+    /**
+     * 진행 중 쓰기 카운터 스트라이프 수 (2의 거듭제곱)
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * 스트라이프끼리 같은 캐시 라인을 쓰지 않도록 long 8개(64 byte) 간격으로 배치
+     */
+    private static final int PADDING = 8;
+
+    private final Buffer[] buffers = {new Buffer(0), new Buffer(1)};
+
+    private volatile Buffer current = buffers[0];
+
+    /**
+     * drain 된 뒤 아직 commit 되지 않은 누적분이 교체 전 버퍼에 남아 있는지
+     */
+    private boolean pending = false;
+
+    private volatile ViewCountLog log;
+
+    private static final class Buffer {
+        private final int index;
+        private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+        private final AtomicLongArray writers = new AtomicLongArray(STRIPES * PADDING);
+
+        private Buffer(int index) {
+            this.index = index;
+        }
+    }
+
+    public void increment(Long id) {
+        add(id, 1);
+    }
+
+    /**
+     * 증가량 누적 (flush 실패분을 다시 넣거나 복구할 때도 사용)
+     */
+    public void add(Long id, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+
+        // 같은 스레드는 항상 같은 스트라이프를 쓰므로 스트라이프 값은 음수가 되지 않음
+        int stripe = (int) (Thread.currentThread().threadId() & (STRIPES - 1)) * PADDING;
+
+        while (true) {
+            Buffer buffer = current;
+            buffer.writers.getAndIncrement(stripe);
+            try {
+                if (buffer == current) {
+                    LongAdder adder = buffer.counts.get(id);
+                    if (adder == null) {
+                        adder = buffer.counts.computeIfAbsent(id, k -> new LongAdder());
+                    }
+                    adder.add(delta);
+
+                    ViewCountLog currentLog = log;
+                    if (currentLog != null) {
+                        currentLog.append(buffer.index, id, delta);
+                    }
+                    return;
+                }
+            } finally {
+                buffer.writers.getAndDecrement(stripe);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 누적된 증가량을 꺼내고 다른 버퍼에 다시 누적
+     * <p>
+     * 반영이 끝나면 {@link #commit()} 을 호출해야 한다.
+     *
+     * @return ID 별 증가량 (증가량이 0인 ID 는 제외)
+     */
+    public synchronized Map<Long, Long> drain() {
+        Buffer drained = current;
+        if (drained.counts.isEmpty()) {
+            return Map.of();
+        }
+
+        // 이전 drain 이 commit 되지 않았다면 그 누적분이 남아 있는 버퍼로 교체되어 다음 drain 에 다시 포함됨
+        current = other(drained);
+        pending = true;
+        awaitWriters(drained);
+
+        Map<Long, Long> result = new HashMap<>(drained.counts.size() * 4 / 3 + 1);
+        drained.counts.forEach((id, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                result.put(id, count);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 마지막으로 drain 한 누적분이 반영되었음을 확정하고 해당 버퍼(와 로그 세그먼트)를 비움
+     */
+    public synchronized void commit() {
+        if (!pending) {
+            return;
+        }
+
+        Buffer drained = other(current);
+        drained.counts.clear();
+        ViewCountLog currentLog = log;
+        if (currentLog != null) {
+            currentLog.truncate(drained.index);
+        }
+        pending = false;
+    }
+
+    /**
+     * 로그를 붙이고 로그에 남아 있던 증가분을 복구 (쓰기 스레드가 없는 시작 시점에 호출)
+     * <p>
+     * 현재 버퍼의 세그먼트는 그대로 이어 쓰고, 다른 세그먼트의 증가분은 현재 세그먼트로 옮긴 뒤 비운다.
+     *
+     * @return 복구한 증가량 합계
+     */
+    public synchronized long attachLog(ViewCountLog viewCountLog) {
+        Buffer buffer = current;
+        Buffer other = other(buffer);
+
+        long recovered = 0;
+        for (Map.Entry<Long, Long> entry : viewCountLog.read(buffer.index).entrySet()) {
+            buffer.counts.computeIfAbsent(entry.getKey(), k -> new LongAdder()).add(entry.getValue());
+            recovered += entry.getValue();
+        }
+
+        Map<Long, Long> fromOther = viewCountLog.read(other.index);
+        this.log = viewCountLog;
+        for (Map.Entry<Long, Long> entry : fromOther.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+            recovered += entry.getValue();
+        }
+        viewCountLog.truncate(other.index);
+        return recovered;
+    }
+
+    public synchronized void closeLog() {
+        ViewCountLog currentLog = log;
+        if (currentLog != null) {
+            log = null;
+            currentLog.close();
+        }
+    }
+
+    /**
+     * 현재 누적된 증가량 (flush 되지 않은 값)
+     */
+    public long get(Long id) {
+        LongAdder adder = current.counts.get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public boolean isEmpty() {
+        return current.counts.isEmpty();
+    }
+
+    public int size() {
+        return current.counts.size();
+    }
+
+    private Buffer other(Buffer buffer) {
+        return buffers[1 - buffer.index];
+    }
+
+    /**
+     * 교체 전 버퍼를 보고 있던 쓰기 스레드가 모두 빠져나갈 때까지 대기
+     * <p>
+     * 교체 이후 카운터를 올린 스레드는 버퍼가 바뀐 것을 보고 새 버퍼로 넘어가므로,
+     * 각 스트라이프가 한 번이라도 0 이 되면 그 스트라이프에는 더 이상 이전 버퍼에 쓰는 스레드가 없다.
+     */
+    private static void awaitWriters(Buffer buffer) {
+        for (int i = 0; i < STRIPES; i++) {
+            int stripe = i * PADDING;
+            while (buffer.writers.get(stripe) != 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package dev.devrunner.service.common.view;
+
+import dev.devrunner.model.common.TargetType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회수 증가분 write-ahead log (memory-mapped, append-only)
+ * <p>
+ * {@link ViewCountAccumulator} 의 버퍼마다 세그먼트 파일 하나를 두고, 증가분을 (targetType, id, delta) 레코드로 덧붙인다.
+ * 기록은 mmap 영역에 쓰는 것뿐이라 프로세스가 죽어도 OS page cache 에 남으며, 재시작 시 다시 읽어 복구한다.
+ * (OS 자체가 죽는 경우까지 보장하지는 않음)
+ * <p>
+ * 레코드 (16 byte): id(long) + delta(int) + marker(int)
+ * - 여러 스레드가 위치를 먼저 예약한 뒤 쓰므로 중간에 빈 슬롯이 있을 수 있다.
+ * - marker 를 마지막에 쓰고, 복구 시 marker 가 맞는 레코드만 읽는다.
+ * <p>
+ * 디렉터리의 lock 파일에 배타 lock 을 잡은 프로세스만 세그먼트를 열 수 있다.
+ * (배포 중 두 프로세스가 같은 세그먼트를 복구/기록하면 조회수가 중복 반영되거나 레코드가 덮어써짐)
+ */
+@Slf4j
+public final class ViewCountLog implements AutoCloseable {
+
+    static final int RECORD_BYTES = 16;
+
+    private static final int MARKER_MAGIC = 0x5643_0000;
+    private static final byte[] ZEROS = new byte[8192];
+
+    private final TargetType targetType;
+    private final int marker;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final Segment[] segments;
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicLong position = new AtomicLong();
+        private volatile boolean overflowed = false;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+    }
+
+    private ViewCountLog(TargetType targetType, FileChannel lockChannel, FileLock lock, Segment[] segments) {
+        this.targetType = targetType;
+        this.marker = MARKER_MAGIC | targetType.ordinal();
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+        this.segments = segments;
+    }
+
+    /**
+     * 대상 타입의 세그먼트 파일 두 개를 열거나 생성
+     *
+     * @param segmentBytes 세그먼트 하나의 크기 (레코드 크기 단위로 내림)
+     * @throws IOException 다른 프로세스가 이미 lock 을 잡고 있는 경우 포함
+     */
+    public static ViewCountLog open(Path directory, TargetType targetType, int segmentBytes) throws IOException {
+        ViewCountLog viewCountLog = tryOpen(directory, targetType, segmentBytes);
+        if (viewCountLog == null) {
+            throw new IOException("View count log is locked by another process: directory=" + directory
+                    + ", targetType=" + targetType);
+        }
+        return viewCountLog;
+    }
+
+    /**
+     * lock 을 잡을 수 있을 때만 세그먼트 파일을 열거나 생성
+     *
+     * @return 다른 프로세스(또는 같은 프로세스의 다른 인스턴스)가 lock 을 잡고 있으면 null
+     */
+    public static ViewCountLog tryOpen(Path directory, TargetType targetType, int segmentBytes) throws IOException {
+        Files.createDirectories(directory);
+        String prefix = "view-count-" + targetType.name().toLowerCase(Locale.ROOT);
+
+        FileChannel lockChannel = FileChannel.open(directory.resolve(prefix + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            return null;
+        }
+
+        int capacity = segmentBytes / RECORD_BYTES * RECORD_BYTES;
+        Segment[] segments = new Segment[2];
+        try {
+            for (int i = 0; i < segments.length; i++) {
+                Path path = directory.resolve(prefix + "-" + i + ".log");
+                FileChannel channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                segments[i] = new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+            }
+        } catch (IOException e) {
+            for (Segment segment : segments) {
+                if (segment != null) {
+                    segment.channel.close();
+                }
+            }
+            lockChannel.close();
+            throw e;
+        }
+        return new ViewCountLog(targetType, lockChannel, lock, segments);
+    }
+
+    /**
+     * 세그먼트에 증가분 기록
+     * <p>
+     * 세그먼트가 가득 차면 더 이상 기록하지 않는다 (메모리 누적은 그대로이므로 재시작 시 복구만 안 됨).
+     */
+    public void append(int segmentIndex, long id, long delta) {
+        Segment segment = segments[segmentIndex];
+        while (delta > 0) {
+            int chunk = (int) Math.min(delta, Integer.MAX_VALUE);
+            long offset = segment.position.getAndAdd(RECORD_BYTES);
+            if (offset + RECORD_BYTES > segment.capacity) {
+                if (!segment.overflowed) {
+                    segment.overflowed = true;
+                    log.warn("View count log segment is full, increments are kept in memory only until next flush: file={}", segment.path);
+                }
+                return;
+            }
+
+            int index = (int) offset;
+            segment.buffer.putLong(index, id);
+            segment.buffer.putInt(index + 8, chunk);
+            segment.buffer.putInt(index + 12, marker);
+            delta -= chunk;
+        }
+    }
+
+    /**
+     * 세그먼트에 남은 레코드를 ID 별로 합산 (재시작 시 복구용)
+     * <p>
+     * 이후 기록은 마지막 유효 레코드 뒤에 이어 쓴다. 쓰기 스레드가 없을 때만 호출해야 한다.
+     */
+    public Map<Long, Long> read(int segmentIndex) {
+        Segment segment = segments[segmentIndex];
+        Map<Long, Long> counts = new HashMap<>();
+        int end = 0;
+        for (int index = 0; index + RECORD_BYTES <= segment.capacity; index += RECORD_BYTES) {
+            if (segment.buffer.getInt(index + 12) != marker) {
+                continue;
+            }
+            int delta = segment.buffer.getInt(index + 8);
+            if (delta > 0) {
+                counts.merge(segment.buffer.getLong(index), (long) delta, Long::sum);
+            }
+            end = index + RECORD_BYTES;
+        }
+        segment.position.set(end);
+        segment.overflowed = false;
+        return counts;
+    }
+
+    /**
+     * flush 가 끝난 세그먼트 비우기 (쓰기 스레드가 없을 때만 호출해야 함)
+     */
+    public void truncate(int segmentIndex) {
+        Segment segment = segments[segmentIndex];
+        int used = (int) Math.min(segment.position.get(), segment.capacity);
+        for (int index = 0; index < used; index += ZEROS.length) {
+            segment.buffer.put(index, ZEROS, 0, Math.min(ZEROS.length, used - index));
+        }
+        segment.position.set(0);
+        segment.overflowed = false;
+    }
+
+    public TargetType targetType() {
+        return targetType;
+    }
+
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            try {
+                segment.buffer.force();
+                segment.channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close view count log: file={}", segment.path, e);
+            }
+        }
+
+        // 세그먼트를 모두 내려쓴 뒤 lock 해제
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to release view count log lock: targetType={}", targetType, e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.devrunner.service.common.view;
+
+import dev.devrunner.model.common.TargetType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 조회수 write-ahead log 설정 및 생성
+ * <p>
+ * 비활성화(기본값)되어 있거나 파일을 열 수 없으면 empty 를 반환하며, 이 경우 조회수는 메모리에만 누적된다.
+ * 재배포 후에도 복구하려면 디렉터리를 재시작 사이에 유지되는 볼륨에 두어야 한다.
+ * <p>
+ * 디렉터리 아래 slot-0 ~ slot-(slots-1) 중 lock 을 잡을 수 있는 첫 slot 을 쓴다.
+ * 롤링 배포 중에는 새 프로세스가 기존 프로세스가 쓰는 slot 을 건너뛰므로, 기존 프로세스가 flush 할 증가분을 다시 복구하지 않는다.
+ * 비정상 종료한 프로세스의 slot 은 lock 이 풀려 있으므로 다음에 그 slot 을 잡은 프로세스가 복구한다.
+ */
+@Component
+@Slf4j
+public class ViewCountLogFactory {
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final int slots;
+
+    public ViewCountLogFactory(
+            @Value("${devrunner.view-count.wal.enabled:false}") boolean enabled,
+            @Value("${devrunner.view-count.wal.directory:./data/view-count-wal}") String directory,
+            @Value("${devrunner.view-count.wal.segment-size-mb:16}") int segmentSizeMb,
+            @Value("${devrunner.view-count.wal.slots:4}") int slots
+    ) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentBytes = segmentSizeMb * 1024 * 1024;
+        this.slots = Math.max(1, slots);
+    }
+
+    public Optional<ViewCountLog> open(TargetType targetType) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            for (int slot = 0; slot < slots; slot++) {
+                Path slotDirectory = directory.resolve("slot-" + slot);
+                ViewCountLog viewCountLog = ViewCountLog.tryOpen(slotDirectory, targetType, segmentBytes);
+                if (viewCountLog != null) {
+                    log.info("View count log opened: targetType={}, directory={}", targetType, slotDirectory);
+                    return Optional.of(viewCountLog);
+                }
+            }
+
+            log.error("All view count log slots are locked by other processes, counting in memory only: targetType={}, directory={}, slots={}",
+                    targetType, directory, slots);
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Failed to open view count log, counting in memory only: targetType={}, directory={}",
+                    targetType, directory, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package dev.devrunner.service.common.view;
+
+import dev.devrunner.model.common.TargetType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 같은 사용자의 반복 조회(새로고침 등)를 조회수에서 제외
+ * <p>
+ * (targetType, targetId, viewerKey) 를 번갈아 쓰는 Bloom filter 두 개로 기억한다.
+ * - 직전 창 filter 에 있으면 중복 조회로 보고, 아니면 현재 창 filter 에 기록하며 이미 있었는지 확인한다.
+ * - window 가 지나면 현재 filter 가 직전 filter 가 되고 새 filter 로 교체된다.
+ *   따라서 같은 조회는 집계된 시점부터 최소 window, 최대 2 × window 동안 다시 집계되지 않는다.
+ * <p>
+ * 메모리는 창당 예상 조회 수와 오탐률로 정해지는 filter 두 개 크기로 고정된다.
+ * (기본값 200만 / 1% 기준 약 2.4MB × 2) 예상보다 조회가 많으면 오탐(첫 조회를 중복으로 판단)이 늘어난다.
+ */
+@Component
+@Slf4j
+public class ViewDeduplicator {
+
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int words;
+    private final long numBits;
+    private final int numHashes;
+    private final LongSupplier clock;
+
+    private final AtomicReference<Generation> generation;
+
+    private record Generation(long[] current, long[] previous, long startedAt) {
+    }
+
+    @Autowired
+    public ViewDeduplicator(
+            @Value("${devrunner.view-count.dedup.enabled:true}") boolean enabled,
+            @Value("${devrunner.view-count.dedup.window:30m}") Duration window,
+            @Value("${devrunner.view-count.dedup.expected-views-per-window:2000000}") long expectedViews,
+            @Value("${devrunner.view-count.dedup.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this(enabled, window, expectedViews, falsePositiveRate, System::currentTimeMillis);
+    }
+
+    ViewDeduplicator(boolean enabled, Duration window, long expectedViews, double falsePositiveRate, LongSupplier clock) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("dedup window must be positive: " + window);
+        }
+        if (expectedViews <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("invalid dedup sizing: expectedViews=" + expectedViews
+                    + ", falsePositiveRate=" + falsePositiveRate);
+        }
+
+        // m = -n ln(p) / (ln 2)^2, k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedViews * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.numBits = (long) words * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedViews * Math.log(2)));
+
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.generation = new AtomicReference<>(new Generation(new long[enabled ? words : 0], null, clock.getAsLong()));
+
+        if (enabled) {
+            log.info("View dedup enabled - window: {}, filterBytes: {} x 2, hashes: {}", window, (long) words * 8, numHashes);
+        }
+    }
+
+    /**
+     * 처음 보는 조회인지 확인하고 기록
+     *
+     * @param viewerKey 조회자 식별 값 (로그인 사용자 / IP 등), null 이면 구분할 수 없으므로 항상 true
+     * @return 조회수에 반영해야 하면 true
+     */
+    public boolean firstView(TargetType targetType, Long targetId, String viewerKey) {
+        if (!enabled || targetId == null || viewerKey == null) {
+            return true;
+        }
+
+        Generation current = currentGeneration();
+        long hash1 = hash(targetType, targetId, viewerKey);
+        long hash2 = mix(hash1 ^ 0x632BE59BD9B4E019L) | 1;
+
+        // 직전 창에서 집계된 조회는 현재 창에 다시 기록하지 않음 (반복 조회가 기억 기간을 계속 늘리지 않도록)
+        if (current.previous() != null && contains(current.previous(), hash1, hash2)) {
+            return false;
+        }
+
+        boolean seen = true;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = bitIndex(hash1, hash2, i);
+            long mask = 1L << bit;
+            long before = (long) BITS.getAndBitwiseOr(current.current(), (int) (bit >>> 6), mask);
+            if ((before & mask) == 0) {
+                seen = false;
+            }
+        }
+        return !seen;
+    }
+
+    private boolean contains(long[] filter, long hash1, long hash2) {
+        for (int i = 0; i < numHashes; i++) {
+            long bit = bitIndex(hash1, hash2, i);
+            if (((long) BITS.getOpaque(filter, (int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(long hash1, long hash2, int i) {
+        return ((hash1 + i * hash2) & Long.MAX_VALUE) % numBits;
+    }
+
+    /**
+     * window 가 지났으면 filter 교체 (두 창 이상 지났으면 직전 filter 도 버림)
+     */
+    private Generation currentGeneration() {
+        Generation current = generation.get();
+        long now = clock.getAsLong();
+        long elapsed = now - current.startedAt();
+        if (elapsed < windowMillis) {
+            return current;
+        }
+
+        long[] previous = elapsed < windowMillis * 2 ? current.current() : null;
+        Generation next = new Generation(new long[words], previous, now);
+        return generation.compareAndSet(current, next) ? next : generation.get();
+    }
+
+    private static long hash(TargetType targetType, long targetId, String viewerKey) {
+        // FNV-1a 64
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < viewerKey.length(); i++) {
+            hash ^= viewerKey.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= mix(targetId * 0x9E3779B97F4A7C15L + targetType.ordinal());
+        return mix(hash);
+    }
+
+    /**
+     * splitmix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
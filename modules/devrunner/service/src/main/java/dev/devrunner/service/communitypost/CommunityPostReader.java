@@ -22,6 +22,15 @@ public interface CommunityPostReader {
      */
     CommunityPostRead read(CommunityPostIdentity identity);
 
+    /**
+     * CommunityPost 읽기 (조회수 증가 포함, 같은 조회자의 반복 조회는 일정 시간 동안 한 번만 집계)
+     *
+     * @param identity  CommunityPost 식별자
+     * @param viewerKey 조회자 식별 값 (null 이면 항상 집계)
+     * @return CommunityPostRead 엔티티
+     */
+    CommunityPostRead read(CommunityPostIdentity identity, String viewerKey);
+
     /**
      * ID로 CommunityPost 조회 (조회수 증가 없음)
      *
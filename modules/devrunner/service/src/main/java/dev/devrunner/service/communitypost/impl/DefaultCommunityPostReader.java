@@ -7,6 +7,8 @@ import dev.devrunner.model.communitypost.CommunityPostRead;
 import dev.devrunner.service.communitypost.CommunityPostReader;
 import dev.devrunner.service.communitypost.view.CommunityPostViewMemory;
 import dev.devrunner.infra.communitypost.repository.CommunityPostRepository;
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.service.common.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,15 +28,23 @@ public class DefaultCommunityPostReader implements CommunityPostReader {
 
     private final CommunityPostRepository communityPostRepository;
     private final CommunityPostViewMemory communityPostViewMemory;
+    private final ViewDeduplicator viewDeduplicator;
 
     @Override
     public CommunityPostRead read(CommunityPostIdentity identity) {
+        return read(identity, null);
+    }
+
+    @Override
+    public CommunityPostRead read(CommunityPostIdentity identity, String viewerKey) {
         log.debug("Reading CommunityPost by id: {}", identity.getCommunityPostId());
         CommunityPostRead communityPostRead = communityPostRepository.findById(identity)
                 .orElseThrow(() -> new CommunityPostNotFoundException(""));
 
-        // 조회수 증가 (비동기)
-        communityPostViewMemory.countUp(communityPostRead.getCommunityPostId());
+        // 조회수 증가 (비동기, 같은 조회자의 반복 조회는 제외)
+        if (viewDeduplicator.firstView(TargetType.COMMUNITY_POST, communityPostRead.getCommunityPostId(), viewerKey)) {
+            communityPostViewMemory.countUp(communityPostRead.getCommunityPostId());
+        }
 
         return communityPostRead;
     }
@@ -21,6 +21,15 @@ public interface JobReader {
      */
     Job read(JobIdentity identity);
 
+    /**
+     * Job 읽기 (조회수 증가 포함, 같은 조회자의 반복 조회는 일정 시간 동안 한 번만 집계)
+     *
+     * @param identity  Job 식별자
+     * @param viewerKey 조회자 식별 값 (null 이면 항상 집계)
+     * @return Job 엔티티
+     */
+    Job read(JobIdentity identity, String viewerKey);
+
     /**
      * ID로 Job 조회 (조회수 증가 없음)
      *
@@ -6,6 +6,8 @@ import dev.devrunner.model.job.JobIdentity;
 import dev.devrunner.service.job.JobReader;
 import dev.devrunner.service.job.view.JobViewMemory;
 import dev.devrunner.infra.job.repository.JobRepository;
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.service.common.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,16 +27,24 @@ public class DefaultJobReader implements JobReader {
 
     private final JobRepository jobRepository;
     private final JobViewMemory jobViewMemory;
+    private final ViewDeduplicator viewDeduplicator;
 
     @Override
     public Job read(JobIdentity identity) {
+        return read(identity, null);
+    }
+
+    @Override
+    public Job read(JobIdentity identity, String viewerKey) {
         log.debug("Reading Job by id: {}", identity.getJobId());
         Job job = jobRepository.findById(identity)
                 .orElseThrow(() -> new JobNotFoundException("Job with id " + identity.getJobId() + " not found"));
 
 
-        // 조회수 증가 (비동기)
-        jobViewMemory.countUp(job.getJobId());
+        // 조회수 증가 (비동기, 같은 조회자의 반복 조회는 제외)
+        if (viewDeduplicator.firstView(TargetType.JOB, job.getJobId(), viewerKey)) {
+            jobViewMemory.countUp(job.getJobId());
+        }
 
         return job;
     }
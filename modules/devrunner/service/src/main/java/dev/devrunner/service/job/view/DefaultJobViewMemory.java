@@ -6,25 +6,34 @@ import dev.devrunner.model.job.Job;
 import dev.devrunner.model.job.JobIdentity;
 import dev.devrunner.outbox.command.RecordOutboxEventCommand;
 import dev.devrunner.outbox.recorder.OutboxEventRecorder;
+import dev.devrunner.service.common.view.ViewCountAccumulator;
+import dev.devrunner.service.common.view.ViewCountLogFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Set;
 
 /**
  * Job 조회수 메모리 관리 구현체
  * <p>
- * ConcurrentHashMap과 AtomicLong을 활용하여 동시성을 보장하며,
+ * ViewCountAccumulator를 활용하여 동시성을 보장하며 (flush 중 들어온 조회수도 유실 없음),
  * 메모리에 조회수를 누적한 후 주기적으로 DB에 일괄 반영합니다.
+ * <p>
+ * write-ahead log 가 활성화되어 있으면 시작 시 로그에 남은 조회수를 복구하고,
+ * 종료 시(웹 서버가 요청을 더 받지 않는 시점)에 남은 조회수를 반영합니다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class DefaultJobViewMemory implements JobViewMemory {
+public class DefaultJobViewMemory implements JobViewMemory, SmartLifecycle {
 
     private final JobRepository jobRepository;
 
@@ -32,9 +41,12 @@ public class DefaultJobViewMemory implements JobViewMemory {
      * 메모리에 누적된 조회수 저장소
      * Key: Job ID, Value: 조회수 증가량
      */
-    private final Map<Long, AtomicLong> viewCounts = new ConcurrentHashMap<>();
+    private final ViewCountAccumulator viewCounts = new ViewCountAccumulator();
 
     private final OutboxEventRecorder outboxEventRecorder;
+    private final ViewCountLogFactory viewCountLogFactory;
+
+    private volatile boolean running = false;
 
     @Override
     public void countUp(Long jobId) {
@@ -43,55 +55,120 @@ public class DefaultJobViewMemory implements JobViewMemory {
             return;
         }
 
-        viewCounts.computeIfAbsent(jobId, k -> new AtomicLong(0))
-                .incrementAndGet();
+        viewCounts.increment(jobId);
 
         log.debug("View count incremented for Job: {}", jobId);
     }
 
+    @Override
+    public synchronized void start() {
+        viewCountLogFactory.open(TargetType.JOB).ifPresent(viewCountLog -> {
+            long recovered = viewCounts.attachLog(viewCountLog);
+            log.info("Job view count log attached - Recovered: {}", recovered);
+        });
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        flush();
+        viewCounts.closeLog();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 먼저 시작하고 나중에 종료
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
     @Override
     @Scheduled(fixedDelay = 10000) // 10초마다 실행
-    public void flush() {
-        if (viewCounts.isEmpty()) {
+    public synchronized void flush() {
+        // 누적분을 꺼내는 동안 들어온 조회수는 다음 flush 에 반영됨
+        Map<Long, Long> snapshot = viewCounts.drain();
+        if (snapshot.isEmpty()) {
             log.debug("No view counts to flush");
             return;
         }
 
-        log.info("Starting to flush {} Job view counts", viewCounts.size());
-        int successCount = 0;
-        int failCount = 0;
+        log.info("Starting to flush {} Job view counts", snapshot.size());
 
-        // 현재 메모리의 스냅샷을 추출하고 초기화
-        Map<Long, AtomicLong> snapshot = new ConcurrentHashMap<>(viewCounts);
-        viewCounts.clear();
+        List<Long> flushedIds = increaseViewCounts(snapshot);
+        requeueFailed(snapshot, flushedIds);
+        viewCounts.commit();
+        recordPopularityEvents(flushedIds);
 
-        for (Map.Entry<Long, AtomicLong> entry : snapshot.entrySet()) {
-            Long jobId = entry.getKey();
-            long incrementCount = entry.getValue().get();
+        log.info("Flush completed - Success: {}, Failed: {}", flushedIds.size(), snapshot.size() - flushedIds.size());
+    }
 
-            if (incrementCount <= 0) {
-                continue;
-            }
+    /**
+     * 증가분 전체를 한 번의 batch 로 반영하고, batch 가 실패하면 건별로 다시 시도
+     * (batch 는 하나의 트랜잭션이므로 실패 시 일부만 반영된 상태는 없음)
+     *
+     * @return 조회수가 반영된 Job ID 목록
+     */
+    private List<Long> increaseViewCounts(Map<Long, Long> snapshot) {
+        Map<JobIdentity, Long> increments = new HashMap<>(snapshot.size() * 4 / 3 + 1);
+        snapshot.forEach((jobId, incrementCount) -> increments.put(new JobIdentity(jobId), incrementCount));
+
+        try {
+            // DB 레벨에서 원자적으로 조회수 증가
+            jobRepository.increaseViewCounts(increments);
+            return new ArrayList<>(snapshot.keySet());
+        } catch (Exception e) {
+            log.warn("Batch view count flush failed, retrying one by one: Job count={}", snapshot.size(), e);
+        }
 
+        List<Long> flushedIds = new ArrayList<>(snapshot.size());
+        for (Map.Entry<Long, Long> entry : snapshot.entrySet()) {
+            Long jobId = entry.getKey();
             try {
-                JobIdentity identity = new JobIdentity(jobId);
-
-                // DB 레벨에서 원자적으로 조회수 증가
-                jobRepository.increaseViewCount(identity, incrementCount);
-                successCount++;
-                log.debug("Flushed {} view counts for Job: {}", incrementCount, jobId);
-
-                var command = RecordOutboxEventCommand.popularityOnly(
-                        TargetType.JOB, jobId
-                );
-                outboxEventRecorder.record(command);
-
+                jobRepository.increaseViewCount(new JobIdentity(jobId), entry.getValue());
+                flushedIds.add(jobId);
             } catch (Exception e) {
                 log.error("Failed to flush view count for Job: {}", jobId, e);
-                failCount++;
             }
         }
+        return flushedIds;
+    }
 
-        log.info("Flush completed - Success: {}, Failed: {}", successCount, failCount);
+    /**
+     * 반영하지 못한 증가분은 다시 누적해 다음 flush 에서 재시도
+     */
+    private void requeueFailed(Map<Long, Long> snapshot, List<Long> flushedIds) {
+        if (flushedIds.size() == snapshot.size()) {
+            return;
+        }
+
+        Set<Long> flushed = new HashSet<>(flushedIds);
+        snapshot.forEach((id, incrementCount) -> {
+            if (!flushed.contains(id)) {
+                viewCounts.add(id, incrementCount);
+            }
+        });
+        log.warn("Requeued {} Job view counts for next flush", snapshot.size() - flushedIds.size());
+    }
+
+    private void recordPopularityEvents(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+
+        List<RecordOutboxEventCommand> commands = jobIds.stream()
+                .map(id -> RecordOutboxEventCommand.popularityOnly(TargetType.JOB, id))
+                .toList();
+        try {
+            outboxEventRecorder.recordAll(commands);
+        } catch (Exception e) {
+            log.error("Failed to record popularity events for Job: count={}", commands.size(), e);
+        }
     }
 }
@@ -6,6 +6,8 @@ import dev.devrunner.model.techblog.TechBlogIdentity;
 import dev.devrunner.service.techblog.TechBlogReader;
 import dev.devrunner.service.techblog.view.TechBlogViewMemory;
 import dev.devrunner.infra.techblog.repository.TechBlogRepository;
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.service.common.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,15 +28,23 @@ public class DefaultTechBlogReader implements TechBlogReader {
 
     private final TechBlogRepository techBlogRepository;
     private final TechBlogViewMemory techBlogViewMemory;
+    private final ViewDeduplicator viewDeduplicator;
 
     @Override
     public TechBlog read(TechBlogIdentity identity) {
+        return read(identity, null);
+    }
+
+    @Override
+    public TechBlog read(TechBlogIdentity identity, String viewerKey) {
         log.debug("Reading TechBlog by id: {}", identity.getTechBlogId());
         TechBlog techBlog = techBlogRepository.findById(identity)
                 .orElseThrow(() -> new TechBlogNotFoundException("TechBlog not found: " + identity.getTechBlogId()));
 
-        // 조회수 증가 (비동기)
-        techBlogViewMemory.countUp(techBlog.getTechBlogId());
+        // 조회수 증가 (비동기, 같은 조회자의 반복 조회는 제외)
+        if (viewDeduplicator.firstView(TargetType.TECH_BLOG, techBlog.getTechBlogId(), viewerKey)) {
+            techBlogViewMemory.countUp(techBlog.getTechBlogId());
+        }
 
         return techBlog;
     }
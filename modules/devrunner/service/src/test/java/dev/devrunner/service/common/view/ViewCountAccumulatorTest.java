@@ -0,0 +1,155 @@
+package dev.devrunner.service.common.view;
+
+import dev.devrunner.model.common.TargetType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewCountAccumulatorTest {
+
+    private final ViewCountAccumulator accumulator = new ViewCountAccumulator();
+
+    @Test
+    void drain_returnsAccumulatedCountsAndResets() {
+        // given
+        accumulator.increment(1L);
+        accumulator.increment(1L);
+        accumulator.increment(2L);
+
+        // when
+        Map<Long, Long> drained = accumulator.drain();
+
+        // then
+        assertEquals(Map.of(1L, 2L, 2L, 1L), drained);
+        accumulator.commit();
+        assertTrue(accumulator.isEmpty());
+        assertEquals(0, accumulator.get(1L));
+    }
+
+    @Test
+    void drain_empty_returnsEmptyMap() {
+        assertTrue(accumulator.drain().isEmpty());
+    }
+
+    @Test
+    void drain_reusedBuffer_startsFromZero() {
+        // given - 버퍼 두 개를 모두 한 번씩 교체
+        accumulator.increment(1L);
+        accumulator.drain();
+        accumulator.commit();
+        accumulator.increment(1L);
+        accumulator.drain();
+        accumulator.commit();
+
+        // when
+        accumulator.increment(1L);
+
+        // then
+        assertEquals(Map.of(1L, 1L), accumulator.drain());
+    }
+
+    @Test
+    void drain_withoutCommit_redeliversOnNextDrain() {
+        // given - 반영 도중 실패해 commit 되지 않은 누적분
+        accumulator.increment(1L);
+        accumulator.drain();
+
+        // when
+        accumulator.increment(2L);
+        Map<Long, Long> second = accumulator.drain();
+        accumulator.commit();
+        accumulator.increment(2L);
+        Map<Long, Long> third = accumulator.drain();
+
+        // then
+        assertEquals(Map.of(2L, 1L), second);
+        assertEquals(Map.of(1L, 1L, 2L, 1L), third);
+    }
+
+    @Test
+    void attachLog_recoversAndCommitTruncates(@TempDir Path directory) throws Exception {
+        // given - 재시작 전 기록된 증가분
+        try (ViewCountLog previous = ViewCountLog.open(directory, TargetType.JOB, 4096)) {
+            ViewCountAccumulator before = new ViewCountAccumulator();
+            before.attachLog(previous);
+            before.increment(1L);
+            before.increment(1L);
+            before.drain();
+            before.increment(2L);
+        }
+
+        // when
+        try (ViewCountLog log = ViewCountLog.open(directory, TargetType.JOB, 4096)) {
+            long recovered = accumulator.attachLog(log);
+
+            // then
+            assertEquals(3, recovered);
+            assertEquals(Map.of(1L, 2L, 2L, 1L), accumulator.drain());
+            accumulator.commit();
+        }
+
+        try (ViewCountLog log = ViewCountLog.open(directory, TargetType.JOB, 4096)) {
+            assertEquals(0, new ViewCountAccumulator().attachLog(log));
+        }
+    }
+
+    @Test
+    void drain_concurrentWithIncrements_losesNothing() throws Exception {
+        // given
+        int threadCount = 8;
+        int incrementsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        for (int t = 0; t < threadCount; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        accumulator.increment((long) (i % 16));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when - 쓰는 도중 계속 drain
+        long total = 0;
+        start.countDown();
+        Thread waiter = new Thread(() -> {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writing.set(false);
+        });
+        waiter.start();
+        while (writing.get()) {
+            total += accumulator.drain().values().stream().mapToLong(Long::longValue).sum();
+            accumulator.commit();
+        }
+        total += accumulator.drain().values().stream().mapToLong(Long::longValue).sum();
+        accumulator.commit();
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals((long) threadCount * incrementsPerThread, total);
+    }
+}
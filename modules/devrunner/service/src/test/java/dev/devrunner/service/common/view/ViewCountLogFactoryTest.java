@@ -0,0 +1,61 @@
+package dev.devrunner.service.common.view;
+
+import dev.devrunner.model.common.TargetType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewCountLogFactoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void tryOpen_lockedDirectory_returnsNull() throws Exception {
+        try (ViewCountLog first = ViewCountLog.open(directory, TargetType.JOB, 4096)) {
+            assertNotNull(first);
+            assertNull(ViewCountLog.tryOpen(directory, TargetType.JOB, 4096));
+            assertThrows(java.io.IOException.class, () -> ViewCountLog.open(directory, TargetType.JOB, 4096));
+
+            // 대상 타입이 다르면 lock 도 다름
+            try (ViewCountLog other = ViewCountLog.tryOpen(directory, TargetType.TECH_BLOG, 4096)) {
+                assertNotNull(other);
+            }
+        }
+
+        try (ViewCountLog reopened = ViewCountLog.tryOpen(directory, TargetType.JOB, 4096)) {
+            assertNotNull(reopened);
+        }
+    }
+
+    @Test
+    void open_slotInUse_usesNextSlotAndKeepsRecordsSeparate() {
+        ViewCountLogFactory factory = new ViewCountLogFactory(true, directory.toString(), 1, 2);
+
+        // given - 기존 프로세스가 slot-0 을 쓰는 중
+        ViewCountLog running = factory.open(TargetType.JOB).orElseThrow();
+        ViewCountAccumulator runningCounts = new ViewCountAccumulator();
+        runningCounts.attachLog(running);
+        runningCounts.increment(1L);
+
+        // when - 새 프로세스가 열면 다른 slot 을 쓰고 기존 증가분을 복구하지 않음
+        ViewCountLog started = factory.open(TargetType.JOB).orElseThrow();
+        ViewCountAccumulator startedCounts = new ViewCountAccumulator();
+        long recovered = startedCounts.attachLog(started);
+
+        // then
+        assertEquals(0, recovered);
+        assertEquals(Optional.empty(), factory.open(TargetType.JOB));
+
+        // 기존 프로세스가 flush 없이 죽으면 slot-0 의 증가분은 다음에 slot-0 을 잡은 쪽이 복구
+        running.close();
+        try (ViewCountLog next = factory.open(TargetType.JOB).orElseThrow()) {
+            assertEquals(1, new ViewCountAccumulator().attachLog(next));
+        }
+        started.close();
+    }
+}
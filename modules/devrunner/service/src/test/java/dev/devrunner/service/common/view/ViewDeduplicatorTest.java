@@ -0,0 +1,76 @@
+package dev.devrunner.service.common.view;
+
+import dev.devrunner.model.common.TargetType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewDeduplicatorTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(30);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private final ViewDeduplicator deduplicator = new ViewDeduplicator(true, WINDOW, 10_000, 0.01, now::get);
+
+    @Test
+    void firstView_repeatedWithinWindow_countsOnce() {
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+        assertFalse(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+
+        now.addAndGet(WINDOW.toMillis() - 1);
+        assertFalse(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+    }
+
+    @Test
+    void firstView_differentViewerOrTarget_countsEach() {
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, "user:2"));
+        assertTrue(deduplicator.firstView(TargetType.JOB, 2L, "user:1"));
+        assertTrue(deduplicator.firstView(TargetType.TECH_BLOG, 1L, "user:1"));
+    }
+
+    @Test
+    void firstView_afterOneWindow_stillRemembersPreviousWindow() {
+        // given
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+
+        // when - filter 교체 직후
+        now.addAndGet(WINDOW.toMillis());
+
+        // then
+        assertFalse(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+    }
+
+    @Test
+    void firstView_afterTwoWindows_countsAgain() {
+        // given
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+
+        // when - 기록된 창과 그 다음 창이 모두 지남
+        now.addAndGet(WINDOW.toMillis());
+        assertTrue(deduplicator.firstView(TargetType.JOB, 2L, "user:1"));
+        now.addAndGet(WINDOW.toMillis());
+
+        // then
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, "user:1"));
+    }
+
+    @Test
+    void firstView_unknownViewer_alwaysCounts() {
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, null));
+        assertTrue(deduplicator.firstView(TargetType.JOB, 1L, null));
+    }
+
+    @Test
+    void firstView_disabled_alwaysCounts() {
+        ViewDeduplicator disabled = new ViewDeduplicator(false, WINDOW, 10_000, 0.01, now::get);
+
+        assertTrue(disabled.firstView(TargetType.JOB, 1L, "user:1"));
+        assertTrue(disabled.firstView(TargetType.JOB, 1L, "user:1"));
+    }
+}
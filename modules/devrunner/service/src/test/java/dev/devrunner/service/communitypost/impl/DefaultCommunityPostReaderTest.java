@@ -9,6 +9,8 @@ import dev.devrunner.model.communitypost.CommunityPostRead;
 import dev.devrunner.model.communitypost.LinkedContent;
 import dev.devrunner.model.common.Popularity;
 import dev.devrunner.service.communitypost.view.CommunityPostViewMemory;
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.service.common.view.ViewDeduplicator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -31,6 +33,9 @@ class DefaultCommunityPostReaderTest {
     @Mock
     private CommunityPostViewMemory communityPostViewMemory;
 
+    @Mock
+    private ViewDeduplicator viewDeduplicator;
+
     @InjectMocks
     private DefaultCommunityPostReader communityPostReader;
 
@@ -58,6 +63,7 @@ class DefaultCommunityPostReaderTest {
         // given
         when(communityPostRepository.findById(testIdentity))
             .thenReturn(Optional.of(samplePostRead));
+        when(viewDeduplicator.firstView(TargetType.COMMUNITY_POST, 1L, null)).thenReturn(true);
 
         // when
         CommunityPostRead result = communityPostReader.read(testIdentity);
@@ -71,6 +77,21 @@ class DefaultCommunityPostReaderTest {
         verify(communityPostViewMemory).countUp(1L);
     }
 
+    @Test
+    void read_repeatedViewer_returnsWithoutIncrementingViewCount() {
+        // given
+        when(communityPostRepository.findById(testIdentity))
+            .thenReturn(Optional.of(samplePostRead));
+        when(viewDeduplicator.firstView(TargetType.COMMUNITY_POST, 1L, "user:1")).thenReturn(false);
+
+        // when
+        CommunityPostRead result = communityPostReader.read(testIdentity, "user:1");
+
+        // then
+        assertNotNull(result);
+        verify(communityPostViewMemory, never()).countUp(any());
+    }
+
     @Test
     void read_nonExistingId_throwsCommunityPostNotFoundException() {
         // given
@@ -1,7 +1,11 @@
 package dev.devrunner.service.communitypost.view;
 
 import dev.devrunner.infra.communitypost.repository.CommunityPostRepository;
+import dev.devrunner.model.common.TargetType;
 import dev.devrunner.model.communitypost.CommunityPostIdentity;
+import dev.devrunner.outbox.command.RecordOutboxEventCommand;
+import dev.devrunner.outbox.recorder.OutboxEventRecorder;
+import dev.devrunner.service.common.view.ViewCountAccumulator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,9 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,18 +28,20 @@ class DefaultCommunityPostViewMemoryTest {
     @Mock
     private CommunityPostRepository communityPostRepository;
 
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     private DefaultCommunityPostViewMemory viewMemory;
 
-    private Map<Long, AtomicLong> viewCounts;
+    private ViewCountAccumulator viewCounts;
 
     @BeforeEach
     void setUp() throws Exception {
         // Reflection을 사용하여 private viewCounts 필드에 접근
         Field field = DefaultCommunityPostViewMemory.class.getDeclaredField("viewCounts");
         field.setAccessible(true);
-        viewCounts = (Map<Long, AtomicLong>) field.get(viewMemory);
-        viewCounts.clear();
+        viewCounts = (ViewCountAccumulator) field.get(viewMemory);
     }
 
     @Test
@@ -48,8 +53,8 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(postId);
 
         // then
-        assertTrue(viewCounts.containsKey(postId));
-        assertEquals(1, viewCounts.get(postId).get());
+        assertFalse(viewCounts.isEmpty());
+        assertEquals(1, viewCounts.get(postId));
     }
 
     @Test
@@ -63,7 +68,7 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(postId);
 
         // then
-        assertEquals(3, viewCounts.get(postId).get());
+        assertEquals(3, viewCounts.get(postId));
     }
 
     @Test
@@ -85,54 +90,48 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(postId2);
 
         // then
-        assertEquals(2, viewCounts.get(postId1).get());
-        assertEquals(1, viewCounts.get(postId2).get());
+        assertEquals(2, viewCounts.get(postId1));
+        assertEquals(1, viewCounts.get(postId2));
     }
 
     @Test
-    void flush_withViewCounts_callsRepositoryIncreaseViewCount() {
+    void flush_withViewCounts_callsRepositoryIncreaseViewCounts() {
         // given
         Long postId = 1L;
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId)),
-            eq(3L)
-        );
+        verify(communityPostRepository).increaseViewCounts(Map.of(new CommunityPostIdentity(postId), 3L));
+        verify(communityPostRepository, never()).increaseViewCount(any(), anyLong());
+        verify(outboxEventRecorder).recordAll(List.of(
+            RecordOutboxEventCommand.popularityOnly(TargetType.COMMUNITY_POST, postId)
+        ));
         assertTrue(viewCounts.isEmpty());
     }
 
     @Test
-    void flush_withMultiplePosts_callsRepositoryForEach() {
+    void flush_withMultiplePosts_callsRepositoryOnceInBatch() {
         // given
         Long postId1 = 1L;
         Long postId2 = 2L;
         viewMemory.countUp(postId1);
         viewMemory.countUp(postId1);
         viewMemory.countUp(postId2);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId1)),
-            eq(2L)
-        );
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId2)),
-            eq(1L)
-        );
+        verify(communityPostRepository).increaseViewCounts(Map.of(
+            new CommunityPostIdentity(postId1), 2L,
+            new CommunityPostIdentity(postId2), 1L
+        ));
+        verify(outboxEventRecorder).recordAll(argThat(commands -> commands.size() == 2));
         assertTrue(viewCounts.isEmpty());
     }
 
@@ -145,11 +144,13 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.flush();
 
         // then
+        verify(communityPostRepository, never()).increaseViewCounts(anyMap());
         verify(communityPostRepository, never()).increaseViewCount(any(), anyLong());
+        verifyNoInteractions(outboxEventRecorder);
     }
 
     @Test
-    void flush_repositoryThrowsException_continuesProcessing() {
+    void flush_batchFails_fallsBackToEachAndRequeuesFailed() {
         // given
         Long postId1 = 1L;
         Long postId2 = 2L;
@@ -158,10 +159,11 @@ class DefaultCommunityPostViewMemoryTest {
 
         doThrow(new RuntimeException("DB error"))
             .when(communityPostRepository)
-            .increaseViewCount(eq(new CommunityPostIdentity(postId1)), anyLong());
+            .increaseViewCounts(anyMap());
 
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(eq(new CommunityPostIdentity(postId2)), anyLong());
+        doThrow(new RuntimeException("DB error"))
+            .when(communityPostRepository)
+            .increaseViewCount(eq(new CommunityPostIdentity(postId1)), anyLong());
 
         // when
         viewMemory.flush();
@@ -175,7 +177,25 @@ class DefaultCommunityPostViewMemoryTest {
             eq(new CommunityPostIdentity(postId2)),
             eq(1L)
         );
-        assertTrue(viewCounts.isEmpty());
+        verify(outboxEventRecorder).recordAll(List.of(
+            RecordOutboxEventCommand.popularityOnly(TargetType.COMMUNITY_POST, postId2)
+        ));
+        // 반영하지 못한 증가분은 다음 flush 를 위해 다시 누적됨
+        assertEquals(1, viewCounts.get(postId1));
+        assertEquals(0, viewCounts.get(postId2));
+    }
+
+    @Test
+    void flush_outboxFails_doesNotThrow() {
+        // given
+        viewMemory.countUp(1L);
+        doThrow(new RuntimeException("outbox error"))
+            .when(outboxEventRecorder)
+            .recordAll(anyList());
+
+        // when & then
+        assertDoesNotThrow(() -> viewMemory.flush());
+        verify(communityPostRepository).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -184,8 +204,6 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(1L);
         viewMemory.countUp(2L);
         viewMemory.countUp(3L);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
@@ -200,14 +218,12 @@ class DefaultCommunityPostViewMemoryTest {
         Long postId = 1L;
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
         viewMemory.countUp(postId);
 
         // then
-        assertEquals(1, viewCounts.get(postId).get());
+        assertEquals(1, viewCounts.get(postId));
     }
 }
@@ -7,6 +7,8 @@ import dev.devrunner.model.common.Popularity;
 import dev.devrunner.model.common.TechCategory;
 import dev.devrunner.model.job.*;
 import dev.devrunner.service.job.view.JobViewMemory;
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.service.common.view.ViewDeduplicator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,6 +31,9 @@ class DefaultJobReaderTest {
     @Mock
     private JobViewMemory jobViewMemory;
 
+    @Mock
+    private ViewDeduplicator viewDeduplicator;
+
     @InjectMocks
     private DefaultJobReader jobReader;
 
@@ -66,6 +71,7 @@ class DefaultJobReaderTest {
         // given
         when(jobRepository.findById(testIdentity))
             .thenReturn(Optional.of(sampleJob));
+        when(viewDeduplicator.firstView(TargetType.JOB, 1L, null)).thenReturn(true);
 
         // when
         Job result = jobReader.read(testIdentity);
@@ -78,6 +84,21 @@ class DefaultJobReaderTest {
         verify(jobViewMemory).countUp(1L);
     }
 
+    @Test
+    void read_repeatedViewer_returnsWithoutIncrementingViewCount() {
+        // given
+        when(jobRepository.findById(testIdentity))
+            .thenReturn(Optional.of(sampleJob));
+        when(viewDeduplicator.firstView(TargetType.JOB, 1L, "user:1")).thenReturn(false);
+
+        // when
+        Job result = jobReader.read(testIdentity, "user:1");
+
+        // then
+        assertNotNull(result);
+        verify(jobViewMemory, never()).countUp(any());
+    }
+
     @Test
     void read_nonExistingId_throwsJobNotFoundException() {
         // given
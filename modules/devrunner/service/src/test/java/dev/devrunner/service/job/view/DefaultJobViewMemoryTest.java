@@ -1,7 +1,11 @@
 package dev.devrunner.service.job.view;
 
 import dev.devrunner.infra.job.repository.JobRepository;
+import dev.devrunner.model.common.TargetType;
 import dev.devrunner.model.job.JobIdentity;
+import dev.devrunner.outbox.command.RecordOutboxEventCommand;
+import dev.devrunner.outbox.recorder.OutboxEventRecorder;
+import dev.devrunner.service.common.view.ViewCountAccumulator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,8 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,18 +28,20 @@ class DefaultJobViewMemoryTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     private DefaultJobViewMemory viewMemory;
 
-    private Map<Long, AtomicLong> viewCounts;
+    private ViewCountAccumulator viewCounts;
 
     @BeforeEach
     void setUp() throws Exception {
         // Reflection을 사용하여 private viewCounts 필드에 접근
         Field field = DefaultJobViewMemory.class.getDeclaredField("viewCounts");
         field.setAccessible(true);
-        viewCounts = (Map<Long, AtomicLong>) field.get(viewMemory);
-        viewCounts.clear();
+        viewCounts = (ViewCountAccumulator) field.get(viewMemory);
     }
 
     @Test
@@ -47,8 +53,8 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(jobId);
 
         // then
-        assertTrue(viewCounts.containsKey(jobId));
-        assertEquals(1, viewCounts.get(jobId).get());
+        assertFalse(viewCounts.isEmpty());
+        assertEquals(1, viewCounts.get(jobId));
     }
 
     @Test
@@ -62,7 +68,7 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(jobId);
 
         // then
-        assertEquals(3, viewCounts.get(jobId).get());
+        assertEquals(3, viewCounts.get(jobId));
     }
 
     @Test
@@ -84,54 +90,48 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(jobId2);
 
         // then
-        assertEquals(2, viewCounts.get(jobId1).get());
-        assertEquals(1, viewCounts.get(jobId2).get());
+        assertEquals(2, viewCounts.get(jobId1));
+        assertEquals(1, viewCounts.get(jobId2));
     }
 
     @Test
-    void flush_withViewCounts_callsRepositoryIncreaseViewCount() {
+    void flush_withViewCounts_callsRepositoryIncreaseViewCounts() {
         // given
         Long jobId = 1L;
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId)),
-            eq(3L)
-        );
+        verify(jobRepository).increaseViewCounts(Map.of(new JobIdentity(jobId), 3L));
+        verify(jobRepository, never()).increaseViewCount(any(), anyLong());
+        verify(outboxEventRecorder).recordAll(List.of(
+            RecordOutboxEventCommand.popularityOnly(TargetType.JOB, jobId)
+        ));
         assertTrue(viewCounts.isEmpty());
     }
 
     @Test
-    void flush_withMultipleJobs_callsRepositoryForEach() {
+    void flush_withMultipleJobs_callsRepositoryOnceInBatch() {
         // given
         Long jobId1 = 1L;
         Long jobId2 = 2L;
         viewMemory.countUp(jobId1);
         viewMemory.countUp(jobId1);
         viewMemory.countUp(jobId2);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId1)),
-            eq(2L)
-        );
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId2)),
-            eq(1L)
-        );
+        verify(jobRepository).increaseViewCounts(Map.of(
+            new JobIdentity(jobId1), 2L,
+            new JobIdentity(jobId2), 1L
+        ));
+        verify(outboxEventRecorder).recordAll(argThat(commands -> commands.size() == 2));
         assertTrue(viewCounts.isEmpty());
     }
 
@@ -144,11 +144,13 @@ class DefaultJobViewMemoryTest {
         viewMemory.flush();
 
         // then
+        verify(jobRepository, never()).increaseViewCounts(anyMap());
         verify(jobRepository, never()).increaseViewCount(any(), anyLong());
+        verifyNoInteractions(outboxEventRecorder);
     }
 
     @Test
-    void flush_repositoryThrowsException_continuesProcessing() {
+    void flush_batchFails_fallsBackToEachAndRequeuesFailed() {
         // given
         Long jobId1 = 1L;
         Long jobId2 = 2L;
@@ -157,10 +159,11 @@ class DefaultJobViewMemoryTest {
 
         doThrow(new RuntimeException("DB error"))
             .when(jobRepository)
-            .increaseViewCount(eq(new JobIdentity(jobId1)), anyLong());
+            .increaseViewCounts(anyMap());
 
-        doNothing().when(jobRepository)
-            .increaseViewCount(eq(new JobIdentity(jobId2)), anyLong());
+        doThrow(new RuntimeException("DB error"))
+            .when(jobRepository)
+            .increaseViewCount(eq(new JobIdentity(jobId1)), anyLong());
 
         // when
         viewMemory.flush();
@@ -174,7 +177,25 @@ class DefaultJobViewMemoryTest {
             eq(new JobIdentity(jobId2)),
             eq(1L)
         );
-        assertTrue(viewCounts.isEmpty());
+        verify(outboxEventRecorder).recordAll(List.of(
+            RecordOutboxEventCommand.popularityOnly(TargetType.JOB, jobId2)
+        ));
+        // 반영하지 못한 증가분은 다음 flush 를 위해 다시 누적됨
+        assertEquals(1, viewCounts.get(jobId1));
+        assertEquals(0, viewCounts.get(jobId2));
+    }
+
+    @Test
+    void flush_outboxFails_doesNotThrow() {
+        // given
+        viewMemory.countUp(1L);
+        doThrow(new RuntimeException("outbox error"))
+            .when(outboxEventRecorder)
+            .recordAll(anyList());
+
+        // when & then
+        assertDoesNotThrow(() -> viewMemory.flush());
+        verify(jobRepository).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -183,8 +204,6 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(1L);
         viewMemory.countUp(2L);
         viewMemory.countUp(3L);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
@@ -199,14 +218,12 @@ class DefaultJobViewMemoryTest {
         Long jobId = 1L;
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
         viewMemory.countUp(jobId);
 
         // then
-        assertEquals(1, viewCounts.get(jobId).get());
+        assertEquals(1, viewCounts.get(jobId));
     }
 }
@@ -6,6 +6,8 @@ import dev.devrunner.model.common.Popularity;
 import dev.devrunner.model.techblog.TechBlog;
 import dev.devrunner.model.techblog.TechBlogIdentity;
 import dev.devrunner.service.techblog.view.TechBlogViewMemory;
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.service.common.view.ViewDeduplicator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -28,6 +30,9 @@ class DefaultTechBlogReaderTest {
     @Mock
     private TechBlogViewMemory techBlogViewMemory;
 
+    @Mock
+    private ViewDeduplicator viewDeduplicator;
+
     @InjectMocks
     private DefaultTechBlogReader techBlogReader;
 
@@ -56,6 +61,7 @@ class DefaultTechBlogReaderTest {
         // given
         when(techBlogRepository.findById(testIdentity))
                 .thenReturn(Optional.of(sampleBlog));
+        when(viewDeduplicator.firstView(TargetType.TECH_BLOG, 1L, null)).thenReturn(true);
 
         // when
         TechBlog result = techBlogReader.read(testIdentity);
@@ -68,6 +74,21 @@ class DefaultTechBlogReaderTest {
         verify(techBlogViewMemory).countUp(1L);
     }
 
+    @Test
+    void read_repeatedViewer_returnsWithoutIncrementingViewCount() {
+        // given
+        when(techBlogRepository.findById(testIdentity))
+                .thenReturn(Optional.of(sampleBlog));
+        when(viewDeduplicator.firstView(TargetType.TECH_BLOG, 1L, "user:1")).thenReturn(false);
+
+        // when
+        TechBlog result = techBlogReader.read(testIdentity, "user:1");
+
+        // then
+        assertNotNull(result);
+        verify(techBlogViewMemory, never()).countUp(any());
+    }
+
     @Test
     void read_nonExistingId_throwsTechBlogNotFoundException() {
         // given
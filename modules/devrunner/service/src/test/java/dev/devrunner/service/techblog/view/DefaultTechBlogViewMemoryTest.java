@@ -1,7 +1,11 @@
 package dev.devrunner.service.techblog.view;
 
 import dev.devrunner.infra.techblog.repository.TechBlogRepository;
+import dev.devrunner.model.common.TargetType;
 import dev.devrunner.model.techblog.TechBlogIdentity;
+import dev.devrunner.outbox.command.RecordOutboxEventCommand;
+import dev.devrunner.outbox.recorder.OutboxEventRecorder;
+import dev.devrunner.service.common.view.ViewCountAccumulator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,8 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,18 +28,20 @@ class DefaultTechBlogViewMemoryTest {
     @Mock
     private TechBlogRepository techBlogRepository;
 
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     private DefaultTechBlogViewMemory viewMemory;
 
-    private Map<Long, AtomicLong> viewCounts;
+    private ViewCountAccumulator viewCounts;
 
     @BeforeEach
     void setUp() throws Exception {
         // Reflection을 사용하여 private viewCounts 필드에 접근
         Field field = DefaultTechBlogViewMemory.class.getDeclaredField("viewCounts");
         field.setAccessible(true);
-        viewCounts = (Map<Long, AtomicLong>) field.get(viewMemory);
-        viewCounts.clear();
+        viewCounts = (ViewCountAccumulator) field.get(viewMemory);
     }
 
     @Test
@@ -47,8 +53,8 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(blogId);
 
         // then
-        assertTrue(viewCounts.containsKey(blogId));
-        assertEquals(1, viewCounts.get(blogId).get());
+        assertFalse(viewCounts.isEmpty());
+        assertEquals(1, viewCounts.get(blogId));
     }
 
     @Test
@@ -62,7 +68,7 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(blogId);
 
         // then
-        assertEquals(3, viewCounts.get(blogId).get());
+        assertEquals(3, viewCounts.get(blogId));
     }
 
     @Test
@@ -84,54 +90,48 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(blogId2);
 
         // then
-        assertEquals(2, viewCounts.get(blogId1).get());
-        assertEquals(1, viewCounts.get(blogId2).get());
+        assertEquals(2, viewCounts.get(blogId1));
+        assertEquals(1, viewCounts.get(blogId2));
     }
 
     @Test
-    void flush_withViewCounts_callsRepositoryIncreaseViewCount() {
+    void flush_withViewCounts_callsRepositoryIncreaseViewCounts() {
         // given
         Long blogId = 1L;
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId)),
-            eq(3L)
-        );
+        verify(techBlogRepository).increaseViewCounts(Map.of(new TechBlogIdentity(blogId), 3L));
+        verify(techBlogRepository, never()).increaseViewCount(any(), anyLong());
+        verify(outboxEventRecorder).recordAll(List.of(
+            RecordOutboxEventCommand.popularityOnly(TargetType.TECH_BLOG, blogId)
+        ));
         assertTrue(viewCounts.isEmpty());
     }
 
     @Test
-    void flush_withMultipleBlogs_callsRepositoryForEach() {
+    void flush_withMultipleBlogs_callsRepositoryOnceInBatch() {
         // given
         Long blogId1 = 1L;
         Long blogId2 = 2L;
         viewMemory.countUp(blogId1);
         viewMemory.countUp(blogId1);
         viewMemory.countUp(blogId2);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId1)),
-            eq(2L)
-        );
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId2)),
-            eq(1L)
-        );
+        verify(techBlogRepository).increaseViewCounts(Map.of(
+            new TechBlogIdentity(blogId1), 2L,
+            new TechBlogIdentity(blogId2), 1L
+        ));
+        verify(outboxEventRecorder).recordAll(argThat(commands -> commands.size() == 2));
         assertTrue(viewCounts.isEmpty());
     }
 
@@ -144,11 +144,13 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.flush();
 
         // then
+        verify(techBlogRepository, never()).increaseViewCounts(anyMap());
         verify(techBlogRepository, never()).increaseViewCount(any(), anyLong());
+        verifyNoInteractions(outboxEventRecorder);
     }
 
     @Test
-    void flush_repositoryThrowsException_continuesProcessing() {
+    void flush_batchFails_fallsBackToEachAndRequeuesFailed() {
         // given
         Long blogId1 = 1L;
         Long blogId2 = 2L;
@@ -157,10 +159,11 @@ class DefaultTechBlogViewMemoryTest {
 
         doThrow(new RuntimeException("DB error"))
             .when(techBlogRepository)
-            .increaseViewCount(eq(new TechBlogIdentity(blogId1)), anyLong());
+            .increaseViewCounts(anyMap());
 
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(eq(new TechBlogIdentity(blogId2)), anyLong());
+        doThrow(new RuntimeException("DB error"))
+            .when(techBlogRepository)
+            .increaseViewCount(eq(new TechBlogIdentity(blogId1)), anyLong());
 
         // when
         viewMemory.flush();
@@ -174,7 +177,25 @@ class DefaultTechBlogViewMemoryTest {
             eq(new TechBlogIdentity(blogId2)),
             eq(1L)
         );
-        assertTrue(viewCounts.isEmpty());
+        verify(outboxEventRecorder).recordAll(List.of(
+            RecordOutboxEventCommand.popularityOnly(TargetType.TECH_BLOG, blogId2)
+        ));
+        // 반영하지 못한 증가분은 다음 flush 를 위해 다시 누적됨
+        assertEquals(1, viewCounts.get(blogId1));
+        assertEquals(0, viewCounts.get(blogId2));
+    }
+
+    @Test
+    void flush_outboxFails_doesNotThrow() {
+        // given
+        viewMemory.countUp(1L);
+        doThrow(new RuntimeException("outbox error"))
+            .when(outboxEventRecorder)
+            .recordAll(anyList());
+
+        // when & then
+        assertDoesNotThrow(() -> viewMemory.flush());
+        verify(techBlogRepository).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -183,8 +204,6 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(1L);
         viewMemory.countUp(2L);
         viewMemory.countUp(3L);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
@@ -199,14 +218,12 @@ class DefaultTechBlogViewMemoryTest {
         Long blogId = 1L;
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
         viewMemory.countUp(blogId);
 
         // then
-        assertEquals(1, viewCounts.get(blogId).get());
+        assertEquals(1, viewCounts.get(blogId));
     }
 }
@@ -12,11 +12,14 @@ CREATE TABLE IF NOT EXISTS outbox_events (
     target_type VARCHAR(50) NOT NULL,      -- JOB, TECH_BLOG, COMMUNITY_POST
     target_id BIGINT NOT NULL,
     update_type VARCHAR(50) NOT NULL,      -- CREATED, UPDATED, POPULARITY_ONLY, DELETED
-    status VARCHAR(20) NOT NULL,           -- WAIT, PROCESSING, COMPLETED, FAILED
+    status VARCHAR(20) NOT NULL,           -- WAIT, PROCESSING, COMPLETED, FAILED, DEAD
     retry_count INT NOT NULL DEFAULT 0,
     error_message TEXT,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    processed_at TIMESTAMP
+    processed_at TIMESTAMP,
+    lease_owner VARCHAR(100),              -- PROCESSING 상태를 점유한 워커 (claim)
+    lease_expires_at TIMESTAMP NULL,  -- lease 만료 시각, 지나면 reaper가 실패한 시도로 보고 FAILED/DEAD 처리
+    next_attempt_at TIMESTAMP NULL    -- 실패 후 다음 재시도 가능 시각 (backoff)
 );
 
 -- Index for efficient polling of pending events
@@ -27,3 +30,27 @@ CREATE INDEX IF NOT EXISTS idx_outbox_target ON outbox_events(target_type, targe
 
 -- Index for filtering by update type
 CREATE INDEX IF NOT EXISTS idx_outbox_update_type ON outbox_events(update_type, status);
+
+-- Index for reaping expired leases
+CREATE INDEX IF NOT EXISTS idx_outbox_lease ON outbox_events(status, lease_expires_at);
+
+-- Index for re-queueing failed events after backoff
+CREATE INDEX IF NOT EXISTS idx_outbox_retry ON outbox_events(status, next_attempt_at);
+
+-- ========================================
+-- Migration: lease 컬럼 추가
+-- ========================================
+-- 여러 배치 파드가 outbox 를 병렬로 소비할 수 있도록 claim/lease 컬럼 추가
+-- 이미 운영 중인 테이블이므로 ALTER TABLE로 컬럼 추가
+--
+-- ALTER TABLE outbox_events ADD COLUMN lease_owner VARCHAR(100) AFTER processed_at;
+-- ALTER TABLE outbox_events ADD COLUMN lease_expires_at TIMESTAMP NULL AFTER lease_owner;
+
+-- ========================================
+-- Migration: 재시도 backoff / DEAD 상태
+-- ========================================
+-- 실패한 이벤트를 backoff 후 다시 WAIT 로 되돌리기 위한 next_attempt_at 컬럼 추가
+-- 최대 재시도를 넘긴 이벤트는 status = 'DEAD' 로 남는다 (status 는 VARCHAR 라 스키마 변경 없음)
+--
+-- ALTER TABLE outbox_events ADD COLUMN next_attempt_at TIMESTAMP NULL AFTER lease_expires_at;
+-- CREATE INDEX idx_outbox_retry ON outbox_events(status, next_attempt_at);
@@ -12,11 +12,14 @@ CREATE TABLE IF NOT EXISTS outbox_events (
     target_type VARCHAR(50) NOT NULL,      -- JOB, TECH_BLOG, COMMUNITY_POST
     target_id BIGINT NOT NULL,
     update_type VARCHAR(50) NOT NULL,      -- CREATED, UPDATED, POPULARITY_ONLY, DELETED
-    status VARCHAR(20) NOT NULL,           -- WAIT, PROCESSING, COMPLETED, FAILED
+    status VARCHAR(20) NOT NULL,           -- WAIT, PROCESSING, COMPLETED, FAILED, DEAD
     retry_count INT NOT NULL DEFAULT 0,
     error_message TEXT,
     updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
-    processed_at TIMESTAMP WITH TIME ZONE
+    processed_at TIMESTAMP WITH TIME ZONE,
+    lease_owner VARCHAR(100),              -- PROCESSING 상태를 점유한 워커 (claim)
+    lease_expires_at TIMESTAMP WITH TIME ZONE,  -- lease 만료 시각, 지나면 reaper가 실패한 시도로 보고 FAILED/DEAD 처리
+    next_attempt_at TIMESTAMP WITH TIME ZONE    -- 실패 후 다음 재시도 가능 시각 (backoff)
 );
 
 -- Index for efficient polling of pending events
@@ -27,3 +30,9 @@ CREATE INDEX IF NOT EXISTS idx_outbox_target ON outbox_events(target_type, targe
 
 -- Index for filtering by update type
 CREATE INDEX IF NOT EXISTS idx_outbox_update_type ON outbox_events(update_type, status);
+
+-- Index for reaping expired leases
+CREATE INDEX IF NOT EXISTS idx_outbox_lease ON outbox_events(status, lease_expires_at);
+
+-- Index for re-queueing failed events after backoff
+CREATE INDEX IF NOT EXISTS idx_outbox_retry ON outbox_events(status, next_attempt_at);
@@ -304,6 +304,27 @@ CREATE INDEX IF NOT EXISTS idx_crawl_theirstack_jobs_company ON crawl_theirstack
 CREATE INDEX IF NOT EXISTS idx_crawl_theirstack_jobs_date_posted ON crawl_theirstack_jobs (date_posted DESC);
 CREATE INDEX IF NOT EXISTS idx_crawl_theirstack_jobs_created_at ON crawl_theirstack_jobs (created_at DESC);
 
+-- ========================================
+-- 임베딩 캐시 테이블
+-- ========================================
+
+-- 문장 임베딩 캐시 (content_hash = sha256(model + 원문))
+-- 원문이 바뀌지 않으면 재색인 시 vectorizer 를 다시 호출하지 않음
+CREATE TABLE IF NOT EXISTS embedding_cache (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    model VARCHAR(100) NOT NULL,
+    dimension INT NOT NULL,
+    vector_data VARBINARY(16384) NOT NULL,      -- float32 little-endian
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- ES 인덱스 세대 카운터 (색인될 때마다 증가, 검색 결과 캐시 무효화용)
+CREATE TABLE IF NOT EXISTS es_index_generation (
+    index_name VARCHAR(100) PRIMARY KEY,
+    generation BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
 -- ========================================
 -- 외래키 정책
 -- ========================================
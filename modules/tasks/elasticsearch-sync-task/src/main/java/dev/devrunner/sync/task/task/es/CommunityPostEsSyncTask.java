@@ -3,20 +3,32 @@ package dev.devrunner.sync.task.task.es;
 import dev.devrunner.elasticsearch.api.communitypost.CommunityPostIndexer;
 import dev.devrunner.elasticsearch.api.communitypost.CommunityPostPopularityManager;
 import dev.devrunner.elasticsearch.document.CommunityPostDoc;
+import dev.devrunner.elasticsearch.internal.indexer.BulkIndexResult;
 import dev.devrunner.elasticsearch.mapper.CommunityPostDocMapper;
 import dev.devrunner.infra.communitypost.repository.CommunityPostRepository;
+import dev.devrunner.model.common.Popularity;
 import dev.devrunner.model.common.TargetType;
-import dev.devrunner.model.communitypost.CommunityPost;
 import dev.devrunner.model.communitypost.CommunityPostIdentity;
 import dev.devrunner.model.communitypost.CommunityPostRead;
-import dev.devrunner.outbox.command.FindPendingEventsCommand;
+import dev.devrunner.outbox.command.ClaimPendingEventsCommand;
+import dev.devrunner.outbox.model.CoalescedOutboxEvent;
+import dev.devrunner.outbox.model.EventStatus;
 import dev.devrunner.outbox.model.OutboxEvent;
+import dev.devrunner.outbox.model.OutboxRetryPolicy;
+import dev.devrunner.outbox.model.UpdateType;
+import dev.devrunner.outbox.reader.OutboxEventCoalescer;
 import dev.devrunner.outbox.reader.OutboxEventReader;
+import dev.devrunner.sync.task.worker.SyncWorkerPools;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -27,74 +39,147 @@ public class CommunityPostEsSyncTask {
     private final CommunityPostPopularityManager communityPostPopularityManager;
     private final CommunityPostRepository communityPostRepository;
     private final OutboxEventReader outboxEventReader;
+    private final SyncWorkerPools syncWorkerPools;
+    private final OutboxRetryPolicy outboxRetryPolicy;
     private final CommunityPostDocMapper communityPostDocMapper;
 
-    public void run() {
+    /**
+     * @return claim 한 이벤트 수 (0 이면 처리할 이벤트가 없었음)
+     */
+    public int run() {
         log.info("Starting CommunityPost ES sync task");
 
-        // 1. 미처리 이벤트 조회 (COMMUNITY_POST 타입만, 최대 100개)
-        List<OutboxEvent> events = outboxEventReader.findPending(
-                FindPendingEventsCommand.ofType(100, TargetType.COMMUNITY_POST)
-        );
+        // 1. 미처리 이벤트 claim (COMMUNITY_POST 타입만, 최대 100개) - PROCESSING 으로 점유되어 다른 파드와 중복 처리되지 않음
+        ClaimPendingEventsCommand claimCommand = ClaimPendingEventsCommand.ofType(100, TargetType.COMMUNITY_POST);
+        List<OutboxEvent> events = outboxEventReader.claim(claimCommand);
 
         if (events.isEmpty()) {
             log.debug("No pending events to process");
-            return;
+            return 0;
         }
 
-        log.info("Found {} pending events", events.size());
+        // 2. 같은 communityPost 의 이벤트는 하나로 합쳐서 한 번만 처리
+        List<CoalescedOutboxEvent> targets = OutboxEventCoalescer.coalesce(events);
+        log.info("Found {} pending events ({} communityPosts after coalescing)", events.size(), targets.size());
 
-        // 2. 각 이벤트를 하나씩 처리 & 상태 업데이트
-        int successCount = 0;
-        int failCount = 0;
+        // 3~5. targetId 기준으로 lane 을 나눠 병렬 처리 (같은 문서는 항상 같은 lane 에서 순서대로)
+        List<OutboxEvent> processed = syncWorkerPools.of(TargetType.COMMUNITY_POST)
+                .executeAll(targets, this::process, this::markAllFailed);
 
-        for (OutboxEvent event : events) {
+        // 6. 완료/실패 상태를 한 번에 반영
+        outboxEventReader.updateBatch(processed, claimCommand.getLeaseOwner());
+
+        long failCount = processed.stream().filter(event -> event.getStatus() != EventStatus.COMPLETED).count();
+        log.info("CommunityPost ES sync completed: success={}, failed={}", processed.size() - failCount, failCount);
+        return events.size();
+    }
+
+    /**
+     * lane 하나에 배정된 대상 처리 - 완료/실패 처리된 이벤트 반환
+     */
+    private List<OutboxEvent> process(List<CoalescedOutboxEvent> targets) {
+        // 대상 row 는 lane 안에서 한 번에 조회 (이벤트마다 findById 하지 않음)
+        // worker 와 cron 의 run 이 겹쳐도 같은 문서는 같은 lane 에서 순서대로 조회 → 색인되므로
+        // 먼저 읽은 오래된 row 가 나중에 읽은 row 를 덮어쓰지 않는다.
+        Map<Long, CommunityPostRead> communityPosts = loadTargets(targets);
+
+        // 전체 색인 대상과 인기도 대상을 나눠서 모음 (상태는 호출한 쪽에서 모아서 반영)
+        List<OutboxEvent> processed = new ArrayList<>();
+
+        Map<String, CommunityPostDoc> docs = new LinkedHashMap<>();
+        Map<String, CoalescedOutboxEvent> targetsByDocId = new LinkedHashMap<>();
+        Map<String, Popularity> popularities = new LinkedHashMap<>();
+        Map<String, CoalescedOutboxEvent> popularityTargetsByDocId = new LinkedHashMap<>();
+
+        for (CoalescedOutboxEvent target : targets) {
             try {
-                processEvent(event);
-                outboxEventReader.update(event.markAsCompleted());
-                successCount++;
+                if (target.getUpdateType() == UpdateType.POPULARITY_ONLY) {
+                    // POPULARITY_ONLY -> 인기도 필드만 부분 업데이트 대상에 추가
+                    CommunityPostRead communityPost = getTarget(target, communityPosts);
+                    String docId = CommunityPostDoc.docId(communityPost.getCommunityPostId());
+                    popularities.put(docId, communityPost.getPopularity());
+                    popularityTargetsByDocId.put(docId, target);
+                    continue;
+                }
+
+                // CREATED, UPDATED, DELETED -> 문서 생성 후 bulk 대상에 추가
+                CommunityPostDoc communityPostDoc = buildDoc(target, communityPosts);
+                // 검증에 실패한 문서도 indexer 가 같은 key 로 결과를 돌려주도록 원본 id 기준 docId 사용
+                String docId = CommunityPostDoc.docId(target.getTargetId());
+                docs.put(docId, communityPostDoc);
+                targetsByDocId.put(docId, target);
             } catch (Exception e) {
-                log.error("Failed to process event: eventId={}, error={}",
-                        event.getId(), e.getMessage(), e);
-                outboxEventReader.update(event.markAsFailed(e.getMessage()));
-                failCount++;
+                processed.addAll(markFailed(target, e));
             }
         }
 
-        log.info("CommunityPost ES sync completed: success={}, failed={}", successCount, failCount);
+        // bulk 색인 / bulk 부분 업데이트 후 문서 단위 결과를 이벤트 상태로 반영
+        applyResult(communityPostIndexer.indexAll(new ArrayList<>(docs.values())), targetsByDocId, processed);
+        applyResult(communityPostPopularityManager.updatePopularityAll(popularities), popularityTargetsByDocId, processed);
+        return processed;
     }
 
-    private void processEvent(OutboxEvent event) {
-        switch (event.getUpdateType()) {
-            case CREATED, UPDATED, DELETED -> processFullIndex(event);
-            case POPULARITY_ONLY -> processPopularityUpdate(event);
+    /**
+     * 대상 row bulk 조회 (targetId -> row)
+     */
+    private Map<Long, CommunityPostRead> loadTargets(List<CoalescedOutboxEvent> targets) {
+        List<CommunityPostIdentity> identities = targets.stream()
+                .map(target -> new CommunityPostIdentity(target.getTargetId()))
+                .toList();
+
+        return communityPostRepository.findByIds(identities).stream()
+                .collect(Collectors.toMap(CommunityPostRead::getCommunityPostId, Function.identity()));
+    }
+
+    private CommunityPostRead getTarget(CoalescedOutboxEvent target, Map<Long, CommunityPostRead> communityPosts) {
+        CommunityPostRead communityPost = communityPosts.get(target.getTargetId());
+        if (communityPost == null) {
+            throw new IllegalStateException("CommunityPost not found: " + target.getTargetId());
         }
+        return communityPost;
     }
 
     /**
-     * 전체 문서 인덱싱 (CREATED, UPDATED, DELETED)
-     * DELETED의 경우 isDeleted=true로 인덱싱되어 soft delete 처리
+     * lane 전체가 예외로 끝난 경우 - 해당 lane 의 대상만 실패 처리
      */
-    private void processFullIndex(OutboxEvent event) {
-        CommunityPostRead communityPost = communityPostRepository.findById(new CommunityPostIdentity(event.getTargetId()))
-                .orElseThrow(() -> new IllegalStateException("CommunityPost not found: " + event.getTargetId()));
-
-        CommunityPostDoc communityPostDoc = communityPostDocMapper.toDoc(communityPost);
-        communityPostIndexer.indexOne(communityPostDoc);
+    private List<OutboxEvent> markAllFailed(List<CoalescedOutboxEvent> targets, Exception e) {
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (CoalescedOutboxEvent target : targets) {
+            failed.addAll(markFailed(target, e));
+        }
+        return failed;
+    }
 
-        log.debug("Successfully indexed communityPost: communityPostId={}, updateType={}", communityPost.getCommunityPostId(), event.getUpdateType());
+    private List<OutboxEvent> markFailed(CoalescedOutboxEvent target, Exception e) {
+        log.error("Failed to process event: targetId={}, events={}, error={}",
+                target.getTargetId(), target.size(), e.getMessage(), e);
+        return target.markAllAsFailed(e.getMessage(), outboxRetryPolicy);
     }
 
     /**
-     * 인기도만 업데이트 (POPULARITY_ONLY)
+     * 전체 문서 생성 (CREATED, UPDATED, DELETED)
+     * DELETED의 경우 isDeleted=true로 인덱싱되어 soft delete 처리
      */
-    private void processPopularityUpdate(OutboxEvent event) {
-        var communityPost = communityPostRepository.findById(new CommunityPostIdentity(event.getTargetId()))
-                .orElseThrow(() -> new IllegalStateException("CommunityPost not found: " + event.getTargetId()));
+    private CommunityPostDoc buildDoc(CoalescedOutboxEvent target, Map<Long, CommunityPostRead> communityPosts) {
+        CommunityPostRead communityPost = getTarget(target, communityPosts);
 
-        String docId = "communitypost_" + communityPost.getCommunityPostId();
-        communityPostPopularityManager.updatePopularity(docId, communityPost.getPopularity());
+        return communityPostDocMapper.toDoc(communityPost);
+    }
 
-        log.debug("Successfully updated popularity: communityPostId={}, popularity={}", communityPost.getCommunityPostId(), communityPost.getPopularity());
+    /**
+     * 문서 단위 결과를 이벤트 상태로 반영
+     */
+    private void applyResult(BulkIndexResult result, Map<String, CoalescedOutboxEvent> targetsByDocId, List<OutboxEvent> processed) {
+        for (Map.Entry<String, CoalescedOutboxEvent> entry : targetsByDocId.entrySet()) {
+            String docId = entry.getKey();
+            CoalescedOutboxEvent target = entry.getValue();
+            if (result.isFailed(docId)) {
+                log.error("Failed to index communityPost: targetId={}, events={}, reason={}",
+                        target.getTargetId(), target.size(), result.failureReason(docId));
+                processed.addAll(target.markAllAsFailed(result.failureReason(docId), outboxRetryPolicy));
+            } else {
+                processed.addAll(target.markAllAsCompleted());
+            }
+        }
     }
 }
@@ -0,0 +1,24 @@
+package dev.devrunner.sync.task.task.es;
+
+import dev.devrunner.outbox.reader.OutboxEventReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * lease 가 만료된 PROCESSING 이벤트를 실패한 시도로 처리한다. (재시도 정책에 따라 FAILED 또는 DEAD)
+ * <p>
+ * claim 후 파드가 죽거나 처리 도중 멈춘 경우, 해당 이벤트가 영원히 PROCESSING 으로 남지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxLeaseReaper {
+
+    private final OutboxEventReader outboxEventReader;
+
+    public void run() {
+        int released = outboxEventReader.releaseExpiredLeases();
+        log.info("Outbox lease reaper completed: released={}", released);
+    }
+}
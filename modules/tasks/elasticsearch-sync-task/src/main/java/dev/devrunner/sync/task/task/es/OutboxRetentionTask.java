@@ -0,0 +1,51 @@
+package dev.devrunner.sync.task.task.es;
+
+import dev.devrunner.outbox.command.PurgeCompletedEventsCommand;
+import dev.devrunner.outbox.retention.OutboxEventPurger;
+import dev.devrunner.outbox.retention.OutboxRetentionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 오래된 COMPLETED outbox 이벤트 정리
+ * <p>
+ * outbox_events 가 계속 커지면 pending 조회(idx_outbox_status_updated)가 느려지므로,
+ * retention 이 지난 완료 이벤트를 chunk 단위로 삭제한다. archive-dir 을 설정하면 삭제 전에 gzip 파일로 남긴다.
+ */
+@Component
+@Slf4j
+public class OutboxRetentionTask {
+
+    private final OutboxEventPurger outboxEventPurger;
+    private final Duration retention;
+    private final int chunkSize;
+    private final String archiveDir;
+
+    public OutboxRetentionTask(
+            OutboxEventPurger outboxEventPurger,
+            @Value("${devrunner.outbox.retention.days:7}") int retentionDays,
+            @Value("${devrunner.outbox.retention.chunk-size:1000}") int chunkSize,
+            @Value("${devrunner.outbox.retention.archive-dir:}") String archiveDir
+    ) {
+        this.outboxEventPurger = outboxEventPurger;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.archiveDir = archiveDir;
+    }
+
+    public void run() {
+        PurgeCompletedEventsCommand command = PurgeCompletedEventsCommand.builder()
+                .retention(retention)
+                .chunkSize(chunkSize)
+                .archiveDirectory(archiveDir.isBlank() ? null : Path.of(archiveDir))
+                .build();
+
+        OutboxRetentionResult result = outboxEventPurger.purgeCompleted(command);
+        log.info("Outbox retention task completed: deleted={}, archived={}, archiveFile={}",
+                result.getDeletedCount(), result.getArchivedCount(), result.getArchiveFile());
+    }
+}
@@ -0,0 +1,25 @@
+package dev.devrunner.sync.task.task.es;
+
+import dev.devrunner.outbox.reader.OutboxEventReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * backoff 가 끝난 FAILED 이벤트를 WAIT 로 되돌린다.
+ * <p>
+ * ES 나 vectorizer 가 잠깐 장애였던 경우에도 문서가 영원히 stale 로 남지 않도록 한다.
+ * 최대 재시도를 넘긴 이벤트는 DEAD 로 남아 다시 시도되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRetryScheduler {
+
+    private final OutboxEventReader outboxEventReader;
+
+    public void run() {
+        int requeued = outboxEventReader.requeueFailedEvents();
+        log.info("Outbox retry scheduler completed: requeued={}", requeued);
+    }
+}
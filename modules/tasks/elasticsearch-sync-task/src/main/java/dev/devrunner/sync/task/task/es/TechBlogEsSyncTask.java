@@ -3,19 +3,33 @@ package dev.devrunner.sync.task.task.es;
 import dev.devrunner.elasticsearch.api.techblog.TechBlogIndexer;
 import dev.devrunner.elasticsearch.api.techblog.TechBlogPopularityManager;
 import dev.devrunner.elasticsearch.document.TechBlogDoc;
+import dev.devrunner.elasticsearch.internal.indexer.BulkIndexResult;
 import dev.devrunner.elasticsearch.mapper.TechBlogDocMapper;
 import dev.devrunner.infra.techblog.repository.TechBlogRepository;
+import dev.devrunner.model.common.Popularity;
 import dev.devrunner.model.common.TargetType;
 import dev.devrunner.model.techblog.TechBlog;
 import dev.devrunner.model.techblog.TechBlogIdentity;
-import dev.devrunner.outbox.command.FindPendingEventsCommand;
+import dev.devrunner.outbox.command.ClaimPendingEventsCommand;
+import dev.devrunner.outbox.model.CoalescedOutboxEvent;
+import dev.devrunner.outbox.model.EventStatus;
 import dev.devrunner.outbox.model.OutboxEvent;
+import dev.devrunner.outbox.model.OutboxRetryPolicy;
+import dev.devrunner.outbox.model.UpdateType;
+import dev.devrunner.outbox.reader.OutboxEventCoalescer;
 import dev.devrunner.outbox.reader.OutboxEventReader;
+import dev.devrunner.sync.task.worker.SyncWorkerPools;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -26,74 +40,163 @@ public class TechBlogEsSyncTask {
     private final TechBlogPopularityManager techBlogPopularityManager;
     private final TechBlogRepository techBlogRepository;
     private final OutboxEventReader outboxEventReader;
+    private final SyncWorkerPools syncWorkerPools;
+    private final OutboxRetryPolicy outboxRetryPolicy;
     private final TechBlogDocMapper techBlogDocMapper;
 
-    public void run() {
+    /**
+     * @return claim 한 이벤트 수 (0 이면 처리할 이벤트가 없었음)
+     */
+    public int run() {
         log.info("Starting TechBlog ES sync task");
 
-        // 1. 미처리 이벤트 조회 (TECH_BLOG 타입만, 최대 100개)
-        List<OutboxEvent> events = outboxEventReader.findPending(
-                FindPendingEventsCommand.ofType(100, TargetType.TECH_BLOG)
-        );
+        // 1. 미처리 이벤트 claim (TECH_BLOG 타입만, 최대 100개) - PROCESSING 으로 점유되어 다른 파드와 중복 처리되지 않음
+        ClaimPendingEventsCommand claimCommand = ClaimPendingEventsCommand.ofType(100, TargetType.TECH_BLOG);
+        List<OutboxEvent> events = outboxEventReader.claim(claimCommand);
 
         if (events.isEmpty()) {
             log.debug("No pending events to process");
-            return;
+            return 0;
         }
 
-        log.info("Found {} pending events", events.size());
+        // 2. 같은 techBlog 의 이벤트는 하나로 합쳐서 한 번만 처리
+        List<CoalescedOutboxEvent> targets = OutboxEventCoalescer.coalesce(events);
+        log.info("Found {} pending events ({} techBlogs after coalescing)", events.size(), targets.size());
 
-        // 2. 각 이벤트를 하나씩 처리 & 상태 업데이트
-        int successCount = 0;
-        int failCount = 0;
+        // 3~5. targetId 기준으로 lane 을 나눠 병렬 처리 (같은 문서는 항상 같은 lane 에서 순서대로)
+        List<OutboxEvent> processed = syncWorkerPools.of(TargetType.TECH_BLOG)
+                .executeAll(targets, this::process, this::markAllFailed);
 
-        for (OutboxEvent event : events) {
+        // 6. 완료/실패 상태를 한 번에 반영
+        outboxEventReader.updateBatch(processed, claimCommand.getLeaseOwner());
+
+        long failCount = processed.stream().filter(event -> event.getStatus() != EventStatus.COMPLETED).count();
+        log.info("TechBlog ES sync completed: success={}, failed={}", processed.size() - failCount, failCount);
+        return events.size();
+    }
+
+    /**
+     * lane 하나에 배정된 대상 처리 - 완료/실패 처리된 이벤트 반환
+     */
+    private List<OutboxEvent> process(List<CoalescedOutboxEvent> targets) {
+        // 대상 row 는 lane 안에서 한 번에 조회 (이벤트마다 findById 하지 않음)
+        // worker 와 cron 의 run 이 겹쳐도 같은 문서는 같은 lane 에서 순서대로 조회 → 색인되므로
+        // 먼저 읽은 오래된 row 가 나중에 읽은 row 를 덮어쓰지 않는다.
+        Map<Long, TechBlog> techBlogs = loadTargets(targets);
+
+        // 전체 색인 대상의 벡터를 batch 로 미리 생성 (실패해도 문서별 vectorize 로 다시 시도)
+        prepareVectors(targets, techBlogs);
+
+        // 전체 색인 대상과 인기도 대상을 나눠서 모음 (상태는 호출한 쪽에서 모아서 반영)
+        List<OutboxEvent> processed = new ArrayList<>();
+
+        Map<String, TechBlogDoc> docs = new LinkedHashMap<>();
+        Map<String, CoalescedOutboxEvent> targetsByDocId = new LinkedHashMap<>();
+        Map<String, Popularity> popularities = new LinkedHashMap<>();
+        Map<String, CoalescedOutboxEvent> popularityTargetsByDocId = new LinkedHashMap<>();
+
+        for (CoalescedOutboxEvent target : targets) {
             try {
-                processEvent(event);
-                outboxEventReader.update(event.markAsCompleted());
-                successCount++;
+                if (target.getUpdateType() == UpdateType.POPULARITY_ONLY) {
+                    // POPULARITY_ONLY -> 인기도 필드만 부분 업데이트 대상에 추가
+                    TechBlog techBlog = getTarget(target, techBlogs);
+                    String docId = TechBlogDoc.docId(techBlog.getTechBlogId());
+                    popularities.put(docId, techBlog.getPopularity());
+                    popularityTargetsByDocId.put(docId, target);
+                    continue;
+                }
+
+                // CREATED, UPDATED, DELETED -> 문서 생성 후 bulk 대상에 추가
+                TechBlogDoc techBlogDoc = buildDoc(target, techBlogs);
+                // 검증에 실패한 문서도 indexer 가 같은 key 로 결과를 돌려주도록 원본 id 기준 docId 사용
+                String docId = TechBlogDoc.docId(target.getTargetId());
+                docs.put(docId, techBlogDoc);
+                targetsByDocId.put(docId, target);
             } catch (Exception e) {
-                log.error("Failed to process event: eventId={}, error={}",
-                        event.getId(), e.getMessage(), e);
-                outboxEventReader.update(event.markAsFailed(e.getMessage()));
-                failCount++;
+                processed.addAll(markFailed(target, e));
             }
         }
 
-        log.info("TechBlog ES sync completed: success={}, failed={}", successCount, failCount);
+        // bulk 색인 / bulk 부분 업데이트 후 문서 단위 결과를 이벤트 상태로 반영
+        applyResult(techBlogIndexer.indexAll(new ArrayList<>(docs.values())), targetsByDocId, processed);
+        applyResult(techBlogPopularityManager.updatePopularityAll(popularities), popularityTargetsByDocId, processed);
+        return processed;
     }
 
-    private void processEvent(OutboxEvent event) {
-        switch (event.getUpdateType()) {
-            case CREATED, UPDATED,  DELETED  -> processFullIndex(event);
-            case POPULARITY_ONLY -> processPopularityUpdate(event);
-
+    private void prepareVectors(List<CoalescedOutboxEvent> targets, Map<Long, TechBlog> techBlogs) {
+        List<TechBlog> indexTargets = targets.stream()
+                .filter(target -> target.getUpdateType() != UpdateType.POPULARITY_ONLY)
+                .map(target -> techBlogs.get(target.getTargetId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        try {
+            techBlogDocMapper.prepareVectors(indexTargets);
+        } catch (Exception e) {
+            log.warn("Failed to prepare vectors in batch: size={}, error={}", indexTargets.size(), e.getMessage());
         }
     }
 
     /**
-     * 전체 문서 인덱싱 (CREATED, UPDATED)
+     * 대상 row bulk 조회 (targetId -> row)
      */
-    private void processFullIndex(OutboxEvent event) {
-        TechBlog techBlog = techBlogRepository.findById(new TechBlogIdentity(event.getTargetId()))
-                .orElseThrow(() -> new IllegalStateException("TechBlog not found: " + event.getTargetId()));
+    private Map<Long, TechBlog> loadTargets(List<CoalescedOutboxEvent> targets) {
+        List<TechBlogIdentity> identities = targets.stream()
+                .map(target -> new TechBlogIdentity(target.getTargetId()))
+                .toList();
+
+        return techBlogRepository.findByIdsIn(identities).stream()
+                .collect(Collectors.toMap(TechBlog::getTechBlogId, Function.identity()));
+    }
 
-        TechBlogDoc techBlogDoc = techBlogDocMapper.newDoc(techBlog);
-        techBlogIndexer.indexOne(techBlogDoc);
+    private TechBlog getTarget(CoalescedOutboxEvent target, Map<Long, TechBlog> techBlogs) {
+        TechBlog techBlog = techBlogs.get(target.getTargetId());
+        if (techBlog == null) {
+            throw new IllegalStateException("TechBlog not found: " + target.getTargetId());
+        }
+        return techBlog;
+    }
 
-        log.debug("Successfully indexed techBlog: techBlogId={}, updateType={}", techBlog.getTechBlogId(), event.getUpdateType());
+    /**
+     * lane 전체가 예외로 끝난 경우 - 해당 lane 의 대상만 실패 처리
+     */
+    private List<OutboxEvent> markAllFailed(List<CoalescedOutboxEvent> targets, Exception e) {
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (CoalescedOutboxEvent target : targets) {
+            failed.addAll(markFailed(target, e));
+        }
+        return failed;
+    }
+
+    private List<OutboxEvent> markFailed(CoalescedOutboxEvent target, Exception e) {
+        log.error("Failed to process event: targetId={}, events={}, error={}",
+                target.getTargetId(), target.size(), e.getMessage(), e);
+        return target.markAllAsFailed(e.getMessage(), outboxRetryPolicy);
     }
 
     /**
-     * 인기도만 업데이트 (POPULARITY_ONLY)
+     * 전체 문서 생성 (CREATED, UPDATED, DELETED)
      */
-    private void processPopularityUpdate(OutboxEvent event) {
-        TechBlog techBlog = techBlogRepository.findById(new TechBlogIdentity(event.getTargetId()))
-                .orElseThrow(() -> new IllegalStateException("TechBlog not found: " + event.getTargetId()));
+    private TechBlogDoc buildDoc(CoalescedOutboxEvent target, Map<Long, TechBlog> techBlogs) {
+        TechBlog techBlog = getTarget(target, techBlogs);
 
-        String docId = "techblog_" + techBlog.getTechBlogId();
-        techBlogPopularityManager.updatePopularity(docId, techBlog.getPopularity());
+        return techBlogDocMapper.newDoc(techBlog);
+    }
 
-        log.debug("Successfully updated popularity: techBlogId={}, popularity={}", techBlog.getTechBlogId(), techBlog.getPopularity());
+    /**
+     * 문서 단위 결과를 이벤트 상태로 반영
+     */
+    private void applyResult(BulkIndexResult result, Map<String, CoalescedOutboxEvent> targetsByDocId, List<OutboxEvent> processed) {
+        for (Map.Entry<String, CoalescedOutboxEvent> entry : targetsByDocId.entrySet()) {
+            String docId = entry.getKey();
+            CoalescedOutboxEvent target = entry.getValue();
+            if (result.isFailed(docId)) {
+                log.error("Failed to index techBlog: targetId={}, events={}, reason={}",
+                        target.getTargetId(), target.size(), result.failureReason(docId));
+                processed.addAll(target.markAllAsFailed(result.failureReason(docId), outboxRetryPolicy));
+            } else {
+                processed.addAll(target.markAllAsCompleted());
+            }
+        }
     }
 }
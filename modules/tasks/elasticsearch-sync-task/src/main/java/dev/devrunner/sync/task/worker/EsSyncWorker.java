@@ -0,0 +1,151 @@
+package dev.devrunner.sync.task.worker;
+
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.notify.OutboxSignal;
+import dev.devrunner.outbox.reader.OutboxEventReader;
+import dev.devrunner.sync.task.task.es.CommunityPostEsSyncTask;
+import dev.devrunner.sync.task.task.es.JobEsSyncTask;
+import dev.devrunner.sync.task.task.es.TechBlogEsSyncTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * 대상 타입별 전용 ES sync 워커
+ * <p>
+ * 처리할 이벤트가 있는 동안은 쉬지 않고 sync 를 반복하고, 없으면 대기하면서 새 이벤트를 확인한다.
+ * (cron 은 놓친 이벤트 보정용 safety net)
+ * <ul>
+ *     <li>같은 JVM(배치 애플리케이션의 크롤러 등)에서 기록된 이벤트: {@link OutboxSignal} 로 바로 깨어남</li>
+ *     <li>다른 프로세스(API 서버)에서 기록된 이벤트: 프로세스 간 signal 이 없으므로,
+ *     대기 시간이 끝날 때마다 {@link OutboxEventReader#hasPending} (EXISTS 쿼리) 로 확인하는 polling 이다.</li>
+ *     <li>확인 결과 이벤트가 없으면 대기 시간을 min-idle 부터 max-idle 까지 두 배씩 늘린다.
+ *     유휴 상태에서는 대상 타입마다 max-idle 간격으로 EXISTS 쿼리 한 번만 실행된다.</li>
+ * </ul>
+ * 따라서 API 서버에서 기록된 이벤트는 유휴 상태 기준 최대 max-idle 만큼 늦게 반영될 수 있다.
+ * max-idle 기본값(3초)은 기존 3초 cron 과 같은 지연 상한을 유지하기 위한 값이므로 더 늘리지 않는다.
+ */
+@Component
+@Slf4j
+public class EsSyncWorker implements SmartLifecycle {
+
+    private final Map<TargetType, IntSupplier> tasks;
+    private final OutboxSignal outboxSignal;
+    private final OutboxEventReader outboxEventReader;
+
+    @Value("${devrunner.sync.worker.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${devrunner.sync.worker.min-idle-ms:500}")
+    private long minIdleMillis = 500;
+
+    @Value("${devrunner.sync.worker.max-idle-ms:3000}")
+    private long maxIdleMillis = 3000;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running = false;
+
+    public EsSyncWorker(JobEsSyncTask jobEsSyncTask,
+                        TechBlogEsSyncTask techBlogEsSyncTask,
+                        CommunityPostEsSyncTask communityPostEsSyncTask,
+                        OutboxSignal outboxSignal,
+                        OutboxEventReader outboxEventReader) {
+        this.tasks = Map.of(
+                TargetType.JOB, jobEsSyncTask::run,
+                TargetType.TECH_BLOG, techBlogEsSyncTask::run,
+                TargetType.COMMUNITY_POST, communityPostEsSyncTask::run
+        );
+        this.outboxSignal = outboxSignal;
+        this.outboxEventReader = outboxEventReader;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+
+        tasks.forEach((targetType, task) -> {
+            Thread thread = new Thread(() -> loop(targetType, task), "es-sync-worker-" + targetType.name().toLowerCase());
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        });
+        log.info("ES sync worker started: targetTypes={}, minIdleMs={}, maxIdleMs={}", tasks.keySet(), minIdleMillis, maxIdleMillis);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(Duration.ofSeconds(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+        log.info("ES sync worker stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void loop(TargetType targetType, IntSupplier task) {
+        long idleMillis = minIdleMillis;
+
+        while (running) {
+            try {
+                // 이벤트가 있는 동안은 쉬지 않고 처리
+                if (task.getAsInt() > 0) {
+                    idleMillis = minIdleMillis;
+                    continue;
+                }
+
+                boolean signaled = outboxSignal.await(targetType, Duration.ofMillis(idleMillis));
+                if (signaled || outboxEventReader.hasPending(targetType)) {
+                    idleMillis = minIdleMillis;
+                } else {
+                    idleMillis = Math.min(idleMillis * 2, maxIdleMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("ES sync worker failed: targetType={}", targetType, e);
+                idleMillis = maxIdleMillis;
+                if (!sleep(idleMillis)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
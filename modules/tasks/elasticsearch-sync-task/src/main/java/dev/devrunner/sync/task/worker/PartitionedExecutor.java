@@ -0,0 +1,109 @@
+package dev.devrunner.sync.task.worker;
+
+import dev.devrunner.outbox.model.CoalescedOutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * targetId hash 로 lane 을 고르는 executor
+ * <p>
+ * lane 마다 단일 스레드이므로 같은 문서(targetId)에 대한 작업은 항상 같은 lane 에서 제출 순서대로 실행되고,
+ * 서로 다른 문서는 lane 수만큼 동시에 처리된다.
+ * <p>
+ * lane 스레드는 virtual thread 라서 ES / DB I/O 를 기다리는 동안 carrier 스레드를 점유하지 않는다.
+ */
+public class PartitionedExecutor {
+
+    private final String name;
+    private final List<ExecutorService> lanes;
+
+    public PartitionedExecutor(String name, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.name = name;
+        this.lanes = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String threadName = "es-sync-" + name + "-" + i;
+            lanes.add(Executors.newSingleThreadExecutor(Thread.ofVirtual().name(threadName).factory()));
+        }
+    }
+
+    public int concurrency() {
+        return lanes.size();
+    }
+
+    /**
+     * 대상을 lane 별로 나눠서 병렬 실행하고, 모든 lane 의 결과를 합쳐서 반환
+     *
+     * @param targets   처리할 대상 (같은 targetId 는 같은 lane 으로)
+     * @param work      lane 하나에 배정된 대상들을 처리하는 작업
+     * @param onFailure work 가 예외로 끝난 lane 의 대상들에 대한 결과 (다른 lane 의 결과는 그대로 유지)
+     */
+    public <R> List<R> executeAll(List<CoalescedOutboxEvent> targets,
+                                  Function<List<CoalescedOutboxEvent>, List<R>> work,
+                                  BiFunction<List<CoalescedOutboxEvent>, Exception, List<R>> onFailure) {
+        List<List<CoalescedOutboxEvent>> partitions = new ArrayList<>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (CoalescedOutboxEvent target : targets) {
+            partitions.get(laneOf(target.getTargetId())).add(target);
+        }
+
+        List<List<CoalescedOutboxEvent>> submitted = new ArrayList<>();
+        List<Future<List<R>>> futures = new ArrayList<>();
+        for (int i = 0; i < lanes.size(); i++) {
+            List<CoalescedOutboxEvent> partition = partitions.get(i);
+            if (!partition.isEmpty()) {
+                submitted.add(partition);
+                futures.add(lanes.get(i).submit(() -> work.apply(partition)));
+            }
+        }
+
+        List<R> results = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.addAll(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for sync lane: " + name, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                Exception failure = cause instanceof Exception exception
+                        ? exception
+                        : new IllegalStateException("Sync lane failed: " + name, cause);
+                results.addAll(onFailure.apply(submitted.get(i), failure));
+            }
+        }
+        return results;
+    }
+
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            try {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                lane.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private int laneOf(Long targetId) {
+        return Math.floorMod(Long.hashCode(targetId), lanes.size());
+    }
+}
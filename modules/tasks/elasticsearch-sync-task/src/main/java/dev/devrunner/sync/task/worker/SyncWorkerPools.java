@@ -0,0 +1,53 @@
+package dev.devrunner.sync.task.worker;
+
+import dev.devrunner.model.common.TargetType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 대상 타입별 sync worker pool
+ * <p>
+ * 타입마다 lane 수(동시 처리 수)를 따로 설정한다.
+ * <pre>
+ * devrunner.sync.worker.concurrency.job: 4
+ * devrunner.sync.worker.concurrency.tech-blog: 4
+ * devrunner.sync.worker.concurrency.community-post: 4
+ * </pre>
+ */
+@Component
+@Slf4j
+public class SyncWorkerPools implements DisposableBean {
+
+    private final Map<TargetType, PartitionedExecutor> pools = new EnumMap<>(TargetType.class);
+
+    public SyncWorkerPools(
+            @Value("${devrunner.sync.worker.concurrency.job:4}") int jobConcurrency,
+            @Value("${devrunner.sync.worker.concurrency.tech-blog:4}") int techBlogConcurrency,
+            @Value("${devrunner.sync.worker.concurrency.community-post:4}") int communityPostConcurrency
+    ) {
+        pools.put(TargetType.JOB, new PartitionedExecutor("job", jobConcurrency));
+        pools.put(TargetType.TECH_BLOG, new PartitionedExecutor("techblog", techBlogConcurrency));
+        pools.put(TargetType.COMMUNITY_POST, new PartitionedExecutor("communitypost", communityPostConcurrency));
+
+        log.info("Sync worker pools initialized: job={}, techBlog={}, communityPost={}",
+                jobConcurrency, techBlogConcurrency, communityPostConcurrency);
+    }
+
+    public PartitionedExecutor of(TargetType targetType) {
+        PartitionedExecutor pool = pools.get(targetType);
+        if (pool == null) {
+            throw new IllegalArgumentException("No sync worker pool for targetType: " + targetType);
+        }
+        return pool;
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(PartitionedExecutor::shutdown);
+    }
+}
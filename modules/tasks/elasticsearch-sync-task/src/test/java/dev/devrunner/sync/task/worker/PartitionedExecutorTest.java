@@ -0,0 +1,208 @@
+package dev.devrunner.sync.task.worker;
+
+import dev.devrunner.model.common.TargetType;
+import dev.devrunner.outbox.model.CoalescedOutboxEvent;
+import dev.devrunner.outbox.model.UpdateType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PartitionedExecutor 테스트
+ * <p>
+ * 실제 lane(virtual thread)으로 실행해서 targetId → lane 배정과 lane 단위 실패 격리를 검증
+ */
+@DisplayName("PartitionedExecutor 테스트")
+class PartitionedExecutorTest {
+
+    private static final int CONCURRENCY = 4;
+
+    private final PartitionedExecutor executor = new PartitionedExecutor("test", CONCURRENCY);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private static CoalescedOutboxEvent target(long targetId) {
+        return new CoalescedOutboxEvent(TargetType.JOB, targetId, UpdateType.UPDATED, List.of());
+    }
+
+    private static List<CoalescedOutboxEvent> targets(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(PartitionedExecutorTest::target).toList();
+    }
+
+    private static List<Long> idsOf(List<CoalescedOutboxEvent> targets) {
+        return targets.stream().map(CoalescedOutboxEvent::getTargetId).toList();
+    }
+
+    @Test
+    @DisplayName("concurrency 가 1 보다 작으면 예외")
+    void constructor_invalidConcurrency_throws() {
+        assertThatThrownBy(() -> new PartitionedExecutor("invalid", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 targetId 는 실행할 때마다 항상 같은 lane 스레드에서 처리")
+    void executeAll_sameTargetId_alwaysSameLane() {
+        // Given
+        Map<Long, String> firstLanes = new ConcurrentHashMap<>();
+        Map<Long, String> secondLanes = new ConcurrentHashMap<>();
+
+        // When
+        executor.executeAll(targets(1, 40), partition -> {
+            partition.forEach(target -> firstLanes.put(target.getTargetId(), Thread.currentThread().getName()));
+            return idsOf(partition);
+        }, (partition, e) -> List.of());
+        executor.executeAll(targets(1, 40), partition -> {
+            partition.forEach(target -> secondLanes.put(target.getTargetId(), Thread.currentThread().getName()));
+            return idsOf(partition);
+        }, (partition, e) -> List.of());
+
+        // Then
+        assertThat(secondLanes).isEqualTo(firstLanes);
+        assertThat(firstLanes.values()).allMatch(name -> name.startsWith("es-sync-test-"));
+        assertThat(firstLanes.values().stream().distinct()).hasSize(CONCURRENCY);
+    }
+
+    @Test
+    @DisplayName("lane 하나의 작업에는 같은 lane 으로 배정된 대상만 제출 순서대로 전달")
+    void executeAll_partitionsKeepSubmissionOrder() {
+        // Given
+        List<List<Long>> partitions = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        List<Long> results = executor.executeAll(targets(1, 20), partition -> {
+            partitions.add(idsOf(partition));
+            return idsOf(partition);
+        }, (partition, e) -> List.of());
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, 20).boxed().toList());
+        assertThat(partitions).hasSize(CONCURRENCY);
+        for (List<Long> partition : partitions) {
+            int lane = Math.floorMod(Long.hashCode(partition.get(0)), CONCURRENCY);
+            assertThat(partition).allMatch(id -> Math.floorMod(Long.hashCode(id), CONCURRENCY) == lane);
+            assertThat(partition).isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 실행된 두 run 의 같은 targetId 작업은 먼저 제출된 쪽이 끝난 뒤에 실행")
+    void executeAll_concurrentRuns_sameTargetSerialized() throws Exception {
+        // Given
+        List<String> log = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            // When - 첫 번째 run 이 lane 에서 대기하는 동안 두 번째 run 이 같은 대상을 제출
+            Future<List<String>> first = callers.submit(() -> executor.executeAll(List.of(target(7)), partition -> {
+                log.add("first-start");
+                firstStarted.countDown();
+                await(releaseFirst);
+                log.add("first-end");
+                return List.of("first");
+            }, (partition, e) -> List.of()));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<List<String>> second = callers.submit(() -> executor.executeAll(List.of(target(7)), partition -> {
+                log.add("second-start");
+                return List.of("second");
+            }, (partition, e) -> List.of()));
+
+            Thread.sleep(200);
+            assertThat(log).containsExactly("first-start");
+            releaseFirst.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("first");
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("second");
+            assertThat(log).containsExactly("first-start", "first-end", "second-start");
+        } finally {
+            releaseFirst.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("lane 하나가 예외로 끝나면 그 lane 의 대상만 onFailure 로 처리하고 다른 lane 결과는 유지")
+    void executeAll_laneFailure_isolated() {
+        // Given
+        long failingId = 1L;
+        int failingLane = Math.floorMod(Long.hashCode(failingId), CONCURRENCY);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        // When
+        List<String> results = executor.executeAll(targets(1, 8), partition -> {
+            if (idsOf(partition).contains(failingId)) {
+                throw new IllegalStateException("es down");
+            }
+            return idsOf(partition).stream().map(id -> "ok-" + id).toList();
+        }, (partition, e) -> {
+            failure.set(e);
+            return idsOf(partition).stream().map(id -> "failed-" + id).toList();
+        });
+
+        // Then
+        List<String> expected = LongStream.rangeClosed(1, 8)
+                .mapToObj(id -> (Math.floorMod(Long.hashCode(id), CONCURRENCY) == failingLane ? "failed-" : "ok-") + id)
+                .toList();
+        assertThat(results).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class).hasMessage("es down");
+
+        // 실패한 lane 도 계속 사용할 수 있음
+        List<Long> retried = executor.executeAll(List.of(target(failingId)), PartitionedExecutorTest::idsOf,
+                (partition, e) -> List.of());
+        assertThat(retried).containsExactly(failingId);
+    }
+
+    @Test
+    @DisplayName("Exception 이 아닌 Throwable 로 끝난 lane 은 IllegalStateException 으로 감싸서 onFailure 에 전달")
+    void executeAll_laneError_wrapped() {
+        // Given
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        // When
+        List<String> results = executor.executeAll(List.of(target(3)), partition -> {
+            throw new AssertionError("boom");
+        }, (partition, e) -> {
+            failure.set(e);
+            return List.of("failed");
+        });
+
+        // Then
+        assertThat(results).containsExactly("failed");
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}